@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.dot.examples;
+
+import org.eclipse.gef.dot.internal.DotAttributes;
+import org.eclipse.gef.dot.internal.DotImport;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+
+/**
+ * Measures the startup cost of the DOT import, i.e. the time from the first
+ * use of {@link DotImport} to the first {@link Graph}, as well as the time to
+ * the first access of a parsed attribute value. Each phase is only measured
+ * once, because the interesting costs (class loading, creation of the Guice
+ * injectors of the DOT grammar and its sub-grammars) are only paid once per
+ * JVM. Therefore, this example needs to be run in a fresh JVM for every
+ * measurement.
+ *
+ * @author mwienand
+ */
+public final class DotImportStartupBenchmark {
+
+	private static final String DOT = "digraph { node[shape=box]; "
+			+ "1[label=\"first\", color=red]; 2[pos=\"10,20\"]; "
+			+ "1->2[arrowhead=onormal, style=dashed] }";
+
+	public static void main(final String[] args) {
+		long start = System.nanoTime();
+
+		/* The first graph only requires the main DOT grammar */
+		Graph graph = new DotImport().importDot(DOT).get(0);
+		long firstGraph = System.nanoTime();
+
+		/* Raw attribute values do not require any sub-grammar */
+		Node node = graph.getNodes().get(0);
+		String label = DotAttributes.getLabel(node);
+		long firstRawValue = System.nanoTime();
+
+		/* A parsed attribute value requires (only) its sub-grammar */
+		Object color = DotAttributes.getColorParsed(node);
+		long firstParsedValue = System.nanoTime();
+
+		/* A second graph reuses everything that has been created so far */
+		new DotImport().importDot(DOT).get(0);
+		long secondGraph = System.nanoTime();
+
+		Runtime runtime = Runtime.getRuntime();
+		long usedMemory = runtime.totalMemory() - runtime.freeMemory();
+
+		System.out.println("first graph:        " + millis(start, firstGraph));
+		System.out.println(
+				"first raw value:    " + millis(firstGraph, firstRawValue)
+						+ " (" + label + ")");
+		System.out.println("first parsed value: "
+				+ millis(firstRawValue, firstParsedValue) + " (" + color + ")");
+		System.out.println(
+				"second graph:       " + millis(firstParsedValue, secondGraph));
+		System.out.println(
+				"used heap:          " + usedMemory / (1024 * 1024) + " MB");
+	}
+
+	private static String millis(long from, long to) {
+		return String.format("%8.2f ms", (to - from) / 1e6);
+	}
+
+}
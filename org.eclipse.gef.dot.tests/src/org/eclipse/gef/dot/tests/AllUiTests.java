@@ -24,18 +24,20 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({ // JUnit Tests
 		Dot2ZestAttributesConverterTest.class,
 		Dot2ZestEdgeAttributesConversionTest.class,
-		Dot2ZestGraphCopierTest.class,
+		Dot2ZestGraphCopierTest.class, Dot2ZestGraphMergerTest.class,
 		Dot2ZestNodeAttributesConversionTest.class, DotArrowTypeTest.class,
 		DotAstTest.class, DotAttributeActiveAnnotationTest.class,
 		DotAttributesTest.class, DotBSplineInterpolatorTest.class,
 		DotColorListLexerTest.class, DotColorListTest.class,
 		DotColorUtilTest.class, DotEscStringTest.class,
 		DotExecutableUtilsTest.class, DotExportTest.class,
-		DotExtractorTest.class, DotFileTemplateProviderTest.class,
-		DotFontNameTest.class, DotFormatterTest.class,
+		DotExtractorTest.class, DotFastAttributeParserTest.class,
+		DotFileTemplateProviderTest.class, DotFontNameTest.class,
+		DotFormatterTest.class,
 		DotHtmlLabelFormatterTest.class, DotHtmlLabelLexerTest.class,
 		DotHtmlLabelParserTest.class, DotHtmlLabelValidatorTest.class,
-		DotImportTest.class, DotLexerTest.class, DotParserTest.class,
+		DotImportTest.class, DotLayoutTest.class, DotLexerTest.class,
+		DotParserTest.class,
 		DotPortPosTest.class, DotProjectTemplateProviderTest.class,
 		DotQualifiedNameProviderTest.class, DotRecordLabelTest.class,
 		DotStyleTest.class, DotValidatorTest.class,
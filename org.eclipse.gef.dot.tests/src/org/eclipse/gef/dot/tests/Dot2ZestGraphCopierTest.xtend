@@ -15,10 +15,12 @@
 package org.eclipse.gef.dot.tests;
 
 import com.google.inject.Inject
+import java.util.List
 import javafx.beans.property.ReadOnlyMapProperty
 import javafx.scene.Group
 import javafx.scene.layout.Pane
 import javafx.scene.shape.Shape
+import javafx.scene.text.Text
 import org.eclipse.gef.dot.internal.DotImport
 import org.eclipse.gef.dot.internal.language.dot.DotAst
 import org.eclipse.gef.dot.internal.ui.DotProperties
@@ -5073,6 +5075,41 @@ class Dot2ZestGraphCopierTest {
 		''')
 	}
 
+	@Test def repeated_html_labels() {
+		val zestGraph = '''
+			graph {
+				1 [label=<<TABLE><TR><TD>a</TD><TD><B>b</B></TD></TR></TABLE>>]
+				2 [label=<<TABLE><TR><TD>a</TD><TD><B>b</B></TD></TR></TABLE>>]
+			}
+		'''.parse.importDot.get(0).copy
+		// nodes with identical labels get equal, but distinct visuals
+		zestGraph.nodes.map[DotProperties.getHtmlLikeLabel(it)].assertDistinctEqualVisuals
+	}
+
+	@Test def repeated_record_labels() {
+		val zestGraph = '''
+			graph {
+				node [shape=record]
+				1 [label="{a|{b|c}}"]
+				2 [label="{a|{b|c}}"]
+			}
+		'''.parse.importDot.get(0).copy
+		// nodes with identical labels get equal, but distinct visuals
+		zestGraph.nodes.map[ZestProperties.getShape(it)].assertDistinctEqualVisuals
+		ZestProperties.getSize(zestGraph.nodes.get(0)).assertEquals(ZestProperties.getSize(zestGraph.nodes.get(1)))
+	}
+
+	private def assertDistinctEqualVisuals(List<javafx.scene.Node> visuals) {
+		visuals.get(0).assertNotSame(visuals.get(1))
+		visuals.get(0).structure.assertEquals(visuals.get(1).structure)
+	}
+
+	private def String structure(javafx.scene.Node it) {
+		val children = if (it instanceof Pane) it.children.map[structure].join(", ") else ""
+		val text = if (it instanceof Text) it.text else ""
+		'''«class.simpleName»[«text»|«style»|«styleClass»|«properties»](«children»)'''
+	}
+
 	private def assertZestConversion(CharSequence it, CharSequence expectedZestGraphText) {
 		assertZestConversion(new DotGraphPrettyPrinter, expectedZestGraphText)
 	}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.dot.tests
+
+import org.eclipse.gef.dot.internal.DotImport
+import org.eclipse.gef.dot.internal.ui.conversion.Dot2ZestGraphCopier
+import org.eclipse.gef.dot.internal.ui.conversion.Dot2ZestGraphMerger
+import org.eclipse.gef.graph.Graph
+import org.eclipse.gef.zest.fx.ZestProperties
+import org.eclipse.xtext.testing.InjectWith
+import org.eclipse.xtext.testing.XtextRunner
+import org.junit.Assume
+import org.junit.Before
+import org.junit.BeforeClass
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+import static extension org.junit.Assert.*
+
+/**
+ * Test class containing test cases for the {@link Dot2ZestGraphMerger} class.
+ */
+@RunWith(XtextRunner)
+@InjectWith(DotInjectorProvider)
+class Dot2ZestGraphMergerTest {
+
+	@Rule public val rule = new DotSubgrammarPackagesRegistrationRule
+
+	@BeforeClass
+	def static void setup() {
+		Assume.assumeTrue(!DotTestUtils.runningOnWindows)
+	}
+
+	Dot2ZestGraphCopier copier
+	Dot2ZestGraphMerger merger
+
+	@Before
+	def void before() {
+		copier = new Dot2ZestGraphCopier
+		merger = new Dot2ZestGraphMerger
+	}
+
+	@Test def initial_graph_is_replaced() {
+		val zestGraph = '''digraph { 1 -> 2 }'''.copy
+		zestGraph.assertSame(merger.merge(null, '''digraph { 1 -> 2 }'''.dotGraph, zestGraph, copier))
+	}
+
+	@Test def unchanged_nodes_and_edges_are_retained() {
+		val current = '''digraph { 1 -> 2; 3 }'''.merge(null)
+		val node1 = current.node("1")
+		val node2 = current.node("2")
+		val edge = current.edges.get(0)
+
+		current.assertSame('''digraph { 1 -> 2; 4; 2 -> 4 }'''.merge(current))
+		#["1", "2", "4"].assertEquals(current.nodes.map[ZestProperties.getLabel(it)])
+		node1.assertSame(current.node("1"))
+		node2.assertSame(current.node("2"))
+		2.assertEquals(current.edges.size)
+		edge.assertSame(current.edges.get(0))
+		// the added edge refers to the retained node
+		node2.assertSame(current.edges.get(1).source)
+		current.assertSame(node2.graph)
+	}
+
+	@Test def changed_nodes_are_updated_in_place() {
+		val current = '''digraph { 1 -> 2 }'''.merge(null)
+		val node2 = current.node("2")
+
+		current.assertSame('''digraph { 1 -> 2; 2[label="two"] }'''.merge(current))
+		node2.assertSame(current.nodes.get(1))
+		"two".assertEquals(ZestProperties.getLabel(node2))
+	}
+
+	@Test def changed_graph_attributes_replace_the_graph() {
+		val current = '''digraph { 1 -> 2 }'''.merge(null)
+		current.assertNotSame('''digraph { rankdir=LR; 1 -> 2 }'''.merge(current))
+	}
+
+	private def merge(CharSequence dot, Graph current) {
+		val dotGraph = dot.dotGraph
+		merger.merge(current, dotGraph, copier.copy(dotGraph), copier)
+	}
+
+	private def copy(CharSequence dot) {
+		copier.copy(dot.dotGraph)
+	}
+
+	private def dotGraph(CharSequence dot) {
+		new DotImport().importDot(dot.toString).get(0)
+	}
+
+	private def node(Graph graph, String label) {
+		graph.nodes.findFirst[ZestProperties.getLabel(it) == label]
+	}
+}
@@ -2247,6 +2247,43 @@ class DotAttributesTest {
 		)
 	}
 
+	@Test def graph_ranksep() {
+		val it = new Graph.Builder().build
+
+		// test getters if no explicit value is set
+		ranksepRaw.assertNull
+		ranksep.assertNull
+		ranksepParsed.assertNull
+
+		// set valid string values
+		val validRanksep = "1.2"
+		ranksep = validRanksep
+		validRanksep.assertEquals(ranksep)
+
+		// set valid parsed values
+		var validRanksepParsed = new Double(0.02)
+		ranksepParsed = validRanksepParsed
+		validRanksepParsed.assertEquals(ranksepParsed)
+
+		// set valid parsed values
+		validRanksepParsed = new Double(0.0)
+		ranksepParsed = validRanksepParsed
+		validRanksepParsed.assertEquals(ranksepParsed)
+
+		// set syntactically invalid values
+		invalidValue([ranksep = "0,5"],
+			"Cannot set graph attribute 'ranksep' to '0,5'. The value '0,5' is not a syntactically correct double: For input string: \"0,5\"."
+		)
+		invalidValue([ranksep = "foo"],
+			"Cannot set graph attribute 'ranksep' to 'foo'. The value 'foo' is not a syntactically correct double: For input string: \"foo\"."
+		)
+
+		// set syntactically correct, but semantically invalid values
+		invalidValue([ranksep = "-1"],
+			"Cannot set graph attribute 'ranksep' to '-1'. The double value '-1' is not semantically correct: Value may not be smaller than 0.0."
+		)
+	}
+
 	@Test def graph_splines() {
 		val it = new Graph.Builder().build
 
@@ -3366,6 +3403,26 @@ class DotAttributesTest {
 		)
 	}
 
+	@Test def parsed_values() {
+		val it = new Node.Builder().buildNode
+		fontname = "Helvetica"
+		val other = new Node.Builder().buildNode
+		other.fontname = "Helvetica"
+
+		// by default, equal raw values yield equal copies of the cached value
+		val parsed = fontnameParsed
+		EcoreUtil.equals(parsed, other.fontnameParsed).assertTrue
+		(parsed === other.fontnameParsed).assertFalse
+
+		// if shared, equal raw values yield the same value
+		setShareParsedValues(true)
+		try {
+			(fontnameParsed === other.fontnameParsed).assertTrue
+		} finally {
+			setShareParsedValues(false)
+		}
+	}
+
 	@Test def subgraph_rank() {
 		val it = new Graph.Builder().build
 
@@ -156,6 +156,7 @@ class DotContentAssist2Test extends AbstractContentAssistTest {
 			new CompletionProposal("outputorder: Attribute", "outputorder=", IMAGE_ATTRIBUTE),
 			new CompletionProposal("pagedir: Attribute", "pagedir=", IMAGE_ATTRIBUTE),
 			new CompletionProposal("rankdir: Attribute", "rankdir=", IMAGE_ATTRIBUTE),
+			new CompletionProposal("ranksep: Attribute", "ranksep=", IMAGE_ATTRIBUTE),
 			new CompletionProposal("splines: Attribute", "splines=", IMAGE_ATTRIBUTE),
 			new CompletionProposal("style: Attribute", "style=", IMAGE_ATTRIBUTE),
 			new CompletionProposal("edge[]: Attributes", "edge[]", IMAGE_ATTRIBUTES),
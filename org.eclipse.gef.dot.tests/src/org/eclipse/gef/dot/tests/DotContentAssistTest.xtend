@@ -648,7 +648,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 			}
 		'''.testContentAssistant(#["bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "fontcolor", "fontname", "fontsize", "edge[]", "graph[]", "node[]", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template",
 									"{", "}", "forcelabels", "id", "label", "layout", "lp", "nodesep", "outputorder", "pagedir",
-									"rankdir", "splines", "style", "edge - Insert a template"], "cluster - Insert a template",
+									"rankdir", "ranksep", "splines", "style", "edge - Insert a template"], "cluster - Insert a template",
 		'''
 			graph {
 				subgraph clustername {
@@ -664,7 +664,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 			}
 		'''.testContentAssistant(#["--", ":", ";", "=", "[", "bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "fontcolor", "fontname", "fontsize", "edge[]", "graph[]",
 									"node[]", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "{", "}", "forcelabels", "id", "label", "layout", "lp", "nodesep", "outputorder",
-									"pagedir", "rankdir", "splines", "style", "edge - Insert a template"], "cluster - Insert a template",
+									"pagedir", "rankdir", "ranksep", "splines", "style", "edge - Insert a template"], "cluster - Insert a template",
 		'''
 			graph {
 				1
@@ -713,7 +713,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 				«c»
 			}
 		'''.testContentAssistant(#["bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "edge[]", "edge - Insert a template", "fontcolor",
-			"fontname", "fontsize", "forcelabels", "graph[]", "id", "label", "layout", "lp", "node[]", "nodesep", "outputorder", "pagedir", "rankdir", "splines",
+			"fontname", "fontsize", "forcelabels", "graph[]", "id", "label", "layout", "lp", "node[]", "nodesep", "outputorder", "pagedir", "rankdir", "ranksep", "splines",
 			"style", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "{", "}"
 		], "edge[]", '''
 			graph {
@@ -1983,7 +1983,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 			}
 		'''.testContentAssistant(#["bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "fontcolor", "fontname", "fontsize", "edge[]", "graph[]", "node[]", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template",
 									"{", "}", "forcelabels", "id", "label", "layout", "lp", "nodesep", "outputorder", "pagedir",
-									"rankdir", "splines", "style", "edge - Insert a template"], "edge - Insert a template",
+									"rankdir", "ranksep", "splines", "style", "edge - Insert a template"], "edge - Insert a template",
 		'''
 			graph {
 				source -- target
@@ -1997,7 +1997,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 			}
 		'''.testContentAssistant(#["--", ":", ";", "=", "[", "bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "fontcolor", "fontname", "fontsize", "edge[]", "graph[]",
 									"node[]", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "{", "}", "forcelabels", "id", "label", "layout", "lp", "nodesep", "outputorder",
-									"pagedir", "rankdir", "splines", "style", "edge - Insert a template"], "edge - Insert a template",
+									"pagedir", "rankdir", "ranksep", "splines", "style", "edge - Insert a template"], "edge - Insert a template",
 		'''
 			graph {
 				1
@@ -2012,7 +2012,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 			}
 		'''.testContentAssistant(#["bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "fontcolor", "fontname", "fontsize", "edge[]", "graph[]", "node[]", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template",
 									"{", "}", "forcelabels", "id", "label", "layout", "lp", "nodesep", "outputorder", "pagedir",
-									"rankdir", "splines", "style", "edge - Insert a template"], "edge - Insert a template",
+									"rankdir", "ranksep", "splines", "style", "edge - Insert a template"], "edge - Insert a template",
 		'''
 			digraph {
 				source -> target
@@ -2026,7 +2026,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 			}
 		'''.testContentAssistant(#["->", ":", ";", "=", "[", "bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "fontcolor", "edge[]", "fontname", "fontsize", "graph[]",
 									"node[]", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "{", "}", "forcelabels", "id", "label", "layout", "lp", "nodesep", "outputorder",
-									"pagedir", "rankdir", "splines", "style", "edge - Insert a template"], "edge - Insert a template",
+									"pagedir", "rankdir", "ranksep", "splines", "style", "edge - Insert a template"], "edge - Insert a template",
 		'''
 			digraph {
 				1
@@ -2138,7 +2138,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 				«c»
 			}
 		'''.testContentAssistant(#["bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "edge[]", "edge - Insert a template", "fontcolor", "fontname", "fontsize",
-			"forcelabels", "graph[]", "id", "label", "layout", "lp", "node[]", "nodesep", "outputorder", "pagedir", "rankdir", "splines", "style", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "{", "}"
+			"forcelabels", "graph[]", "id", "label", "layout", "lp", "node[]", "nodesep", "outputorder", "pagedir", "rankdir", "ranksep", "splines", "style", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "{", "}"
 		], "graph[]", '''
 			graph {
 				graph[]
@@ -2167,7 +2167,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 				graph[«c»]
 			}
 		'''.testContentAssistant(#["]", "bb", "bgcolor", "clusterrank", "colorscheme", "fontcolor", "fontname", "fontsize", "forcelabels",
-								"id", "label", "layout", "lp", "nodesep", "outputorder", "pagedir", "rankdir",
+								"id", "label", "layout", "lp", "nodesep", "outputorder", "pagedir", "rankdir", "ranksep",
 								"splines", "style"], "forcelabels",
 		'''
 			graph {
@@ -2182,7 +2182,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 			}
 		'''.testContentAssistant(#["bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "fontcolor", "fontname", "fontsize", "edge[]", "graph[]",
 									"node[]",	"subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "{", "}", "forcelabels", "id", "label",	"layout", "lp",
-									"nodesep", "outputorder", "pagedir", "rankdir", "splines", "style", "edge - Insert a template"], "rankdir",
+									"nodesep", "outputorder", "pagedir", "rankdir", "ranksep", "splines", "style", "edge - Insert a template"], "rankdir",
 		'''
 			graph {
 				rankdir=
@@ -2467,7 +2467,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 			}
 		'''.testContentAssistant(#["1", "10", "11", ",", ";", "{", "}", "bb", "bgcolor", "colorscheme", "cluster - Insert a template", "clusterrank",
 									"edge[]", "fontcolor", "fontname", "fontsize", "forcelabels", "graph[]", "id", "label", "layout", "lp", "node[]",
-									"nodesep", "outputorder", "pagedir", "rankdir", "splines", "style", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "edge - Insert a template"], "11",
+									"nodesep", "outputorder", "pagedir", "rankdir", "ranksep", "splines", "style", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "edge - Insert a template"], "11",
 		'''
 			graph {
 				colorscheme=brbg11 fontcolor=11
@@ -2968,7 +2968,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 				«c»
 			}
 		'''.testContentAssistant(#["bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "edge[]", "edge - Insert a template", "fontcolor", "fontname", "fontsize",
-			"forcelabels", "graph[]", "id", "label", "layout", "lp", "node[]", "nodesep", "outputorder", "pagedir", "rankdir", "splines", "style", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "{", "}"
+			"forcelabels", "graph[]", "id", "label", "layout", "lp", "node[]", "nodesep", "outputorder", "pagedir", "rankdir", "ranksep", "splines", "style", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "{", "}"
 		], "node[]", '''
 			graph {
 				node[]
@@ -4049,7 +4049,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 			}
 		'''.testContentAssistant(#["bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "fontcolor", "fontname", "fontsize", "edge[]", "graph[]", "node[]", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template",
 									"{", "}", "forcelabels", "id", "label", "layout", "lp", "nodesep", "outputorder", "pagedir",
-									"rankdir", "splines", "style", "edge - Insert a template"], "subgraph - Insert a template",
+									"rankdir", "ranksep", "splines", "style", "edge - Insert a template"], "subgraph - Insert a template",
 		'''
 			graph {
 				subgraph {
@@ -4065,7 +4065,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 			}
 		'''.testContentAssistant(#["--", ":", ";", "=", "[", "bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "fontcolor", "fontname", "fontsize", "edge[]", "graph[]",
 									"node[]", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "{", "}", "forcelabels", "id", "label", "layout", "lp", "nodesep", "outputorder",
-									"pagedir", "rankdir", "splines", "style", "edge - Insert a template"], "subgraph - Insert a template",
+									"pagedir", "rankdir", "ranksep", "splines", "style", "edge - Insert a template"], "subgraph - Insert a template",
 		'''
 			graph {
 				1
@@ -4082,7 +4082,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 			}
 		'''.testContentAssistant(#["bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "fontcolor", "fontname", "fontsize", "edge[]", "graph[]", "node[]", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template",
 									"{", "}", "forcelabels", "id", "label", "layout", "lp", "nodesep", "outputorder", "pagedir",
-									"rankdir", "splines", "style", "edge - Insert a template"], "subgraph (named) - Insert a template",
+									"rankdir", "ranksep", "splines", "style", "edge - Insert a template"], "subgraph (named) - Insert a template",
 		'''
 			graph {
 				subgraph name {
@@ -4098,7 +4098,7 @@ class DotContentAssistTest extends AbstractContentAssistTest {
 			}
 		'''.testContentAssistant(#["--", ":", ";", "=", "[", "bb", "bgcolor", "cluster - Insert a template", "clusterrank", "colorscheme", "fontcolor", "fontname", "fontsize", "edge[]", "graph[]",
 									"node[]", "subgraph", "subgraph (named) - Insert a template", "subgraph - Insert a template", "{", "}", "forcelabels", "id", "label", "layout", "lp", "nodesep", "outputorder",
-									"pagedir", "rankdir", "splines", "style", "edge - Insert a template"], "subgraph (named) - Insert a template",
+									"pagedir", "rankdir", "ranksep", "splines", "style", "edge - Insert a template"], "subgraph (named) - Insert a template",
 		'''
 			graph {
 				1
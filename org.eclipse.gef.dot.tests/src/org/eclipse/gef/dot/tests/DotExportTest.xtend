@@ -15,13 +15,18 @@
  *******************************************************************************/
 package org.eclipse.gef.dot.tests
 
+import java.io.ByteArrayOutputStream
 import java.util.Scanner
 import org.eclipse.gef.dot.internal.DotExport
+import org.eclipse.gef.dot.internal.language.dot.GraphType
+import org.eclipse.gef.graph.Edge
 import org.eclipse.gef.graph.Graph
+import org.eclipse.gef.graph.Node
 import org.junit.Rule
 import org.junit.Test
 import org.junit.rules.TemporaryFolder
 
+import static extension org.eclipse.gef.dot.internal.DotAttributes.*
 import static extension org.eclipse.gef.dot.internal.DotFileUtils.read
 import static extension org.eclipse.gef.dot.tests.DotTestUtils.content
 import static extension org.junit.Assert.*
@@ -57,6 +62,48 @@ class DotExportTest {
 		DotTestUtils.getClusteredGraph.assertExportedTo("clustered_graph.dot")
 	}
 
+	@Test def stream_export() {
+		val outputStream = new ByteArrayOutputStream
+		DotTestUtils.getClusteredGraph.exportDot(outputStream)
+		DotTestUtils.getClusteredGraph.exportDot.assertEquals(outputStream.toString("UTF-8"))
+	}
+
+	@Test def compact_export() {
+		val dotExport = new DotExport => [compact = true]
+		'''
+			digraph StyledGraph {
+			layout=dot
+			1; 2; 3; 4; 5
+			1->2 [style=dashed]
+			2->3 [style=dotted]
+			3->4 [style=dashed]
+			3->5 [style=dashed]
+			4->5 [style=solid]
+			}
+		'''.toString.assertEquals(dotExport.exportDot(DotTestUtils.getStyledGraph))
+	}
+
+	@Test def factored_attribute_defaults() {
+		val n1 = new Node.Builder().attr([p1,p2|p1._setName(p2)], "1").attr([p1,p2|p1.shape=p2], "box").buildNode
+		val n2 = new Node.Builder().attr([p1,p2|p1._setName(p2)], "2").attr([p1,p2|p1.shape=p2], "box").
+			attr([p1,p2|p1.label=p2], "two").buildNode
+		val e1 = new Edge.Builder(n1, n2).attr([p1,p2|p1.style=p2], "dashed").buildEdge
+		val e2 = new Edge.Builder(n2, n1).attr([p1,p2|p1.style=p2], "dashed").buildEdge
+		val graph = new Graph.Builder().attr([p1,p2|p1._setType(p2)], GraphType.DIGRAPH).nodes(n1, n2).
+			edges(e1, e2).build
+
+		val dotExport = new DotExport => [factorAttributeDefaults = true]
+		'''
+			digraph {
+				node [shape=box]
+				edge [style=dashed]
+				1; 2 [label=two]
+				1->2
+				2->1
+			}
+		'''.toString.assertEquals(dotExport.exportDot(graph))
+	}
+
 	private def assertExportedTo(Graph graph, String expectedFileName) {
 		val expected = expectedFileName.content.removeMultiLineComments
 
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.dot.tests
+
+import java.io.File
+import java.io.StringReader
+import java.util.Set
+import java.util.TreeSet
+import org.eclipse.emf.ecore.EObject
+import org.eclipse.emf.ecore.util.EcoreUtil
+import org.eclipse.gef.dot.internal.DotImport
+import org.eclipse.gef.dot.internal.language.DotArrowTypeStandaloneSetup
+import org.eclipse.gef.dot.internal.language.DotColorStandaloneSetup
+import org.eclipse.gef.dot.internal.language.DotFastAttributeParser
+import org.eclipse.gef.dot.internal.language.DotPointStandaloneSetup
+import org.eclipse.gef.dot.internal.language.DotRectStandaloneSetup
+import org.eclipse.gef.dot.internal.language.DotSplineTypeStandaloneSetup
+import org.eclipse.gef.dot.internal.language.DotStyleStandaloneSetup
+import org.eclipse.gef.dot.internal.language.terminals.ID
+import org.eclipse.gef.graph.Graph
+import org.eclipse.xtext.ISetup
+import org.eclipse.xtext.parser.IParser
+import org.eclipse.xtext.testing.InjectWith
+import org.eclipse.xtext.testing.XtextRunner
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+import static extension org.eclipse.gef.dot.tests.DotTestUtils.file
+import static extension org.junit.Assert.assertFalse
+import static extension org.junit.Assert.assertNotNull
+import static extension org.junit.Assert.assertNull
+import static extension org.junit.Assert.assertTrue
+
+/**
+ * Differential test cases for the {@link DotFastAttributeParser}: whenever a
+ * value is recognized by the hand-written parser, the grammar parser has to
+ * accept it as well and has to produce an equal model.
+ */
+@RunWith(XtextRunner)
+@InjectWith(DotInjectorProvider)
+class DotFastAttributeParserTest {
+
+	@Rule public val rule = new DotSubgrammarPackagesRegistrationRule
+
+	static val POINTS = #["1,2", " 1 , 2 ", "1,2,3", "1,2!", "1, 2, 3 !",
+		"-1.5,.5", "5.,-0", "1e5,1E-5", "123456789012345678,1", "0x1A,2",
+		"1,2,", "1", "1.2.3,4", "1,2 3", "1e,2", "", " "]
+
+	static val RECTS = #["0,0,100,200.5", " 0 , 0 , 1 , 1 ", "0,0,1",
+		"1,2,3,4,5", "1,2,3,4!"]
+
+	static val SPLINE_TYPES = #["e,10,10 0,0 3,3 6,6 9,9",
+		"s,1,1 e,2,2 0,0 1,1 2,2 3,3", "0,0 1,1 2,2 3,3;4,4 5,5 6,6 7,7",
+		"0,0,1 1,1 2,2! 3,3 4,4 5,5 6,6", "0,0 1,1 2,2", "0,0 1,1 2,2 3,3 4,4",
+		"0,0 1,1 2,2 3,3;", "e,1,1", "e,1,1 s,2,2 0,0 1,1 2,2 3,3",
+		"s 1,1 0,0 1,1 2,2 3,3"]
+
+	static val COLORS = #["black", " blue ", "red2", "a", "#ff0000",
+		"#FF000080", "#ff00", "#ff 00 00", "#ff0000 ", "0.5 0.5 0.5",
+		"0.650,0.700,0.700", ".5, .5 .5", "0.5 0.5", "0 0 0", "1", "/x11/red",
+		"//red", "/a/red", "/accent3/1", "red!", "red blue", ""]
+
+	static val STYLES = #["filled", "filled,rounded", " filled , rounded ",
+		"setlinewidth(2)", "a(b,c), d", "a ( b , c )", "filled,", "a b", "(",
+		"a()", "a(b", ""]
+
+	static val ARROW_TYPES = #["normal", "onormal", "olnormal",
+		"lteeoldiamond", "invempty", "invodot", "open", "ediamond",
+		"halfopeninv", "normalnormalnormalnormal",
+		"normalnormalnormalnormalnormal", "rnormal", "lo", "o", "box ",
+		"inve", "oopen", "lopen", "invediamond", ""]
+
+	@Test def arrowType() {
+		val parser = new DotArrowTypeStandaloneSetup().parser
+		ARROW_TYPES.assertEquivalent(parser)[DotFastAttributeParser.parseArrowType(it)]
+		DotFastAttributeParser.parseArrowType("olnormal").assertNotNull
+		DotFastAttributeParser.parseArrowType("normal normal").assertNull
+	}
+
+	@Test def color() {
+		val parser = new DotColorStandaloneSetup().parser
+		COLORS.assertEquivalent(parser)[DotFastAttributeParser.parseColor(it)]
+		DotFastAttributeParser.parseColor("#ff0000").assertNotNull
+		DotFastAttributeParser.parseColor("0.5 0.5 0.5").assertNotNull
+		DotFastAttributeParser.parseColor("/x11/red").assertNotNull
+	}
+
+	@Test def corpus() {
+		// all attribute values of the test resources are tried with all
+		// hand-written parsers
+		val values = new TreeSet<String>
+		for (fileName : new File("resources").list.filter[endsWith(".dot")]) {
+			for (graph : new DotImport().importDot(fileName.file)) {
+				graph.collectValues(values)
+			}
+		}
+		values.assertEquivalent(new DotArrowTypeStandaloneSetup().parser)[DotFastAttributeParser.parseArrowType(it)]
+		values.assertEquivalent(new DotColorStandaloneSetup().parser)[DotFastAttributeParser.parseColor(it)]
+		values.assertEquivalent(new DotPointStandaloneSetup().parser)[DotFastAttributeParser.parsePoint(it)]
+		values.assertEquivalent(new DotRectStandaloneSetup().parser)[DotFastAttributeParser.parseRect(it)]
+		values.assertEquivalent(new DotSplineTypeStandaloneSetup().parser)[DotFastAttributeParser.parseSplineType(it)]
+		values.assertEquivalent(new DotStyleStandaloneSetup().parser)[DotFastAttributeParser.parseStyle(it)]
+	}
+
+	@Test def point() {
+		val parser = new DotPointStandaloneSetup().parser
+		POINTS.assertEquivalent(parser)[DotFastAttributeParser.parsePoint(it)]
+		DotFastAttributeParser.parsePoint("1, 2, 3 !").assertNotNull
+		// hexadecimal numbers are left to the grammar parser
+		DotFastAttributeParser.parsePoint("0x1A,2").assertNull
+	}
+
+	@Test def rect() {
+		val parser = new DotRectStandaloneSetup().parser
+		RECTS.assertEquivalent(parser)[DotFastAttributeParser.parseRect(it)]
+		DotFastAttributeParser.parseRect("0,0,100,200.5").assertNotNull
+	}
+
+	@Test def splineType() {
+		val parser = new DotSplineTypeStandaloneSetup().parser
+		SPLINE_TYPES.assertEquivalent(parser)[DotFastAttributeParser.parseSplineType(it)]
+		DotFastAttributeParser.parseSplineType("s,1,1 e,2,2 0,0 1,1 2,2 3,3").assertNotNull
+	}
+
+	@Test def style() {
+		val parser = new DotStyleStandaloneSetup().parser
+		STYLES.assertEquivalent(parser)[DotFastAttributeParser.parseStyle(it)]
+		DotFastAttributeParser.parseStyle("a(b,c), d").assertNotNull
+	}
+
+	private def void assertEquivalent(Iterable<String> values, IParser parser, (String)=>EObject fastParser) {
+		for (value : values) {
+			val fastValue = fastParser.apply(value)
+			if (fastValue !== null) {
+				val parseResult = parser.parse(new StringReader(value))
+				parseResult.hasSyntaxErrors.assertFalse
+				("Different models for '" + value + "'").assertTrue(
+					EcoreUtil.equals(parseResult.rootASTElement, fastValue))
+			}
+		}
+	}
+
+	private def void collectValues(Graph graph, Set<String> values) {
+		values += graph.attributes.values.filter(ID).map[toValue]
+		for (node : graph.nodes) {
+			values += node.attributes.values.filter(ID).map[toValue]
+			if (node.nestedGraph !== null) {
+				node.nestedGraph.collectValues(values)
+			}
+		}
+		for (edge : graph.edges) {
+			values += edge.attributes.values.filter(ID).map[toValue]
+		}
+	}
+
+	private def getParser(ISetup setup) {
+		setup.createInjectorAndDoEMFRegistration.getInstance(IParser)
+	}
+}
@@ -17,7 +17,11 @@
 package org.eclipse.gef.dot.tests
 
 import java.io.File
+import java.io.StringReader
+import java.nio.file.Files
+import java.util.concurrent.Executors
 import org.eclipse.gef.dot.internal.DotImport
+import org.eclipse.gef.dot.internal.language.DotStreamParser.DotSyntaxException
 import org.eclipse.gef.dot.internal.language.dot.GraphType
 import org.eclipse.gef.dot.internal.language.layout.Layout
 import org.eclipse.gef.dot.internal.language.rankdir.Rankdir
@@ -82,6 +86,87 @@ class DotImportTest {
 		'''.importString
 	}
 
+	@Test def void streaming_file_import() {
+		// the streaming import yields the same graphs as the import of the DOT AST
+		for (fileName : new File("resources").list.filter[endsWith(".dot")]) {
+			val expected = dotImport.importDot(fileName.file)
+			val reader = Files.newBufferedReader(fileName.file.toPath)
+			try {
+				val actual = dotImport.importDot(reader)
+				expected.size.assertEquals(actual.size)
+				for (i : 0 ..< expected.size) {
+					actual.get(i).assertGraph(expected.get(i))
+				}
+			} finally {
+				reader.close
+			}
+		}
+	}
+
+	@Test def void streaming_import_edge_subgraphs() {
+		// subgraphs that are the source or target of an edge are handled like by the import of the DOT AST
+		for (dot : #[
+			'''digraph { {a b} -> c }''',
+			'''digraph { a -> {b c} }''',
+			'''digraph { subgraph s {a {b} -> c} d }''',
+			'''digraph { a {a [color=red] b} -> c b }''',
+			'''digraph { subgraph s {a} {subgraph s {b} c} -> d c }''',
+			'''digraph { { {a} b } -> c a }'''
+		]) {
+			val expected = dotImport.importDot(dot.toString)
+			val actual = dotImport.importDot(new StringReader(dot.toString))
+			expected.size.assertEquals(actual.size)
+			for (i : 0 ..< expected.size) {
+				actual.get(i).assertGraph(expected.get(i))
+			}
+		}
+	}
+
+	@Test def void parallel_file_import() {
+		// the parallel import yields the same graphs, in the same order, as the sequential import
+		val files = new File("resources").list.filter[endsWith(".dot")].map[file].toList
+		val executor = Executors.newFixedThreadPool(4)
+		try {
+			val actual = dotImport.importDot(files, executor)
+			files.size.assertEquals(actual.size)
+			for (i : 0 ..< files.size) {
+				val expected = dotImport.importDot(files.get(i))
+				expected.size.assertEquals(actual.get(i).size)
+				for (j : 0 ..< expected.size) {
+					actual.get(i).get(j).assertGraph(expected.get(j))
+				}
+			}
+		} finally {
+			executor.shutdown
+		}
+	}
+
+	@Test def void streaming_import_syntax_error() {
+		try {
+			dotImport.importDot(new StringReader('''
+				graph Sample {
+					1 -- 2
+					3 -- }
+			'''.toString))
+			Assert.fail("Expected a syntax error")
+		} catch (DotSyntaxException e) {
+			3.assertEquals(e.line)
+			7.assertEquals(e.column)
+		}
+	}
+
+	@Test def void streaming_import_invalid_ids() {
+		// signed numerals need a leading dot, and a compass point always completes a port
+		for (dot : #['''graph { a [width=-5] }''', '''graph { a:n:s -- b }''']) {
+			try {
+				dotImport.importDot(new StringReader(dot.toString))
+				Assert.fail("Expected a syntax error")
+			} catch (DotSyntaxException e) {
+				1.assertEquals(e.line)
+			}
+		}
+	}
+
 	@Test def digraph_type() {
 		val graph = DotTestGraphs.TWO_NODES_ONE_DIRECTED_EDGE.importString
 		GraphType.DIGRAPH.assertEquals(graph._getType)
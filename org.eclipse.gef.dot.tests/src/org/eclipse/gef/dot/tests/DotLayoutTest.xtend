@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.dot.tests
+
+import java.io.File
+import org.eclipse.gef.dot.internal.DotImport
+import org.eclipse.gef.dot.internal.DotLayout
+import org.eclipse.gef.dot.internal.language.splines.Splines
+import org.eclipse.gef.graph.Graph
+import org.eclipse.gef.graph.Node
+import org.eclipse.xtext.testing.InjectWith
+import org.eclipse.xtext.testing.XtextRunner
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+import static extension org.eclipse.gef.dot.internal.DotAttributes.*
+import static extension org.eclipse.gef.dot.tests.DotTestUtils.file
+import static extension org.junit.Assert.*
+
+@RunWith(XtextRunner)
+@InjectWith(DotInjectorProvider)
+class DotLayoutTest {
+
+	@Rule public val rule = new DotSubgrammarPackagesRegistrationRule
+
+	static val DELTA = 0.01
+
+	@Test def all_resources() {
+		// all test resources can be laid out, and the results can be parsed
+		for (fileName : new File("resources").list.filter[endsWith(".dot")]) {
+			for (graph : new DotImport().importDot(fileName.file)) {
+				new DotLayout().layout(graph)
+				graph.bbParsed.assertNotNull
+				graph.assertLaidOut
+			}
+		}
+	}
+
+	@Test def rankdir_tb() {
+		val graph = '''digraph { 1 -> 2 }'''.layout
+		val p1 = graph.node("1").posParsed
+		val p2 = graph.node("2").posParsed
+		p1.x.assertEquals(p2.x, DELTA)
+		// the y-axis points up, as for the 'dot' executable
+		(p1.y > p2.y).assertTrue
+	}
+
+	@Test def rankdir_lr() {
+		val graph = '''digraph { rankdir=LR; 1 -> 2 }'''.layout
+		val p1 = graph.node("1").posParsed
+		val p2 = graph.node("2").posParsed
+		p1.y.assertEquals(p2.y, DELTA)
+		(p1.x < p2.x).assertTrue
+	}
+
+	@Test def invert_y_axis() {
+		val graph = new DotImport().importDot('''digraph { 1 -> 2 }''').get(0)
+		val dotLayout = new DotLayout
+		dotLayout.invertYAxis = true
+		dotLayout.layout(graph)
+		(graph.node("1").posParsed.y < graph.node("2").posParsed.y).assertTrue
+	}
+
+	@Test def nodesep() {
+		val graph = '''graph { nodesep=1; 1; 2 }'''.layout
+		val p1 = graph.node("1").posParsed
+		val p2 = graph.node("2").posParsed
+		// default width (0.75 inches) plus nodesep (1 inch)
+		(0.75 * 72 + 72).assertEquals(Math.abs(p2.x - p1.x), DELTA)
+	}
+
+	@Test def ranksep() {
+		val graph = '''graph { ranksep=1; 1 -- 2 }'''.layout
+		val p1 = graph.node("1").posParsed
+		val p2 = graph.node("2").posParsed
+		// default height (0.5 inches) plus ranksep (1 inch)
+		(0.5 * 72 + 72).assertEquals(p1.y - p2.y, DELTA)
+	}
+
+	@Test def rank_same() {
+		val graph = '''digraph { 1 -> 2 -> 3; { rank=same; 4; 5 } 1 -> 4 -> 5 }'''.layout
+		graph.assertLaidOut
+	}
+
+	@Test def cluster() {
+		val graph = '''
+			digraph {
+				subgraph cluster_0 { label="Cluster"; 1 -> 2 }
+				0 -> 1
+				2 -> 3
+				0 -> 3
+			}
+		'''.layout
+		val cluster = graph.nodes.findFirst[nestedGraph !== null].nestedGraph
+		val bb = cluster.bbParsed
+		cluster.lpParsed.assertNotNull
+		for (node : cluster.nodes) {
+			val p = node.posParsed
+			(p.x > bb.llx && p.x < bb.urx && p.y > bb.lly && p.y < bb.ury).assertTrue
+		}
+		for (node : graph.nodes.filter[nestedGraph === null]) {
+			val p = node.posParsed
+			(p.x > bb.llx && p.x < bb.urx && p.y > bb.lly && p.y < bb.ury).assertFalse
+		}
+	}
+
+	@Test def edge_labels() {
+		val graph = '''digraph { 1 -> 2 [label="label", headlabel="head", taillabel="tail"] }'''.layout
+		val edge = graph.edges.get(0)
+		edge.lpParsed.assertNotNull
+		edge.headLpParsed.assertNotNull
+		edge.tailLpParsed.assertNotNull
+		// the arrow head is placed at the end of the edge
+		edge.posParsed.splines.get(0).endp.assertNotNull
+	}
+
+	@Test def splines_none() {
+		val graph = '''digraph { splines=none; 1 -> 2 }'''.layout
+		graph.edges.get(0).pos.assertNull
+		graph.node("1").posParsed.assertNotNull
+	}
+
+	private def layout(CharSequence dot) {
+		val graph = new DotImport().importDot(dot.toString).get(0)
+		new DotLayout().layout(graph)
+		graph
+	}
+
+	private def Node node(Graph graph, String name) {
+		graph.nodes.findFirst[_getName == name]
+	}
+
+	private def void assertLaidOut(Graph graph) {
+		for (node : graph.nodes) {
+			if (node.nestedGraph !== null) {
+				node.nestedGraph.assertLaidOut
+			} else {
+				node.posParsed.assertNotNull
+			}
+		}
+		val splines = graph.rootGraph.splines
+		if (splines != Splines.NONE.toString && splines != Splines.EMPTY.toString) {
+			for (edge : graph.edges.filter[source.nestedGraph === null && target.nestedGraph === null]) {
+				edge.posParsed.assertNotNull
+			}
+		}
+	}
+}
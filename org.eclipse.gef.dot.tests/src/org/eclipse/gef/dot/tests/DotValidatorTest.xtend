@@ -19,6 +19,7 @@ package org.eclipse.gef.dot.tests
 
 import com.google.inject.Inject
 import java.util.List
+import java.util.concurrent.Executors
 import org.eclipse.gef.dot.internal.language.dot.DotAst
 import org.eclipse.xtext.testing.InjectWith
 import org.eclipse.xtext.testing.XtextRunner
@@ -540,6 +541,30 @@ class DotValidatorTest {
 		)
 	}
 
+	@Test def cached_attribute_value_validation() {
+		val cached = <Boolean>newArrayList
+		setAttributeValidationListener[name, nanos, isCached|if(name == STYLE__GCNE) cached += isCached]
+		try {
+			val dotAst = '''graph{1[style="setlinewidth(1)"] 2[style="setlinewidth(1)"]}'''.parse.assertNumberOfIssues(2)
+			dotAst.assertWarning(ATTRIBUTE, STYLE__GCNE, "The style value 'setlinewidth(1)' is not semantically correct: The usage of setlinewidth is deprecated, use the penwidth attribute instead.")
+			// the equal value of the second attribute is not validated again
+			cached.contains(true).assertTrue
+		} finally {
+			setAttributeValidationListener(null)
+		}
+	}
+
+	@Test def parallel_attribute_value_validation() {
+		val executor = Executors.newFixedThreadPool(4)
+		setValidationExecutor(executor)
+		try {
+			"arrowshapes_deprecated.dot".readFile.assertNumberOfIssues(8)
+		} finally {
+			setValidationExecutor(null)
+			executor.shutdown
+		}
+	}
+
 	private def assertArrowTypeWarning(DotAst dotAst, String message) {
 		dotAst.assertWarning(ATTRIBUTE, ARROWHEAD__E, message)
 	}
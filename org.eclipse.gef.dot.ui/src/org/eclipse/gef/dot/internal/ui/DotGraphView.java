@@ -46,8 +46,12 @@ import org.eclipse.gef.dot.internal.DotExecutableUtils;
 import org.eclipse.gef.dot.internal.DotExtractor;
 import org.eclipse.gef.dot.internal.DotFileUtils;
 import org.eclipse.gef.dot.internal.DotImport;
+import org.eclipse.gef.dot.internal.DotLayout;
 import org.eclipse.gef.dot.internal.language.colorlist.ColorList;
+import org.eclipse.gef.dot.internal.language.dot.DotAst;
+import org.eclipse.gef.dot.internal.language.layout.Layout;
 import org.eclipse.gef.dot.internal.ui.conversion.Dot2ZestGraphCopier;
+import org.eclipse.gef.dot.internal.ui.conversion.Dot2ZestGraphMerger;
 import org.eclipse.gef.dot.internal.ui.conversion.DotColorUtil;
 import org.eclipse.gef.dot.internal.ui.language.DotActivator;
 import org.eclipse.gef.dot.internal.ui.language.DotActivatorEx;
@@ -63,6 +67,7 @@ import org.eclipse.jface.action.IContributionItem;
 import org.eclipse.jface.action.IToolBarManager;
 import org.eclipse.jface.action.Separator;
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.jface.viewers.ISelection;
@@ -74,6 +79,7 @@ import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Link;
 import org.eclipse.ui.IActionBars;
@@ -90,6 +96,12 @@ import org.eclipse.ui.part.FileEditorInput;
 import org.eclipse.ui.part.IShowInTarget;
 import org.eclipse.ui.part.ShowInContext;
 import org.eclipse.ui.statushandlers.StatusManager;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.ui.editor.XtextEditor;
+import org.eclipse.xtext.ui.editor.model.IXtextDocument;
+import org.eclipse.xtext.ui.editor.model.IXtextModelListener;
+import org.eclipse.xtext.util.concurrent.IUnitOfWork;
 
 import com.google.inject.Guice;
 import com.google.inject.Inject;
@@ -118,6 +130,10 @@ public class DotGraphView extends ZestFxUiView implements IShowInTarget {
 			.toExternalForm();
 	private static final String[] EXTENSIONS = { "dot", "gv" }; //$NON-NLS-1$ //$NON-NLS-2$
 	private static final String GRAPH_NONE = DotUiMessages.DotGraphView_0;
+	/**
+	 * The delay (in milliseconds) after which a scheduled update is applied.
+	 */
+	private static final int UPDATE_DELAY = 250;
 	private boolean listenToDotContent = false;
 	private boolean listenToSelectionChanges = false;
 	private String currentDot = "digraph{}"; //$NON-NLS-1$
@@ -126,6 +142,21 @@ public class DotGraphView extends ZestFxUiView implements IShowInTarget {
 
 	@Inject
 	private Dot2ZestGraphCopier dot2ZestGraphCopier;
+	private Dot2ZestGraphMerger dot2ZestGraphMerger = new Dot2ZestGraphMerger();
+
+	private String pendingDot = null;
+	private IXtextDocument pendingDocument = null;
+	private long pendingModificationStamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	private File pendingFile = null;
+	private String displayedDot = null;
+	private File displayedFile = null;
+	private boolean displayedNativeMode = false;
+	private final Runnable updateRunnable = new Runnable() {
+		@Override
+		public void run() {
+			applyPendingUpdate();
+		}
+	};
 
 	private IPropertyChangeListener preferenceChangeListener = new IPropertyChangeListener() {
 		@Override
@@ -133,6 +164,7 @@ public class DotGraphView extends ZestFxUiView implements IShowInTarget {
 			if (event.getProperty()
 					.equals(GraphvizPreferencePage.DOT_PATH_PREF_KEY)) {
 				// we may enter or leave native mode, so update the graph
+				displayedDot = null;
 				updateGraph(currentFile);
 			}
 		}
@@ -165,12 +197,29 @@ public class DotGraphView extends ZestFxUiView implements IShowInTarget {
 		return GraphvizPreferencePage.isGraphvizConfigured();
 	}
 
+	/**
+	 * Returns whether the given {@link Graph} is laid out by the in-process
+	 * {@link DotLayout}, which is the case if the Graphviz 'dot' executable is
+	 * not available, and the (default) 'dot' layout is to be used.
+	 *
+	 * @param graph
+	 *            The {@link Graph} to test.
+	 * @return <code>true</code> if the {@link Graph} is laid out in-process,
+	 *         otherwise <code>false</code>.
+	 */
+	protected boolean isInProcessMode(Graph graph) {
+		String layout = DotAttributes.getLayout(graph);
+		return !isNativeMode()
+				&& (layout == null || Layout.DOT.toString().equals(layout));
+	}
+
 	@Override
 	public void dispose() {
 		DotActivatorEx.dotUiPreferenceStore()
 				.removePropertyChangeListener(preferenceChangeListener);
 		currentDot = null;
 		currentFile = null;
+		getViewSite().getShell().getDisplay().timerExec(-1, updateRunnable);
 
 		getContentViewer().contentsProperty().clear();
 
@@ -252,48 +301,158 @@ public class DotGraphView extends ZestFxUiView implements IShowInTarget {
 	}
 
 	private void setGraphAsync(final String dot, final File file) {
-		getViewSite().getShell().getDisplay().asyncExec(new Runnable() {
+		scheduleUpdate(dot, null,
+				IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP, file);
+	}
 
+	/**
+	 * Schedules an update of the view with the given DOT content. Updates are
+	 * debounced, i.e. the view is only updated when no other update was
+	 * scheduled for {@link #UPDATE_DELAY} milliseconds, so that only the latest
+	 * content is imported and displayed.
+	 *
+	 * @param dot
+	 *            The DOT content to display, or <code>null</code> if the
+	 *            content of the given {@link IXtextDocument} is to be
+	 *            displayed.
+	 * @param document
+	 *            The {@link IXtextDocument} whose (parsed) model is to be
+	 *            displayed, or <code>null</code> if the given DOT content is to
+	 *            be imported.
+	 * @param modificationStamp
+	 *            The modification stamp of the {@link IXtextDocument} when its
+	 *            model was parsed.
+	 * @param file
+	 *            The {@link File} the DOT content stems from.
+	 */
+	private void scheduleUpdate(String dot, IXtextDocument document,
+			long modificationStamp, File file) {
+		synchronized (updateRunnable) {
+			pendingDot = dot;
+			pendingDocument = document;
+			pendingModificationStamp = modificationStamp;
+			pendingFile = file;
+		}
+		final Display display = getViewSite().getShell().getDisplay();
+		display.asyncExec(new Runnable() {
 			@Override
 			public void run() {
-				if (!dot.trim().isEmpty()) {
-					try {
-						List<Graph> importDot = new DotImport().importDot(dot);
-						setGraph(importDot.isEmpty() ? null : importDot.get(0));
-					} catch (Exception e) {
-						MultiStatus status = createMultiStatus(
-								e.getLocalizedMessage(), e);
-						int style = StatusManager.LOG | StatusManager.SHOW;
-						StatusManager.getManager().handle(status, style);
-						return;
-					}
-					if (!resourceLabel.isDisposed()) {
-						resourceLabel.setText(String.format(
-								DotUiMessages.DotGraphView_4, file.getName())
-								+ (isNativeMode() ? " [native]" //$NON-NLS-1$
+				// re-scheduling the same runnable resets its timer
+				display.timerExec(UPDATE_DELAY, updateRunnable);
+			}
+		});
+	}
+
+	private void applyPendingUpdate() {
+		String dot;
+		IXtextDocument document;
+		long modificationStamp;
+		File file;
+		synchronized (updateRunnable) {
+			dot = pendingDot;
+			document = pendingDocument;
+			modificationStamp = pendingModificationStamp;
+			file = pendingFile;
+			pendingDocument = null;
+		}
+		if (document != null) {
+			// the document is modified on the UI thread, so its content
+			// cannot change until the update is applied; if it has already
+			// changed, a newer update will be scheduled after re-parsing
+			if (getModificationStamp(document) != modificationStamp) {
+				return;
+			}
+			dot = document.get();
+		}
+		if (dot == null || dot.trim().isEmpty() || resourceLabel == null
+				|| resourceLabel.isDisposed()) {
+			return;
+		}
+		// nothing to do if neither the content nor the mode has changed
+		boolean nativeMode = isNativeMode();
+		if (dot.equals(displayedDot) && file.equals(displayedFile)
+				&& nativeMode == displayedNativeMode) {
+			return;
+		}
+		Graph graph;
+		try {
+			if (document != null) {
+				graph = importDot(document, dot);
+				if (graph == null) {
+					// the model does not reflect the content (yet)
+					return;
+				}
+			} else {
+				List<Graph> importDot = new DotImport().importDot(dot);
+				graph = importDot.isEmpty() ? null : importDot.get(0);
+			}
+			if (graph != null && isInProcessMode(graph)) {
+				// lay out without spawning a 'dot' process
+				DotLayout dotLayout = new DotLayout();
+				dotLayout.setInvertYAxis(true);
+				dotLayout.layout(graph);
+			}
+			setGraph(graph);
+			displayedDot = dot;
+			displayedFile = file;
+			displayedNativeMode = nativeMode;
+		} catch (Exception e) {
+			MultiStatus status = createMultiStatus(dot, e);
+			int style = StatusManager.LOG | StatusManager.SHOW;
+			StatusManager.getManager().handle(status, style);
+			return;
+		}
+		resourceLabel.setText(
+				String.format(DotUiMessages.DotGraphView_4, file.getName())
+						+ (nativeMode ? " [native]" //$NON-NLS-1$
+								: graph != null && isInProcessMode(graph)
+										? " [in-process]" //$NON-NLS-1$
 										: " [emulated]")); //$NON-NLS-1$
-						resourceLabel.setToolTipText(file.getAbsolutePath());
-					}
+		resourceLabel.setToolTipText(file.getAbsolutePath());
+	}
+
+	/**
+	 * Imports the (already parsed) model of the given {@link IXtextDocument},
+	 * provided that it reflects the given DOT content. The model is only
+	 * accessed while holding the read lock of the {@link IXtextDocument}.
+	 */
+	private Graph importDot(IXtextDocument document, final String dot) {
+		return document.readOnly(new IUnitOfWork<Graph, XtextResource>() {
+			@Override
+			public Graph exec(XtextResource resource) throws Exception {
+				IParseResult parseResult = resource == null ? null
+						: resource.getParseResult();
+				if (parseResult == null || parseResult.hasSyntaxErrors()
+						|| !(parseResult
+								.getRootASTElement() instanceof DotAst)
+						|| !dot.equals(parseResult.getRootNode().getText())) {
+					return null;
 				}
+				List<Graph> importDot = new DotImport()
+						.importDot((DotAst) parseResult.getRootASTElement());
+				return importDot.isEmpty() ? null : importDot.get(0);
 			}
+		});
+	}
 
-			private MultiStatus createMultiStatus(String localizedMessage,
-					Throwable t) {
-				List<Status> childStatuses = new ArrayList<>();
+	private static long getModificationStamp(IXtextDocument document) {
+		return document instanceof IDocumentExtension4
+				? ((IDocumentExtension4) document).getModificationStamp()
+				: IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
 
-				String pluginId = DotActivator.getInstance().getBundle()
-						.getSymbolicName();
+	private MultiStatus createMultiStatus(String dot, Throwable t) {
+		List<Status> childStatuses = new ArrayList<>();
 
-				Status status = new Status(IStatus.ERROR, pluginId, dot);
-				childStatuses.add(status);
+		String pluginId = DotActivator.getInstance().getBundle()
+				.getSymbolicName();
 
-				MultiStatus ms = new MultiStatus(pluginId, IStatus.ERROR,
-						childStatuses.toArray(new Status[] {}), t.toString(),
-						t);
-				return ms;
-			}
-		});
+		Status status = new Status(IStatus.ERROR, pluginId, dot);
+		childStatuses.add(status);
 
+		MultiStatus ms = new MultiStatus(pluginId, IStatus.ERROR,
+				childStatuses.toArray(new Status[] {}), t.toString(), t);
+		return ms;
 	}
 
 	@Override
@@ -304,12 +463,24 @@ public class DotGraphView extends ZestFxUiView implements IShowInTarget {
 		}
 
 		// do no convert layout algorithm and rankdir in emulated mode, invert
-		// y-axis mode (as by default y-axis is interpreted inverse in dot)
-		boolean isNativeMode = isNativeMode();
+		// y-axis mode (as by default y-axis is interpreted inverse in dot);
+		// the in-process layout provides the same information as native mode
+		boolean isNativeMode = isNativeMode() || isInProcessMode(graph);
 		dot2ZestGraphCopier.getAttributeCopier()
 				.options().emulateLayout = !isNativeMode;
 		dot2ZestGraphCopier.getAttributeCopier().options().invertYAxis = false;
-		super.setGraph(dot2ZestGraphCopier.copy(graph));
+		Graph zestGraph = dot2ZestGraphCopier.copy(graph);
+
+		// only apply the changes if the displayed graph can be updated in
+		// place, so that unchanged nodes and edges keep their visuals
+		List<Object> contents = getContentViewer().getContents();
+		Graph currentZestGraph = contents.isEmpty() ? null
+				: (Graph) contents.get(0);
+		Graph mergedZestGraph = dot2ZestGraphMerger.merge(currentZestGraph,
+				graph, zestGraph, dot2ZestGraphCopier);
+		if (mergedZestGraph != currentZestGraph) {
+			super.setGraph(mergedZestGraph);
+		}
 
 		// apply graph background color
 		// TODO: add Zest property for background color
@@ -501,6 +672,36 @@ public class DotGraphView extends ZestFxUiView implements IShowInTarget {
 			}
 		};
 
+		/**
+		 * Listen to the (partially re-parsed) model of the linked DOT Editor
+		 * and update the graph while typing.
+		 */
+		private IXtextModelListener modelListener = new IXtextModelListener() {
+			@Override
+			public void modelChanged(XtextResource resource) {
+				// the native mode requires the file to be saved, and there is
+				// nothing to display before syntax errors are resolved
+				IParseResult parseResult = resource.getParseResult();
+				if (isNativeMode() || parseResult == null
+						|| parseResult.hasSyntaxErrors() || linkedFile == null
+						|| !(parseResult
+								.getRootASTElement() instanceof DotAst)) {
+					return;
+				}
+				// only record the document; its model is imported when the
+				// (debounced) update is applied, instead of on each
+				// reconciliation while the document is locked
+				IXtextDocument document = linkedDocument;
+				if (document != null) {
+					scheduleUpdate(null, document,
+							getModificationStamp(document), linkedFile);
+				}
+			}
+		};
+
+		private IXtextDocument linkedDocument = null;
+		private File linkedFile = null;
+
 		public LinkWithDotEditorAction() {
 			super(DotUiMessages.DotGraphView_1, SWT.TOGGLE);
 			setId(getText());
@@ -515,6 +716,7 @@ public class DotGraphView extends ZestFxUiView implements IShowInTarget {
 		}
 
 		public void dispose() {
+			linkDocument(null, null);
 			ResourcesPlugin.getWorkspace()
 					.removeResourceChangeListener(resourceChangeListener);
 			getSite().getWorkbenchWindow().getSelectionService()
@@ -535,11 +737,26 @@ public class DotGraphView extends ZestFxUiView implements IShowInTarget {
 								| IResourceChangeEvent.POST_CHANGE);
 				service.addSelectionListener(selectionChangeListener);
 			} else {
+				linkDocument(null, null);
 				workspace.removeResourceChangeListener(resourceChangeListener);
 				service.removeSelectionListener(selectionChangeListener);
 			}
 		}
 
+		private void linkDocument(IXtextDocument document, File file) {
+			linkedFile = file;
+			if (linkedDocument == document) {
+				return;
+			}
+			if (linkedDocument != null) {
+				linkedDocument.removeModelListener(modelListener);
+			}
+			linkedDocument = document;
+			if (linkedDocument != null) {
+				linkedDocument.addModelListener(modelListener);
+			}
+		}
+
 		/**
 		 * if the active editor is the DOT Editor, update the graph, otherwise
 		 * do nothing
@@ -552,6 +769,8 @@ public class DotGraphView extends ZestFxUiView implements IShowInTarget {
 					try {
 						File resolvedFile = DotFileUtils
 								.resolve(file.getLocationURI().toURL());
+						linkDocument(((XtextEditor) part).getDocument(),
+								resolvedFile);
 						if (!resolvedFile.equals(currentFile)) {
 							updateGraph(resolvedFile);
 						}
@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.dot.internal.ui.conversion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.gef.dot.internal.DotAttributes;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+
+/**
+ * The {@link Dot2ZestGraphMerger} applies a re-imported DOT {@link Graph} to
+ * the Zest {@link Graph} that is currently displayed, so that only the
+ * {@link Node}s and {@link Edge}s that were added, removed, or changed are
+ * touched. Nodes are identified by their DOT name (subgraphs by their path of
+ * subgraph names), edges by their source and target nodes and their
+ * occurrence. Unchanged nodes and edges are retained (together with their
+ * visuals), changed nodes are updated in place.
+ *
+ * @author mwienand
+ *
+ */
+public class Dot2ZestGraphMerger {
+
+	private Graph zestGraph;
+	private Object graphState;
+	private Map<Object, Node> nodes = new HashMap<>();
+	private Map<Node, Object> nodeStates = new IdentityHashMap<>();
+	private Map<Object, Edge> edges = new HashMap<>();
+	private Map<Edge, Object> edgeStates = new IdentityHashMap<>();
+
+	/**
+	 * Merges the given Zest {@link Graph}, which was copied from the given DOT
+	 * {@link Graph} by the given {@link Dot2ZestGraphCopier}, into the given
+	 * current Zest {@link Graph}. If the current Zest {@link Graph} cannot be
+	 * updated incrementally (e.g. because it was not produced by a previous
+	 * merge, or because graph attributes have changed), the given Zest
+	 * {@link Graph} is returned and has to be displayed instead.
+	 *
+	 * @param currentZestGraph
+	 *            The currently displayed Zest {@link Graph}, or
+	 *            <code>null</code>.
+	 * @param dotGraph
+	 *            The (re-)imported DOT {@link Graph}.
+	 * @param zestGraph
+	 *            The Zest {@link Graph} copied from the DOT {@link Graph}.
+	 * @param copier
+	 *            The {@link Dot2ZestGraphCopier} that copied the Zest
+	 *            {@link Graph}.
+	 * @return The given current Zest {@link Graph} if it was updated in place,
+	 *         otherwise the given Zest {@link Graph}.
+	 */
+	public Graph merge(Graph currentZestGraph, Graph dotGraph, Graph zestGraph,
+			Dot2ZestGraphCopier copier) {
+		if (dotGraph == null || zestGraph == null) {
+			reset();
+			return zestGraph;
+		}
+
+		// determine keys and states of the copied nodes and edges
+		Map<Node, Object> zestNodeKeys = new IdentityHashMap<>();
+		Map<Object, Node> newNodes = new HashMap<>();
+		Map<Node, Object> newNodeStates = new IdentityHashMap<>();
+		for (Map.Entry<Node, Node> entry : copier.getInputToOutputNodeMap()
+				.entrySet()) {
+			Object key = getKey(entry.getKey());
+			if (newNodes.put(key, entry.getValue()) != null) {
+				// ambiguous identity, no incremental update possible
+				return replace(zestGraph, dotGraph, copier);
+			}
+			zestNodeKeys.put(entry.getValue(), key);
+			newNodeStates.put(entry.getValue(), getState(entry.getKey()));
+		}
+		Map<Edge, Edge> zestToDotEdges = new IdentityHashMap<>();
+		for (Map.Entry<Edge, Edge> entry : copier.getInputToOutputEdgeMap()
+				.entrySet()) {
+			zestToDotEdges.put(entry.getValue(), entry.getKey());
+		}
+
+		Object newGraphState = getState(dotGraph, copier);
+		if (currentZestGraph == null || currentZestGraph != this.zestGraph
+				|| !newGraphState.equals(graphState)) {
+			return replace(zestGraph, dotGraph, copier);
+		}
+
+		// determine the nodes to retain (and update) and the nodes to add
+		Map<Node, Node> nodeReplacements = new IdentityHashMap<>();
+		Map<Object, Node> mergedNodes = new HashMap<>();
+		Map<Node, Object> mergedNodeStates = new IdentityHashMap<>();
+		for (Map.Entry<Object, Node> entry : newNodes.entrySet()) {
+			Node newNode = entry.getValue();
+			Object newState = newNodeStates.get(newNode);
+			Node node = nodes.get(entry.getKey());
+			if (node == null) {
+				node = newNode;
+			} else if (!newState.equals(nodeStates.get(node))) {
+				updateAttributes(node, newNode);
+			}
+			nodeReplacements.put(newNode, node);
+			mergedNodes.put(entry.getKey(), node);
+			mergedNodeStates.put(node, newState);
+		}
+
+		// determine the edges to retain and the edges to add
+		List<Edge> mergedEdgeList = new ArrayList<>();
+		Map<Object, Edge> mergedEdges = new HashMap<>();
+		Map<Edge, Object> mergedEdgeStates = new IdentityHashMap<>();
+		Map<Object, Integer> occurrences = new HashMap<>();
+		for (Edge newEdge : zestGraph.getEdges()) {
+			Object key = getKey(newEdge, zestNodeKeys, occurrences);
+			Edge dotEdge = zestToDotEdges.get(newEdge);
+			Object newState = dotEdge == null ? null : getState(dotEdge);
+			Edge edge = edges.get(key);
+			if (edge == null || newState == null
+					|| !newState.equals(edgeStates.get(edge))) {
+				edge = newEdge;
+				Node source = nodeReplacements.get(edge.getSource());
+				if (source != null) {
+					edge.setSource(source);
+				}
+				Node target = nodeReplacements.get(edge.getTarget());
+				if (target != null) {
+					edge.setTarget(target);
+				}
+			}
+			mergedEdgeList.add(edge);
+			mergedEdges.put(key, edge);
+			mergedEdgeStates.put(edge, newState);
+		}
+
+		// apply the delta: remove obsolete edges and nodes first, then add
+		// the new nodes and edges
+		List<Node> mergedNodeList = new ArrayList<>();
+		for (Node newNode : zestGraph.getNodes()) {
+			mergedNodeList.add(nodeReplacements.get(newNode));
+		}
+		currentZestGraph.getEdges()
+				.removeAll(getMissing(currentZestGraph.getEdges(),
+						mergedEdgeList));
+		currentZestGraph.getNodes()
+				.removeAll(getMissing(currentZestGraph.getNodes(),
+						mergedNodeList));
+		List<Node> addedClusterNodes = new ArrayList<>();
+		List<Node> addedNodes = new ArrayList<>();
+		for (Node node : getMissing(mergedNodeList,
+				currentZestGraph.getNodes())) {
+			// cluster nodes (the only displayed nodes that stem from nested
+			// graphs) are kept lowest in z-order
+			if (((List<?>) mergedNodeStates.get(node)).get(1) != null) {
+				addedClusterNodes.add(node);
+			} else {
+				addedNodes.add(node);
+			}
+		}
+		currentZestGraph.getNodes().addAll(0, addedClusterNodes);
+		currentZestGraph.getNodes().addAll(addedNodes);
+		currentZestGraph.getEdges().addAll(
+				getMissing(mergedEdgeList, currentZestGraph.getEdges()));
+
+		nodes = mergedNodes;
+		nodeStates = mergedNodeStates;
+		edges = mergedEdges;
+		edgeStates = mergedEdgeStates;
+		return currentZestGraph;
+	}
+
+	/**
+	 * Discards the information about the last merged Zest {@link Graph}, so
+	 * that the next merge replaces the displayed Zest {@link Graph}.
+	 */
+	public void reset() {
+		zestGraph = null;
+		graphState = null;
+		nodes.clear();
+		nodeStates.clear();
+		edges.clear();
+		edgeStates.clear();
+	}
+
+	private Graph replace(Graph zestGraph, Graph dotGraph,
+			Dot2ZestGraphCopier copier) {
+		reset();
+		this.zestGraph = zestGraph;
+		graphState = getState(dotGraph, copier);
+		Map<Node, Object> zestNodeKeys = new IdentityHashMap<>();
+		for (Map.Entry<Node, Node> entry : copier.getInputToOutputNodeMap()
+				.entrySet()) {
+			Object key = getKey(entry.getKey());
+			zestNodeKeys.put(entry.getValue(), key);
+			nodes.put(key, entry.getValue());
+			nodeStates.put(entry.getValue(), getState(entry.getKey()));
+		}
+		Map<Edge, Edge> zestToDotEdges = new IdentityHashMap<>();
+		for (Map.Entry<Edge, Edge> entry : copier.getInputToOutputEdgeMap()
+				.entrySet()) {
+			zestToDotEdges.put(entry.getValue(), entry.getKey());
+		}
+		Map<Object, Integer> occurrences = new HashMap<>();
+		for (Edge edge : zestGraph.getEdges()) {
+			Edge dotEdge = zestToDotEdges.get(edge);
+			edges.put(getKey(edge, zestNodeKeys, occurrences), edge);
+			edgeStates.put(edge, dotEdge == null ? null : getState(dotEdge));
+		}
+		return zestGraph;
+	}
+
+	private void updateAttributes(Node node, Node newNode) {
+		Map<String, Object> attributes = node.attributesProperty();
+		Map<String, Object> newAttributes = newNode.attributesProperty();
+		attributes.keySet().retainAll(newAttributes.keySet());
+		attributes.putAll(newAttributes);
+	}
+
+	private Object getKey(Node dotNode) {
+		Graph nestedGraph = dotNode.getNestedGraph();
+		if (nestedGraph == null) {
+			return DotAttributes._getName(dotNode);
+		}
+		// identify (anonymous) subgraphs by their path
+		Graph graph = dotNode.getGraph();
+		String name = DotAttributes._getName(nestedGraph);
+		Object nameOrIndex = name != null ? name
+				: Integer.valueOf(graph.getNodes().indexOf(dotNode));
+		Node nestingNode = graph.getNestingNode();
+		return Arrays.asList(nestingNode == null ? null : getKey(nestingNode),
+				nameOrIndex);
+	}
+
+	private Object getKey(Edge zestEdge, Map<Node, Object> zestNodeKeys,
+			Map<Object, Integer> occurrences) {
+		List<Object> key = Arrays.asList(
+				zestNodeKeys.get(zestEdge.getSource()),
+				zestNodeKeys.get(zestEdge.getTarget()));
+		Integer occurrence = occurrences.get(key);
+		occurrence = occurrence == null ? 0 : occurrence + 1;
+		occurrences.put(key, occurrence);
+		return Arrays.asList(key.get(0), key.get(1), occurrence);
+	}
+
+	private Object getState(Node dotNode) {
+		Graph nestedGraph = dotNode.getNestedGraph();
+		return Arrays.asList(new HashMap<>(dotNode.attributesProperty()),
+				nestedGraph == null ? null
+						: new HashMap<>(nestedGraph.attributesProperty()));
+	}
+
+	private Object getState(Edge dotEdge) {
+		return new HashMap<>(dotEdge.attributesProperty());
+	}
+
+	private Object getState(Graph dotGraph, Dot2ZestGraphCopier copier) {
+		return Arrays.asList(new HashMap<>(dotGraph.attributesProperty()),
+				copier.getAttributeCopier().options().emulateLayout,
+				copier.getAttributeCopier().options().invertYAxis);
+	}
+
+	private static <T> List<T> getMissing(List<T> elements,
+			List<T> otherElements) {
+		Set<T> others = Collections
+				.newSetFromMap(new IdentityHashMap<T, Boolean>());
+		others.addAll(otherElements);
+		List<T> missing = new ArrayList<>();
+		for (T element : elements) {
+			if (!others.contains(element)) {
+				missing.add(element);
+			}
+		}
+		return missing;
+	}
+}
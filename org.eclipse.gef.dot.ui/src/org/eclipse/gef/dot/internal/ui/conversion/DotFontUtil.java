@@ -151,4 +151,16 @@ public class DotFontUtil {
 	public void setSystemFontAccess(SystemFontAccess access) {
 		this.access = access;
 	}
+
+	/**
+	 * Returns a key for the fonts available to this {@link DotFontUtil}, i.e.
+	 * {@link DotFontUtil}s with equal keys resolve font names equally.
+	 *
+	 * @return The key for the available fonts.
+	 */
+	Object getSystemFontAccessKey() {
+		// all JavaFX font accesses provide the (same) system fonts
+		return access instanceof JavafxFontAccess ? JavafxFontAccess.class
+				: access;
+	}
 }
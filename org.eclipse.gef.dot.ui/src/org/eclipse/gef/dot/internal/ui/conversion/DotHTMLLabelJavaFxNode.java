@@ -120,18 +120,43 @@ class DotHTMLLabelJavaFxNode {
 	public void refreshFxElement() {
 		if (root != null && fontUtil != null && colorUtil != null) {
 			masterFxElement.getChildren().clear();
-			masterFxElement.getChildren().add(drawLabel(root));
+			masterFxElement.getChildren().add(DotJavaFxNodeCache
+					.getVisual(getVisualKey(), () -> drawLabel(root)));
 		}
 	}
 
+	/*
+	 * The defaults only affect the visual through the CSS values computed for
+	 * them, so these (instead of the defaults themselves) identify the visual,
+	 * together with the available fonts (for the faces of nested font tags).
+	 */
+	private Object getVisualKey() {
+		FontName face = nodeStyle.face();
+		Color color = nodeStyle.color();
+		return Arrays.asList(label, fontUtil.getSystemFontAccessKey(),
+				face != null ? fontUtil.cssLocalFontFamily(face) : null,
+				face != null ? fontUtil.cssWeight(face) : null,
+				face != null ? fontUtil.cssStyle(face) : null,
+				nodeStyle.size(),
+				color != null ? colorUtil.computeZestColor(colorscheme, color)
+						: null,
+				colorscheme);
+	}
+
 	private HtmlLabel parseLabel(final String label) {
-		Injector labelInjector = DotActivator.getInstance().getInjector(
-				DotActivator.ORG_ECLIPSE_GEF_DOT_INTERNAL_LANGUAGE_DOTHTMLLABEL);
-		DotHtmlLabelParser parser = labelInjector
-				.getInstance(DotHtmlLabelParser.class);
-		IParseResult result = parser
-				.parse(new StringReader(label != null ? label : new String()));
-		return (HtmlLabel) result.getRootASTElement();
+		// the parsed label is shared, but only read
+		return (HtmlLabel) DotJavaFxNodeCache.getParsedLabel(
+				DotActivator.ORG_ECLIPSE_GEF_DOT_INTERNAL_LANGUAGE_DOTHTMLLABEL,
+				label, l -> {
+					Injector labelInjector = DotActivator.getInstance()
+							.getInjector(
+									DotActivator.ORG_ECLIPSE_GEF_DOT_INTERNAL_LANGUAGE_DOTHTMLLABEL);
+					DotHtmlLabelParser parser = labelInjector
+							.getInstance(DotHtmlLabelParser.class);
+					IParseResult result = parser.parse(
+							new StringReader(l != null ? l : new String()));
+					return result.getRootASTElement();
+				});
 	}
 
 	private Pane drawLabel(HtmlLabel label) {
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.dot.internal.ui.conversion;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.gef.fx.nodes.GeometryNode;
+import org.eclipse.gef.geometry.planar.Line;
+
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Text;
+
+/**
+ * Caches that are shared by all {@link DotHTMLLabelJavaFxNode}s and
+ * {@link DotRecordBasedJavaFxNode}s, so that repeated labels (e.g. the table
+ * labels of UML or ER diagrams) are only parsed, built, and measured once.
+ *
+ * As a JavaFX node may only be part of a single scene graph, built visuals
+ * cannot be shared. Instead, a template of each built visual is cached, from
+ * which copies are created. Copying only transfers the (already computed)
+ * children, styles, and layout constraints, which is a lot cheaper than
+ * evaluating the label model again.
+ *
+ * The keys passed in have to capture everything the cached values depend on.
+ */
+final class DotJavaFxNodeCache {
+
+	/**
+	 * The maximum number of entries that are cached per kind of value.
+	 */
+	private static final int CACHE_SIZE = 512;
+
+	private static final Map<Object, EObject> PARSED_LABELS = lruMap();
+	private static final Map<Object, Node> VISUALS = lruMap();
+	private static final Map<Object, Bounds> BOUNDS = lruMap();
+
+	private DotJavaFxNodeCache() {
+		// static utility class
+	}
+
+	/**
+	 * Returns the label model for the given label, which is parsed using the
+	 * given parser if it is not cached yet. The returned model is shared and
+	 * may not be modified.
+	 *
+	 * @param grammar
+	 *            The name of the grammar the label conforms to.
+	 * @param label
+	 *            The label to parse.
+	 * @param parser
+	 *            The parser used to parse the label.
+	 * @return The (cached) label model.
+	 */
+	static EObject getParsedLabel(String grammar, String label,
+			Function<String, EObject> parser) {
+		Object key = Arrays.asList(grammar, label);
+		EObject parsedLabel;
+		synchronized (PARSED_LABELS) {
+			parsedLabel = PARSED_LABELS.get(key);
+		}
+		if (parsedLabel == null) {
+			parsedLabel = parser.apply(label);
+			if (parsedLabel != null) {
+				synchronized (PARSED_LABELS) {
+					PARSED_LABELS.put(key, parsedLabel);
+				}
+			}
+		}
+		return parsedLabel;
+	}
+
+	/**
+	 * Returns a visual for the given key. If a template is cached for the
+	 * given key, a copy of it is returned. Otherwise, the visual is built
+	 * using the given factory, and a copy of it is cached as the template.
+	 *
+	 * @param key
+	 *            The key identifying the visual.
+	 * @param factory
+	 *            The factory that builds the visual.
+	 * @return A visual that is not shared.
+	 */
+	static Node getVisual(Object key, Supplier<? extends Node> factory) {
+		Node template;
+		synchronized (VISUALS) {
+			template = VISUALS.get(key);
+		}
+		if (template != null) {
+			Node copy = copy(template);
+			if (copy != null) {
+				return copy;
+			}
+		}
+		Node visual = factory.get();
+		template = copy(visual);
+		if (template != null) {
+			synchronized (VISUALS) {
+				VISUALS.put(key, template);
+			}
+		}
+		return visual;
+	}
+
+	/**
+	 * Returns the bounds for the given key, which are measured using the
+	 * given function if they are not cached yet.
+	 *
+	 * @param key
+	 *            The key identifying the visual that is measured.
+	 * @param measure
+	 *            The function that measures the visual.
+	 * @return The (cached) bounds.
+	 */
+	static Bounds getBounds(Object key, Supplier<Bounds> measure) {
+		Bounds bounds;
+		synchronized (BOUNDS) {
+			bounds = BOUNDS.get(key);
+		}
+		if (bounds == null) {
+			bounds = measure.get();
+			synchronized (BOUNDS) {
+				BOUNDS.put(key, bounds);
+			}
+		}
+		return bounds;
+	}
+
+	/**
+	 * Creates a copy of the given visual, including its children, styles, and
+	 * layout constraints. Only the kinds of nodes that are used for HTML and
+	 * record labels are supported.
+	 *
+	 * @param node
+	 *            The visual to copy.
+	 * @return A copy of the given visual, or <code>null</code> if it contains
+	 *         nodes that cannot be copied.
+	 */
+	static Node copy(Node node) {
+		Node copy;
+		if (node instanceof Text) {
+			copy = new Text(((Text) node).getText());
+		} else if (node instanceof GeometryNode) {
+			Object geometry = ((GeometryNode<?>) node).getGeometry();
+			if (!(geometry instanceof Line)) {
+				return null;
+			}
+			copy = new GeometryNode<>(((Line) geometry).getCopy());
+		} else if (node.getClass() == GridPane.class) {
+			GridPane gridPane = new GridPane();
+			gridPane.setAlignment(((GridPane) node).getAlignment());
+			copy = gridPane;
+		} else if (node.getClass() == HBox.class) {
+			HBox hBox = new HBox();
+			hBox.setAlignment(((HBox) node).getAlignment());
+			copy = hBox;
+		} else if (node.getClass() == VBox.class) {
+			VBox vBox = new VBox();
+			vBox.setAlignment(((VBox) node).getAlignment());
+			copy = vBox;
+		} else if (node.getClass() == Pane.class) {
+			copy = new Pane();
+		} else {
+			return null;
+		}
+
+		copy.setStyle(node.getStyle());
+		copy.getStyleClass().setAll(node.getStyleClass());
+		// layout constraints (e.g. margins, grow priorities, grid positions)
+		// are stored as (immutable) properties of the children
+		copy.getProperties().putAll(node.getProperties());
+
+		if (copy instanceof Pane) {
+			for (Node child : ((Pane) node).getChildren()) {
+				Node childCopy = copy(child);
+				if (childCopy == null) {
+					return null;
+				}
+				((Pane) copy).getChildren().add(childCopy);
+			}
+		}
+		return copy;
+	}
+
+	private static <V> Map<Object, V> lruMap() {
+		// the least recently used entries are evicted first
+		return new LinkedHashMap<Object, V>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, V> eldest) {
+				return size() > CACHE_SIZE;
+			}
+		};
+	}
+}
@@ -14,6 +14,7 @@ package org.eclipse.gef.dot.internal.ui.conversion;
 
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -52,7 +53,9 @@ class DotRecordBasedJavaFxNode {
 
 	private static Insets TEXT_MARGINS = new Insets(1.5f, 7, 1.5f, 7);
 
-	private final LabelNode root;
+	private final Object visualKey;
+
+	private final Pane fxElement;
 
 	private String zestNodeLabelCssStyle;
 
@@ -74,10 +77,15 @@ class DotRecordBasedJavaFxNode {
 	 */
 	public DotRecordBasedJavaFxNode(String dotLabel, Rankdir rankdir,
 			String zestNodeLabelCssStyle, String lineCssStyle) {
-		root = rootNodeConstructor(rankdir).get().rootNode();
 		this.zestNodeLabelCssStyle = zestNodeLabelCssStyle;
 		this.lineCssStyle = lineCssStyle;
-		addToFx(parseLabel(dotLabel), root);
+		visualKey = Arrays.asList(dotLabel, rankdir, zestNodeLabelCssStyle,
+				lineCssStyle);
+		fxElement = (Pane) DotJavaFxNodeCache.getVisual(visualKey, () -> {
+			LabelNode root = rootNodeConstructor(rankdir).get().rootNode();
+			addToFx(parseLabel(dotLabel), root);
+			return root.getFxElement();
+		});
 	}
 
 	/**
@@ -86,7 +94,7 @@ class DotRecordBasedJavaFxNode {
 	 * @return the wrapped JavaFX pane for this node shape
 	 */
 	public Pane getFxElement() {
-		return root.getFxElement();
+		return fxElement;
 	}
 
 	/**
@@ -95,22 +103,31 @@ class DotRecordBasedJavaFxNode {
 	 * @return Bounds of the JavaFX pane after CSS/layout run.
 	 */
 	public Bounds getBounds() {
-		Group fxElement = new Group(getFxElement());
-		Scene scene = new Scene(fxElement);
-		scene.getStylesheets().add(ZestFxRootPart.STYLES_CSS_FILE);
-		fxElement.applyCss();
-		fxElement.layout();
-		return fxElement.getBoundsInParent();
+		// identical visuals have identical bounds, so measure only once
+		return DotJavaFxNodeCache.getBounds(visualKey, () -> {
+			Group group = new Group(getFxElement());
+			Scene scene = new Scene(group);
+			scene.getStylesheets().add(ZestFxRootPart.STYLES_CSS_FILE);
+			group.applyCss();
+			group.layout();
+			return group.getBoundsInParent();
+		});
 	}
 
 	private EObject parseLabel(final String dotLabel) {
-		Injector recordLabelInjector = DotActivator.getInstance().getInjector(
-				DotActivator.ORG_ECLIPSE_GEF_DOT_INTERNAL_LANGUAGE_DOTRECORDLABEL);
-		DotRecordLabelParser parser = recordLabelInjector
-				.getInstance(DotRecordLabelParser.class);
-		IParseResult result = parser.parse(
-				new StringReader(dotLabel != null ? dotLabel : new String()));
-		return result.getRootASTElement();
+		// the parsed label is shared, but only read
+		return DotJavaFxNodeCache.getParsedLabel(
+				DotActivator.ORG_ECLIPSE_GEF_DOT_INTERNAL_LANGUAGE_DOTRECORDLABEL,
+				dotLabel, label -> {
+					Injector recordLabelInjector = DotActivator.getInstance()
+							.getInjector(
+									DotActivator.ORG_ECLIPSE_GEF_DOT_INTERNAL_LANGUAGE_DOTRECORDLABEL);
+					DotRecordLabelParser parser = recordLabelInjector
+							.getInstance(DotRecordLabelParser.class);
+					IParseResult result = parser.parse(new StringReader(
+							label != null ? label : new String()));
+					return result.getRootASTElement();
+				});
 	}
 
 	private void addToFx(EObject parsedObject, LabelNode treeNode) {
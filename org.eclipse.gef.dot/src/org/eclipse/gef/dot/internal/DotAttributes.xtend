@@ -22,18 +22,21 @@ import com.google.inject.Injector
 import java.io.StringReader
 import java.util.Collections
 import java.util.Iterator
+import java.util.LinkedHashMap
 import java.util.List
 import java.util.Map
 import org.eclipse.emf.common.util.BasicDiagnostic
 import org.eclipse.emf.common.util.Diagnostic
 import org.eclipse.emf.ecore.EObject
 import org.eclipse.emf.ecore.EStructuralFeature
+import org.eclipse.emf.ecore.util.EcoreUtil
 import org.eclipse.gef.common.reflect.ReflectionUtils
 import org.eclipse.gef.dot.internal.generator.DotAttribute
 import org.eclipse.gef.dot.internal.language.DotArrowTypeStandaloneSetup
 import org.eclipse.gef.dot.internal.language.DotColorListStandaloneSetup
 import org.eclipse.gef.dot.internal.language.DotColorStandaloneSetup
 import org.eclipse.gef.dot.internal.language.DotEscStringStandaloneSetup
+import org.eclipse.gef.dot.internal.language.DotFastAttributeParser
 import org.eclipse.gef.dot.internal.language.DotFontNameStandaloneSetup
 import org.eclipse.gef.dot.internal.language.DotHtmlLabelStandaloneSetup
 import org.eclipse.gef.dot.internal.language.DotPointStandaloneSetup
@@ -89,6 +92,7 @@ import org.eclipse.gef.graph.Edge
 import org.eclipse.gef.graph.Graph
 import org.eclipse.gef.graph.Node
 import org.eclipse.xtext.IGrammarAccess
+import org.eclipse.xtext.ISetup
 import org.eclipse.xtext.nodemodel.INode
 import org.eclipse.xtext.parser.IParseResult
 import org.eclipse.xtext.parser.IParser
@@ -339,6 +343,45 @@ class DotAttributes {
 		if (attributeValue === null) null else parser.parse(attributeValue).parsedValue
 	}
 
+	/**
+	 * Parses the given (unquoted) attribute, using the given
+	 * {@link EObjectParser}. The parse results are cached by the parser, so
+	 * that equal attribute values are only parsed once.
+	 *
+	 * @param <T>
+	 *            The {@link EObject} type of the parsed value.
+	 * @param parser
+	 *            The parser to be used for parsing.
+	 * @param attributeValue
+	 *            The attribute value that is to be parsed.
+	 * @return The parsed value, or <code>null</code> if the value could not be
+	 *         parsed. Depending on {@link #setShareParsedValues(boolean)}, this
+	 *         is either the cached value itself or a copy of it.
+	 */
+	private static def <T extends EObject> T parseAttributeValue(EObjectParser<T> parser, String attributeValue) {
+		if (attributeValue === null) {
+			return null
+		}
+		val parsedValue = parser.parseCached(attributeValue).parsedValue
+		if (parsedValue === null || shareParsedValues) parsedValue else EcoreUtil.copy(parsedValue)
+	}
+
+	static volatile boolean shareParsedValues = false
+
+	/**
+	 * Specifies whether the parsed values of {@link EObject} typed attributes
+	 * are shared between all callers, or whether each call returns a copy of
+	 * the cached value. Sharing avoids the copies but requires that clients
+	 * do not modify the returned values. By default, copies are returned.
+	 *
+	 * @param share
+	 *            <code>true</code> to return the shared cached values,
+	 *            <code>false</code> to return copies of them.
+	 */
+	static def void setShareParsedValues(boolean share) {
+		shareParsedValues = share
+	}
+
 	// TODO: separate validation from parsing
 	private static def <T> List<Diagnostic> validateAttributeRawValue(IAttributeValueParser<T> parser,
 		IAttributeValueValidator<T> validator, Context attributeContext, String attributeName, ID attributeValue) {
@@ -496,6 +539,7 @@ class DotAttributes {
 				else
 					Collections.emptyList
 			case RANKDIR__G: validateAttributeRawValue(RANKDIR_PARSER, null, attributeContext, attributeName, attributeValue)
+			case RANKSEP__G: validateAttributeRawValue(DOUBLE_PARSER, RANKSEP_VALIDATOR, attributeContext, attributeName, attributeValue)
 			case RANK__S: validateAttributeRawValue(RANKTYPE_PARSER, null, attributeContext, attributeName, attributeValue)
 			case SHAPE__N: validateAttributeRawValue(SHAPE_PARSER, SHAPE_VALIDATOR, attributeContext, attributeName, attributeValue)
 			case SIDES__N: validateAttributeRawValue(INT_PARSER, SIDES_VALIDATOR, attributeContext, attributeName, attributeValue)
@@ -587,14 +631,107 @@ class DotAttributes {
 		}
 	}
 
+	/**
+	 * Holds the {@link Injector} of a sub-grammar, which is only created (and
+	 * the EMF registration only performed) upon first access. Creating all
+	 * sub-grammar injectors up front would otherwise dominate the time to
+	 * load this class, even if only a few attribute values are ever parsed.
+	 */
+	private static class LazyInjector {
+
+		val ISetup setup
+		volatile Injector injector
+
+		new(ISetup setup) {
+			this.setup = setup
+		}
+
+		def Injector get() {
+			var result = injector
+			if (result === null) {
+				synchronized (this) {
+					result = injector
+					if (result === null) {
+						result = setup.createInjectorAndDoEMFRegistration
+						injector = result
+					}
+				}
+			}
+			result
+		}
+	}
+
 	private static class EObjectParser<T extends EObject> implements IAttributeValueParser<T> {
 
-		val Injector injector
+		/**
+		 * The maximum number of parse results that are cached per parser.
+		 */
+		static val CACHE_SIZE = 512
+
+		val LazyInjector injector
+		val (String)=>T fastParser
 		var IParser xtextParser
 		var Class<T> parsedType
 
-		new(Injector injector) {
+		// the raw values are immutable strings, so that cached results cannot
+		// become stale; the least recently used results are evicted first
+		val Map<String, IAttributeValueParser.ParseResult<T>> parseResults = new LinkedHashMap<String, IAttributeValueParser.ParseResult<T>>(
+			16, 0.75f, true) {
+			override protected removeEldestEntry(Map.Entry<String, IAttributeValueParser.ParseResult<T>> eldest) {
+				size > CACHE_SIZE
+			}
+		}
+
+		new(LazyInjector injector) {
+			this(injector, null)
+		}
+
+		/**
+		 * Creates a new parser that first tries the given hand-written parser,
+		 * and only falls back to the Xtext parser if the hand-written parser
+		 * does not recognize the value.
+		 *
+		 * @param injector
+		 *            The injector of the sub-grammar.
+		 * @param fastParser
+		 *            A function that returns the parsed value, or
+		 *            <code>null</code> if it does not recognize the value.
+		 */
+		new(LazyInjector injector, (String)=>T fastParser) {
 			this.injector = injector
+			this.fastParser = fastParser
+		}
+
+		/**
+		 * Parses the given raw value, reusing the result of a previous parse of
+		 * an equal value if it is still cached.
+		 *
+		 * @param attributeValue
+		 *            The raw value to parse.
+		 * @return The (shared) {@link IAttributeValueParser.ParseResult}.
+		 */
+		def IAttributeValueParser.ParseResult<T> parseCached(String attributeValue) {
+			synchronized (parseResults) {
+				val cached = parseResults.get(attributeValue)
+				if (cached !== null) {
+					return cached
+				}
+			}
+			val fastValue = if(fastParser === null) null else fastParser.apply(attributeValue)
+			val parseResult = if (fastValue === null)
+					parse(attributeValue)
+				else
+					new IAttributeValueParser.ParseResult<T>(fastValue)
+			synchronized (parseResults) {
+				// keep the result of a concurrent parse, so that equal values
+				// are represented by the same cached result
+				val cached = parseResults.get(attributeValue)
+				if (cached !== null) {
+					return cached
+				}
+				parseResults.put(attributeValue, parseResult)
+			}
+			parseResult
 		}
 
 		@SuppressWarnings("unchecked")
@@ -614,14 +751,14 @@ class DotAttributes {
 
 		protected def IParser getParser() {
 			if (xtextParser === null) {
-				xtextParser = injector.getInstance(IParser)
+				xtextParser = injector.get.getInstance(IParser)
 			}
 			return xtextParser
 		}
 
 		override getParsedType() {
 			if (parsedType === null) {
-				val grammarAccess = injector.getInstance(IGrammarAccess)
+				val grammarAccess = injector.get.getInstance(IGrammarAccess)
 				parsedType = grammarAccess.grammar.rules.head.type.classifier.instanceClass as Class<T>
 				if(parsedType === null){
 					System.err.println("DotAttributes: parsedType cannot be determined for grammar: " + grammarAccess.grammar.name)
@@ -634,10 +771,10 @@ class DotAttributes {
 
 	private static class EObjectSerializer<T extends EObject> implements IAttributeValueSerializer<T> {
 
-		val Injector injector
+		val LazyInjector injector
 		var ISerializer serializer
 
-		new(Injector injector) {
+		new(LazyInjector injector) {
 			this.injector = injector
 		}
 
@@ -648,7 +785,7 @@ class DotAttributes {
 
 		protected def ISerializer getSerializer() {
 			if (serializer === null) {
-				serializer = injector.getInstance(ISerializer)
+				serializer = injector.get.getInstance(ISerializer)
 			}
 
 			serializer
@@ -719,18 +856,18 @@ class DotAttributes {
 
 	private static class EObjectValidator<T extends EObject> implements IAttributeValueValidator<T> {
 
-		val Injector injector
+		val LazyInjector injector
 		var Class<? extends AbstractDeclarativeValidator> validatorClass
 		var AbstractDeclarativeValidator validator
 
-		new(Injector injector, Class<? extends AbstractDeclarativeValidator> validatorClass) {
+		new(LazyInjector injector, Class<? extends AbstractDeclarativeValidator> validatorClass) {
 			this.injector = injector
 			this.validatorClass = validatorClass
 		}
 
 		protected def AbstractDeclarativeValidator getValidator() {
 			if (validator === null) {
-				validator = injector.getInstance(validatorClass)
+				validator = injector.get.getInstance(validatorClass)
 			}
 
 			validator
@@ -745,64 +882,70 @@ class DotAttributes {
 			// semantic problems using it
 			if (validator !== null) {
 
-				// we need a specific message acceptor
-				validator.setMessageAcceptor(
-					/*
-					 *  TODO: reuse the {@link org.eclipse.gef.dot.internal.language.validation.DotSubgrammarValidationMessageAcceptor} here
-					 */
-					new ValidationMessageAcceptor {
-
-						override void acceptError(String message, EObject object,
-							EStructuralFeature feature, int index, String code, String... issueData) {
-							diagnostics.add(new BasicDiagnostic(Diagnostic.ERROR, null, -1, message, #[]))
-						}
-
-						override void acceptError(String message, EObject object, int offset, int length,
-							String code, String... issueData) {
-							diagnostics.add(new RangeBasedDiagnosticEx(Diagnostic.ERROR,
-								message, object, offset, length, CheckType.FAST, code, issueData
-							));
-						}
-
-						override void acceptInfo(String message, EObject object,
-							EStructuralFeature feature, int index, String code, String... issueData) {
-							diagnostics.add(new BasicDiagnostic(Diagnostic.INFO, null, -1, message, #[]))
-						}
-
-						override void acceptInfo(String message, EObject object, int offset, int length,
-							String code, String... issueData) {
-							diagnostics.add(new RangeBasedDiagnosticEx(Diagnostic.INFO,
-								message, object, offset, length, CheckType.FAST, code, issueData
-							));
-						}
-
-						override void acceptWarning(String message, EObject object,
-							EStructuralFeature feature, int index, String code, String... issueData) {
-							diagnostics.add(new BasicDiagnostic(Diagnostic.WARNING, null, -1, message, #[]))
-						}
-
-						override void acceptWarning(String message, EObject object, int offset, int length,
-							String code, String... issueData) {
-							diagnostics.add(new RangeBasedDiagnosticEx(Diagnostic.WARNING,
-								message, object, offset, length, CheckType.FAST, code, issueData
-							));
-						}
-					})
-
-				val Map<Object, Object> validationContext = newHashMap
-				validationContext.put(AbstractInjectableValidator.CURRENT_LANGUAGE_NAME,
-					ReflectionUtils.getPrivateFieldValue(validator, "languageName"))
-
-				// put attribute context information into validation context
-				validationContext.put(Context.getName, attributeContext)
-
-				// validate the root element...
-				validator.validate(attributeValue, null/* diagnostic chain */, validationContext)
-
-				// ...and all its children
-				val Iterator<EObject> iterator = attributeValue.getAllProperContents(true)
-				while (iterator.hasNext) {
-					validator.validate(iterator.next, null/* diagnostic chain */, validationContext)
+				// the validator instance is shared, and the message acceptor is
+				// part of its state, so that concurrent validations (e.g. by a
+				// parallel import) have to be serialized
+				synchronized (validator) {
+
+					// we need a specific message acceptor
+					validator.setMessageAcceptor(
+						/*
+						 *  TODO: reuse the {@link org.eclipse.gef.dot.internal.language.validation.DotSubgrammarValidationMessageAcceptor} here
+						 */
+						new ValidationMessageAcceptor {
+
+							override void acceptError(String message, EObject object,
+								EStructuralFeature feature, int index, String code, String... issueData) {
+								diagnostics.add(new BasicDiagnostic(Diagnostic.ERROR, null, -1, message, #[]))
+							}
+
+							override void acceptError(String message, EObject object, int offset, int length,
+								String code, String... issueData) {
+								diagnostics.add(new RangeBasedDiagnosticEx(Diagnostic.ERROR,
+									message, object, offset, length, CheckType.FAST, code, issueData
+								));
+							}
+
+							override void acceptInfo(String message, EObject object,
+								EStructuralFeature feature, int index, String code, String... issueData) {
+								diagnostics.add(new BasicDiagnostic(Diagnostic.INFO, null, -1, message, #[]))
+							}
+
+							override void acceptInfo(String message, EObject object, int offset, int length,
+								String code, String... issueData) {
+								diagnostics.add(new RangeBasedDiagnosticEx(Diagnostic.INFO,
+									message, object, offset, length, CheckType.FAST, code, issueData
+								));
+							}
+
+							override void acceptWarning(String message, EObject object,
+								EStructuralFeature feature, int index, String code, String... issueData) {
+								diagnostics.add(new BasicDiagnostic(Diagnostic.WARNING, null, -1, message, #[]))
+							}
+
+							override void acceptWarning(String message, EObject object, int offset, int length,
+								String code, String... issueData) {
+								diagnostics.add(new RangeBasedDiagnosticEx(Diagnostic.WARNING,
+									message, object, offset, length, CheckType.FAST, code, issueData
+								));
+							}
+						})
+
+					val Map<Object, Object> validationContext = newHashMap
+					validationContext.put(AbstractInjectableValidator.CURRENT_LANGUAGE_NAME,
+						ReflectionUtils.getPrivateFieldValue(validator, "languageName"))
+
+					// put attribute context information into validation context
+					validationContext.put(Context.getName, attributeContext)
+
+					// validate the root element...
+					validator.validate(attributeValue, null/* diagnostic chain */, validationContext)
+
+					// ...and all its children
+					val Iterator<EObject> iterator = attributeValue.getAllProperContents(true)
+					while (iterator.hasNext) {
+						validator.validate(iterator.next, null/* diagnostic chain */, validationContext)
+					}
 				}
 			}
 
@@ -1079,6 +1222,11 @@ class DotAttributes {
 	 */
 	static val NODESEP_VALIDATOR = new DoubleValidator(0)
 
+	/**
+	 * A validator for ranksep {@link Double} attribute values.
+	 */
+	static val RANKSEP_VALIDATOR = new DoubleValidator(0)
+
 	/**
 	 * The validator for fontsize {@link Double} attribute values.
 	 */
@@ -1089,8 +1237,7 @@ class DotAttributes {
 	 */
 	static val PENWIDTH_VALIDATOR = new DoubleValidator(0.0)
 
-	static val Injector arrowTypeInjector = new DotArrowTypeStandaloneSetup().
-		createInjectorAndDoEMFRegistration
+	static val arrowTypeInjector = new LazyInjector(new DotArrowTypeStandaloneSetup)
 
 	/**
 	 * The validator for arrowtype attribute values.
@@ -1102,26 +1249,26 @@ class DotAttributes {
 	/**
 	 * The parser for arrowtype attribute values.
 	 */
-	static val ARROWTYPE_PARSER = new EObjectParser<ArrowType>(arrowTypeInjector)
+	static val ARROWTYPE_PARSER = new EObjectParser<ArrowType>(arrowTypeInjector, [DotFastAttributeParser.parseArrowType(it)])
 
 	/**
 	 * The serializer for arrowtype attribute values.
 	 */
 	static val ARROWTYPE_SERIALIZER = new EObjectSerializer<ArrowType>(arrowTypeInjector)
 
-	static val Injector colorInjector = new DotColorStandaloneSetup().createInjectorAndDoEMFRegistration
+	static val colorInjector = new LazyInjector(new DotColorStandaloneSetup)
 
 	/**
 	 * The parser for color attribute values.
 	 */
-	static val COLOR_PARSER = new EObjectParser<Color>(colorInjector)
+	static val COLOR_PARSER = new EObjectParser<Color>(colorInjector, [DotFastAttributeParser.parseColor(it)])
 
 	/**
 	 * The serializer for color attribute values.
 	 */
 	static val COLOR_SERIALIZER = new EObjectSerializer<Color>(colorInjector)
 
-	static val Injector colorListInjector = new DotColorListStandaloneSetup().createInjectorAndDoEMFRegistration
+	static val colorListInjector = new LazyInjector(new DotColorListStandaloneSetup)
 
 	/**
 	 * The parser for colorlist attribute values.
@@ -1136,7 +1283,7 @@ class DotAttributes {
 	static val COLORLIST_VALIDATOR = new EObjectValidator<ColorList>(colorListInjector,
 		DotColorListValidator)
 
-	static val Injector htmlLabelInjector = new DotHtmlLabelStandaloneSetup().createInjectorAndDoEMFRegistration
+	static val htmlLabelInjector = new LazyInjector(new DotHtmlLabelStandaloneSetup)
 
 	/**
 	 * The parser for (html) label attribute values.
@@ -1146,7 +1293,7 @@ class DotAttributes {
 	static val HTML_LABEL_VALIDATOR = new EObjectValidator<HtmlLabel>(htmlLabelInjector,
 		DotHtmlLabelValidator)
 
-	static val Injector escStringInjector = new DotEscStringStandaloneSetup().createInjectorAndDoEMFRegistration
+	static val escStringInjector = new LazyInjector(new DotEscStringStandaloneSetup)
 
 	/**
 	 * The parser for (escString) label attribute values.
@@ -1161,7 +1308,7 @@ class DotAttributes {
 	static val ESCSTRING_VALIDATOR = new EObjectValidator<EscString>(escStringInjector,
 		DotEscStringValidator)
 
-	static val Injector fontNameInjector = new DotFontNameStandaloneSetup().createInjectorAndDoEMFRegistration
+	static val fontNameInjector = new LazyInjector(new DotFontNameStandaloneSetup)
 
 	/**
 	 * The parser for fontname attribute values.
@@ -1173,31 +1320,31 @@ class DotAttributes {
 	 */
 	static val FONTNAME_SERIALIZER = new EObjectSerializer<FontName>(fontNameInjector)
 
-	static val Injector rectInjector = new DotRectStandaloneSetup().createInjectorAndDoEMFRegistration
+	static val rectInjector = new LazyInjector(new DotRectStandaloneSetup)
 
 	/**
 	 * The parser for rect attribute values.
 	 */
-	static val RECT_PARSER = new EObjectParser<Rect>(rectInjector)
+	static val RECT_PARSER = new EObjectParser<Rect>(rectInjector, [DotFastAttributeParser.parseRect(it)])
 
 	/**
 	 * The serializer for rect attribute values.
 	 */
 	static val RECT_SERIALIZER = new EObjectSerializer<Rect>(rectInjector)
 
-	static val Injector pointInjector = new DotPointStandaloneSetup().createInjectorAndDoEMFRegistration
+	static val pointInjector = new LazyInjector(new DotPointStandaloneSetup)
 
 	/**
 	 * The parser for point attribute values.
 	 */
-	static val POINT_PARSER = new EObjectParser<Point>(pointInjector)
+	static val POINT_PARSER = new EObjectParser<Point>(pointInjector, [DotFastAttributeParser.parsePoint(it)])
 
 	/**
 	 * The serializer for point attribute values.
 	 */
 	static val POINT_SERIALIZER = new EObjectSerializer<Point>(pointInjector)
 
-	static val Injector shapeInjector = new DotShapeStandaloneSetup().createInjectorAndDoEMFRegistration
+	static val shapeInjector = new LazyInjector(new DotShapeStandaloneSetup)
 
 	/**
 	 * The parser for shape attribute values.
@@ -1209,20 +1356,19 @@ class DotAttributes {
 	 */
 	static val SHAPE_SERIALIZER = new EObjectSerializer<Shape>(shapeInjector)
 
-	static val Injector splineTypeInjector = new DotSplineTypeStandaloneSetup().
-		createInjectorAndDoEMFRegistration
+	static val splineTypeInjector = new LazyInjector(new DotSplineTypeStandaloneSetup)
 
 	/**
 	 * The parser for splinetype attribute values.
 	 */
-	static val SPLINETYPE_PARSER = new EObjectParser<SplineType>(splineTypeInjector)
+	static val SPLINETYPE_PARSER = new EObjectParser<SplineType>(splineTypeInjector, [DotFastAttributeParser.parseSplineType(it)])
 
 	/**
 	 * The serializer for splinetype attribute values.
 	 */
 	static val SPLINETYPE_SERIALIZER = new EObjectSerializer<SplineType>(splineTypeInjector)
 
-	static val Injector styleInjector = new DotStyleStandaloneSetup().createInjectorAndDoEMFRegistration
+	static val styleInjector = new LazyInjector(new DotStyleStandaloneSetup)
 
 	/**
 	 * The serializer for style attribute values.
@@ -1232,7 +1378,7 @@ class DotAttributes {
 	/**
 	 * The parser for style attribute values.
 	 */
-	static val STYLE_PARSER = new EObjectParser<Style>(styleInjector)
+	static val STYLE_PARSER = new EObjectParser<Style>(styleInjector, [DotFastAttributeParser.parseStyle(it)])
 
 	/**
 	 * Validator for Color types.
@@ -1265,7 +1411,7 @@ class DotAttributes {
 	 */
 	static val STYLE_VALIDATOR = new EObjectValidator<Style>(styleInjector, DotStyleValidator)
 
-	static val Injector portPosInjector = new DotPortPosStandaloneSetup().createInjectorAndDoEMFRegistration
+	static val portPosInjector = new LazyInjector(new DotPortPosStandaloneSetup)
 
 	/**
 	 * The validator for portpos attribute values.
@@ -1584,6 +1730,9 @@ class DotAttributes {
 	@DotAttribute(rawType="STRING", parsedType=Rankdir)
 	public static val RANKDIR__G = "rankdir"
 
+	@DotAttribute(rawType="NUMERAL", parsedType=Double)
+	public static val RANKSEP__G = "ranksep"
+
 	@DotAttribute(parsedType=Shape)
 	public static val SHAPE__N = "shape"
 
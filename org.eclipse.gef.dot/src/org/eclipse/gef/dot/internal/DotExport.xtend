@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 itemis AG and others.
+ * Copyright (c) 2016, 2026 itemis AG and others.
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -9,13 +9,24 @@
  * Contributors:
  *     Alexander Nyßen (itemis AG) - initial API and implementation
  *     Tamas Miklossy  (itemis AG) - minor refactorings
+ *     Matthias Wienand (itemis AG) - streaming export
  *
  *******************************************************************************/
 package org.eclipse.gef.dot.internal
 
+import java.io.BufferedWriter
 import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.io.OutputStream
+import java.io.OutputStreamWriter
+import java.io.StringWriter
+import java.io.Writer
+import java.nio.charset.StandardCharsets
 import java.util.List
+import java.util.Map
 import org.eclipse.gef.common.attributes.IAttributeStore
+import org.eclipse.gef.dot.internal.language.dot.EdgeOp
 import org.eclipse.gef.dot.internal.language.dot.GraphType
 import org.eclipse.gef.dot.internal.language.terminals.ID
 import org.eclipse.gef.graph.Edge
@@ -26,18 +37,148 @@ import static extension org.eclipse.gef.dot.internal.DotAttributes.*
 
 /**
  * A serializer that creates a Graphviz DOT string or file from a {@link Graph} with {@link DotAttributes}.
+ * <p>
+ * The output is written statement by statement, so that large graphs can be exported to a {@link Writer}
+ * or {@link OutputStream} without building the complete output in memory. Names and attribute values are
+ * written in their encoded form, i.e. quoted or HTML strings keep their delimiters and escapes. Optionally,
+ * the indentation can be omitted ({@link #setCompact(boolean)}), and attributes that are shared by all
+ * nodes or edges can be written only once as <code>node</code> and <code>edge</code> attribute statements
+ * ({@link #setFactorAttributeDefaults(boolean)}).
  *
  * @author anyssen
  *
  */
 class DotExport {
 
+	static val LINE_SEPARATOR = System.lineSeparator
+
+	var boolean compact = false
+	var boolean factorAttributeDefaults = false
+
+	/**
+	 * Specifies whether the output should be written without indentation.
+	 *
+	 * @param compact
+	 *            <code>true</code> to omit the indentation, <code>false</code> to indent the statements
+	 *            of graphs and subgraphs with tabs (default).
+	 */
+	def void setCompact(boolean compact) {
+		this.compact = compact
+	}
+
+	/**
+	 * Specifies whether attributes that are shared by all nodes (or edges) of a graph (including its
+	 * subgraphs) should be written as a <code>node</code> (or <code>edge</code>) attribute statement at
+	 * the start of the graph, instead of being repeated for each node (or edge).
+	 *
+	 * @param factorAttributeDefaults
+	 *            <code>true</code> to factor out shared attributes, <code>false</code> to write all
+	 *            attributes per node and edge (default).
+	 */
+	def void setFactorAttributeDefaults(boolean factorAttributeDefaults) {
+		this.factorAttributeDefaults = factorAttributeDefaults
+	}
+
 	def String exportDot(Graph graph) {
 		newArrayList(graph).exportDot
 	}
 
 	def String exportDot(List<Graph> graphs) {
-		val builder = new StringBuilder
+		val writer = new StringWriter
+		graphs.exportDot(writer)
+		writer.toString
+	}
+
+	def File exportDot(Graph graph, String pathname) {
+		newArrayList(graph).exportDot(pathname)
+	}
+
+	def File exportDot(List<Graph> graphs, String pathname) {
+		val destination = new File(pathname)
+		try {
+			val outputStream = new FileOutputStream(destination)
+			try {
+				graphs.exportDot(outputStream)
+			} finally {
+				outputStream.close
+			}
+			return destination
+		} catch (IOException e) {
+			e.printStackTrace
+		}
+		null
+	}
+
+	/**
+	 * Writes the given {@link Graph} to the given {@link OutputStream}, using UTF-8 encoding. The
+	 * {@link OutputStream} is flushed, but not closed.
+	 *
+	 * @param graph
+	 *            The {@link Graph} to export.
+	 * @param outputStream
+	 *            The {@link OutputStream} to write to.
+	 * @throws IOException
+	 *             If the output cannot be written.
+	 */
+	def void exportDot(Graph graph, OutputStream outputStream) throws IOException {
+		newArrayList(graph).exportDot(outputStream)
+	}
+
+	/**
+	 * Writes the given {@link Graph}s to the given {@link OutputStream}, using UTF-8 encoding. The
+	 * {@link OutputStream} is flushed, but not closed.
+	 *
+	 * @param graphs
+	 *            The {@link Graph}s to export.
+	 * @param outputStream
+	 *            The {@link OutputStream} to write to.
+	 * @throws IOException
+	 *             If the output cannot be written.
+	 */
+	def void exportDot(List<Graph> graphs, OutputStream outputStream) throws IOException {
+		val writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))
+		graphs.write(writer)
+		writer.flush
+	}
+
+	/**
+	 * Writes the given {@link Graph} to the given {@link Writer}. Unless it is a {@link BufferedWriter}
+	 * or {@link StringWriter} already, the output is buffered. The {@link Writer} is flushed, but not
+	 * closed.
+	 *
+	 * @param graph
+	 *            The {@link Graph} to export.
+	 * @param writer
+	 *            The {@link Writer} to write to.
+	 * @throws IOException
+	 *             If the output cannot be written.
+	 */
+	def void exportDot(Graph graph, Writer writer) throws IOException {
+		newArrayList(graph).exportDot(writer)
+	}
+
+	/**
+	 * Writes the given {@link Graph}s to the given {@link Writer}. Unless it is a {@link BufferedWriter}
+	 * or {@link StringWriter} already, the output is buffered. The {@link Writer} is flushed, but not
+	 * closed.
+	 *
+	 * @param graphs
+	 *            The {@link Graph}s to export.
+	 * @param writer
+	 *            The {@link Writer} to write to.
+	 * @throws IOException
+	 *             If the output cannot be written.
+	 */
+	def void exportDot(List<Graph> graphs, Writer writer) throws IOException {
+		val bufferedWriter = if (writer instanceof BufferedWriter || writer instanceof StringWriter)
+				writer
+			else
+				new BufferedWriter(writer)
+		graphs.write(bufferedWriter)
+		bufferedWriter.flush
+	}
+
+	private def void write(List<Graph> graphs, Writer writer) {
 		for (graph : graphs) {
 
 			// graph type is mandatory meta-attribute
@@ -51,52 +192,95 @@ class DotExport {
 				throw new IllegalArgumentException(
 					"The " + _NAME__GNE + " attribute has to be set for all nodes of the input graph " + graph + ".")
 			}
-			builder.append(graph.print)
+			graph.write(writer)
 		}
-		builder.toString
 	}
 
-	def File exportDot(Graph graph, String pathname) {
-		DotFileUtils.write(graph.exportDot, new File(pathname))
+	private def void write(Graph it, Writer writer) {
+		writer.append(type.toString).append(" ")
+		if (hasName) {
+			writer.append(name).append(" ")
+		}
+		writer.append("{").append(LINE_SEPARATOR)
+
+		var Map<String, String> nodeDefaults = emptyMap
+		var Map<String, String> edgeDefaults = emptyMap
+		if (factorAttributeDefaults) {
+			nodeDefaults = allNodes.commonAttributes
+			edgeDefaults = allEdges.commonAttributes
+			if (!nodeDefaults.empty) {
+				writer.indent(1).append("node [").append(nodeDefaults.print(emptyMap, ",")).append("]").append(
+					LINE_SEPARATOR)
+			}
+			if (!edgeDefaults.empty) {
+				writer.indent(1).append("edge [").append(edgeDefaults.print(emptyMap, ",")).append("]").append(
+					LINE_SEPARATOR)
+			}
+		}
+
+		val edgeOp = if(type == GraphType.GRAPH) EdgeOp.UNDIRECTED.literal else EdgeOp.DIRECTED.literal
+		writeStatements(writer, 1, nodeDefaults, edgeDefaults, edgeOp)
+		writer.append("}").append(LINE_SEPARATOR)
 	}
 
-	def File exportDot(List<Graph> graphs, String pathname) {
-		DotFileUtils.write(graphs.exportDot, new File(pathname))
-	}
-
-	private def String print(Graph it) '''
-		«type» «IF hasName»«name» «ENDIF»{
-			«IF hasNonMetaAttributes»
-				«printNonMetaAttributes(";")»
-			«ENDIF»
-			«nodes.map[print].join("; ")»
-			«FOR edge : edges»
-				«edge.name»«IF edge.hasNonMetaAttributes» [«edge.printNonMetaAttributes(",")»]«ENDIF»
-			«ENDFOR»
+	private def void writeStatements(Graph it, Writer writer, int level, Map<String, String> nodeDefaults,
+		Map<String, String> edgeDefaults, String edgeOp) {
+		if (hasNonMetaAttributes) {
+			writer.indent(level).append(nonMetaAttributes.print(emptyMap, ";")).append(LINE_SEPARATOR)
 		}
-	'''
 
-	private def isMetaAttribute(String it) {
-		startsWith("_")
+		// all nodes (and subgraphs) are written into a single line
+		if (!nodes.empty) {
+			writer.indent(level)
+			var first = true
+			for (node : nodes) {
+				if (!first) {
+					writer.append("; ")
+				}
+				first = false
+				if (node.nestedGraph !== null) {
+					writer.append("subgraph ")
+					if (node.nestedGraph.hasName) {
+						writer.append(node.nestedGraph.name).append(" ")
+					}
+					writer.append("{").append(LINE_SEPARATOR)
+					node.nestedGraph.writeStatements(writer, level + 1, nodeDefaults, edgeDefaults, edgeOp)
+					writer.indent(level).append("}")
+				} else {
+					writer.append(node.name)
+					node.writeNonMetaAttributes(writer, nodeDefaults)
+				}
+			}
+			writer.append(LINE_SEPARATOR)
+		}
+
+		for (edge : edges) {
+			writer.indent(level).append(edge.source.name).append(edgeOp).append(edge.target.name)
+			edge.writeNonMetaAttributes(writer, edgeDefaults)
+			writer.append(LINE_SEPARATOR)
+		}
 	}
 
-	private def String print(Node it) {
-		if (nestedGraph !== null) {
-			'''
-			subgraph «IF nestedGraph.hasName»«nestedGraph.name» «ENDIF»{
-				«IF nestedGraph.hasNonMetaAttributes»
-					«nestedGraph.printNonMetaAttributes(";")»
-				«ENDIF»
-				«nestedGraph.nodes.map[print].join("; ")»
-				«FOR edge : nestedGraph.edges»
-					«edge.name»«IF edge.hasNonMetaAttributes» [«edge.printNonMetaAttributes(",")»]«ENDIF»
-				«ENDFOR»
-			}'''
-		} else {
-			name + if(hasNonMetaAttributes) " [" + printNonMetaAttributes(",") + "]" else ""
+	private def void writeNonMetaAttributes(IAttributeStore it, Writer writer, Map<String, String> defaults) {
+		val printed = nonMetaAttributes.print(defaults, ",")
+		if (!printed.empty) {
+			writer.append(" [").append(printed).append("]")
 		}
 	}
 
+	private def Writer indent(Writer writer, int level) {
+		if (!compact) {
+			for (i : 0 ..< level) {
+				writer.append("\t")
+			}
+		}
+		writer
+	}
+
+	private def isMetaAttribute(String it) {
+		startsWith("_")
+	}
+
 	private def hasName(IAttributeStore it) {
 		attributes.get(_NAME__GNE) !== null
 	}
@@ -105,12 +289,11 @@ class DotExport {
 		_getType
 	}
 
-	private def dispatch String name(IAttributeStore it) {
-		(attributes.get(_NAME__GNE) as ID).toValue
-	}
-
-	private def dispatch String name(Edge it) {
-		_getName
+	/**
+	 * Returns the encoded name, so that quoted and HTML names keep their delimiters.
+	 */
+	private def String name(IAttributeStore it) {
+		(attributes.get(_NAME__GNE) as ID).toString
 	}
 
 	private def hasNonMetaAttributes(IAttributeStore it) {
@@ -119,7 +302,50 @@ class DotExport {
 		attributes.keySet.exists[!isMetaAttribute]
 	}
 
-	private def printNonMetaAttributes(IAttributeStore it, String separator) {
-		attributes.entrySet.filter[!key.isMetaAttribute].map[key + '=' + value.toString].sort.join(separator + " ")
+	private def Map<String, String> nonMetaAttributes(IAttributeStore it) {
+		val result = newHashMap
+		for (entry : attributes.entrySet) {
+			if (!entry.key.isMetaAttribute) {
+				result.put(entry.key, entry.value.toString)
+			}
+		}
+		result
+	}
+
+	/**
+	 * Prints the given attributes, except for those that are equal to the given defaults.
+	 */
+	private def print(Map<String, String> attributes, Map<String, String> defaults, String separator) {
+		attributes.entrySet.filter[defaults.get(key) != value].map[key + '=' + value].sort.join(separator + " ")
+	}
+
+	/**
+	 * Returns the attributes that are shared by all of the given attribute stores, provided that there
+	 * are at least two of them.
+	 */
+	private def Map<String, String> commonAttributes(Iterable<? extends IAttributeStore> stores) {
+		var Map<String, String> common = null
+		var count = 0
+		for (store : stores) {
+			val attributes = store.nonMetaAttributes
+			if (common === null) {
+				common = attributes
+			} else {
+				common.entrySet.retainAll(attributes.entrySet)
+			}
+			if (common.empty) {
+				return emptyMap
+			}
+			count++
+		}
+		if(count < 2) emptyMap else common
+	}
+
+	private def Iterable<Node> allNodes(Graph it) {
+		nodes.map[if(nestedGraph === null) #[it] else nestedGraph.allNodes].flatten
+	}
+
+	private def Iterable<Edge> allEdges(Graph it) {
+		edges + nodes.filter[nestedGraph !== null].map[nestedGraph.allEdges].flatten
 	}
 }
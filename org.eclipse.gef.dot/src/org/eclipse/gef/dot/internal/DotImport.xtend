@@ -16,11 +16,20 @@
 package org.eclipse.gef.dot.internal
 
 import com.google.inject.Inject
+import com.google.inject.Injector
+import com.google.inject.Provider
 import java.io.File
+import java.io.Reader
 import java.io.StringReader
+import java.util.ArrayDeque
+import java.util.HashMap
 import java.util.List
 import java.util.Map
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.Executor
 import org.eclipse.gef.dot.internal.language.DotStandaloneSetup
+import org.eclipse.gef.dot.internal.language.DotStreamParser
 import org.eclipse.gef.dot.internal.language.dot.AttrList
 import org.eclipse.gef.dot.internal.language.dot.AttrStmt
 import org.eclipse.gef.dot.internal.language.dot.Attribute
@@ -29,6 +38,8 @@ import org.eclipse.gef.dot.internal.language.dot.DotFactory
 import org.eclipse.gef.dot.internal.language.dot.DotGraph
 import org.eclipse.gef.dot.internal.language.dot.EdgeRhsNode
 import org.eclipse.gef.dot.internal.language.dot.EdgeStmtNode
+import org.eclipse.gef.dot.internal.language.dot.EdgeStmtSubgraph
+import org.eclipse.gef.dot.internal.language.dot.GraphType
 import org.eclipse.gef.dot.internal.language.dot.NodeId
 import org.eclipse.gef.dot.internal.language.dot.NodeStmt
 import org.eclipse.gef.dot.internal.language.dot.Stmt
@@ -49,6 +60,10 @@ import static extension org.eclipse.gef.dot.internal.language.DotAstHelper.*
  * Subgraphs (including clusters) are represented by a {@link Node} with a nested {@link Graph},
  * where the graph holds all attributes (like the name). If a node is used in multiple (sub-)graphs,
  * it will be contained in the graph where it is defined (first occurrence).
+ * <p>
+ * Large inputs should be imported from a {@link Reader}, which does not retain the complete input
+ * or the DOT AST, but transforms the statements as soon as they are parsed. Batches of files, or the
+ * graphs of a {@link DotAst}, can be imported in parallel on a given {@link Executor}.
  *
  * @author anyssen
  *
@@ -58,21 +73,74 @@ class DotImport {
 	@Inject
 	var static IParser dotParser
 
+	@Inject
+	var static Provider<IParser> dotParserProvider
+
+	var static Injector standaloneInjector
+
+	// the parsers used by the parallel import, one per thread, because the
+	// shared dotParser is not meant to be used concurrently
+	static val ThreadLocal<IParser> threadDotParsers = ThreadLocal.withInitial[createDotParser]
+
+	// the actions that undo the effects of the transformed statements of the subgraphs that may
+	// still turn out to be the source of an edge (only used by the streaming import)
+	val retractions = new ArrayDeque<List<()=>void>>
+
+	private static def synchronized Injector getStandaloneInjector() {
+		if (standaloneInjector === null) {
+			standaloneInjector = new DotStandaloneSetup().createInjectorAndDoEMFRegistration()
+		}
+		standaloneInjector
+	}
+
 	private static def IParser getDotParser() {
 		if (dotParser === null) {
 
 			// if we are not injected (standalone), create parser instance
-			dotParser = new DotStandaloneSetup().createInjectorAndDoEMFRegistration().getInstance(DotParser)
+			dotParser = getStandaloneInjector.getInstance(DotParser)
 		}
 		return dotParser
 	}
 
+	private static def IParser createDotParser() {
+		if (dotParserProvider !== null) {
+			dotParserProvider.get
+		} else {
+			getStandaloneInjector.getInstance(DotParser)
+		}
+	}
+
 	def List<Graph> importDot(File dotFile) {
 		DotFileUtils.read(dotFile).importDot
 	}
 
+	/**
+	 * Imports the given DOT files in parallel. Each file is read, parsed, and transformed by a
+	 * separate task on the given {@link Executor}, using a parser instance of the executing thread.
+	 *
+	 * @param dotFiles
+	 *            The DOT files to import.
+	 * @param executor
+	 *            The {@link Executor} that executes the import tasks.
+	 * @return The graphs of each file, in the order of the given files.
+	 * @throws IllegalArgumentException
+	 *             If one of the files is not valid.
+	 */
+	def List<List<Graph>> importDot(List<File> dotFiles, Executor executor) {
+		// the transformation state is not thread-safe, so each task uses its own DotImport
+		dotFiles.map [ dotFile |
+			CompletableFuture.supplyAsync([
+				new DotImport().importDot(DotFileUtils.read(dotFile), threadDotParsers.get)
+			], executor)
+		].toList.joinAll
+	}
+
 	def List<Graph> importDot(String dotString) {
-		var parseResult = getDotParser.parse(new StringReader(dotString))
+		dotString.importDot(getDotParser)
+	}
+
+	private def List<Graph> importDot(String dotString, IParser parser) {
+		var parseResult = parser.parse(new StringReader(dotString))
 
 		if (parseResult.hasSyntaxErrors) {
 			throw new IllegalArgumentException(
@@ -83,11 +151,137 @@ class DotImport {
 		(parseResult.rootASTElement as DotAst).importDot
 	}
 
+	/**
+	 * Imports the DOT input provided by the given {@link Reader}. The input is parsed by a
+	 * {@link DotStreamParser}, and each statement is transformed as soon as it is parsed, so
+	 * that neither the input, nor a node model or {@link DotAst} are retained. Apart from the
+	 * created graphs, the memory needed for the import thus does not depend on the size of the
+	 * input. A subgraph that turns out to be the source of an edge is retracted afterwards, as
+	 * it is ignored by the import of a {@link DotAst}. The given {@link Reader} is not closed.
+	 *
+	 * @param dotReader
+	 *            The {@link Reader} providing the DOT input.
+	 * @return The imported graphs.
+	 * @throws DotStreamParser.DotSyntaxException
+	 *             If the input is not valid, providing the line and column of the first syntax
+	 *             error.
+	 */
+	def List<Graph> importDot(Reader dotReader) {
+		val graphs = <Graph>newArrayList
+
+		// the builders, subgraphs, and graph/subgraph attributes of the
+		// currently open scopes
+		val builders = new ArrayDeque<Graph.Builder>
+		val subgraphs = new ArrayDeque<Subgraph>
+		val attributes = new ArrayDeque<List<Attribute>>
+
+		// a subgraph is only built with the next notification, and retracted instead if that is
+		// the edge statement of which it is the source
+		val pendingSubgraph = <Subgraph>newArrayList
+		val pendingBuild = <()=>void>newArrayList
+		val resolvePendingSubgraph = [ Stmt stmt |
+			if (!pendingSubgraph.empty) {
+				val undoActions = retractions.pop
+				if (stmt instanceof EdgeStmtSubgraph && (stmt as EdgeStmtSubgraph).subgraph === pendingSubgraph.head) {
+					undoActions.reverseView.forEach[apply]
+				} else {
+					pendingBuild.head.apply
+					if (!retractions.empty) {
+						// the enclosing subgraph may still be retracted
+						retractions.peek += undoActions
+					}
+				}
+				pendingSubgraph.clear
+				pendingBuild.clear
+			}
+		]
+		retractions.clear
+
+		new DotStreamParser(dotReader).parse(new DotStreamParser.IHandler {
+			override startGraph(DotGraph graph) {
+				builders.push(createGraphBuilder(graph.name, graph.type))
+				attributes.push(newArrayList)
+			}
+
+			override endGraph() {
+				resolvePendingSubgraph.apply(null)
+				val graphAttributes = attributes.pop
+				graphs += builders.pop.buildGraph[graphAttributes.findAttributeValue(it)]
+			}
+
+			override startSubgraph(Subgraph subgraph) {
+				resolvePendingSubgraph.apply(null)
+				builders.push(subgraph.name.createSubgraphBuilder(builders.peek))
+				subgraphs.push(subgraph)
+				attributes.push(newArrayList)
+				retractions.push(newArrayList)
+			}
+
+			override endSubgraph() {
+				resolvePendingSubgraph.apply(null)
+				val subgraphBuilder = builders.pop
+				val subgraphAttributes = attributes.pop
+				val graphBuilder = builders.peek
+				val subgraph = subgraphs.pop
+				pendingSubgraph += subgraph
+				pendingBuild += [|
+					subgraph.name.buildSubgraph(subgraphBuilder, graphBuilder) [
+						subgraphAttributes.findAttributeValue(it)
+					]
+				]
+			}
+
+			override statement(Stmt stmt) {
+				resolvePendingSubgraph.apply(stmt)
+				if (stmt instanceof Attribute) {
+					// graph and subgraph attributes are processed when the
+					// respective scope ends
+					attributes.peek += stmt
+				} else {
+					stmt.transformStmt(builders.peek)
+				}
+			}
+		})
+		graphs
+	}
+
 	def List<Graph> importDot(DotAst dotAst) {
 		// TODO: use validator to semantically validate
 		dotAst.graphs.map[transformDotGraph].filterNull.toList
 	}
 
+	/**
+	 * Imports the graphs of the given {@link DotAst} in parallel. Each graph is transformed by a
+	 * separate task on the given {@link Executor}.
+	 *
+	 * @param dotAst
+	 *            The {@link DotAst} to import.
+	 * @param executor
+	 *            The {@link Executor} that executes the import tasks.
+	 * @return The imported graphs, in the order of the graphs of the given {@link DotAst}.
+	 */
+	def List<Graph> importDot(DotAst dotAst, Executor executor) {
+		// the transformation state is not thread-safe, so each task uses its own DotImport
+		dotAst.graphs.map [ dotGraph |
+			CompletableFuture.supplyAsync([new DotImport().transformDotGraph(dotGraph)], executor)
+		].toList.joinAll
+	}
+
+	/**
+	 * Waits for the given futures and returns their results in order.
+	 */
+	private static def <T> List<T> joinAll(List<CompletableFuture<T>> futures) {
+		try {
+			futures.map[join].toList
+		} catch (CompletionException e) {
+			// report the problem of the failed task, e.g. a syntax error
+			if (e.cause instanceof RuntimeException) {
+				throw e.cause as RuntimeException
+			}
+			throw e
+		}
+	}
+
 	private def Map<String, ID> create newHashMap globalGraphAttributes(Graph.Builder context) {
 	}
 
@@ -98,6 +292,15 @@ class DotImport {
 	}
 
 	private def Graph transformDotGraph(DotGraph it) {
+		val graphBuilder = createGraphBuilder(name, type)
+
+		// process all statements except for graph attributes, they will be processed later
+		stmts.filter[!(it instanceof Attribute)].forEach[transformStmt(graphBuilder)]
+
+		graphBuilder.buildGraph[attributeName|getAttributeValue(attributeName)]
+	}
+
+	private def Graph.Builder createGraphBuilder(ID name, GraphType type) {
 
 		// clear global attributes, which only hold for each respective graph
 		_createCache_globalGraphAttributes.clear
@@ -119,8 +322,10 @@ class DotImport {
 		// type (meta-attribute)
 		graphBuilder.attr(_TYPE__G, type)
 
-		// process all statements except for graph attributes, they will be processed later
-		stmts.filter[!(it instanceof Attribute)].forEach[transformStmt(graphBuilder)]
+		graphBuilder
+	}
+
+	private def Graph buildGraph(Graph.Builder graphBuilder, (String)=>ID attributes) {
 
 		// process the graph last, so we can initialize attributes of the
 		// created graph object rather than using the builder we can thus
@@ -129,7 +334,7 @@ class DotImport {
 
 		// apply all global graph attributes we have processed before
 		val setter = [ String attributeName, (Graph, ID)=>void f |
-			val attributeValue = getAttributeValue(attributeName)
+			val attributeValue = attributes.apply(attributeName)
 			if (attributeValue !== null) {
 				f.apply(graph, attributeValue)
 			} else if (globalGraphAttributes(graphBuilder).containsKey(attributeName)) {
@@ -147,9 +352,11 @@ class DotImport {
 		setter.apply(FONTSIZE__GCNE, [g, value|g.setFontsizeRaw(value)])
 		setter.apply(LABEL__GCNE, [g, value|g.setLabelRaw(value)])
 		setter.apply(LAYOUT__G, [g, value|g.setLayoutRaw(value)])
+		setter.apply(NODESEP__G, [g, value|g.setNodesepRaw(value)])
 		setter.apply(OUTPUTORDER__G, [g, value|g.setOutputorderRaw(value)])
 		setter.apply(PAGEDIR__G, [g, value|g.setPagedirRaw(value)])
 		setter.apply(RANKDIR__G, [g, value|g.setRankdirRaw(value)])
+		setter.apply(RANKSEP__G, [g, value|g.setRanksepRaw(value)])
 		setter.apply(SPLINES__G, [g, value|g.setSplinesRaw(value)])
 
 		graph
@@ -162,12 +369,21 @@ class DotImport {
 	}
 
 	private def Node transformNodeId(NodeId it, List<AttrList> attrLists, Graph.Builder graphBuilder) {
-		val isExistingNode = _createCache_createNode.containsKey(CollectionLiterals.newArrayList(name.toValue))
+		val nodeKey = CollectionLiterals.newArrayList(name.toValue)
+		val isExistingNode = _createCache_createNode.containsKey(nodeKey)
 
 		val node = name.toValue.createNode
 		if (!isExistingNode) {
 			node._setNameRaw(name)
 			graphBuilder.nodes(node)
+			onRetract[_createCache_createNode.remove(nodeKey)]
+		} else if (!retractions.empty && attrLists.exists[!attributes.empty]) {
+			// the local attributes are applied to the existing node
+			val previousAttributes = new HashMap<String, Object>(node.attributes)
+			onRetract[
+				node.attributes.clear
+				node.attributes.putAll(previousAttributes)
+			]
 		}
 
 		val setter = [ String attributeName, (Node, ID)=>void f |
@@ -269,10 +485,16 @@ class DotImport {
 	}
 
 	private def dispatch void transformStmt(Subgraph it, Graph.Builder graphBuilder) {
-		// anonymous subgraphs cannot be 'merged', which is why we have to create a new subgraph for each
-		val isExistingSubgraph = name !== null && _createCache_createSubgraph.containsKey(CollectionLiterals.newArrayList(name.toValue))
+		val subgraphBuilder = name.createSubgraphBuilder(graphBuilder)
+
+		// process all statements except for subgraph/cluster attributes, they will be processed later
+		stmts.filter[!(it instanceof Attribute)].forEach[transformStmt(subgraphBuilder)]
+
+		name.buildSubgraph(subgraphBuilder, graphBuilder)[attributeName|getAttributeValue(attributeName)]
+	}
+
+	private def Graph.Builder createSubgraphBuilder(ID name, Graph.Builder graphBuilder) {
 		val subgraphBuilder = new Graph.Builder
-		val subgraphNode = if(name === null) System::identityHashCode(subgraphBuilder).toString.createSubgraph else name.toValue.createSubgraph
 
 		if (name !== null) {
 			subgraphBuilder.attr(_NAME__GNE, name)
@@ -284,16 +506,37 @@ class DotImport {
 		globalNodeAttributes(subgraphBuilder).putAll(globalNodeAttributes(graphBuilder))
 		globalEdgeAttributes(subgraphBuilder).putAll(globalEdgeAttributes(graphBuilder))
 
-		// process all statements except for subgraph/cluster attributes, they will be processed later
-		stmts.filter[!(it instanceof Attribute)].forEach[transformStmt(subgraphBuilder)]
+		subgraphBuilder
+	}
 
+	private def void buildSubgraph(ID name, Graph.Builder subgraphBuilder, Graph.Builder graphBuilder,
+		(String)=>ID attributes) {
+		// anonymous subgraphs cannot be 'merged', which is why we have to create a new subgraph for each
+		val subgraphName = if(name === null) System::identityHashCode(subgraphBuilder).toString else name.toValue
+		val subgraphNode = subgraphName.createSubgraph
+
+		// a subgraph with the same name has been processed before if the nested graph is already set
+		val isExistingSubgraph = subgraphNode.nestedGraph !== null
 		val subgraph = subgraphBuilder.build
 
 		if (!isExistingSubgraph) {
 			subgraphNode.nestedGraph = subgraph
 			subgraph.nestingNode = subgraphNode
 			graphBuilder.nodes(subgraphNode)
+			onRetract[_createCache_createSubgraph.remove(CollectionLiterals.newArrayList(subgraphName))]
 		} else {
+			if (!retractions.empty) {
+				val existingGraph = subgraphNode.nestedGraph
+				val previousAttributes = new HashMap<String, Object>(existingGraph.attributes)
+				val nodeCount = existingGraph.nodes.size
+				val edgeCount = existingGraph.edges.size
+				onRetract[
+					existingGraph.attributes.clear
+					existingGraph.attributes.putAll(previousAttributes)
+					existingGraph.nodes.remove(nodeCount, existingGraph.nodes.size)
+					existingGraph.edges.remove(edgeCount, existingGraph.edges.size)
+				]
+			}
 
 			// merge into existing subgraph
 			subgraphNode.nestedGraph.attributes.putAll(subgraph.attributes)
@@ -303,7 +546,7 @@ class DotImport {
 
 		// apply all global cluster and subgraph attributes to subgraph
 		val setter = [ String attributeName, (Graph, ID)=>void f |
-			val attributeValue = getAttributeValue(attributeName)
+			val attributeValue = attributes.apply(attributeName)
 			if (attributeValue !== null) {
 				f.apply(subgraph, attributeValue)
 			} else if (globalGraphAttributes(subgraphBuilder).containsKey(attributeName)) {
@@ -329,6 +572,24 @@ class DotImport {
 		setter.apply(TOOLTIP__CNE, [g, value|g.setTooltipRaw(value)])
 	}
 
+	/**
+	 * Records the given action to undo a transformation if the enclosing subgraph of the streaming
+	 * import may still be retracted.
+	 */
+	private def void onRetract(()=>void undoAction) {
+		if (!retractions.empty) {
+			retractions.peek += undoAction
+		}
+	}
+
+	/**
+	 * Returns the value of the first of the given attributes with the given name, or
+	 * <code>null</code> if there is no such attribute.
+	 */
+	private def ID findAttributeValue(List<Attribute> attributes, String name) {
+		attributes.findFirst[it.name.toValue == name]?.value
+	}
+
 	private def create new Node.Builder().buildNode() createSubgraph(String subgraphName) {
 	}
 
@@ -0,0 +1,1439 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.dot.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.dot.internal.language.dir.DirType;
+import org.eclipse.gef.dot.internal.language.dot.GraphType;
+import org.eclipse.gef.dot.internal.language.rankdir.Rankdir;
+import org.eclipse.gef.dot.internal.language.ranktype.RankType;
+import org.eclipse.gef.dot.internal.language.splines.Splines;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+
+/**
+ * An in-process implementation of the hierarchical layout that is performed
+ * by the Graphviz 'dot' executable. Like 'dot', it assigns the nodes to ranks
+ * (honoring <code>rank=same|min|max|source|sink</code> subgraphs), orders the
+ * nodes within the ranks to reduce edge crossings (keeping the members of
+ * clusters together), positions the nodes (honoring <code>rankdir</code>,
+ * <code>nodesep</code>, and <code>ranksep</code>), and routes the edges
+ * according to the <code>splines</code> attribute. The results are written to
+ * the <code>pos</code>, <code>width</code>, <code>height</code>,
+ * <code>bb</code>, <code>lp</code>, <code>head_lp</code>, and
+ * <code>tail_lp</code> attributes, as done by 'dot' when producing DOT
+ * output, so that the laid out graph can be processed like the output of the
+ * executable.
+ * <p>
+ * Edges are only laid out between (leaf) nodes. Edges from or to a subgraph
+ * node, i.e. a {@link Node} with a nested {@link Graph}, are ignored and do
+ * not influence the layout, as they are not expanded to the nested nodes (like
+ * done by 'dot' for <code>a -&gt; {b c}</code>).
+ * <p>
+ * The sizes of the labels are estimated from the font size, as no font
+ * metrics are available. The results will therefore not exactly match those
+ * of the executable. Instances are not thread-safe, i.e. each thread has to
+ * use its own {@link DotLayout}.
+ *
+ * @author mwienand
+ *
+ */
+public class DotLayout {
+
+	// DOT sizes are provided in inches, positions in points
+	private static final double DPI = 72;
+	private static final double DEFAULT_WIDTH = 0.75;
+	private static final double DEFAULT_HEIGHT = 0.5;
+	private static final double DEFAULT_NODESEP = 0.25;
+	private static final double DEFAULT_RANKSEP = 0.5;
+	private static final double MIN_SEP = 0.02;
+	private static final double DEFAULT_FONTSIZE = 14;
+	private static final double LABEL_MARGIN_X = 16;
+	private static final double LABEL_MARGIN_Y = 8;
+	private static final double CLUSTER_MARGIN = 8;
+	private static final double ARROW_LENGTH = 10;
+	private static final double LOOP_SIZE = 18;
+	private static final int ORDERING_ITERATIONS = 24;
+	private static final int POSITIONING_ITERATIONS = 8;
+
+	/**
+	 * A cluster, i.e. a subgraph whose name starts with "cluster". The root
+	 * graph is represented by a cluster without parent.
+	 */
+	private static final class Cluster {
+		final Graph graph;
+		final Cluster parent;
+		final int depth;
+		// bounds in layout coordinates, later in final coordinates
+		double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+		double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+		double[] labelSize;
+
+		Cluster(Graph graph, Cluster parent) {
+			this.graph = graph;
+			this.parent = parent;
+			this.depth = parent == null ? 0 : parent.depth + 1;
+		}
+
+		void include(double x, double y) {
+			minX = Math.min(minX, x);
+			minY = Math.min(minY, y);
+			maxX = Math.max(maxX, x);
+			maxY = Math.max(maxY, y);
+		}
+
+		boolean isEmpty() {
+			return minX > maxX;
+		}
+	}
+
+	/**
+	 * A node of the layout, either representing a {@link Node}, or a virtual
+	 * node along an edge that spans multiple ranks.
+	 */
+	private static final class LNode {
+		final Node node;
+		final Cluster cluster;
+		// the size along (width) and across (height) the ranks
+		double width, height;
+		int rank, order;
+		double x, y, value;
+		LNode group;
+		RankType rankType;
+		final List<LNode> in = new ArrayList<>();
+		final List<LNode> out = new ArrayList<>();
+
+		LNode(Node node, Cluster cluster) {
+			this.node = node;
+			this.cluster = cluster;
+		}
+
+		boolean isVirtual() {
+			return node == null;
+		}
+	}
+
+	/**
+	 * The route of an {@link Edge} through the ranks.
+	 */
+	private static final class Route {
+		final Edge edge;
+		final LNode tail, head;
+		// the chain from the upper to the lower node
+		final List<LNode> chain = new ArrayList<>();
+		boolean reversed;
+		// the final geometry
+		List<double[]> points;
+		double[] via, startArrow, endArrow, lp, headLp, tailLp;
+		double[] labelSize;
+
+		Route(Edge edge, LNode tail, LNode head) {
+			this.edge = edge;
+			this.tail = tail;
+			this.head = head;
+		}
+	}
+
+	private boolean invertYAxis = false;
+
+	// the state of the current layout run
+	private Rankdir rankdir;
+	private double nodesep, ranksep;
+	private Cluster root;
+	private final Map<Node, LNode> lnodes = new LinkedHashMap<>();
+	private final List<Route> routes = new ArrayList<>();
+	private final List<List<LNode>> ranks = new ArrayList<>();
+	private final List<Cluster> clusters = new ArrayList<>();
+	// the nodes of rank=same subgraphs, each pointing to another node of the
+	// same subgraph, so that they form trees (union-find)
+	private final Map<LNode, LNode> sameRank = new IdentityHashMap<>();
+
+	/**
+	 * Specifies whether the y-axis is to be inverted, i.e. whether the origin
+	 * is the top-left corner (<code>true</code>) instead of the bottom-left
+	 * corner (<code>false</code>, default), the same as the '-y' option of the
+	 * 'dot' executable.
+	 *
+	 * @param invertYAxis
+	 *            <code>true</code> to invert the y-axis, otherwise
+	 *            <code>false</code>.
+	 */
+	public void setInvertYAxis(boolean invertYAxis) {
+		this.invertYAxis = invertYAxis;
+	}
+
+	/**
+	 * Lays out the given {@link Graph} (as created by {@link DotImport}) and
+	 * writes the results to its layout attributes. Existing layout attributes
+	 * are replaced.
+	 *
+	 * @param graph
+	 *            The {@link Graph} to lay out.
+	 */
+	public void layout(Graph graph) {
+		rankdir = DotAttributes.getRankdirParsed(graph);
+		if (rankdir == null) {
+			rankdir = Rankdir.TB;
+		}
+		Double nodesepParsed = DotAttributes.getNodesepParsed(graph);
+		nodesep = Math.max(MIN_SEP,
+				nodesepParsed == null ? DEFAULT_NODESEP : nodesepParsed) * DPI;
+		Double ranksepParsed = DotAttributes.getRanksepParsed(graph);
+		ranksep = Math.max(MIN_SEP,
+				ranksepParsed == null ? DEFAULT_RANKSEP : ranksepParsed) * DPI;
+
+		lnodes.clear();
+		routes.clear();
+		ranks.clear();
+		clusters.clear();
+		sameRank.clear();
+		root = new Cluster(graph, null);
+		clusters.add(root);
+
+		collect(graph, root);
+		rank();
+		createChains();
+		order();
+		position();
+		route();
+		write(graph);
+	}
+
+	/*
+	 * Collection
+	 */
+
+	private void collect(Graph graph, Cluster cluster) {
+		for (Node node : graph.getNodes()) {
+			Graph nestedGraph = node.getNestedGraph();
+			if (nestedGraph == null) {
+				if (!lnodes.containsKey(node)) {
+					LNode lnode = new LNode(node, cluster);
+					double[] size = getSize(node);
+					boolean swap = isRanksHorizontal();
+					lnode.width = size[swap ? 1 : 0];
+					lnode.height = size[swap ? 0 : 1];
+					lnodes.put(node, lnode);
+				}
+			} else {
+				String name = DotAttributes._getName(node);
+				Cluster nestedCluster = cluster;
+				if (name != null && name.startsWith("cluster")) { //$NON-NLS-1$
+					nestedCluster = new Cluster(nestedGraph, cluster);
+					clusters.add(nestedCluster);
+					if (DotAttributes.getLabel(nestedGraph) != null) {
+						nestedCluster.labelSize = getLabelSize(
+								DotAttributes.getLabel(nestedGraph),
+								DotAttributes.getFontsizeParsed(nestedGraph));
+					}
+				}
+				collect(nestedGraph, nestedCluster);
+				collectRank(nestedGraph);
+			}
+		}
+		for (Edge edge : graph.getEdges()) {
+			LNode tail = lnodes.get(edge.getSource());
+			LNode head = lnodes.get(edge.getTarget());
+			if (tail == null || head == null) {
+				// edges from or to subgraphs are not supported
+				continue;
+			}
+			routes.add(new Route(edge, tail, head));
+		}
+	}
+
+	private void collectRank(Graph subgraph) {
+		RankType rankType = DotAttributes.getRankParsed(subgraph);
+		if (rankType == null) {
+			return;
+		}
+		LNode first = null;
+		for (Node node : subgraph.getNodes()) {
+			LNode lnode = lnodes.get(node);
+			if (lnode != null) {
+				lnode.rankType = rankType;
+				if (first == null) {
+					first = lnode;
+				} else {
+					LNode group = findSameRank(lnode);
+					if (group != findSameRank(first)) {
+						sameRank.put(group, findSameRank(first));
+					}
+				}
+			}
+		}
+	}
+
+	private boolean isRanksHorizontal() {
+		return rankdir == Rankdir.LR || rankdir == Rankdir.RL;
+	}
+
+	/**
+	 * Returns the size of the given {@link Node} in points, enclosing its
+	 * label unless the size is fixed.
+	 */
+	private double[] getSize(Node node) {
+		Double widthParsed = DotAttributes.getWidthParsed(node);
+		Double heightParsed = DotAttributes.getHeightParsed(node);
+		double width = (widthParsed == null ? DEFAULT_WIDTH : widthParsed)
+				* DPI;
+		double height = (heightParsed == null ? DEFAULT_HEIGHT : heightParsed)
+				* DPI;
+		String shape = DotAttributes.getShape(node);
+		if ("point".equals(shape)) { //$NON-NLS-1$
+			double size = widthParsed == null && heightParsed == null ? 0.05 * DPI
+					: Math.min(width, height);
+			return new double[] { size, size };
+		}
+		if (Boolean.TRUE.equals(DotAttributes.getFixedsizeParsed(node))) {
+			return new double[] { width, height };
+		}
+
+		String label = DotAttributes.getLabel(node);
+		if (label == null || label.contains("\\N")) { //$NON-NLS-1$
+			String name = DotAttributes._getName(node);
+			label = label == null ? name
+					: label.replace("\\N", name == null ? "" : name); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		double[] labelSize = getLabelSize(label,
+				DotAttributes.getFontsizeParsed(node));
+		double labelWidth = labelSize[0] + LABEL_MARGIN_X;
+		double labelHeight = labelSize[1] + LABEL_MARGIN_Y;
+		if (!isBoxShape(shape)) {
+			// an ellipse needs to be larger to enclose the label
+			labelWidth *= Math.sqrt(2);
+			labelHeight *= Math.sqrt(2);
+		}
+		width = Math.max(width, labelWidth);
+		height = Math.max(height, labelHeight);
+		if ("circle".equals(shape) || "doublecircle".equals(shape) //$NON-NLS-1$ //$NON-NLS-2$
+				|| "square".equals(shape)) { //$NON-NLS-1$
+			width = height = Math.max(width, height);
+		}
+		return new double[] { width, height };
+	}
+
+	private static boolean isBoxShape(String shape) {
+		if (shape == null) {
+			return false;
+		}
+		switch (shape) {
+		case "box": //$NON-NLS-1$
+		case "rect": //$NON-NLS-1$
+		case "rectangle": //$NON-NLS-1$
+		case "square": //$NON-NLS-1$
+		case "record": //$NON-NLS-1$
+		case "Mrecord": //$NON-NLS-1$
+		case "plaintext": //$NON-NLS-1$
+		case "plain": //$NON-NLS-1$
+		case "none": //$NON-NLS-1$
+		case "underline": //$NON-NLS-1$
+		case "note": //$NON-NLS-1$
+		case "tab": //$NON-NLS-1$
+		case "folder": //$NON-NLS-1$
+		case "box3d": //$NON-NLS-1$
+		case "component": //$NON-NLS-1$
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Estimates the size of the given label text in points. HTML-like and
+	 * record labels are approximated by their text content.
+	 */
+	private static double[] getLabelSize(String label, Double fontsize) {
+		double size = fontsize == null ? DEFAULT_FONTSIZE : fontsize;
+		if (label == null || label.isEmpty()) {
+			return new double[] { 0, 0 };
+		}
+		String text = label.replaceAll("<[^>]*>", "") //$NON-NLS-1$ //$NON-NLS-2$
+				.replaceAll("\\\\[nlr]", "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		int lines = 0;
+		int columns = 0;
+		for (String line : text.split("\n")) { //$NON-NLS-1$
+			lines++;
+			columns = Math.max(columns, line.length());
+		}
+		return new double[] { columns * size * 0.55, lines * size * 1.2 };
+	}
+
+	/*
+	 * Ranking
+	 */
+
+	private LNode findSameRank(LNode node) {
+		LNode parent = sameRank.get(node);
+		while (parent != null) {
+			node = parent;
+			parent = sameRank.get(node);
+		}
+		return node;
+	}
+
+	private void rank() {
+		// nodes of rank=same subgraphs are ranked as a single group
+		List<LNode> groups = new ArrayList<>();
+		Map<LNode, Integer> groupIndex = new IdentityHashMap<>();
+		for (LNode node : lnodes.values()) {
+			LNode group = findSameRank(node);
+			node.group = group;
+			if (!groupIndex.containsKey(group)) {
+				groupIndex.put(group, groups.size());
+				groups.add(group);
+			}
+		}
+		sameRank.clear();
+
+		int n = groups.size();
+		List<List<int[]>> out = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			out.add(new ArrayList<>());
+		}
+		int[][] edges = new int[routes.size()][];
+		for (int e = 0; e < routes.size(); e++) {
+			Route route = routes.get(e);
+			int t = groupIndex.get(route.tail.group);
+			int h = groupIndex.get(route.head.group);
+			if (t != h) {
+				edges[e] = new int[] { t, h };
+				out.get(t).add(new int[] { h, e });
+			}
+		}
+
+		// break cycles by reversing the edges that lead back to a group on
+		// the depth-first search stack
+		boolean[] reversed = new boolean[routes.size()];
+		int[] state = new int[n];
+		for (int start = 0; start < n; start++) {
+			if (state[start] != 0) {
+				continue;
+			}
+			Deque<int[]> stack = new ArrayDeque<>();
+			stack.push(new int[] { start, 0 });
+			state[start] = 1;
+			while (!stack.isEmpty()) {
+				int[] top = stack.peek();
+				List<int[]> successors = out.get(top[0]);
+				if (top[1] < successors.size()) {
+					int[] successor = successors.get(top[1]++);
+					if (state[successor[0]] == 1) {
+						reversed[successor[1]] = true;
+					} else if (state[successor[0]] == 0) {
+						state[successor[0]] = 1;
+						stack.push(new int[] { successor[0], 0 });
+					}
+				} else {
+					state[top[0]] = 2;
+					stack.pop();
+				}
+			}
+		}
+
+		// longest path ranking in topological order
+		List<List<Integer>> successors = new ArrayList<>();
+		List<List<Integer>> predecessors = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			successors.add(new ArrayList<>());
+			predecessors.add(new ArrayList<>());
+		}
+		int[] inDegree = new int[n];
+		for (int e = 0; e < edges.length; e++) {
+			if (edges[e] != null) {
+				int t = edges[e][reversed[e] ? 1 : 0];
+				int h = edges[e][reversed[e] ? 0 : 1];
+				successors.get(t).add(h);
+				predecessors.get(h).add(t);
+				inDegree[h]++;
+			}
+		}
+		int[] topological = new int[n];
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			if (inDegree[i] == 0) {
+				topological[count++] = i;
+			}
+		}
+		for (int k = 0; k < count; k++) {
+			for (int s : successors.get(topological[k])) {
+				if (--inDegree[s] == 0) {
+					topological[count++] = s;
+				}
+			}
+		}
+		int[] rank = new int[n];
+		propagate(topological, successors, rank);
+
+		// pull sources towards their successors to shorten their edges
+		for (int k = n - 1; k >= 0; k--) {
+			int g = topological[k];
+			if (predecessors.get(g).isEmpty()
+					&& !successors.get(g).isEmpty()) {
+				int min = Integer.MAX_VALUE;
+				for (int s : successors.get(g)) {
+					min = Math.min(min, rank[s]);
+				}
+				rank[g] = min - 1;
+			}
+		}
+
+		// apply min/source and max/sink constraints
+		int minRank = Integer.MAX_VALUE, maxRank = Integer.MIN_VALUE;
+		for (int i = 0; i < n; i++) {
+			minRank = Math.min(minRank, rank[i]);
+			maxRank = Math.max(maxRank, rank[i]);
+		}
+		boolean constrained = false;
+		for (int i = 0; i < n; i++) {
+			RankType rankType = groups.get(i).rankType;
+			if (rankType == RankType.MIN || rankType == RankType.SOURCE) {
+				rank[i] = minRank;
+				constrained = true;
+			} else if (rankType == RankType.MAX
+					|| rankType == RankType.SINK) {
+				rank[i] = maxRank;
+				constrained = true;
+			}
+		}
+		if (constrained) {
+			propagate(topological, successors, rank);
+		}
+
+		minRank = Integer.MAX_VALUE;
+		for (int i = 0; i < n; i++) {
+			minRank = Math.min(minRank, rank[i]);
+		}
+		for (LNode node : lnodes.values()) {
+			node.rank = rank[groupIndex.get(node.group)] - minRank;
+		}
+	}
+
+	private static void propagate(int[] topological,
+			List<List<Integer>> successors, int[] rank) {
+		for (int g : topological) {
+			for (int s : successors.get(g)) {
+				rank[s] = Math.max(rank[s], rank[g] + 1);
+			}
+		}
+	}
+
+	/*
+	 * Virtual nodes
+	 */
+
+	private void createChains() {
+		for (LNode node : lnodes.values()) {
+			addToRank(node);
+		}
+		for (Route route : routes) {
+			LNode upper = route.tail, lower = route.head;
+			route.reversed = upper.rank > lower.rank;
+			if (route.reversed) {
+				upper = route.head;
+				lower = route.tail;
+			}
+			route.chain.add(upper);
+			if (upper.rank == lower.rank) {
+				// flat edges and loops do not take part in the ordering
+				if (upper != lower) {
+					route.chain.add(lower);
+				}
+				continue;
+			}
+			Cluster cluster = getCommonCluster(upper.cluster, lower.cluster);
+			LNode previous = upper;
+			for (int r = upper.rank + 1; r < lower.rank; r++) {
+				LNode virtual = new LNode(null, cluster);
+				virtual.rank = r;
+				addToRank(virtual);
+				connect(previous, virtual);
+				route.chain.add(virtual);
+				previous = virtual;
+			}
+			connect(previous, lower);
+			route.chain.add(lower);
+		}
+	}
+
+	private void addToRank(LNode node) {
+		while (ranks.size() <= node.rank) {
+			ranks.add(new ArrayList<>());
+		}
+		ranks.get(node.rank).add(node);
+	}
+
+	private static void connect(LNode upper, LNode lower) {
+		upper.out.add(lower);
+		lower.in.add(upper);
+	}
+
+	private static Cluster getCommonCluster(Cluster a, Cluster b) {
+		while (a.depth > b.depth) {
+			a = a.parent;
+		}
+		while (b.depth > a.depth) {
+			b = b.parent;
+		}
+		while (a != b) {
+			a = a.parent;
+			b = b.parent;
+		}
+		return a;
+	}
+
+	/*
+	 * Ordering
+	 */
+
+	private void order() {
+		// initial order by a depth-first search in input order
+		List<List<LNode>> initial = new ArrayList<>();
+		for (int r = 0; r < ranks.size(); r++) {
+			initial.add(new ArrayList<>());
+		}
+		Map<LNode, Boolean> visited = new IdentityHashMap<>();
+		for (LNode start : lnodes.values()) {
+			Deque<LNode> stack = new ArrayDeque<>();
+			stack.push(start);
+			while (!stack.isEmpty()) {
+				LNode node = stack.pop();
+				if (visited.put(node, Boolean.TRUE) != null) {
+					continue;
+				}
+				initial.get(node.rank).add(node);
+				for (int i = node.out.size() - 1; i >= 0; i--) {
+					stack.push(node.out.get(i));
+				}
+			}
+		}
+		for (int r = 0; r < ranks.size(); r++) {
+			List<LNode> rank = initial.get(r);
+			for (int i = 0; i < rank.size(); i++) {
+				rank.get(i).value = i;
+			}
+			ranks.set(r, sortByCluster(rank, root));
+			updateOrder(ranks.get(r));
+		}
+
+		List<List<LNode>> best = copy(ranks);
+		long bestCrossings = countCrossings();
+		for (int i = 0; i < ORDERING_ITERATIONS && bestCrossings > 0; i++) {
+			boolean down = i % 2 == 0;
+			for (int k = 1; k < ranks.size(); k++) {
+				int r = down ? k : ranks.size() - 1 - k;
+				List<LNode> rank = ranks.get(r);
+				for (LNode node : rank) {
+					node.value = median(down ? node.in : node.out,
+							node.order);
+				}
+				ranks.set(r, sortByCluster(rank, root));
+				updateOrder(ranks.get(r));
+			}
+			transpose();
+			long crossings = countCrossings();
+			if (crossings < bestCrossings) {
+				bestCrossings = crossings;
+				best = copy(ranks);
+			}
+		}
+		ranks.clear();
+		ranks.addAll(best);
+		for (List<LNode> rank : ranks) {
+			updateOrder(rank);
+		}
+	}
+
+	private static List<List<LNode>> copy(List<List<LNode>> ranks) {
+		List<List<LNode>> copy = new ArrayList<>();
+		for (List<LNode> rank : ranks) {
+			copy.add(new ArrayList<>(rank));
+		}
+		return copy;
+	}
+
+	private static void updateOrder(List<LNode> rank) {
+		for (int i = 0; i < rank.size(); i++) {
+			rank.get(i).order = i;
+		}
+	}
+
+	private static double median(List<LNode> neighbors, double fallback) {
+		int size = neighbors.size();
+		if (size == 0) {
+			return fallback;
+		} else if (size == 1) {
+			return neighbors.get(0).order;
+		}
+		double[] orders = new double[size];
+		for (int i = 0; i < size; i++) {
+			orders[i] = neighbors.get(i).order;
+		}
+		Arrays.sort(orders);
+		return size % 2 == 1 ? orders[size / 2]
+				: (orders[size / 2 - 1] + orders[size / 2]) / 2;
+	}
+
+	/**
+	 * Sorts the given nodes by their values, keeping the nodes of each
+	 * cluster together. A cluster is placed according to the average value
+	 * of its nodes.
+	 */
+	private static List<LNode> sortByCluster(List<LNode> nodes,
+			Cluster scope) {
+		boolean flat = true;
+		for (LNode node : nodes) {
+			flat &= node.cluster == scope;
+		}
+		if (flat) {
+			List<LNode> sorted = new ArrayList<>(nodes);
+			Collections.sort(sorted, new Comparator<LNode>() {
+				@Override
+				public int compare(LNode a, LNode b) {
+					return Double.compare(a.value, b.value);
+				}
+			});
+			return sorted;
+		}
+
+		Map<Object, List<LNode>> groups = new LinkedHashMap<>();
+		for (LNode node : nodes) {
+			Cluster child = getChildCluster(scope, node.cluster);
+			Object key = child == null ? node : child;
+			List<LNode> group = groups.get(key);
+			if (group == null) {
+				group = new ArrayList<>();
+				groups.put(key, group);
+			}
+			group.add(node);
+		}
+		List<Object> keys = new ArrayList<>(groups.keySet());
+		final Map<Object, Double> values = new IdentityHashMap<>();
+		for (Object key : keys) {
+			double sum = 0;
+			for (LNode node : groups.get(key)) {
+				sum += node.value;
+			}
+			values.put(key, sum / groups.get(key).size());
+		}
+		Collections.sort(keys, new Comparator<Object>() {
+			@Override
+			public int compare(Object a, Object b) {
+				return Double.compare(values.get(a), values.get(b));
+			}
+		});
+		List<LNode> sorted = new ArrayList<>(nodes.size());
+		for (Object key : keys) {
+			if (key instanceof Cluster) {
+				sorted.addAll(sortByCluster(groups.get(key), (Cluster) key));
+			} else {
+				sorted.add((LNode) key);
+			}
+		}
+		return sorted;
+	}
+
+	/**
+	 * Returns the child of the given scope that contains the given cluster, or
+	 * <code>null</code> if the given cluster is the scope itself.
+	 */
+	private static Cluster getChildCluster(Cluster scope, Cluster cluster) {
+		if (cluster == scope) {
+			return null;
+		}
+		while (cluster.parent != scope) {
+			cluster = cluster.parent;
+		}
+		return cluster;
+	}
+
+	/**
+	 * Swaps adjacent nodes of the same cluster as long as that reduces the
+	 * number of crossings.
+	 */
+	private void transpose() {
+		boolean improved = true;
+		for (int pass = 0; improved && pass < 4; pass++) {
+			improved = false;
+			for (List<LNode> rank : ranks) {
+				for (int i = 0; i + 1 < rank.size(); i++) {
+					LNode v = rank.get(i), w = rank.get(i + 1);
+					if (v.cluster != w.cluster) {
+						continue;
+					}
+					if (crossings(v, w) > crossings(w, v)) {
+						rank.set(i, w);
+						rank.set(i + 1, v);
+						v.order = i + 1;
+						w.order = i;
+						improved = true;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of crossings among the edges of the given nodes, if
+	 * v is placed left of w.
+	 */
+	private static int crossings(LNode v, LNode w) {
+		return crossings(v.in, w.in) + crossings(v.out, w.out);
+	}
+
+	private static int crossings(List<LNode> left, List<LNode> right) {
+		int count = 0;
+		for (LNode l : left) {
+			for (LNode r : right) {
+				if (l.order > r.order) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	private long countCrossings() {
+		long count = 0;
+		for (int r = 0; r + 1 < ranks.size(); r++) {
+			List<int[]> edges = new ArrayList<>();
+			for (LNode node : ranks.get(r)) {
+				for (LNode successor : node.out) {
+					edges.add(new int[] { node.order, successor.order });
+				}
+			}
+			Collections.sort(edges, new Comparator<int[]>() {
+				@Override
+				public int compare(int[] a, int[] b) {
+					return a[0] != b[0] ? Integer.compare(a[0], b[0])
+							: Integer.compare(a[1], b[1]);
+				}
+			});
+			// count the inversions of the lower ends with a Fenwick tree
+			int size = ranks.get(r + 1).size();
+			int[] tree = new int[size + 1];
+			int inserted = 0;
+			for (int[] edge : edges) {
+				int smallerOrEqual = 0;
+				for (int i = edge[1] + 1; i > 0; i -= i & -i) {
+					smallerOrEqual += tree[i];
+				}
+				count += inserted - smallerOrEqual;
+				for (int i = edge[1] + 1; i <= size; i += i & -i) {
+					tree[i]++;
+				}
+				inserted++;
+			}
+		}
+		return count;
+	}
+
+	/*
+	 * Positioning
+	 */
+
+	private void position() {
+		// pack the ranks from the left
+		for (List<LNode> rank : ranks) {
+			double x = 0;
+			for (int i = 0; i < rank.size(); i++) {
+				if (i > 0) {
+					x += separation(rank.get(i - 1), rank.get(i));
+				}
+				rank.get(i).x = x;
+			}
+		}
+
+		// move the nodes towards their neighbors, preferring straight
+		// chains of virtual nodes, as done by 'dot'
+		for (int i = 0; i < POSITIONING_ITERATIONS; i++) {
+			boolean down = i % 2 == 0;
+			for (int k = 0; k < ranks.size(); k++) {
+				place(ranks.get(down ? k : ranks.size() - 1 - k));
+			}
+		}
+
+		// the ranks are separated by the tallest node of each rank
+		double y = 0;
+		for (int r = 0; r < ranks.size(); r++) {
+			double height = 0;
+			for (LNode node : ranks.get(r)) {
+				height = Math.max(height, node.height);
+			}
+			double previousHeight = 0;
+			if (r > 0) {
+				for (LNode node : ranks.get(r - 1)) {
+					previousHeight = Math.max(previousHeight, node.height);
+				}
+				y += previousHeight / 2 + ranksep + height / 2
+						+ getLabelSpace(r - 1);
+			} else {
+				y = height / 2;
+			}
+			for (LNode node : ranks.get(r)) {
+				node.y = y;
+			}
+		}
+	}
+
+	/**
+	 * Returns the additional space that is needed between the given rank and
+	 * its successor for the edge labels that are placed there.
+	 */
+	private double getLabelSpace(int rank) {
+		double space = 0;
+		for (Route route : routes) {
+			String label = DotAttributes.getLabel(route.edge);
+			if (label == null || route.chain.size() < 2) {
+				continue;
+			}
+			int middle = (route.chain.size() - 2) / 2;
+			if (route.chain.get(middle).rank == rank
+					&& route.chain.get(middle + 1).rank == rank + 1) {
+				if (route.labelSize == null) {
+					route.labelSize = getLabelSize(label,
+							DotAttributes.getFontsizeParsed(route.edge));
+				}
+				space = Math.max(space,
+						route.labelSize[isRanksHorizontal() ? 0 : 1]);
+			}
+		}
+		return space;
+	}
+
+	private double separation(LNode left, LNode right) {
+		double gap = left.isVirtual() || right.isVirtual() ? nodesep / 2
+				: nodesep;
+		Cluster common = getCommonCluster(left.cluster, right.cluster);
+		int boundaries = left.cluster.depth + right.cluster.depth
+				- 2 * common.depth;
+		return (left.width + right.width) / 2 + gap
+				+ boundaries * CLUSTER_MARGIN;
+	}
+
+	/**
+	 * Places the nodes of the given rank as close as possible to the weighted
+	 * average of their neighbors, preserving their order and separation.
+	 * This is a weighted isotonic regression, which is solved by pooling
+	 * adjacent violators.
+	 */
+	private void place(List<LNode> rank) {
+		int n = rank.size();
+		if (n == 0) {
+			return;
+		}
+		double[] offset = new double[n];
+		double[] target = new double[n];
+		double[] weight = new double[n];
+		for (int i = 0; i < n; i++) {
+			LNode node = rank.get(i);
+			offset[i] = i == 0 ? 0
+					: offset[i - 1] + separation(rank.get(i - 1), node);
+			double sum = 0, weights = 0;
+			for (List<LNode> neighbors : Arrays.asList(node.in, node.out)) {
+				for (LNode neighbor : neighbors) {
+					double w = node.isVirtual() && neighbor.isVirtual() ? 8
+							: node.isVirtual() || neighbor.isVirtual() ? 2 : 1;
+					sum += w * neighbor.x;
+					weights += w;
+				}
+			}
+			if (weights == 0) {
+				// unconnected nodes keep their position
+				sum = node.x * 1e-3;
+				weights = 1e-3;
+			}
+			target[i] = sum / weights - offset[i];
+			weight[i] = weights;
+		}
+
+		// pool adjacent violators
+		double[] blockValue = new double[n];
+		double[] blockWeight = new double[n];
+		int[] blockSize = new int[n];
+		int blocks = 0;
+		for (int i = 0; i < n; i++) {
+			blockValue[blocks] = target[i];
+			blockWeight[blocks] = weight[i];
+			blockSize[blocks] = 1;
+			blocks++;
+			while (blocks > 1
+					&& blockValue[blocks - 2] > blockValue[blocks - 1]) {
+				double w = blockWeight[blocks - 2] + blockWeight[blocks - 1];
+				blockValue[blocks - 2] = (blockValue[blocks - 2]
+						* blockWeight[blocks - 2]
+						+ blockValue[blocks - 1] * blockWeight[blocks - 1])
+						/ w;
+				blockWeight[blocks - 2] = w;
+				blockSize[blocks - 2] += blockSize[blocks - 1];
+				blocks--;
+			}
+		}
+		int i = 0;
+		for (int b = 0; b < blocks; b++) {
+			for (int k = 0; k < blockSize[b]; k++, i++) {
+				rank.get(i).x = blockValue[b] + offset[i];
+			}
+		}
+	}
+
+	/*
+	 * Routing and final coordinates
+	 */
+
+	/**
+	 * Transforms the given layout coordinates into final coordinates (with
+	 * the y-axis pointing down), according to the rankdir.
+	 */
+	private double[] transform(double x, double y) {
+		switch (rankdir) {
+		case LR:
+			return new double[] { y, x };
+		case RL:
+			return new double[] { -y, x };
+		case BT:
+			return new double[] { x, -y };
+		default:
+			return new double[] { x, y };
+		}
+	}
+
+	private void route() {
+		// flat edges between nodes that are not adjacent are routed above
+		// the nodes in between
+		for (Route route : routes) {
+			if (route.chain.size() == 2
+					&& route.chain.get(0).rank == route.chain.get(1).rank
+					&& Math.abs(route.chain.get(0).order
+							- route.chain.get(1).order) > 1) {
+				LNode a = route.chain.get(0), b = route.chain.get(1);
+				double height = 0;
+				for (LNode node : ranks.get(a.rank)) {
+					height = Math.max(height, node.height);
+				}
+				route.via = transform((a.x + b.x) / 2,
+						a.y - height / 2 - ranksep / 2);
+			}
+		}
+
+		// transform the node positions
+		for (List<LNode> rank : ranks) {
+			for (LNode node : rank) {
+				double[] p = transform(node.x, node.y);
+				node.x = p[0];
+				node.y = p[1];
+				if (isRanksHorizontal()) {
+					double width = node.width;
+					node.width = node.height;
+					node.height = width;
+				}
+			}
+		}
+
+		GraphType type = DotAttributes._getType(root.graph);
+		String splines = DotAttributes.getSplines(root.graph);
+		if (Splines.NONE.toString().equals(splines)
+				|| Splines.EMPTY.toString().equals(splines)) {
+			return;
+		}
+		Map<LNode, Integer> loops = new IdentityHashMap<>();
+		for (Route route : routes) {
+			List<double[]> path = new ArrayList<>();
+			if (route.tail == route.head) {
+				Integer loop = loops.get(route.tail);
+				loops.put(route.tail, loop = loop == null ? 0 : loop + 1);
+				route.points = createLoop(route.tail, loop);
+			} else {
+				for (LNode node : route.chain) {
+					path.add(new double[] { node.x, node.y });
+				}
+				if (route.via != null) {
+					path.add(1, route.via);
+				}
+				if (route.reversed) {
+					Collections.reverse(path);
+				}
+				if (Splines.LINE.toString().equals(splines)
+						|| Splines.FALSE.toString().equals(splines)) {
+					path = Arrays.asList(path.get(0),
+							path.get(path.size() - 1));
+				}
+				clip(route, path, type);
+				if (Splines.LINE.toString().equals(splines)
+						|| Splines.FALSE.toString().equals(splines)
+						|| Splines.POLYLINE.toString().equals(splines)
+						|| Splines.ORTHO.toString().equals(splines)) {
+					route.points = toPolyline(path);
+				} else {
+					route.points = toSpline(path);
+				}
+			}
+			placeLabels(route);
+		}
+	}
+
+	/**
+	 * Clips the given path at the boundaries of the tail and head nodes, and
+	 * shortens it for the arrows.
+	 */
+	private void clip(Route route, List<double[]> path, GraphType type) {
+		DirType dir = DotAttributes.getDirParsed(route.edge);
+		if (dir == null) {
+			dir = type == GraphType.DIGRAPH ? DirType.FORWARD : DirType.NONE;
+		}
+		Double arrowsize = DotAttributes.getArrowsizeParsed(route.edge);
+		double arrowLength = ARROW_LENGTH
+				* (arrowsize == null ? 1 : arrowsize);
+
+		int last = path.size() - 1;
+		double[] start = clip(route.tail, path.get(1));
+		double[] end = clip(route.head, path.get(last - 1));
+		if (dir == DirType.BACK || dir == DirType.BOTH) {
+			route.startArrow = start;
+			start = shorten(start, path.get(1), arrowLength);
+		}
+		if (dir == DirType.FORWARD || dir == DirType.BOTH) {
+			route.endArrow = end;
+			end = shorten(end, path.get(last - 1), arrowLength);
+		}
+		path.set(0, start);
+		path.set(last, end);
+	}
+
+	private static double[] clip(LNode node, double[] towards) {
+		double dx = towards[0] - node.x, dy = towards[1] - node.y;
+		double a = node.width / 2, b = node.height / 2;
+		if (dx == 0 && dy == 0 || a == 0 || b == 0) {
+			return new double[] { node.x, node.y };
+		}
+		double t;
+		if (isBoxShape(DotAttributes.getShape(node.node))) {
+			t = Math.min(dx == 0 ? Double.MAX_VALUE : a / Math.abs(dx),
+					dy == 0 ? Double.MAX_VALUE : b / Math.abs(dy));
+		} else {
+			t = 1 / Math.sqrt(dx * dx / (a * a) + dy * dy / (b * b));
+		}
+		t = Math.min(t, 1);
+		return new double[] { node.x + t * dx, node.y + t * dy };
+	}
+
+	private static double[] shorten(double[] p, double[] towards,
+			double length) {
+		double dx = towards[0] - p[0], dy = towards[1] - p[1];
+		double distance = Math.sqrt(dx * dx + dy * dy);
+		if (distance == 0) {
+			return p;
+		}
+		double t = Math.min(length, distance / 2) / distance;
+		return new double[] { p[0] + t * dx, p[1] + t * dy };
+	}
+
+	/**
+	 * Converts the given path into a sequence of cubic Bézier segments that
+	 * follow the path with straight lines.
+	 */
+	private static List<double[]> toPolyline(List<double[]> path) {
+		List<double[]> points = new ArrayList<>();
+		points.add(path.get(0));
+		for (int i = 1; i < path.size(); i++) {
+			double[] p = path.get(i - 1), q = path.get(i);
+			points.add(interpolate(p, q, 1.0 / 3));
+			points.add(interpolate(p, q, 2.0 / 3));
+			points.add(q);
+		}
+		return points;
+	}
+
+	/**
+	 * Converts the given path into a sequence of cubic Bézier segments that
+	 * smoothly pass through all points of the path (Catmull-Rom spline).
+	 */
+	private static List<double[]> toSpline(List<double[]> path) {
+		List<double[]> points = new ArrayList<>();
+		points.add(path.get(0));
+		int last = path.size() - 1;
+		for (int i = 0; i < last; i++) {
+			double[] p0 = path.get(Math.max(i - 1, 0)), p1 = path.get(i);
+			double[] p2 = path.get(i + 1), p3 = path.get(Math.min(i + 2, last));
+			points.add(new double[] { p1[0] + (p2[0] - p0[0]) / 6,
+					p1[1] + (p2[1] - p0[1]) / 6 });
+			points.add(new double[] { p2[0] - (p3[0] - p1[0]) / 6,
+					p2[1] - (p3[1] - p1[1]) / 6 });
+			points.add(p2);
+		}
+		return points;
+	}
+
+	private static double[] interpolate(double[] p, double[] q, double t) {
+		return new double[] { p[0] + t * (q[0] - p[0]),
+				p[1] + t * (q[1] - p[1]) };
+	}
+
+	/**
+	 * Creates a loop at the right side of the given node. Subsequent loops
+	 * are placed around the previous ones.
+	 */
+	private static List<double[]> createLoop(LNode node, int index) {
+		double size = LOOP_SIZE * (index + 1);
+		double right = node.x + node.width / 2;
+		double dy = node.height / 4;
+		return Arrays.asList(new double[] { right, node.y - dy },
+				new double[] { right + size, node.y - dy - size / 2 },
+				new double[] { right + size, node.y + dy + size / 2 },
+				new double[] { right, node.y + dy });
+	}
+
+	private void placeLabels(Route route) {
+		List<double[]> points = route.points;
+		String label = DotAttributes.getLabel(route.edge);
+		if (label != null) {
+			if (route.labelSize == null) {
+				route.labelSize = getLabelSize(label,
+						DotAttributes.getFontsizeParsed(route.edge));
+			}
+			// place the label next to the middle of the segment for which
+			// space has been reserved between the ranks
+			int segment = Math.min(Math.max(route.chain.size() - 2, 0) / 2,
+					(points.size() - 1) / 3 - 1);
+			double[] middle = new double[2];
+			for (int i = 0; i < 2; i++) {
+				middle[i] = (points.get(3 * segment)[i]
+						+ 3 * points.get(3 * segment + 1)[i]
+						+ 3 * points.get(3 * segment + 2)[i]
+						+ points.get(3 * segment + 3)[i]) / 8;
+			}
+			route.lp = new double[] { middle[0] + route.labelSize[0] / 2 + 2,
+					middle[1] };
+		}
+		double[] start = route.startArrow != null ? route.startArrow
+				: points.get(0);
+		double[] end = route.endArrow != null ? route.endArrow
+				: points.get(points.size() - 1);
+		String headlabel = DotAttributes.getHeadlabel(route.edge);
+		if (headlabel != null) {
+			route.headLp = placeEndLabel(end, points.get(points.size() - 2),
+					getLabelSize(headlabel,
+							DotAttributes.getLabelfontsizeParsed(route.edge)));
+		}
+		String taillabel = DotAttributes.getTaillabel(route.edge);
+		if (taillabel != null) {
+			route.tailLp = placeEndLabel(start, points.get(1),
+					getLabelSize(taillabel,
+							DotAttributes.getLabelfontsizeParsed(route.edge)));
+		}
+	}
+
+	/**
+	 * Places a head or tail label near the given end point, rotated by -25
+	 * degrees from the edge, as done by 'dot' by default.
+	 */
+	private static double[] placeEndLabel(double[] end, double[] towards,
+			double[] labelSize) {
+		double dx = towards[0] - end[0], dy = towards[1] - end[1];
+		double distance = Math.sqrt(dx * dx + dy * dy);
+		if (distance == 0) {
+			return end;
+		}
+		double angle = Math.atan2(dy, dx) - Math.toRadians(25);
+		double radius = 10 + Math.hypot(labelSize[0], labelSize[1]) / 2;
+		return new double[] { end[0] + radius * Math.cos(angle),
+				end[1] + radius * Math.sin(angle) };
+	}
+
+	/*
+	 * Bounds and attributes
+	 */
+
+	private void write(Graph graph) {
+		// compute the cluster bounds bottom-up
+		for (List<LNode> rank : ranks) {
+			for (LNode node : rank) {
+				for (Cluster c = node.cluster; c != null; c = c.parent) {
+					c.include(node.x - node.width / 2, node.y - node.height / 2);
+					c.include(node.x + node.width / 2, node.y + node.height / 2);
+				}
+			}
+		}
+		for (int i = clusters.size() - 1; i > 0; i--) {
+			Cluster cluster = clusters.get(i);
+			if (cluster.isEmpty()) {
+				continue;
+			}
+			cluster.minX -= CLUSTER_MARGIN;
+			cluster.maxX += CLUSTER_MARGIN;
+			cluster.minY -= CLUSTER_MARGIN;
+			cluster.maxY += CLUSTER_MARGIN;
+			if (cluster.labelSize != null) {
+				// cluster labels are placed at the top
+				cluster.minY -= cluster.labelSize[1];
+				cluster.minX = Math.min(cluster.minX,
+						(cluster.minX + cluster.maxX - cluster.labelSize[0])
+								/ 2);
+				cluster.maxX = Math.max(cluster.maxX,
+						(cluster.minX + cluster.maxX + cluster.labelSize[0])
+								/ 2);
+			}
+			for (Cluster c = cluster.parent; c != null; c = c.parent) {
+				c.include(cluster.minX, cluster.minY);
+				c.include(cluster.maxX, cluster.maxY);
+			}
+		}
+		for (Route route : routes) {
+			if (route.points != null) {
+				for (double[] p : route.points) {
+					root.include(p[0], p[1]);
+				}
+			}
+			for (double[] p : Arrays.asList(route.startArrow, route.endArrow,
+					route.lp, route.headLp, route.tailLp)) {
+				if (p != null) {
+					root.include(p[0], p[1]);
+				}
+			}
+			if (route.lp != null) {
+				root.include(route.lp[0] + route.labelSize[0] / 2,
+						route.lp[1] + route.labelSize[1] / 2);
+			}
+		}
+		if (root.isEmpty()) {
+			root.include(0, 0);
+		}
+		String label = DotAttributes.getLabel(graph);
+		double[] labelSize = null;
+		if (label != null) {
+			// the graph label is placed at the bottom
+			labelSize = getLabelSize(label,
+					DotAttributes.getFontsizeParsed(graph));
+			root.maxY += labelSize[1];
+			double center = (root.minX + root.maxX) / 2;
+			root.minX = Math.min(root.minX, center - labelSize[0] / 2);
+			root.maxX = Math.max(root.maxX, center + labelSize[0] / 2);
+		}
+
+		// translate to the origin
+		final double dx = -root.minX, dy = -root.minY;
+		final double height = root.maxY - root.minY;
+
+		for (LNode node : lnodes.values()) {
+			DotAttributes.setPos(node.node,
+					format(node.x + dx, node.y + dy, height));
+			DotAttributes.setWidth(node.node, format(node.width / DPI));
+			DotAttributes.setHeight(node.node, format(node.height / DPI));
+		}
+		for (Route route : routes) {
+			if (route.points == null) {
+				continue;
+			}
+			StringBuilder pos = new StringBuilder();
+			if (route.startArrow != null) {
+				pos.append("s,").append(format(route.startArrow[0] + dx, //$NON-NLS-1$
+						route.startArrow[1] + dy, height)).append(' ');
+			}
+			if (route.endArrow != null) {
+				pos.append("e,").append(format(route.endArrow[0] + dx, //$NON-NLS-1$
+						route.endArrow[1] + dy, height)).append(' ');
+			}
+			for (int i = 0; i < route.points.size(); i++) {
+				double[] p = route.points.get(i);
+				if (i > 0) {
+					pos.append(' ');
+				}
+				pos.append(format(p[0] + dx, p[1] + dy, height));
+			}
+			DotAttributes.setPos(route.edge, pos.toString());
+			if (route.lp != null) {
+				DotAttributes.setLp(route.edge,
+						format(route.lp[0] + dx, route.lp[1] + dy, height));
+			}
+			if (route.headLp != null) {
+				DotAttributes.setHeadLp(route.edge, format(
+						route.headLp[0] + dx, route.headLp[1] + dy, height));
+			}
+			if (route.tailLp != null) {
+				DotAttributes.setTailLp(route.edge, format(
+						route.tailLp[0] + dx, route.tailLp[1] + dy, height));
+			}
+		}
+		for (int i = 1; i < clusters.size(); i++) {
+			Cluster cluster = clusters.get(i);
+			if (cluster.isEmpty()) {
+				continue;
+			}
+			DotAttributes.setBb(cluster.graph, formatBounds(cluster.minX + dx,
+					cluster.minY + dy, cluster.maxX + dx, cluster.maxY + dy,
+					height));
+			if (cluster.labelSize != null) {
+				DotAttributes.setLp(cluster.graph,
+						format((cluster.minX + cluster.maxX) / 2 + dx,
+								cluster.minY + cluster.labelSize[1] / 2 + dy,
+								height));
+			}
+		}
+		DotAttributes.setBb(graph,
+				formatBounds(0, 0, root.maxX - root.minX, height, height));
+		if (labelSize != null) {
+			DotAttributes.setLp(graph, format((root.maxX - root.minX) / 2,
+					height - labelSize[1] / 2, height));
+		}
+	}
+
+	/**
+	 * Formats the given point, inverting the y coordinate unless the y-axis
+	 * is to be inverted (as the final coordinates are already inverted).
+	 */
+	private String format(double x, double y, double height) {
+		return format(x) + "," + format(invertYAxis ? y : height - y); //$NON-NLS-1$
+	}
+
+	private String formatBounds(double minX, double minY, double maxX,
+			double maxY, double height) {
+		double lowerY = invertYAxis ? minY : height - maxY;
+		double upperY = invertYAxis ? maxY : height - minY;
+		return format(minX) + "," + format(lowerY) + "," + format(maxX) //$NON-NLS-1$ //$NON-NLS-2$
+				+ "," + format(upperY); //$NON-NLS-1$
+	}
+
+	/**
+	 * Formats the given value with (at most) two decimal places.
+	 */
+	private static String format(double value) {
+		long hundredths = Math.round(value * 100);
+		StringBuilder formatted = new StringBuilder();
+		if (hundredths < 0) {
+			formatted.append('-');
+			hundredths = -hundredths;
+		}
+		formatted.append(hundredths / 100);
+		long fraction = hundredths % 100;
+		if (fraction != 0) {
+			formatted.append('.').append(fraction / 10);
+			if (fraction % 10 != 0) {
+				formatted.append(fraction % 10);
+			}
+		}
+		return formatted.toString();
+	}
+
+}
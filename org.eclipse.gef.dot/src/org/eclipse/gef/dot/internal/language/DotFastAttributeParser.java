@@ -0,0 +1,561 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.dot.internal.language;
+
+import org.eclipse.gef.dot.internal.language.arrowtype.AbstractArrowShape;
+import org.eclipse.gef.dot.internal.language.arrowtype.ArrowShape;
+import org.eclipse.gef.dot.internal.language.arrowtype.ArrowType;
+import org.eclipse.gef.dot.internal.language.arrowtype.ArrowtypeFactory;
+import org.eclipse.gef.dot.internal.language.arrowtype.DeprecatedArrowShape;
+import org.eclipse.gef.dot.internal.language.arrowtype.DeprecatedShape;
+import org.eclipse.gef.dot.internal.language.arrowtype.PrimitiveShape;
+import org.eclipse.gef.dot.internal.language.color.Color;
+import org.eclipse.gef.dot.internal.language.color.ColorFactory;
+import org.eclipse.gef.dot.internal.language.color.HSVColor;
+import org.eclipse.gef.dot.internal.language.color.RGBColor;
+import org.eclipse.gef.dot.internal.language.color.StringColor;
+import org.eclipse.gef.dot.internal.language.point.Point;
+import org.eclipse.gef.dot.internal.language.point.PointFactory;
+import org.eclipse.gef.dot.internal.language.rect.Rect;
+import org.eclipse.gef.dot.internal.language.rect.RectFactory;
+import org.eclipse.gef.dot.internal.language.splinetype.Spline;
+import org.eclipse.gef.dot.internal.language.splinetype.SplineType;
+import org.eclipse.gef.dot.internal.language.splinetype.SplinetypeFactory;
+import org.eclipse.gef.dot.internal.language.style.Style;
+import org.eclipse.gef.dot.internal.language.style.StyleFactory;
+import org.eclipse.gef.dot.internal.language.style.StyleItem;
+
+/**
+ * Hand-written parsers for the most frequently used DOT attribute
+ * sub-grammars (point, rect, splineType, color, style, and arrowType). They
+ * create the same EMF models as the respective Xtext parsers, but avoid the
+ * overhead of the generated lexers and parsers.
+ * <p>
+ * Only the common, well-formed notations are recognized. For any other input,
+ * including malformed values and hexadecimal numbers, <code>null</code> is
+ * returned, so that the caller can fall back to the Xtext parser, which also
+ * provides the diagnostics.
+ *
+ * @author mwienand
+ *
+ */
+public final class DotFastAttributeParser {
+
+	// the arrowtype keywords, longer keywords precede their prefixes
+	private static final String[] ARROWTYPE_KEYWORDS = { "invempty",
+			"halfopen", "ediamond", "diamond", "normal", "icurve", "empty",
+			"curve", "crow", "open", "none", "box", "dot", "inv", "tee", "vee",
+			"o", "l", "r" };
+
+	// the number of digits that can be converted into a double without loss
+	private static final int EXACT_DIGITS = 15;
+
+	/**
+	 * Parses the given arrowtype attribute value.
+	 *
+	 * @param text
+	 *            The attribute value to parse.
+	 * @return The {@link ArrowType}, or <code>null</code> if the value is not
+	 *         recognized.
+	 */
+	public static ArrowType parseArrowType(String text) {
+		if (text.isEmpty()) {
+			return null;
+		}
+		DotFastAttributeParser parser = new DotFastAttributeParser(text);
+		ArrowType arrowType = ArrowtypeFactory.eINSTANCE.createArrowType();
+		while (parser.index < text.length()) {
+			if (arrowType.getArrowShapes().size() == 4) {
+				return null;
+			}
+			AbstractArrowShape arrowShape = parser.arrowShape();
+			if (arrowShape == null) {
+				return null;
+			}
+			arrowType.getArrowShapes().add(arrowShape);
+		}
+		return arrowType;
+	}
+
+	/**
+	 * Parses the given color attribute value.
+	 *
+	 * @param text
+	 *            The attribute value to parse.
+	 * @return The {@link Color}, or <code>null</code> if the value is not
+	 *         recognized.
+	 */
+	public static Color parseColor(String text) {
+		DotFastAttributeParser parser = new DotFastAttributeParser(text);
+		parser.skipWhitespace();
+		if (parser.index == text.length()) {
+			return null;
+		}
+		char c = text.charAt(parser.index);
+		Color color;
+		if (c == '#') {
+			color = parser.rgbColor();
+		} else if (c == '.' || isDigit(c)) {
+			color = parser.hsvColor();
+		} else {
+			color = parser.stringColor();
+		}
+		return color != null && parser.atEnd() ? color : null;
+	}
+
+	/**
+	 * Parses the given point attribute value.
+	 *
+	 * @param text
+	 *            The attribute value to parse.
+	 * @return The {@link Point}, or <code>null</code> if the value is not
+	 *         recognized.
+	 */
+	public static Point parsePoint(String text) {
+		DotFastAttributeParser parser = new DotFastAttributeParser(text);
+		Point point = parser.point();
+		return point != null && parser.atEnd() ? point : null;
+	}
+
+	/**
+	 * Parses the given rect attribute value.
+	 *
+	 * @param text
+	 *            The attribute value to parse.
+	 * @return The {@link Rect}, or <code>null</code> if the value is not
+	 *         recognized.
+	 */
+	public static Rect parseRect(String text) {
+		DotFastAttributeParser parser = new DotFastAttributeParser(text);
+		double llx = parser.number();
+		if (Double.isNaN(llx) || !parser.consume(',')) {
+			return null;
+		}
+		double lly = parser.number();
+		if (Double.isNaN(lly) || !parser.consume(',')) {
+			return null;
+		}
+		double urx = parser.number();
+		if (Double.isNaN(urx) || !parser.consume(',')) {
+			return null;
+		}
+		double ury = parser.number();
+		if (Double.isNaN(ury) || !parser.atEnd()) {
+			return null;
+		}
+		Rect rect = RectFactory.eINSTANCE.createRect();
+		rect.setLlx(llx);
+		rect.setLly(lly);
+		rect.setUrx(urx);
+		rect.setUry(ury);
+		return rect;
+	}
+
+	/**
+	 * Parses the given splineType attribute value.
+	 *
+	 * @param text
+	 *            The attribute value to parse.
+	 * @return The {@link SplineType}, or <code>null</code> if the value is not
+	 *         recognized.
+	 */
+	public static SplineType parseSplineType(String text) {
+		DotFastAttributeParser parser = new DotFastAttributeParser(text);
+		SplineType splineType = SplinetypeFactory.eINSTANCE.createSplineType();
+		do {
+			Spline spline = parser.spline();
+			if (spline == null) {
+				return null;
+			}
+			splineType.getSplines().add(spline);
+		} while (parser.consume(';'));
+		return parser.atEnd() ? splineType : null;
+	}
+
+	/**
+	 * Parses the given style attribute value.
+	 *
+	 * @param text
+	 *            The attribute value to parse.
+	 * @return The {@link Style}, or <code>null</code> if the value is not
+	 *         recognized.
+	 */
+	public static Style parseStyle(String text) {
+		DotFastAttributeParser parser = new DotFastAttributeParser(text);
+		Style style = StyleFactory.eINSTANCE.createStyle();
+		do {
+			StyleItem styleItem = parser.styleItem();
+			if (styleItem == null) {
+				return null;
+			}
+			style.getStyleItems().add(styleItem);
+		} while (parser.consume(','));
+		return parser.atEnd() ? style : null;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isHexDigit(char c) {
+		return isDigit(c) || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+	}
+
+	private static boolean isLetter(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+	}
+
+	private final String text;
+
+	private int index;
+
+	private DotFastAttributeParser(String text) {
+		this.text = text;
+	}
+
+	private AbstractArrowShape arrowShape() {
+		String keyword = keyword();
+		DeprecatedShape deprecatedShape = keyword == null ? null
+				: DeprecatedShape.get(keyword);
+		if (deprecatedShape != null) {
+			DeprecatedArrowShape arrowShape = ArrowtypeFactory.eINSTANCE
+					.createDeprecatedArrowShape();
+			arrowShape.setShape(deprecatedShape);
+			return arrowShape;
+		}
+		ArrowShape arrowShape = ArrowtypeFactory.eINSTANCE.createArrowShape();
+		if ("o".equals(keyword)) {
+			arrowShape.setOpen(true);
+			keyword = keyword();
+		}
+		if ("l".equals(keyword) || "r".equals(keyword)) {
+			arrowShape.setSide(keyword);
+			keyword = keyword();
+		}
+		PrimitiveShape shape = keyword == null ? null
+				: PrimitiveShape.get(keyword);
+		if (shape == null) {
+			return null;
+		}
+		arrowShape.setShape(shape);
+		return arrowShape;
+	}
+
+	private boolean atEnd() {
+		skipWhitespace();
+		return index == text.length();
+	}
+
+	/**
+	 * Parses a color number that contains a decimal point, i.e. one that
+	 * cannot be confused with a color name or hexadecimal digit.
+	 */
+	private String colorNumber() {
+		skipWhitespace();
+		int start = index;
+		if (index < text.length()
+				&& (text.charAt(index) == '0' || text.charAt(index) == '1')) {
+			index++;
+		}
+		if (index == text.length() || text.charAt(index) != '.') {
+			return null;
+		}
+		index++;
+		int digits = index;
+		while (index < text.length() && isDigit(text.charAt(index))) {
+			index++;
+		}
+		if (index == digits || !isDelimiter(",")) {
+			return null;
+		}
+		return text.substring(start, index);
+	}
+
+	private boolean consume(char c) {
+		skipWhitespace();
+		if (index < text.length() && text.charAt(index) == c) {
+			index++;
+			return true;
+		}
+		return false;
+	}
+
+	private HSVColor hsvColor() {
+		String h = colorNumber();
+		if (h == null) {
+			return null;
+		}
+		consume(',');
+		String s = colorNumber();
+		if (s == null) {
+			return null;
+		}
+		consume(',');
+		String v = colorNumber();
+		if (v == null) {
+			return null;
+		}
+		HSVColor color = ColorFactory.eINSTANCE.createHSVColor();
+		color.setH(h);
+		color.setS(s);
+		color.setV(v);
+		return color;
+	}
+
+	/**
+	 * Tests whether the current position ends a token, i.e. whether it is
+	 * followed by whitespace, one of the given delimiters, or the end of the
+	 * text.
+	 */
+	private boolean isDelimiter(String delimiters) {
+		if (index == text.length()) {
+			return true;
+		}
+		char c = text.charAt(index);
+		return isWhitespace(c) || delimiters.indexOf(c) >= 0;
+	}
+
+	private String keyword() {
+		for (String keyword : ARROWTYPE_KEYWORDS) {
+			if (text.startsWith(keyword, index)) {
+				index += keyword.length();
+				return keyword;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Parses a decimal DOUBLE terminal. Returns {@link Double#NaN}, which is
+	 * not a valid DOUBLE, if the next token is not a decimal number.
+	 */
+	private double number() {
+		skipWhitespace();
+		int start = index;
+		boolean negative = index < text.length() && text.charAt(index) == '-';
+		if (negative) {
+			index++;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		while (index < text.length() && isDigit(text.charAt(index))) {
+			mantissa = 10 * mantissa + text.charAt(index) - '0';
+			digits++;
+			index++;
+		}
+		boolean integral = true;
+		if (index < text.length() && text.charAt(index) == '.') {
+			index++;
+			int fraction = index;
+			while (index < text.length() && isDigit(text.charAt(index))) {
+				index++;
+			}
+			if (digits == 0 && index == fraction) {
+				return Double.NaN;
+			}
+			integral = false;
+		} else if (digits == 0) {
+			return Double.NaN;
+		}
+		if (index < text.length()
+				&& (text.charAt(index) == 'e' || text.charAt(index) == 'E')) {
+			index++;
+			if (index < text.length() && (text.charAt(index) == '+'
+					|| text.charAt(index) == '-')) {
+				index++;
+			}
+			int exponent = index;
+			while (index < text.length() && isDigit(text.charAt(index))) {
+				index++;
+			}
+			if (index == exponent) {
+				return Double.NaN;
+			}
+			integral = false;
+		}
+		if (!isDelimiter(",!;")) {
+			// e.g. hexadecimal numbers are left to the grammar parser
+			return Double.NaN;
+		}
+		if (integral && digits <= EXACT_DIGITS) {
+			return negative ? -(double) mantissa : (double) mantissa;
+		}
+		return Double.parseDouble(text.substring(start, index));
+	}
+
+	private Point point() {
+		double x = number();
+		if (Double.isNaN(x) || !consume(',')) {
+			return null;
+		}
+		double y = number();
+		if (Double.isNaN(y)) {
+			return null;
+		}
+		Point point = PointFactory.eINSTANCE.createPoint();
+		point.setX(x);
+		point.setY(y);
+		if (consume(',')) {
+			double z = number();
+			if (Double.isNaN(z)) {
+				return null;
+			}
+			point.setZ(z);
+		}
+		if (consume('!')) {
+			point.setInputOnly(true);
+		}
+		return point;
+	}
+
+	private RGBColor rgbColor() {
+		// the hexadecimal digits are expected without interleaved whitespace
+		int start = ++index;
+		while (index < text.length() && isHexDigit(text.charAt(index))) {
+			index++;
+		}
+		int digits = index - start;
+		if (digits != 6 && digits != 8) {
+			return null;
+		}
+		RGBColor color = ColorFactory.eINSTANCE.createRGBColor();
+		color.setR(text.substring(start, start + 2));
+		color.setG(text.substring(start + 2, start + 4));
+		color.setB(text.substring(start + 4, start + 6));
+		if (digits == 8) {
+			color.setA(text.substring(start + 6, start + 8));
+		}
+		return color;
+	}
+
+	private void skipWhitespace() {
+		while (index < text.length() && isWhitespace(text.charAt(index))) {
+			index++;
+		}
+	}
+
+	private Spline spline() {
+		Spline spline = SplinetypeFactory.eINSTANCE.createSpline();
+		if (consume('s')) {
+			Point startp = consume(',') ? point() : null;
+			if (startp == null) {
+				return null;
+			}
+			spline.setStartp(startp);
+		}
+		if (consume('e')) {
+			Point endp = consume(',') ? point() : null;
+			if (endp == null) {
+				return null;
+			}
+			spline.setEndp(endp);
+		}
+		while (startsNumber()) {
+			Point controlPoint = point();
+			if (controlPoint == null) {
+				return null;
+			}
+			spline.getControlPoints().add(controlPoint);
+		}
+		int count = spline.getControlPoints().size();
+		return count >= 4 && count % 3 == 1 ? spline : null;
+	}
+
+	private boolean startsNumber() {
+		skipWhitespace();
+		if (index == text.length()) {
+			return false;
+		}
+		char c = text.charAt(index);
+		return c == '-' || c == '.' || isDigit(c);
+	}
+
+	private StringColor stringColor() {
+		String scheme = null;
+		if (consume('/')) {
+			skipWhitespace();
+			if (index < text.length() && text.charAt(index) != '/') {
+				scheme = word();
+				// single hexadecimal digits are not lexed as scheme names
+				if (scheme == null || scheme.length() < 2) {
+					return null;
+				}
+			}
+			if (!consume('/')) {
+				return null;
+			}
+		}
+		String name = word();
+		if (name == null) {
+			return null;
+		}
+		StringColor color = ColorFactory.eINSTANCE.createStringColor();
+		color.setScheme(scheme);
+		color.setName(name);
+		return color;
+	}
+
+	private StyleItem styleItem() {
+		String name = styleName();
+		if (name == null) {
+			return null;
+		}
+		StyleItem styleItem = StyleFactory.eINSTANCE.createStyleItem();
+		styleItem.setName(name);
+		if (consume('(')) {
+			do {
+				String arg = styleName();
+				if (arg == null) {
+					return null;
+				}
+				styleItem.getArgs().add(arg);
+			} while (consume(','));
+			if (!consume(')')) {
+				return null;
+			}
+		}
+		return styleItem;
+	}
+
+	private String styleName() {
+		skipWhitespace();
+		int start = index;
+		while (index < text.length() && !isDelimiter(",()")) {
+			index++;
+		}
+		return index == start ? null : text.substring(start, index);
+	}
+
+	/**
+	 * Parses a color name or scheme that starts with a letter, so that it
+	 * cannot be confused with a color number.
+	 */
+	private String word() {
+		skipWhitespace();
+		int start = index;
+		if (index == text.length() || !isLetter(text.charAt(index))) {
+			return null;
+		}
+		while (index < text.length() && (isLetter(text.charAt(index))
+				|| isDigit(text.charAt(index)))) {
+			index++;
+		}
+		return text.substring(start, index);
+	}
+
+}
@@ -0,0 +1,648 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.dot.internal.language;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.eclipse.gef.dot.internal.language.dot.AttrList;
+import org.eclipse.gef.dot.internal.language.dot.AttrStmt;
+import org.eclipse.gef.dot.internal.language.dot.Attribute;
+import org.eclipse.gef.dot.internal.language.dot.AttributeType;
+import org.eclipse.gef.dot.internal.language.dot.DotFactory;
+import org.eclipse.gef.dot.internal.language.dot.DotGraph;
+import org.eclipse.gef.dot.internal.language.dot.EdgeOp;
+import org.eclipse.gef.dot.internal.language.dot.EdgeRhs;
+import org.eclipse.gef.dot.internal.language.dot.EdgeRhsNode;
+import org.eclipse.gef.dot.internal.language.dot.EdgeRhsSubgraph;
+import org.eclipse.gef.dot.internal.language.dot.EdgeStmtNode;
+import org.eclipse.gef.dot.internal.language.dot.EdgeStmtSubgraph;
+import org.eclipse.gef.dot.internal.language.dot.GraphType;
+import org.eclipse.gef.dot.internal.language.dot.NodeId;
+import org.eclipse.gef.dot.internal.language.dot.NodeStmt;
+import org.eclipse.gef.dot.internal.language.dot.Port;
+import org.eclipse.gef.dot.internal.language.dot.Stmt;
+import org.eclipse.gef.dot.internal.language.dot.Subgraph;
+import org.eclipse.gef.dot.internal.language.terminals.ID;
+
+/**
+ * A hand-written parser for the DOT grammar, which reads its input from a
+ * {@link Reader} and reports the parsed statements to an {@link IHandler} one
+ * by one. In contrast to the Xtext parser, neither the input nor a node model
+ * or a complete {@link DotFactory DOT AST} are retained, so that the memory
+ * needed for parsing does not depend on the size of the input.
+ * <p>
+ * Each statement is reported as a detached {@link Stmt}, which is not
+ * contained in a {@link DotGraph} or {@link Subgraph}. The statements of graphs
+ * and subgraphs are reported between the respective start and end
+ * notifications instead. Subgraphs that are used as the target of an edge are
+ * not reported (neither are their statements), and the {@link EdgeRhsSubgraph}
+ * only refers to a detached {@link Subgraph} providing the name. A subgraph can
+ * only be identified as the source of an edge after it has been parsed
+ * completely, so that it is reported like any other subgraph, and the
+ * subsequent {@link EdgeStmtSubgraph} refers to the very {@link Subgraph} that
+ * has been passed to {@link IHandler#startSubgraph(Subgraph)}. A handler that
+ * does not support edges from subgraphs may thus retract the subgraph when it
+ * is notified about the {@link EdgeStmtSubgraph}.
+ * <p>
+ * Parsing stops at the first syntax error, which is reported by means of a
+ * {@link DotSyntaxException} providing the line and column.
+ *
+ * @author mwienand
+ *
+ */
+public final class DotStreamParser {
+
+	/**
+	 * A handler that is notified about the structure of the parsed DOT input.
+	 */
+	public interface IHandler {
+
+		/**
+		 * Called when the body of a graph starts.
+		 *
+		 * @param graph
+		 *            The {@link DotGraph}, which provides the type, name, and
+		 *            strictness, but does not contain any statements.
+		 */
+		void startGraph(DotGraph graph);
+
+		/**
+		 * Called when the body of the current graph ends.
+		 */
+		void endGraph();
+
+		/**
+		 * Called when the body of a subgraph starts.
+		 *
+		 * @param subgraph
+		 *            The {@link Subgraph}, which provides the name, but does
+		 *            not contain any statements.
+		 */
+		void startSubgraph(Subgraph subgraph);
+
+		/**
+		 * Called when the body of the current subgraph ends.
+		 */
+		void endSubgraph();
+
+		/**
+		 * Called for each statement of the current graph or subgraph, except
+		 * for the subgraphs themselves. An {@link EdgeStmtSubgraph} directly
+		 * follows the end of its source subgraph.
+		 *
+		 * @param stmt
+		 *            The {@link NodeStmt}, {@link EdgeStmtNode},
+		 *            {@link EdgeStmtSubgraph}, {@link AttrStmt}, or
+		 *            {@link Attribute}.
+		 */
+		void statement(Stmt stmt);
+	}
+
+	/**
+	 * The exception that is thrown for syntax errors in the DOT input.
+	 */
+	public static final class DotSyntaxException
+			extends IllegalArgumentException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int line;
+		private final int column;
+
+		private DotSyntaxException(String message, int line, int column) {
+			super("Given DOT input is not valid: line " + line + ", column "
+					+ column + ": " + message);
+			this.line = line;
+			this.column = column;
+		}
+
+		/**
+		 * Returns the (1-based) column of the syntax error.
+		 *
+		 * @return The column of the syntax error.
+		 */
+		public int getColumn() {
+			return column;
+		}
+
+		/**
+		 * Returns the (1-based) line of the syntax error.
+		 *
+		 * @return The line of the syntax error.
+		 */
+		public int getLine() {
+			return line;
+		}
+	}
+
+	// the token kinds, IDs are further distinguished by their ID.Type
+	private static final int EOF = 0;
+	private static final int ID_TOKEN = 1;
+	private static final int STRICT = 2;
+	private static final int GRAPH = 3;
+	private static final int DIGRAPH = 4;
+	private static final int SUBGRAPH = 5;
+	private static final int NODE = 6;
+	private static final int EDGE = 7;
+	private static final int EDGE_OP = 8;
+	private static final int PUNCTUATION = 9;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final Reader reader;
+	private final char[] buffer = new char[BUFFER_SIZE];
+	private int position;
+	private int limit;
+
+	// the position of the next character
+	private int line = 1;
+	private int column = 1;
+
+	// the current token
+	private int kind;
+	private ID.Type idType;
+	private final StringBuilder text = new StringBuilder();
+	private int tokenLine;
+	private int tokenColumn;
+
+	private IHandler handler;
+
+	/**
+	 * Constructs a new {@link DotStreamParser} for the given {@link Reader}.
+	 * The {@link Reader} is not closed by the parser.
+	 *
+	 * @param reader
+	 *            The {@link Reader} providing the DOT input.
+	 */
+	public DotStreamParser(Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Parses the complete input and reports it to the given {@link IHandler}.
+	 *
+	 * @param handler
+	 *            The {@link IHandler} to notify.
+	 * @throws DotSyntaxException
+	 *             If the input is not a valid DOT input.
+	 * @throws UncheckedIOException
+	 *             If the input cannot be read.
+	 */
+	public void parse(IHandler handler) {
+		this.handler = handler;
+		next();
+		while (kind != EOF) {
+			graph();
+		}
+	}
+
+	private void graph() {
+		DotGraph graph = DotFactory.eINSTANCE.createDotGraph();
+		if (kind == STRICT) {
+			graph.setStrict(true);
+			next();
+		}
+		if (kind == GRAPH) {
+			graph.setType(GraphType.GRAPH);
+		} else if (kind == DIGRAPH) {
+			graph.setType(GraphType.DIGRAPH);
+		} else {
+			throw error("expected 'graph' or 'digraph'");
+		}
+		next();
+		if (kind == ID_TOKEN) {
+			graph.setName(id());
+		}
+		expect("{");
+		handler.startGraph(graph);
+		statements(true);
+		handler.endGraph();
+	}
+
+	private void statements(boolean report) {
+		while (!isPunctuation("}")) {
+			Stmt stmt = statement(report);
+			if (report && stmt != null) {
+				handler.statement(stmt);
+			}
+			if (isPunctuation(";")) {
+				next();
+			}
+		}
+		next();
+	}
+
+	private Stmt statement(boolean report) {
+		if (kind == GRAPH || kind == NODE || kind == EDGE) {
+			AttrStmt attrStmt = DotFactory.eINSTANCE.createAttrStmt();
+			attrStmt.setType(kind == GRAPH ? AttributeType.GRAPH
+					: kind == NODE ? AttributeType.NODE : AttributeType.EDGE);
+			next();
+			if (!isPunctuation("[")) {
+				throw error("expected '['");
+			}
+			attrLists(attrStmt.getAttrLists());
+			return attrStmt;
+		}
+		if (kind == SUBGRAPH || isPunctuation("{")) {
+			Subgraph subgraph = subgraph(report);
+			if (kind != EDGE_OP) {
+				return null;
+			}
+			EdgeStmtSubgraph edgeStmt = DotFactory.eINSTANCE
+					.createEdgeStmtSubgraph();
+			edgeStmt.setSubgraph(subgraph);
+			edgeRhs(edgeStmt.getEdgeRHS());
+			attrLists(edgeStmt.getAttrLists());
+			return edgeStmt;
+		}
+		if (kind != ID_TOKEN) {
+			throw error("expected a statement");
+		}
+
+		ID name = id();
+		if (isPunctuation("=")) {
+			next();
+			return attribute(name);
+		}
+		NodeId nodeId = nodeId(name);
+		if (kind == EDGE_OP) {
+			EdgeStmtNode edgeStmt = DotFactory.eINSTANCE.createEdgeStmtNode();
+			edgeStmt.setNode(nodeId);
+			edgeRhs(edgeStmt.getEdgeRHS());
+			attrLists(edgeStmt.getAttrLists());
+			return edgeStmt;
+		}
+		NodeStmt nodeStmt = DotFactory.eINSTANCE.createNodeStmt();
+		nodeStmt.setNode(nodeId);
+		attrLists(nodeStmt.getAttrLists());
+		return nodeStmt;
+	}
+
+	private Subgraph subgraph(boolean report) {
+		Subgraph subgraph = DotFactory.eINSTANCE.createSubgraph();
+		if (kind == SUBGRAPH) {
+			next();
+			if (kind == ID_TOKEN) {
+				subgraph.setName(id());
+			}
+		}
+		expect("{");
+		if (report) {
+			handler.startSubgraph(subgraph);
+		}
+		statements(report);
+		if (report) {
+			handler.endSubgraph();
+		}
+		return subgraph;
+	}
+
+	private void edgeRhs(List<EdgeRhs> edgeRhs) {
+		while (kind == EDGE_OP) {
+			EdgeOp op = "->".equals(text.toString()) ? EdgeOp.DIRECTED
+					: EdgeOp.UNDIRECTED;
+			next();
+			if (kind == SUBGRAPH || isPunctuation("{")) {
+				EdgeRhsSubgraph rhs = DotFactory.eINSTANCE
+						.createEdgeRhsSubgraph();
+				rhs.setOp(op);
+				rhs.setSubgraph(subgraph(false));
+				edgeRhs.add(rhs);
+			} else if (kind == ID_TOKEN) {
+				EdgeRhsNode rhs = DotFactory.eINSTANCE.createEdgeRhsNode();
+				rhs.setOp(op);
+				rhs.setNode(nodeId(id()));
+				edgeRhs.add(rhs);
+			} else {
+				throw error("expected a node or subgraph");
+			}
+		}
+	}
+
+	private NodeId nodeId(ID name) {
+		NodeId nodeId = DotFactory.eINSTANCE.createNodeId();
+		nodeId.setName(name);
+		if (isPunctuation(":")) {
+			next();
+			if (kind != ID_TOKEN) {
+				throw error("expected a port");
+			}
+			Port port = DotFactory.eINSTANCE.createPort();
+			// like the syntactic predicate of the grammar, a compass point
+			// always completes the port
+			if (isCompassPoint()) {
+				port.setCompass_pt(id().toString());
+			} else {
+				port.setName(id());
+				if (isPunctuation(":")) {
+					next();
+					if (kind != ID_TOKEN || !isCompassPoint()) {
+						throw error("expected a compass point");
+					}
+					port.setCompass_pt(id().toString());
+				}
+			}
+			nodeId.setPort(port);
+		}
+		return nodeId;
+	}
+
+	private void attrLists(List<AttrList> attrLists) {
+		while (isPunctuation("[")) {
+			next();
+			AttrList attrList = DotFactory.eINSTANCE.createAttrList();
+			while (!isPunctuation("]")) {
+				if (kind != ID_TOKEN) {
+					throw error("expected an attribute");
+				}
+				ID name = id();
+				expect("=");
+				attrList.getAttributes().add(attribute(name));
+				if (isPunctuation(",") || isPunctuation(";")) {
+					next();
+				}
+			}
+			next();
+			attrLists.add(attrList);
+		}
+	}
+
+	private Attribute attribute(ID name) {
+		if (kind != ID_TOKEN) {
+			throw error("expected an attribute value");
+		}
+		Attribute attribute = DotFactory.eINSTANCE.createAttribute();
+		attribute.setName(name);
+		attribute.setValue(id());
+		return attribute;
+	}
+
+	private ID id() {
+		ID id = ID.fromString(text.toString(), idType);
+		next();
+		return id;
+	}
+
+	private void expect(String punctuation) {
+		if (!isPunctuation(punctuation)) {
+			throw error("expected '" + punctuation + "'");
+		}
+		next();
+	}
+
+	private boolean isCompassPoint() {
+		if (idType != ID.Type.STRING) {
+			return false;
+		}
+		switch (text.toString()) {
+		case "n":
+		case "ne":
+		case "e":
+		case "se":
+		case "s":
+		case "sw":
+		case "w":
+		case "nw":
+		case "c":
+		case "_":
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	private boolean isPunctuation(String punctuation) {
+		return kind == PUNCTUATION && punctuation.contentEquals(text);
+	}
+
+	private DotSyntaxException error(String message) {
+		String found = kind == EOF ? "end of input" : "'" + text + "'";
+		return new DotSyntaxException(message + " but found " + found,
+				tokenLine, tokenColumn);
+	}
+
+	/*
+	 * The lexer follows the terminal rules of the DOT grammar (and its custom
+	 * lexer), i.e. keywords are case insensitive, and compass points are
+	 * reported as STRING IDs.
+	 */
+
+	private void next() {
+		skipWhitespaceAndComments();
+		text.setLength(0);
+		tokenLine = line;
+		tokenColumn = column;
+		int c = peek(0);
+		if (c < 0) {
+			kind = EOF;
+		} else if (isStringStart(c)) {
+			while (isStringPart(peek(0))) {
+				text.append(read());
+			}
+			kind = keyword(text.toString());
+			idType = ID.Type.STRING;
+		} else if (c == '"') {
+			quotedString();
+		} else if (c == '<') {
+			htmlString();
+		} else if (c == '-' && (peek(1) == '>' || peek(1) == '-')) {
+			text.append(read()).append(read());
+			kind = EDGE_OP;
+		} else if (c == '-' && peek(1) == '.' || c == '.' || isDigit(c)) {
+			numeral();
+		} else if ("{}[]=;,:".indexOf(c) >= 0) {
+			text.append(read());
+			kind = PUNCTUATION;
+		} else {
+			text.append((char) c);
+			throw new DotSyntaxException("unexpected character '" + text + "'",
+					tokenLine, tokenColumn);
+		}
+	}
+
+	private void numeral() {
+		// a sign is only allowed for numerals without an integer part
+		if (peek(0) == '-') {
+			text.append(read());
+		}
+		if (peek(0) == '.') {
+			text.append(read());
+			if (!isDigit(peek(0))) {
+				throw new DotSyntaxException("malformed number '" + text + "'",
+						tokenLine, tokenColumn);
+			}
+			while (isDigit(peek(0))) {
+				text.append(read());
+			}
+		} else if (isDigit(peek(0))) {
+			while (isDigit(peek(0))) {
+				text.append(read());
+			}
+			if (peek(0) == '.') {
+				text.append(read());
+				while (isDigit(peek(0))) {
+					text.append(read());
+				}
+			}
+		} else {
+			throw new DotSyntaxException("malformed number '" + text + "'",
+					tokenLine, tokenColumn);
+		}
+		kind = ID_TOKEN;
+		idType = ID.Type.NUMERAL;
+	}
+
+	private void quotedString() {
+		text.append(read());
+		while (true) {
+			int c = peek(0);
+			if (c < 0) {
+				throw new DotSyntaxException("unterminated quoted string",
+						tokenLine, tokenColumn);
+			}
+			text.append(read());
+			if (c == '"') {
+				break;
+			}
+			if (c == '\\' && peek(0) == '"') {
+				text.append(read());
+			}
+		}
+		kind = ID_TOKEN;
+		idType = ID.Type.QUOTED_STRING;
+	}
+
+	private void htmlString() {
+		int depth = 0;
+		while (true) {
+			int c = peek(0);
+			if (c < 0) {
+				throw new DotSyntaxException("unterminated HTML string",
+						tokenLine, tokenColumn);
+			}
+			text.append(read());
+			if (c == '<') {
+				depth++;
+			} else if (c == '>' && --depth == 0) {
+				break;
+			}
+		}
+		kind = ID_TOKEN;
+		idType = ID.Type.HTML_STRING;
+	}
+
+	private void skipWhitespaceAndComments() {
+		while (true) {
+			int c = peek(0);
+			if (c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\f') {
+				read();
+			} else if (c == '#' || c == '/' && peek(1) == '/') {
+				while (peek(0) >= 0 && peek(0) != '\n' && peek(0) != '\r') {
+					read();
+				}
+			} else if (c == '/' && peek(1) == '*') {
+				int commentLine = line, commentColumn = column;
+				read();
+				read();
+				while (!(peek(0) == '*' && peek(1) == '/')) {
+					if (peek(0) < 0) {
+						throw new DotSyntaxException("unterminated comment",
+								commentLine, commentColumn);
+					}
+					read();
+				}
+				read();
+				read();
+			} else {
+				return;
+			}
+		}
+	}
+
+	private static int keyword(String text) {
+		if ("graph".equalsIgnoreCase(text)) {
+			return GRAPH;
+		} else if ("digraph".equalsIgnoreCase(text)) {
+			return DIGRAPH;
+		} else if ("subgraph".equalsIgnoreCase(text)) {
+			return SUBGRAPH;
+		} else if ("node".equalsIgnoreCase(text)) {
+			return NODE;
+		} else if ("edge".equalsIgnoreCase(text)) {
+			return EDGE;
+		} else if ("strict".equalsIgnoreCase(text)) {
+			return STRICT;
+		}
+		return ID_TOKEN;
+	}
+
+	private static boolean isDigit(int c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isStringStart(int c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z'
+				|| c >= '\u0080' && c <= '\u00FF' || c == '_';
+	}
+
+	private static boolean isStringPart(int c) {
+		return isStringStart(c) || isDigit(c);
+	}
+
+	/**
+	 * Returns the character at the given offset from the current position
+	 * without consuming it, or <code>-1</code> at the end of the input.
+	 */
+	private int peek(int offset) {
+		if (position + offset >= limit) {
+			fill(offset + 1);
+		}
+		return position + offset < limit ? buffer[position + offset] : -1;
+	}
+
+	private char read() {
+		char c = (char) peek(0);
+		position++;
+		// a line break is either "\n", "\r\n", or a single "\r"
+		if (c == '\n' || c == '\r' && peek(0) != '\n') {
+			line++;
+			column = 1;
+		} else {
+			column++;
+		}
+		return c;
+	}
+
+	private void fill(int count) {
+		System.arraycopy(buffer, position, buffer, 0, limit - position);
+		limit -= position;
+		position = 0;
+		try {
+			while (limit < count) {
+				int read = reader.read(buffer, limit, buffer.length - limit);
+				if (read < 0) {
+					return;
+				}
+				limit += read;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
@@ -29,15 +29,17 @@ public class DotColorValidator extends AbstractDotColorValidator {
 	/**
 	 * Represents the color scheme that is defined in the DOT ast. If this color
 	 * scheme is not defined, the default color scheme should be used in the
-	 * validation.
+	 * validation. The state is kept per thread, as attribute values may be
+	 * validated in parallel.
 	 */
-	static String globalColorScheme = null;
+	static final ThreadLocal<String> globalColorScheme = new ThreadLocal<>();
 
 	// TODO: eliminate this field and find a clear solution how to check if the
 	// used color corresponds to the default color scheme or to the globally
 	// defined color scheme. This issue is related to validation calls coming
 	// from either the DotJavaValidator or from the DotImport.
-	static boolean considerDefaultColorScheme = false;
+	static final ThreadLocal<Boolean> considerDefaultColorScheme = ThreadLocal
+			.withInitial(() -> Boolean.FALSE);
 
 	private final String defaultColorScheme = "x11";
 
@@ -54,7 +56,7 @@ public class DotColorValidator extends AbstractDotColorValidator {
 		String colorScheme = null;
 
 		// start with the default color scheme if desired
-		if (considerDefaultColorScheme) {
+		if (considerDefaultColorScheme.get()) {
 			colorScheme = defaultColorScheme;
 		}
 
@@ -69,8 +71,8 @@ public class DotColorValidator extends AbstractDotColorValidator {
 				return;
 			}
 			colorScheme = localColorScheme;
-		} else if (globalColorScheme != null) {
-			colorScheme = globalColorScheme;
+		} else if (globalColorScheme.get() != null) {
+			colorScheme = globalColorScheme.get();
 		}
 
 		if (colorScheme == null) {
@@ -13,12 +13,19 @@
 package org.eclipse.gef.dot.internal.language.validation;
 
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.EList;
@@ -31,6 +38,7 @@ import org.eclipse.gef.dot.internal.language.DotRecordLabelStandaloneSetup;
 import org.eclipse.gef.dot.internal.language.dot.AttrList;
 import org.eclipse.gef.dot.internal.language.dot.AttrStmt;
 import org.eclipse.gef.dot.internal.language.dot.Attribute;
+import org.eclipse.gef.dot.internal.language.dot.DotAst;
 import org.eclipse.gef.dot.internal.language.dot.DotGraph;
 import org.eclipse.gef.dot.internal.language.dot.DotPackage;
 import org.eclipse.gef.dot.internal.language.dot.EdgeOp;
@@ -75,6 +83,115 @@ public class DotValidator extends AbstractDotValidator {
 	 */
 	public static final String REDUNDANT_ATTRIBUTE = "redundant-attribute";
 
+	/**
+	 * The maximum number of attribute value validation results that are
+	 * cached.
+	 */
+	private static final int CACHE_SIZE = 4096;
+
+	/**
+	 * A hook that is notified about the validation of attribute values, e.g.
+	 * to benchmark the validation.
+	 */
+	public interface IAttributeValidationListener {
+
+		/**
+		 * Called after an attribute value was validated.
+		 *
+		 * @param attributeName
+		 *            The name of the validated attribute.
+		 * @param nanos
+		 *            The time (in nanoseconds) spent for the validation.
+		 * @param cached
+		 *            <code>true</code> if a cached validation result was
+		 *            used, otherwise <code>false</code>.
+		 */
+		void attributeValidated(String attributeName, long nanos,
+				boolean cached);
+	}
+
+	private static volatile IAttributeValidationListener attributeValidationListener = null;
+
+	private static volatile Executor validationExecutor = null;
+
+	private static Injector recordLabelInjector = null;
+
+	// the validation results only depend on the key (and not on the position
+	// of the attribute), so that they can be shared; the least recently used
+	// results are evicted first
+	private static final Map<List<Object>, List<Diagnostic>> attributeValueDiagnostics = new LinkedHashMap<List<Object>, List<Diagnostic>>(
+			16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(
+				Map.Entry<List<Object>, List<Diagnostic>> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Sets the {@link IAttributeValidationListener} that is notified about
+	 * the validation of attribute values.
+	 *
+	 * @param listener
+	 *            The {@link IAttributeValidationListener} to notify, or
+	 *            <code>null</code>.
+	 */
+	public static void setAttributeValidationListener(
+			IAttributeValidationListener listener) {
+		attributeValidationListener = listener;
+	}
+
+	/**
+	 * Sets the {@link Executor} that is used to validate the attribute values
+	 * of a {@link DotAst} in parallel, before its elements are validated
+	 * one-by-one. By default (<code>null</code>), attribute values are
+	 * validated sequentially.
+	 *
+	 * @param executor
+	 *            The {@link Executor} to use, or <code>null</code>.
+	 */
+	public static void setValidationExecutor(Executor executor) {
+		validationExecutor = executor;
+	}
+
+	/**
+	 * Validates the values of all attributes of the given {@link DotAst} in
+	 * parallel (if a {@link #setValidationExecutor(Executor) validation
+	 * executor} is set), so that the subsequent
+	 * {@link #checkValidAttributeValue(Attribute)} calls only need to report
+	 * the cached results.
+	 *
+	 * @param dotAst
+	 *            The {@link DotAst} whose attribute values are to be validated.
+	 */
+	@Check
+	public void checkValidAttributeValues(DotAst dotAst) {
+		Executor executor = validationExecutor;
+		if (executor == null) {
+			return;
+		}
+
+		// the keys are determined up front, as the AST is not to be accessed
+		// concurrently
+		Set<List<Object>> keys = new LinkedHashSet<>();
+		for (Attribute attribute : EcoreUtil2.getAllContentsOfType(dotAst,
+				Attribute.class)) {
+			if (attribute.getName() != null && attribute.getValue() != null) {
+				keys.add(getAttributeValueKey(attribute));
+			}
+		}
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for (final List<Object> key : keys) {
+			futures.add(CompletableFuture.runAsync(
+					() -> validateAttributeValue(key), executor));
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+				.join();
+	}
+
 	/**
 	 * Checks that within an {@link Attribute} only valid attribute values are
 	 * used (dependent on context, in which the attribute is specified).
@@ -93,18 +210,8 @@ public class DotValidator extends AbstractDotValidator {
 			return;
 		}
 
-		// give the DotColorValidator the necessary 'global' information
-		DotColorValidator.considerDefaultColorScheme = true;
-		DotColorValidator.globalColorScheme = DotAstHelper
-				.getColorSchemeAttributeValue(attribute);
-
-		List<Diagnostic> diagnostics = DotAttributes.validateAttributeRawValue(
-				DotAttributes.getContext(attribute), attributeName,
-				attributeValue);
-
-		// reset the state of the DotColorValidator
-		DotColorValidator.globalColorScheme = null;
-		DotColorValidator.considerDefaultColorScheme = false;
+		List<Diagnostic> diagnostics = validateAttributeValue(
+				getAttributeValueKey(attribute));
 
 		List<INode> nodes = NodeModelUtils.findNodesForFeature(attribute,
 				DotPackage.Literals.ATTRIBUTE__VALUE);
@@ -296,8 +403,7 @@ public class DotValidator extends AbstractDotValidator {
 	}
 
 	private void doRecordLabelValidation(Attribute attribute) {
-		Injector recordLabelInjector = new DotRecordLabelStandaloneSetup()
-				.createInjectorAndDoEMFRegistration();
+		Injector recordLabelInjector = getRecordLabelInjector();
 		DotRecordLabelValidator validator = recordLabelInjector
 				.getInstance(DotRecordLabelValidator.class);
 		IParser parser = recordLabelInjector.getInstance(IParser.class);
@@ -351,4 +457,56 @@ public class DotValidator extends AbstractDotValidator {
 		}
 	}
 
+	private static synchronized Injector getRecordLabelInjector() {
+		// creating the injector is expensive, so it is only done once
+		if (recordLabelInjector == null) {
+			recordLabelInjector = new DotRecordLabelStandaloneSetup()
+					.createInjectorAndDoEMFRegistration();
+		}
+		return recordLabelInjector;
+	}
+
+	/*
+	 * The diagnostics of an attribute value depend on the context and name of
+	 * the attribute, the value, and the color scheme defined in the DOT ast.
+	 */
+	private List<Object> getAttributeValueKey(Attribute attribute) {
+		return Arrays.asList(DotAttributes.getContext(attribute),
+				attribute.getName().toValue(), attribute.getValue(),
+				DotAstHelper.getColorSchemeAttributeValue(attribute));
+	}
+
+	private List<Diagnostic> validateAttributeValue(List<Object> key) {
+		long start = System.nanoTime();
+		List<Diagnostic> diagnostics;
+		synchronized (attributeValueDiagnostics) {
+			diagnostics = attributeValueDiagnostics.get(key);
+		}
+		boolean cached = diagnostics != null;
+		if (!cached) {
+			// give the DotColorValidator the necessary 'global' information
+			DotColorValidator.considerDefaultColorScheme.set(true);
+			DotColorValidator.globalColorScheme.set((String) key.get(3));
+			try {
+				diagnostics = Collections.unmodifiableList(
+						DotAttributes.validateAttributeRawValue(
+								(Context) key.get(0), (String) key.get(1),
+								(ID) key.get(2)));
+			} finally {
+				// reset the state of the DotColorValidator
+				DotColorValidator.globalColorScheme.remove();
+				DotColorValidator.considerDefaultColorScheme.remove();
+			}
+			synchronized (attributeValueDiagnostics) {
+				attributeValueDiagnostics.put(key, diagnostics);
+			}
+		}
+		IAttributeValidationListener listener = attributeValidationListener;
+		if (listener != null) {
+			listener.attributeValidated((String) key.get(1),
+					System.nanoTime() - start, cached);
+		}
+		return diagnostics;
+	}
+
 }
@@ -18,8 +18,9 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ ConnectionTests.class, GeometryNodeTests.class, GeometryConversionTests.class,
-		OrthogonalProjectionStrategyTests.class, NodeUtilsTests.class, FXCanvasExTests.class, TraverseTests.class})
+@SuiteClasses({ ConnectionTests.class, ContentTileCacheTests.class, GeometryNodeTests.class, GeometryConversionTests.class,
+		OrthogonalProjectionStrategyTests.class, NodeUtilsTests.class, FXCanvasExTests.class, TransformChangeTrackerTests.class,
+		TraverseTests.class })
 public class AllTests {
 
 }
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.fx.internal.nodes.ContentTileCache;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.embed.swt.FXCanvas;
+import javafx.geometry.BoundingBox;
+import javafx.scene.Group;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Affine;
+
+public class ContentTileCacheTests {
+
+	private static class TestContentTileCache extends ContentTileCache {
+
+		public TestContentTileCache(Group contentGroup, Affine contentTransform, Pane viewport, int tileSize,
+				int maxTiles) {
+			super(contentGroup, contentTransform, viewport, tileSize, maxTiles);
+		}
+
+		@Override
+		public void update() {
+			super.update();
+		}
+	}
+
+	private static final int TILE_SIZE = 100;
+
+	private Shell shell;
+	private Pane viewport;
+	private Group contentGroup;
+	private Affine contentTransform;
+
+	private TestContentTileCache createCache(double viewportSize, int maxTiles) {
+		viewport.resize(viewportSize, viewportSize);
+		return new TestContentTileCache(contentGroup, contentTransform, viewport, TILE_SIZE, maxTiles);
+	}
+
+	@Before
+	public void setUp() {
+		// the JavaFX toolkit is initialized by the FXCanvas, which renders
+		// on the SWT UI thread
+		shell = new Shell(Display.getDefault());
+		new FXCanvas(shell, SWT.NONE);
+		contentGroup = new Group();
+		contentTransform = new Affine();
+		contentGroup.getTransforms().add(contentTransform);
+		viewport = new Pane();
+		viewport.getChildren().add(contentGroup);
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	@Test
+	public void automaticInvalidation() {
+		Rectangle rectangle = new Rectangle(10, 10, 20, 20);
+		rectangle.setFill(Color.RED);
+		contentGroup.getChildren().add(rectangle);
+		TestContentTileCache cache = createCache(150, 16);
+		cache.install();
+		cache.update();
+		assertEquals(4, cache.getTileCount());
+
+		// moving a node invalidates the tiles at its old and new location
+		rectangle.setX(110);
+		assertFalse(cache.hasTile(0, 0));
+		assertFalse(cache.hasTile(1, 0));
+		assertTrue(cache.hasTile(0, 1));
+		assertTrue(cache.hasTile(1, 1));
+		cache.update();
+		assertEquals(4, cache.getTileCount());
+
+		// adding a node (nested within a group) invalidates the tiles it
+		// intersects
+		Group group = new Group();
+		group.setLayoutX(100);
+		contentGroup.getChildren().add(group);
+		assertEquals(4, cache.getTileCount());
+		Rectangle nested = new Rectangle(10, 10, 5, 5);
+		group.getChildren().add(nested);
+		assertFalse(cache.hasTile(1, 0));
+		assertEquals(3, cache.getTileCount());
+		cache.update();
+
+		// moving the group invalidates the tiles of its old and new location
+		group.setLayoutX(0);
+		assertFalse(cache.hasTile(0, 0));
+		assertFalse(cache.hasTile(1, 0));
+		assertEquals(2, cache.getTileCount());
+		cache.update();
+
+		// hiding a node invalidates the tiles it intersects
+		nested.setVisible(false);
+		assertFalse(cache.hasTile(0, 0));
+		assertEquals(3, cache.getTileCount());
+		cache.update();
+
+		// removing a node invalidates the tiles it intersected
+		contentGroup.getChildren().remove(rectangle);
+		assertFalse(cache.hasTile(1, 0));
+		assertEquals(3, cache.getTileCount());
+		cache.update();
+
+		// removed nodes are no longer observed
+		rectangle.setX(10);
+		assertEquals(4, cache.getTileCount());
+		cache.uninstall();
+	}
+
+	@Test
+	public void installAndUninstall() {
+		contentGroup.setOpacity(0.5);
+		TestContentTileCache cache = createCache(150, 16);
+		cache.install();
+		// the tile group is rendered directly above the transparent content
+		assertEquals(0, contentGroup.getOpacity(), 0);
+		assertSame(cache.getTileGroup(), viewport.getChildren().get(viewport.getChildren().indexOf(contentGroup) + 1));
+		cache.update();
+		assertEquals(4, cache.getTileCount());
+		assertEquals(4, cache.getTileGroup().getChildren().size());
+		// the content is transparent again after rendering
+		assertEquals(0, contentGroup.getOpacity(), 0);
+
+		// uninstall restores the opacity and discards all tiles
+		cache.uninstall();
+		assertEquals(0.5, contentGroup.getOpacity(), 0);
+		assertFalse(viewport.getChildren().contains(cache.getTileGroup()));
+		assertEquals(0, cache.getTileCount());
+		assertEquals(0, cache.getTileGroup().getChildren().size());
+
+		// nothing is rendered or observed while uninstalled
+		cache.update();
+		assertEquals(0, cache.getTileCount());
+		contentGroup.getChildren().add(new Rectangle(10, 10, 20, 20));
+		assertEquals(0, cache.getTileCount());
+
+		// re-installing is possible
+		cache.install();
+		cache.update();
+		assertEquals(4, cache.getTileCount());
+		cache.uninstall();
+	}
+
+	@Test
+	public void invalidateBounds() {
+		TestContentTileCache cache = createCache(150, 16);
+		cache.install();
+		cache.update();
+		assertEquals(4, cache.getTileCount());
+
+		// bounds within a single tile
+		cache.invalidate(new BoundingBox(10, 10, 20, 20));
+		assertFalse(cache.hasTile(0, 0));
+		assertTrue(cache.hasTile(1, 0));
+		assertTrue(cache.hasTile(0, 1));
+		assertTrue(cache.hasTile(1, 1));
+		assertEquals(3, cache.getTileGroup().getChildren().size());
+
+		// invalidated tiles are re-rendered within the next update
+		cache.update();
+		assertTrue(cache.hasTile(0, 0));
+
+		// bounds that span multiple tiles
+		cache.invalidate(new BoundingBox(90, 50, 20, 20));
+		assertFalse(cache.hasTile(0, 0));
+		assertFalse(cache.hasTile(1, 0));
+		assertTrue(cache.hasTile(0, 1));
+		assertTrue(cache.hasTile(1, 1));
+
+		// bounds are transformed by the render transform
+		cache.update();
+		cache.uninstall();
+		contentTransform.setMxx(2);
+		contentTransform.setMyy(2);
+		cache.install();
+		cache.update();
+		cache.invalidate(new BoundingBox(60, 10, 10, 10));
+		assertTrue(cache.hasTile(0, 0));
+		assertFalse(cache.hasTile(1, 0));
+		cache.uninstall();
+	}
+
+	@Test
+	public void lruEviction() {
+		TestContentTileCache cache = createCache(150, 4);
+		cache.install();
+		cache.update();
+		assertEquals(4, cache.getTileCount());
+
+		// panning to the right renders the tiles of the third column, thereby
+		// evicting the (least recently used) tiles of the first column
+		contentTransform.setTx(-100);
+		cache.update();
+		assertEquals(4, cache.getTileCount());
+		assertEquals(4, cache.getTileGroup().getChildren().size());
+		assertFalse(cache.hasTile(0, 0));
+		assertFalse(cache.hasTile(0, 1));
+		assertTrue(cache.hasTile(1, 0));
+		assertTrue(cache.hasTile(1, 1));
+		assertTrue(cache.hasTile(2, 0));
+		assertTrue(cache.hasTile(2, 1));
+		cache.uninstall();
+	}
+
+	@Test
+	public void tileKeys() {
+		int[] values = new int[] { 0, 1, -1, 42, -42, Integer.MAX_VALUE, Integer.MIN_VALUE };
+		for (int col : values) {
+			for (int row : values) {
+				long key = ContentTileCache.getTileKey(col, row);
+				assertEquals(col, ContentTileCache.getTileColumn(key));
+				assertEquals(row, ContentTileCache.getTileRow(key));
+			}
+		}
+		// keys are unique (in particular for negative rows)
+		assertFalse(ContentTileCache.getTileKey(0, -1) == ContentTileCache.getTileKey(-1, -1));
+		assertFalse(ContentTileCache.getTileKey(1, 0) == ContentTileCache.getTileKey(0, 1));
+	}
+
+	@Test
+	public void visibleTiles() {
+		// tiles that only touch the visible area are not rendered
+		TestContentTileCache cache = createCache(200, 16);
+		cache.install();
+		cache.update();
+		assertEquals(4, cache.getTileCount());
+		assertFalse(cache.hasTile(2, 0));
+		assertFalse(cache.hasTile(0, 2));
+
+		// negative tile indices are used for contents in the negative
+		// coordinate space
+		contentTransform.setTx(50);
+		contentTransform.setTy(50);
+		cache.update();
+		assertTrue(cache.hasTile(-1, -1));
+		assertTrue(cache.hasTile(1, 1));
+		assertEquals(9, cache.getTileCount());
+		cache.uninstall();
+	}
+
+}
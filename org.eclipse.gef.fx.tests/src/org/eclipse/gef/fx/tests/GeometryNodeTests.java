@@ -16,6 +16,10 @@ package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.gef.fx.nodes.GeometryNode;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
@@ -29,6 +33,8 @@ import org.junit.Test;
 
 import javafx.geometry.Bounds;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.PathElement;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeType;
 
@@ -202,6 +208,41 @@ public class GeometryNodeTests {
 		assertEquals(50.0, n.getHeight(), 0);
 	}
 
+	/**
+	 * Ensures that the path elements are updated in-place (and not re-created)
+	 * when the geometry is relocated or resized.
+	 */
+	@Test
+	public void reusePathElementsOnRelocateAndResize() {
+		GeometryNode<Polyline> n = new GeometryNode<>(new Polyline(0, 0, 50, 50, 100, 0));
+		// stroke does not affect layout bounds, so geometry and layout coincide
+		n.setStrokeType(StrokeType.INSIDE);
+		List<PathElement> elements = new ArrayList<>(n.getPath().getElements());
+		assertEquals(3, elements.size());
+
+		// relocate does not change the local path
+		n.relocate(100, 200);
+		assertEquals(new Polyline(100, 200, 150, 250, 200, 200), n.getGeometry());
+		assertEquals(elements, n.getPath().getElements());
+		for (int i = 0; i < elements.size(); i++) {
+			assertSame(elements.get(i), n.getPath().getElements().get(i));
+		}
+
+		// resize updates the existing path elements
+		n.resize(200, 100);
+		assertEquals(new Polyline(100, 200, 200, 300, 300, 200), n.getGeometry());
+		for (int i = 0; i < elements.size(); i++) {
+			assertSame(elements.get(i), n.getPath().getElements().get(i));
+		}
+		assertEquals(200, ((LineTo) n.getPath().getElements().get(2)).getX(), 0);
+
+		// changing the number of segments re-uses the remaining elements
+		n.setGeometry(new Polyline(0, 0, 50, 50));
+		assertEquals(2, n.getPath().getElements().size());
+		assertSame(elements.get(0), n.getPath().getElements().get(0));
+		assertSame(elements.get(1), n.getPath().getElements().get(1));
+	}
+
 	private Rectangle convertBoundsInLocalToGeometryBounds(GeometryNode<? extends IGeometry> geom,
 			Bounds boundsInLocal) {
 		Rectangle boundsLocal = FX2Geometry.toRectangle(boundsInLocal);
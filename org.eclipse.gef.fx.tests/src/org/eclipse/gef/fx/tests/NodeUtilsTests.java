@@ -15,8 +15,12 @@ package org.eclipse.gef.fx.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.eclipse.gef.fx.nodes.GeometryNode;
 import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.fx.utils.PickingIndex;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.IGeometry;
@@ -27,6 +31,7 @@ import org.eclipse.swt.widgets.Shell;
 import org.junit.Test;
 
 import javafx.embed.swt.FXCanvas;
+import javafx.geometry.BoundingBox;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.paint.Color;
@@ -86,6 +91,44 @@ public class NodeUtilsTests {
 				NodeUtils.localToParent(geometryNode, geometricOutline).getBounds());
 	}
 
+	@Test
+	public void getNodesAt() {
+		javafx.scene.shape.Rectangle r1 = new javafx.scene.shape.Rectangle(0, 0, 100, 100);
+		javafx.scene.shape.Rectangle r2 = new javafx.scene.shape.Rectangle(50, 50, 100, 100);
+		javafx.scene.shape.Rectangle r3 = new javafx.scene.shape.Rectangle(0, 0, 200, 200);
+		r3.setMouseTransparent(true);
+		Group group = new Group(r2);
+		group.setTranslateX(10);
+		group.setTranslateY(10);
+		Group root = new Group(r1, group, r3);
+
+		// top-most node first
+		assertEquals(Arrays.asList(r2, group, r1, root), NodeUtils.getNodesAt(root, 70, 70));
+		assertEquals(Arrays.asList(r1, root), NodeUtils.getNodesAt(root, 20, 20));
+		assertEquals(Collections.emptyList(), NodeUtils.getNodesAt(root, 300, 300));
+
+		// the picking index has to yield the same results
+		PickingIndex pickingIndex = new PickingIndex(root);
+		assertEquals(NodeUtils.getNodesAt(root, 70, 70), pickingIndex.getNodesAt(70, 70));
+		assertEquals(NodeUtils.getNodesAt(root, 20, 20), pickingIndex.getNodesAt(20, 20));
+		assertEquals(NodeUtils.getNodesAt(root, 300, 300), pickingIndex.getNodesAt(300, 300));
+
+		// ensure the index is updated incrementally
+		group.setTranslateX(200);
+		assertEquals(Arrays.asList(r1, root), pickingIndex.getNodesAt(70, 70));
+		assertEquals(Arrays.asList(r2, group, root), pickingIndex.getNodesAt(300, 70));
+		r1.setWidth(400);
+		assertEquals(Arrays.asList(r2, group, r1, root), pickingIndex.getNodesAt(300, 70));
+		javafx.scene.shape.Rectangle r4 = new javafx.scene.shape.Rectangle(60, 60, 20, 20);
+		root.getChildren().add(r4);
+		assertEquals(Arrays.asList(r4, r1, root), pickingIndex.getNodesAt(70, 70));
+		assertEquals(NodeUtils.getNodesAt(root, 70, 70), pickingIndex.getNodesAt(70, 70));
+		root.getChildren().remove(r1);
+		assertEquals(Arrays.asList(r4, root), pickingIndex.getNodesAt(70, 70));
+		assertEquals(Arrays.asList(r4, root), pickingIndex.getNodesIn(new BoundingBox(65, 65, 10, 10)));
+		pickingIndex.dispose();
+	}
+
 	@Test
 	public void getShapeOutline() {
 		// GeometryNode
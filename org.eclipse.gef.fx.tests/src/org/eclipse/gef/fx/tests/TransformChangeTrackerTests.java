@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.gef.fx.listeners.TransformChangeTracker;
+import org.eclipse.gef.fx.listeners.TransformChangeTracker.IDeferredTransformChangeListener;
+import org.eclipse.gef.fx.listeners.TransformChangeTracker.ITransformChangeListener;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.Test;
+
+import javafx.embed.swt.FXCanvas;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.transform.Transform;
+
+public class TransformChangeTrackerTests {
+
+	private static class RecordingDeferredListener implements IDeferredTransformChangeListener {
+
+		private List<List<Node>> notifications = new ArrayList<>();
+
+		@Override
+		public void transformsChanged(Set<Node> changedNodes) {
+			notifications.add(new ArrayList<>(changedNodes));
+		}
+	}
+
+	private static class RecordingListener implements ITransformChangeListener {
+
+		private List<Node> changedNodes = new ArrayList<>();
+
+		@Override
+		public void transformChanged(Node node, Transform oldTransform, Transform newTransform) {
+			changedNodes.add(node);
+		}
+	}
+
+	@Test
+	public void deferredListeners() {
+		// the JavaFX toolkit, which is needed to schedule the flush, is
+		// initialized by the FXCanvas
+		Shell shell = new Shell(Display.getDefault());
+		new FXCanvas(shell, SWT.NONE);
+		try {
+			Group container = new Group();
+			Group node = new Group();
+			container.getChildren().add(node);
+			RecordingDeferredListener first = new RecordingDeferredListener();
+			RecordingDeferredListener second = new RecordingDeferredListener();
+			TransformChangeTracker.addDeferredListener(container, first);
+			TransformChangeTracker.addDeferredListener(node, first);
+			TransformChangeTracker.addDeferredListener(node, second);
+
+			// the notifications are deferred until the changes are flushed,
+			// but the revisions are updated immediately
+			long revision = TransformChangeTracker.getRevision();
+			container.setTranslateX(10);
+			container.setTranslateY(10);
+			node.setTranslateX(10);
+			assertEquals(0, first.notifications.size());
+			assertEquals(0, second.notifications.size());
+			assertTrue(TransformChangeTracker.hasChangedSince(node, null, revision));
+
+			// each listener is notified once about all of its changed nodes
+			TransformChangeTracker.flush();
+			assertEquals(1, first.notifications.size());
+			assertEquals(Arrays.asList(container, node), first.notifications.get(0));
+			assertEquals(1, second.notifications.size());
+			assertEquals(Arrays.asList(node), second.notifications.get(0));
+
+			// nothing is left to flush
+			TransformChangeTracker.flush();
+			assertEquals(1, first.notifications.size());
+
+			// removed listeners are not notified about pending changes
+			node.setTranslateX(20);
+			TransformChangeTracker.removeDeferredListener(node, second);
+			TransformChangeTracker.flush();
+			assertEquals(2, first.notifications.size());
+			assertEquals(Arrays.asList(node), first.notifications.get(1));
+			assertEquals(1, second.notifications.size());
+
+			// the nodes are no longer tracked when the last listener is removed
+			TransformChangeTracker.removeDeferredListener(container, first);
+			TransformChangeTracker.removeDeferredListener(node, first);
+			assertEquals(0, TransformChangeTracker.getRevision(container));
+			assertEquals(0, TransformChangeTracker.getRevision(node));
+		} finally {
+			shell.dispose();
+		}
+	}
+
+	@Test
+	public void hasChangedSince() {
+		Group root = new Group();
+		Group container = new Group();
+		Group node = new Group();
+		root.getChildren().add(container);
+		container.getChildren().add(node);
+		RecordingListener listener = new RecordingListener();
+		TransformChangeTracker.addListener(node, listener);
+		TransformChangeTracker.addListener(container, listener);
+		long revision = TransformChangeTracker.getRevision();
+		assertFalse(TransformChangeTracker.hasChangedSince(node, null, revision));
+
+		// changes of ancestors are detected within the chain
+		container.setTranslateX(10);
+		assertTrue(TransformChangeTracker.hasChangedSince(node, null, revision));
+		assertTrue(TransformChangeTracker.hasChangedSince(node, root, revision));
+		// but not if the changed ancestor is excluded
+		assertFalse(TransformChangeTracker.hasChangedSince(node, container, revision));
+
+		// changes of untracked nodes are not recorded
+		revision = TransformChangeTracker.getRevision();
+		root.setTranslateX(10);
+		assertFalse(TransformChangeTracker.hasChangedSince(node, null, revision));
+
+		TransformChangeTracker.removeListener(node, listener);
+		TransformChangeTracker.removeListener(container, listener);
+	}
+
+	@Test
+	public void removeListener() {
+		Group node = new Group();
+		RecordingListener first = new RecordingListener();
+		RecordingListener second = new RecordingListener();
+		TransformChangeTracker.addListener(node, first);
+		TransformChangeTracker.addListener(node, second);
+
+		// remaining listeners are still notified
+		TransformChangeTracker.removeListener(node, first);
+		node.setTranslateX(10);
+		assertEquals(0, first.changedNodes.size());
+		assertEquals(1, second.changedNodes.size());
+
+		// removing an unregistered listener has no effect
+		TransformChangeTracker.removeListener(node, first);
+		node.setTranslateX(20);
+		assertEquals(2, second.changedNodes.size());
+
+		// the node is no longer tracked when the last listener is removed
+		TransformChangeTracker.removeListener(node, second);
+		assertFalse(node.hasProperties() && !node.getProperties().isEmpty());
+		assertEquals(0, TransformChangeTracker.getRevision(node));
+		node.setTranslateX(30);
+		assertEquals(2, second.changedNodes.size());
+	}
+
+	@Test
+	public void revisions() {
+		Group node = new Group();
+		Group other = new Group();
+		RecordingListener listener = new RecordingListener();
+		assertEquals(0, TransformChangeTracker.getRevision(node));
+
+		// tracking a node stamps it with a new revision
+		long revision = TransformChangeTracker.getRevision();
+		TransformChangeTracker.addListener(node, listener);
+		assertTrue(TransformChangeTracker.getRevision(node) > revision);
+		assertEquals(TransformChangeTracker.getRevision(), TransformChangeTracker.getRevision(node));
+
+		// each change is stamped with a new (global) revision
+		revision = TransformChangeTracker.getRevision();
+		node.setTranslateX(10);
+		long nodeRevision = TransformChangeTracker.getRevision(node);
+		assertTrue(nodeRevision > revision);
+		assertEquals(TransformChangeTracker.getRevision(), nodeRevision);
+		TransformChangeTracker.addListener(other, listener);
+		other.setTranslateX(10);
+		assertEquals(nodeRevision, TransformChangeTracker.getRevision(node));
+		assertTrue(TransformChangeTracker.getRevision(other) > nodeRevision);
+		TransformChangeTracker.removeListener(other, listener);
+
+		// changes while the node is not tracked are not missed after
+		// re-subscription
+		revision = TransformChangeTracker.getRevision();
+		TransformChangeTracker.removeListener(node, listener);
+		node.setTranslateX(20);
+		TransformChangeTracker.addListener(node, listener);
+		assertTrue(TransformChangeTracker.hasChangedSince(node, null, revision));
+		TransformChangeTracker.removeListener(node, listener);
+	}
+
+	@Test
+	public void sharedRegistration() {
+		Group node = new Group();
+		RecordingListener first = new RecordingListener();
+		RecordingListener second = new RecordingListener();
+		TransformChangeTracker.addListener(node, first);
+		Object tracker = node.getProperties().get(TransformChangeTracker.class.getName());
+		TransformChangeTracker.addListener(node, second);
+		// registering the same listener twice has no effect
+		TransformChangeTracker.addListener(node, second);
+
+		// a single tracker is shared by all listeners
+		assertEquals(1, node.getProperties().size());
+		assertSame(tracker, node.getProperties().get(TransformChangeTracker.class.getName()));
+
+		// each listener is notified once per change
+		node.setTranslateX(10);
+		assertEquals(1, first.changedNodes.size());
+		assertEquals(1, second.changedNodes.size());
+		assertSame(node, first.changedNodes.get(0));
+		assertSame(node, second.changedNodes.get(0));
+
+		TransformChangeTracker.removeListener(node, first);
+		TransformChangeTracker.removeListener(node, second);
+	}
+
+}
@@ -0,0 +1,660 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.internal.nodes;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.NonInvertibleTransformException;
+import javafx.scene.transform.Transform;
+import javafx.util.Duration;
+
+/**
+ * The {@link ContentTileCache} rasterizes a content {@link Group} into tiles of
+ * a fixed size and renders those tiles instead of the content itself. It is
+ * used by {@link org.eclipse.gef.fx.nodes.InfiniteCanvas} to speed up panning
+ * and zooming of large static contents.
+ * <p>
+ * Tiles are rendered in the coordinate system that results from applying the
+ * content transform that was active when the tiles were rendered (render
+ * transform). As long as the scale/rotation of the content transform does not
+ * change, existing tiles are re-used and only tiles that become visible are
+ * rendered. When the scale/rotation changes (i.e. during a zoom gesture), the
+ * cached tiles are transformed accordingly, and all visible tiles are
+ * re-rendered once the content transform did not change for a short delay.
+ * <p>
+ * The content {@link Group} is made transparent while the cache is installed,
+ * so that it is still pickable (i.e. interaction is not affected). Structural
+ * and geometric changes of the content, i.e. added, removed, or re-ordered
+ * nodes, as well as changes of their bounds, transformations, sizes, or
+ * visibility, are observed, and the affected tiles are
+ * {@link #invalidate(Bounds) invalidated} automatically. Other visual changes
+ * (e.g. a changed fill) cannot be detected, so that clients need to invalidate
+ * the affected area in such a case.
+ *
+ * @author mwienand
+ *
+ */
+public class ContentTileCache {
+
+	/**
+	 * The default width and height of a tile (in pixels).
+	 */
+	public static final int DEFAULT_TILE_SIZE = 256;
+
+	/**
+	 * The default maximum number of tiles that are kept in memory.
+	 */
+	public static final int DEFAULT_MAX_TILES = 256;
+
+	/**
+	 * The duration without content transform changes after which the tiles
+	 * are re-rendered at the current zoom level.
+	 */
+	public static final Duration ZOOM_SETTLE_DELAY = Duration.millis(200);
+
+	private final Group contentGroup;
+	private final Affine contentTransform;
+	private final Node viewport;
+	private final int tileSize;
+	private final int maxTiles;
+
+	private final Group tileGroup = new Group();
+	private final Affine tileTransform = new Affine();
+	private final Affine renderTransform = new Affine();
+	private final Map<Long, ImageView> tiles;
+	private final PauseTransition zoomSettleTransition = new PauseTransition(
+			ZOOM_SETTLE_DELAY);
+
+	private final Map<Parent, ListChangeListener<Node>> childrenListeners = new IdentityHashMap<>();
+	// the transformation instances might be re-used by JavaFX, so that we
+	// keep a copy of the last local-to-parent-transform of each parent
+	private final Map<Node, Transform> parentTransforms = new IdentityHashMap<>();
+
+	private boolean installed = false;
+	private boolean updating = false;
+	private boolean updateScheduled = false;
+	private double contentOpacity = 1;
+
+	private final ChangeListener<Number> contentTransformListener = new ChangeListener<Number>() {
+		@Override
+		public void changed(ObservableValue<? extends Number> observable,
+				Number oldValue, Number newValue) {
+			onContentTransformChanged();
+		}
+	};
+
+	// leaf nodes: geometric changes (including transformations) are
+	// reflected by the bounds-in-parent
+	private final ChangeListener<Bounds> boundsInParentListener = new ChangeListener<Bounds>() {
+		@Override
+		public void changed(ObservableValue<? extends Bounds> observable,
+				Bounds oldValue, Bounds newValue) {
+			Node node = getNode(observable);
+			invalidate(node.getParent(), oldValue);
+			invalidate(node.getParent(), newValue);
+		}
+	};
+
+	// parent nodes: the bounds-in-parent also reflect changes of descendants
+	// (which are observed individually), so that only the transformation is
+	// observed to prevent invalidating large areas
+	private final ChangeListener<Transform> localToParentTransformListener = new ChangeListener<Transform>() {
+		@Override
+		public void changed(ObservableValue<? extends Transform> observable,
+				Transform oldValue, Transform newValue) {
+			Node node = getNode(observable);
+			Transform newTransform = newValue.clone();
+			Transform oldTransform = parentTransforms.put(node, newTransform);
+			if (oldTransform != null) {
+				invalidate(node.getParent(),
+						oldTransform.transform(node.getBoundsInLocal()));
+			}
+			invalidate(node.getParent(),
+					newTransform.transform(node.getBoundsInLocal()));
+		}
+	};
+
+	// regions: the background and border depend on the size
+	private final ChangeListener<Bounds> layoutBoundsListener = new ChangeListener<Bounds>() {
+		@Override
+		public void changed(ObservableValue<? extends Bounds> observable,
+				Bounds oldValue, Bounds newValue) {
+			Node node = getNode(observable);
+			Transform transform = node.getLocalToParentTransform();
+			invalidate(node.getParent(), transform.transform(oldValue));
+			invalidate(node.getParent(), transform.transform(newValue));
+		}
+	};
+
+	private final ChangeListener<Boolean> visibleListener = new ChangeListener<Boolean>() {
+		@Override
+		public void changed(ObservableValue<? extends Boolean> observable,
+				Boolean oldValue, Boolean newValue) {
+			Node node = getNode(observable);
+			invalidate(node.getParent(), node.getBoundsInParent());
+		}
+	};
+
+	private final ChangeListener<Object> viewportListener = new ChangeListener<Object>() {
+		@Override
+		public void changed(ObservableValue<? extends Object> observable,
+				Object oldValue, Object newValue) {
+			scheduleUpdate();
+		}
+	};
+
+	/**
+	 * Constructs a new {@link ContentTileCache} for the given content
+	 * {@link Group} using {@link #DEFAULT_TILE_SIZE} and
+	 * {@link #DEFAULT_MAX_TILES}.
+	 *
+	 * @param contentGroup
+	 *            The {@link Group} whose contents are cached.
+	 * @param contentTransform
+	 *            The {@link Affine} that is applied to the content
+	 *            {@link Group} and that is modified in-place when panning or
+	 *            zooming.
+	 * @param viewport
+	 *            The {@link Node} whose layout bounds determine the visible
+	 *            area. It has to be an ancestor of the content {@link Group}.
+	 */
+	public ContentTileCache(Group contentGroup, Affine contentTransform,
+			Node viewport) {
+		this(contentGroup, contentTransform, viewport, DEFAULT_TILE_SIZE,
+				DEFAULT_MAX_TILES);
+	}
+
+	/**
+	 * Constructs a new {@link ContentTileCache} for the given content
+	 * {@link Group}.
+	 *
+	 * @param contentGroup
+	 *            The {@link Group} whose contents are cached.
+	 * @param contentTransform
+	 *            The {@link Affine} that is applied to the content
+	 *            {@link Group} and that is modified in-place when panning or
+	 *            zooming.
+	 * @param viewport
+	 *            The {@link Node} whose layout bounds determine the visible
+	 *            area. It has to be an ancestor of the content {@link Group}.
+	 * @param tileSize
+	 *            The width and height of a tile (in pixels).
+	 * @param maxTiles
+	 *            The maximum number of tiles that are kept in memory.
+	 */
+	@SuppressWarnings("serial")
+	public ContentTileCache(Group contentGroup, Affine contentTransform,
+			Node viewport, int tileSize, int maxTiles) {
+		if (tileSize <= 0) {
+			throw new IllegalArgumentException(
+					"Tile size has to be positive.");
+		}
+		this.contentGroup = contentGroup;
+		this.contentTransform = contentTransform;
+		this.viewport = viewport;
+		this.tileSize = tileSize;
+		this.maxTiles = maxTiles;
+		// access-ordered, so that the least recently shown tiles are evicted
+		this.tiles = new LinkedHashMap<Long, ImageView>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<Long, ImageView> eldest) {
+				if (size() > ContentTileCache.this.maxTiles) {
+					tileGroup.getChildren().remove(eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+		tileGroup.getTransforms().add(tileTransform);
+		tileGroup.setMouseTransparent(true);
+		tileGroup.setManaged(false);
+		zoomSettleTransition.setOnFinished(new EventHandler<ActionEvent>() {
+			@Override
+			public void handle(ActionEvent event) {
+				// replace the scaled tiles within the same pulse, so that no
+				// empty area is rendered in between
+				renderTransform.setToTransform(contentTransform);
+				updateTileTransform();
+				tiles.clear();
+				tileGroup.getChildren().clear();
+				update();
+			}
+		});
+	}
+
+	/**
+	 * Returns the column of the tile that is identified by the given key.
+	 *
+	 * @param key
+	 *            The key of the tile, as returned by
+	 *            {@link #getTileKey(int, int)}.
+	 * @return The column of the tile.
+	 */
+	public static int getTileColumn(long key) {
+		return (int) (key >> 32);
+	}
+
+	/**
+	 * Returns the key that identifies the tile at the given column and row.
+	 * Columns and rows can be negative, as the content can extend into the
+	 * negative coordinate space.
+	 *
+	 * @param col
+	 *            The column of the tile.
+	 * @param row
+	 *            The row of the tile.
+	 * @return The key of the tile.
+	 */
+	public static long getTileKey(int col, int row) {
+		return ((long) col << 32) | (row & 0xffffffffL);
+	}
+
+	/**
+	 * Returns the row of the tile that is identified by the given key.
+	 *
+	 * @param key
+	 *            The key of the tile, as returned by
+	 *            {@link #getTileKey(int, int)}.
+	 * @return The row of the tile.
+	 */
+	public static int getTileRow(long key) {
+		return (int) key;
+	}
+
+	/**
+	 * Returns the number of tiles that are currently cached.
+	 *
+	 * @return The number of cached tiles.
+	 */
+	public int getTileCount() {
+		return tiles.size();
+	}
+
+	/**
+	 * Returns the {@link Group} that renders the tiles.
+	 *
+	 * @return The {@link Group} that renders the tiles.
+	 */
+	public Group getTileGroup() {
+		return tileGroup;
+	}
+
+	/**
+	 * Returns <code>true</code> if the tile at the given column and row is
+	 * currently cached, otherwise <code>false</code>. Does not mark the tile as
+	 * recently used.
+	 *
+	 * @param col
+	 *            The column of the tile.
+	 * @param row
+	 *            The row of the tile.
+	 * @return <code>true</code> if the tile is cached, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean hasTile(int col, int row) {
+		return tiles.containsKey(getTileKey(col, row));
+	}
+
+	/**
+	 * Installs this {@link ContentTileCache}, i.e. adds the
+	 * {@link #getTileGroup() tile group} to the parent of the content
+	 * {@link Group} (directly above the content {@link Group}), makes the
+	 * content {@link Group} transparent, and registers the listeners that are
+	 * needed to keep the tiles up-to-date.
+	 */
+	public void install() {
+		if (installed) {
+			return;
+		}
+		installed = true;
+
+		renderTransform.setToTransform(contentTransform);
+		updateTileTransform();
+
+		Pane parent = (Pane) contentGroup.getParent();
+		parent.getChildren().add(parent.getChildren().indexOf(contentGroup) + 1,
+				tileGroup);
+		contentOpacity = contentGroup.getOpacity();
+		contentGroup.setOpacity(0);
+
+		contentTransform.mxxProperty().addListener(contentTransformListener);
+		contentTransform.mxyProperty().addListener(contentTransformListener);
+		contentTransform.myxProperty().addListener(contentTransformListener);
+		contentTransform.myyProperty().addListener(contentTransformListener);
+		contentTransform.txProperty().addListener(contentTransformListener);
+		contentTransform.tyProperty().addListener(contentTransformListener);
+		parent.translateXProperty().addListener(viewportListener);
+		parent.translateYProperty().addListener(viewportListener);
+		viewport.layoutBoundsProperty().addListener(viewportListener);
+		observeChildren(contentGroup);
+
+		scheduleUpdate();
+	}
+
+	/**
+	 * Invalidates all tiles, so that the visible tiles will be re-rendered
+	 * within the next update.
+	 */
+	public void invalidate() {
+		tiles.clear();
+		tileGroup.getChildren().clear();
+		scheduleUpdate();
+	}
+
+	/**
+	 * Invalidates the tiles that intersect the given bounds, so that the
+	 * visible ones will be re-rendered within the next update.
+	 *
+	 * @param boundsInContent
+	 *            The bounds (within the local coordinate system of the content
+	 *            {@link Group}) that changed.
+	 */
+	public void invalidate(Bounds boundsInContent) {
+		Bounds boundsInTiles = renderTransform.transform(boundsInContent);
+		int minCol = (int) Math.floor(boundsInTiles.getMinX() / tileSize);
+		int maxCol = (int) Math.floor(boundsInTiles.getMaxX() / tileSize);
+		int minRow = (int) Math.floor(boundsInTiles.getMinY() / tileSize);
+		int maxRow = (int) Math.floor(boundsInTiles.getMaxY() / tileSize);
+		Iterator<Map.Entry<Long, ImageView>> iterator = tiles.entrySet()
+				.iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Long, ImageView> entry = iterator.next();
+			int col = getTileColumn(entry.getKey());
+			int row = getTileRow(entry.getKey());
+			if (col >= minCol && col <= maxCol && row >= minRow
+					&& row <= maxRow) {
+				tileGroup.getChildren().remove(entry.getValue());
+				iterator.remove();
+			}
+		}
+		scheduleUpdate();
+	}
+
+	/**
+	 * Invalidates the tiles that intersect the given bounds within the local
+	 * coordinate system of the given parent, which has to be (nested within)
+	 * the content {@link Group}. Does nothing while the tiles are updated, as
+	 * the snapshots already reflect changes that result from the CSS and
+	 * layout passes they trigger.
+	 */
+	private void invalidate(Node parent, Bounds boundsInParent) {
+		if (updating || parent == null || boundsInParent == null
+				|| boundsInParent.isEmpty()) {
+			return;
+		}
+		Bounds boundsInContent = boundsInParent;
+		Node node = parent;
+		while (node != null && node != contentGroup) {
+			boundsInContent = node.localToParent(boundsInContent);
+			node = node.getParent();
+		}
+		if (node == contentGroup) {
+			invalidate(boundsInContent);
+		}
+	}
+
+	private static Node getNode(ObservableValue<?> observable) {
+		return (Node) ((ReadOnlyProperty<?>) observable).getBean();
+	}
+
+	/**
+	 * Returns <code>true</code> if the scale, shear, and rotation components
+	 * of the current content transform equal those of the render transform,
+	 * i.e. if the cached tiles can be displayed without being scaled.
+	 *
+	 * @return <code>true</code> if the cached tiles match the current zoom
+	 *         level, otherwise <code>false</code>.
+	 */
+	protected boolean isZoomLevelUnchanged() {
+		return contentTransform.getMxx() == renderTransform.getMxx()
+				&& contentTransform.getMxy() == renderTransform.getMxy()
+				&& contentTransform.getMyx() == renderTransform.getMyx()
+				&& contentTransform.getMyy() == renderTransform.getMyy();
+	}
+
+	private void onContentTransformChanged() {
+		updateTileTransform();
+		if (isZoomLevelUnchanged()) {
+			zoomSettleTransition.stop();
+			scheduleUpdate();
+		} else {
+			// display the scaled tiles until the zoom gesture settles
+			zoomSettleTransition.playFromStart();
+		}
+	}
+
+	private void observe(Node node) {
+		node.visibleProperty().addListener(visibleListener);
+		if (node instanceof Parent) {
+			parentTransforms.put(node,
+					node.getLocalToParentTransform().clone());
+			node.localToParentTransformProperty()
+					.addListener(localToParentTransformListener);
+			if (node instanceof Region) {
+				node.layoutBoundsProperty().addListener(layoutBoundsListener);
+			}
+			observeChildren((Parent) node);
+		} else {
+			node.boundsInParentProperty().addListener(boundsInParentListener);
+		}
+	}
+
+	private void observeChildren(final Parent parent) {
+		ListChangeListener<Node> childrenListener = new ListChangeListener<Node>() {
+			@Override
+			public void onChanged(ListChangeListener.Change<? extends Node> c) {
+				while (c.next()) {
+					if (c.wasPermutated()) {
+						// the z-order changed
+						for (int i = c.getFrom(); i < c.getTo(); i++) {
+							invalidate(parent,
+									c.getList().get(i).getBoundsInParent());
+						}
+					}
+					for (Node removed : c.getRemoved()) {
+						unobserve(removed);
+						invalidate(parent, removed.getBoundsInParent());
+					}
+					for (Node added : c.getAddedSubList()) {
+						observe(added);
+						invalidate(parent, added.getBoundsInParent());
+					}
+				}
+			}
+		};
+		childrenListeners.put(parent, childrenListener);
+		parent.getChildrenUnmodifiable().addListener(childrenListener);
+		for (Node child : parent.getChildrenUnmodifiable()) {
+			observe(child);
+		}
+	}
+
+	private void renderTile(int col, int row, Affine snapshotTransform) {
+		SnapshotParameters params = new SnapshotParameters();
+		params.setFill(Color.TRANSPARENT);
+		params.setTransform(snapshotTransform);
+		params.setViewport(new Rectangle2D(col * (double) tileSize,
+				row * (double) tileSize, tileSize, tileSize));
+		WritableImage image = contentGroup.snapshot(params,
+				new WritableImage(tileSize, tileSize));
+		ImageView tile = new ImageView(image);
+		tile.setX(col * (double) tileSize);
+		tile.setY(row * (double) tileSize);
+		tiles.put(getTileKey(col, row), tile);
+		tileGroup.getChildren().add(tile);
+	}
+
+	private void scheduleUpdate() {
+		if (!installed || updateScheduled) {
+			return;
+		}
+		updateScheduled = true;
+		Platform.runLater(new Runnable() {
+			@Override
+			public void run() {
+				updateScheduled = false;
+				update();
+			}
+		});
+	}
+
+	/**
+	 * Uninstalls this {@link ContentTileCache}, i.e. removes the
+	 * {@link #getTileGroup() tile group}, restores the opacity of the content
+	 * {@link Group}, unregisters all listeners, and discards all tiles.
+	 */
+	public void uninstall() {
+		if (!installed) {
+			return;
+		}
+		installed = false;
+		zoomSettleTransition.stop();
+
+		contentTransform.mxxProperty().removeListener(contentTransformListener);
+		contentTransform.mxyProperty().removeListener(contentTransformListener);
+		contentTransform.myxProperty().removeListener(contentTransformListener);
+		contentTransform.myyProperty().removeListener(contentTransformListener);
+		contentTransform.txProperty().removeListener(contentTransformListener);
+		contentTransform.tyProperty().removeListener(contentTransformListener);
+		Pane parent = (Pane) contentGroup.getParent();
+		parent.translateXProperty().removeListener(viewportListener);
+		parent.translateYProperty().removeListener(viewportListener);
+		viewport.layoutBoundsProperty().removeListener(viewportListener);
+		unobserveChildren(contentGroup);
+
+		parent.getChildren().remove(tileGroup);
+		contentGroup.setOpacity(contentOpacity);
+		tiles.clear();
+		tileGroup.getChildren().clear();
+	}
+
+	private void unobserve(Node node) {
+		node.visibleProperty().removeListener(visibleListener);
+		if (node instanceof Parent) {
+			node.localToParentTransformProperty()
+					.removeListener(localToParentTransformListener);
+			parentTransforms.remove(node);
+			if (node instanceof Region) {
+				node.layoutBoundsProperty()
+						.removeListener(layoutBoundsListener);
+			}
+			unobserveChildren((Parent) node);
+		} else {
+			node.boundsInParentProperty()
+					.removeListener(boundsInParentListener);
+		}
+	}
+
+	private void unobserveChildren(Parent parent) {
+		ListChangeListener<Node> childrenListener = childrenListeners
+				.remove(parent);
+		if (childrenListener != null) {
+			parent.getChildrenUnmodifiable().removeListener(childrenListener);
+		}
+		for (Node child : parent.getChildrenUnmodifiable()) {
+			unobserve(child);
+		}
+	}
+
+	/**
+	 * Renders all visible tiles that are not cached yet. Does nothing while the
+	 * zoom level differs from the zoom level at which the tiles were rendered.
+	 */
+	protected void update() {
+		if (!installed || !isZoomLevelUnchanged()) {
+			return;
+		}
+
+		// determine visible area within the tile coordinate system
+		Bounds viewportBounds = viewport.getLayoutBounds();
+		Bounds visibleInTiles = tileGroup.sceneToLocal(
+				viewport.localToScene(new BoundingBox(viewportBounds.getMinX(),
+						viewportBounds.getMinY(), viewportBounds.getWidth(),
+						viewportBounds.getHeight())));
+		if (visibleInTiles == null) {
+			return;
+		}
+		// tiles that only touch the visible area are not rendered
+		int minCol = (int) Math.floor(visibleInTiles.getMinX() / tileSize);
+		int maxCol = (int) Math.ceil(visibleInTiles.getMaxX() / tileSize) - 1;
+		int minRow = (int) Math.floor(visibleInTiles.getMinY() / tileSize);
+		int maxRow = (int) Math.ceil(visibleInTiles.getMaxY() / tileSize) - 1;
+
+		// the snapshot applies the content transform, which might differ from
+		// the render transform by a translation
+		Affine snapshotTransform;
+		try {
+			snapshotTransform = new Affine(renderTransform);
+			snapshotTransform.append(contentTransform.createInverse());
+		} catch (NonInvertibleTransformException e) {
+			return;
+		}
+
+		// temporarily restore the content's opacity, so that it is rendered
+		// into the snapshot
+		contentGroup.setOpacity(contentOpacity);
+		updating = true;
+		try {
+			for (int col = minCol; col <= maxCol; col++) {
+				for (int row = minRow; row <= maxRow; row++) {
+					// get() marks the tile as recently used
+					if (tiles.get(getTileKey(col, row)) == null) {
+						renderTile(col, row, snapshotTransform);
+					}
+				}
+			}
+		} finally {
+			updating = false;
+			contentGroup.setOpacity(0);
+		}
+	}
+
+	private void updateTileTransform() {
+		// tiles are rendered using the render transform, so we need to undo it
+		// before applying the content transform
+		try {
+			Affine transform = new Affine(contentTransform);
+			transform.append(renderTransform.createInverse());
+			tileTransform.setToTransform(transform);
+		} catch (NonInvertibleTransformException e) {
+			// keep previous tile transform
+		}
+	}
+
+}
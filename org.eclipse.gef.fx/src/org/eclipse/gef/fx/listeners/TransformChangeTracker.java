@@ -0,0 +1,363 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.listeners;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.transform.Transform;
+
+/**
+ * The {@link TransformChangeTracker} shares a single listener on the
+ * local-to-parent-transform property of a {@link Node} between all interested
+ * parties (e.g. all {@link VisualChangeListener}s whose ancestor chain contains
+ * the {@link Node}). This keeps the number of listeners that JavaFX has to
+ * manage per {@link Node} constant, no matter how many anchors depend on it.
+ * <p>
+ * In addition, each transform change of a tracked {@link Node} is stamped with
+ * a (global) revision number, so that clients can cheaply determine if any
+ * transform within an ancestor chain changed since a given revision (see
+ * {@link #hasChangedSince(Node, Node, long)}). Please note that only changes
+ * of tracked {@link Node}s, i.e. of {@link Node}s that have at least one
+ * registered {@link ITransformChangeListener}, are recorded. As changes that
+ * occur while a {@link Node} is not tracked are unknown, a {@link Node} is
+ * stamped with a new revision whenever its tracking starts, i.e. it is
+ * considered to be changed.
+ * <p>
+ * An {@link ITransformChangeListener} is notified synchronously, once per
+ * change of a tracked {@link Node}, which is needed by clients that expect
+ * derived values (e.g. anchor positions) to be up-to-date right after a change.
+ * An {@link IDeferredTransformChangeListener}, in contrast, is notified once
+ * per pulse: the changed {@link Node}s are collected, and the notifications
+ * are deduplicated and delivered together when the changes are
+ * {@link #flush() flushed}, which is scheduled (via
+ * {@link Platform#runLater(Runnable)}) upon the first change after a flush.
+ * Hence, a listener that is registered for several {@link Node}s of an ancestor
+ * chain is notified only once, no matter how often and how many of these
+ * {@link Node}s changed in the meantime.
+ *
+ * @author mwienand
+ * @since 5.1
+ *
+ */
+public final class TransformChangeTracker {
+
+	/**
+	 * An {@link ITransformChangeListener} is notified about changes to the
+	 * local-to-parent-transform of a tracked {@link Node}.
+	 */
+	public interface ITransformChangeListener {
+
+		/**
+		 * Called when the local-to-parent-transform of the given {@link Node}
+		 * changed.
+		 *
+		 * @param node
+		 *            The {@link Node} whose local-to-parent-transform changed.
+		 * @param oldTransform
+		 *            The old {@link Transform}.
+		 * @param newTransform
+		 *            The new {@link Transform}.
+		 */
+		public void transformChanged(Node node, Transform oldTransform,
+				Transform newTransform);
+	}
+
+	/**
+	 * An {@link IDeferredTransformChangeListener} is notified once per pulse
+	 * about the tracked {@link Node}s whose local-to-parent-transform changed.
+	 */
+	public interface IDeferredTransformChangeListener {
+
+		/**
+		 * Called when the changes are {@link TransformChangeTracker#flush()
+		 * flushed}, if the local-to-parent-transform of any of the
+		 * {@link Node}s, for which this listener is registered, changed since
+		 * the previous flush.
+		 *
+		 * @param changedNodes
+		 *            The changed {@link Node}s (for which this listener is
+		 *            registered), in the order of their first change.
+		 */
+		public void transformsChanged(Set<Node> changedNodes);
+	}
+
+	/**
+	 * The tracking information for a single {@link Node}, which is stored
+	 * within the {@link Node#getProperties() properties} of the {@link Node}.
+	 */
+	private static final class NodeTracker
+			implements ChangeListener<Transform> {
+
+		private final Node node;
+		// a linked set, so that listeners can be removed in constant time
+		private final Set<ITransformChangeListener> listeners = new LinkedHashSet<>();
+		private final Set<IDeferredTransformChangeListener> deferredListeners = new LinkedHashSet<>();
+		private long revision = 0;
+
+		private NodeTracker(Node node) {
+			this.node = node;
+		}
+
+		@Override
+		public void changed(ObservableValue<? extends Transform> observable,
+				Transform oldValue, Transform newValue) {
+			revision = ++globalRevision;
+			// copy listeners, as they might be removed during notification
+			ITransformChangeListener[] currentListeners = listeners
+					.toArray(new ITransformChangeListener[listeners.size()]);
+			for (ITransformChangeListener l : currentListeners) {
+				l.transformChanged(node, oldValue, newValue);
+			}
+			if (!deferredListeners.isEmpty() && dirtyTrackers.add(this)) {
+				scheduleFlush();
+			}
+		}
+
+		private boolean hasListeners() {
+			return !listeners.isEmpty() || !deferredListeners.isEmpty();
+		}
+	}
+
+	private static final String NODE_TRACKER_KEY = TransformChangeTracker.class
+			.getName();
+
+	private static long globalRevision = 0;
+
+	// the trackers of the nodes that changed since the last flush, in the
+	// order of their first change
+	private static final Set<NodeTracker> dirtyTrackers = new LinkedHashSet<>();
+	private static boolean flushScheduled = false;
+
+	/**
+	 * Registers the given {@link IDeferredTransformChangeListener} for changes
+	 * to the local-to-parent-transform of the given {@link Node}. The
+	 * local-to-parent-transform property of the {@link Node} is only observed
+	 * once, regardless of the number of registered listeners.
+	 *
+	 * @param node
+	 *            The {@link Node} to observe.
+	 * @param listener
+	 *            The {@link IDeferredTransformChangeListener} to notify.
+	 */
+	public static void addDeferredListener(Node node,
+			IDeferredTransformChangeListener listener) {
+		getOrCreateTracker(node).deferredListeners.add(listener);
+	}
+
+	/**
+	 * Registers the given {@link ITransformChangeListener} for changes to the
+	 * local-to-parent-transform of the given {@link Node}. The
+	 * local-to-parent-transform property of the {@link Node} is only observed
+	 * once, regardless of the number of registered listeners.
+	 *
+	 * @param node
+	 *            The {@link Node} to observe.
+	 * @param listener
+	 *            The {@link ITransformChangeListener} to notify.
+	 */
+	public static void addListener(Node node,
+			ITransformChangeListener listener) {
+		getOrCreateTracker(node).listeners.add(listener);
+	}
+
+	/**
+	 * Notifies the {@link IDeferredTransformChangeListener}s about the
+	 * {@link Node}s that changed since the last flush. Each listener is
+	 * notified once, with all of its changed {@link Node}s. The changes are
+	 * flushed automatically (via {@link Platform#runLater(Runnable)}), but
+	 * clients may flush them earlier, e.g. to react to the changes before
+	 * continuing. Changes that occur during the notification are delivered by
+	 * the next flush.
+	 */
+	public static void flush() {
+		flushScheduled = false;
+		if (dirtyTrackers.isEmpty()) {
+			return;
+		}
+		// collect the changed nodes per listener
+		Map<IDeferredTransformChangeListener, Set<Node>> changedNodes = new LinkedHashMap<>();
+		for (NodeTracker tracker : dirtyTrackers) {
+			for (IDeferredTransformChangeListener l : tracker.deferredListeners) {
+				Set<Node> nodes = changedNodes.get(l);
+				if (nodes == null) {
+					nodes = new LinkedHashSet<>();
+					changedNodes.put(l, nodes);
+				}
+				nodes.add(tracker.node);
+			}
+		}
+		dirtyTrackers.clear();
+		for (Map.Entry<IDeferredTransformChangeListener, Set<Node>> entry : changedNodes
+				.entrySet()) {
+			entry.getKey().transformsChanged(
+					Collections.unmodifiableSet(entry.getValue()));
+		}
+	}
+
+	private static NodeTracker getOrCreateTracker(Node node) {
+		NodeTracker tracker = getTracker(node);
+		if (tracker == null) {
+			tracker = new NodeTracker(node);
+			// changes that occurred while the node was not tracked are
+			// unknown, so that the node is considered to be changed
+			tracker.revision = ++globalRevision;
+			node.getProperties().put(NODE_TRACKER_KEY, tracker);
+			node.localToParentTransformProperty().addListener(tracker);
+		}
+		return tracker;
+	}
+
+	/**
+	 * Returns the current (global) revision, i.e. the revision of the most
+	 * recent transform change of any tracked {@link Node}.
+	 *
+	 * @return The current revision.
+	 */
+	public static long getRevision() {
+		return globalRevision;
+	}
+
+	/**
+	 * Returns the revision of the most recent transform change of the given
+	 * {@link Node} (or the revision at which its tracking started), or
+	 * <code>0</code> if the {@link Node} is not tracked.
+	 *
+	 * @param node
+	 *            The {@link Node} for which to return the revision.
+	 * @return The revision of the most recent transform change of the given
+	 *         {@link Node}.
+	 */
+	public static long getRevision(Node node) {
+		NodeTracker tracker = getTracker(node);
+		return tracker == null ? 0 : tracker.revision;
+	}
+
+	private static NodeTracker getTracker(Node node) {
+		if (!node.hasProperties()) {
+			return null;
+		}
+		return (NodeTracker) node.getProperties().get(NODE_TRACKER_KEY);
+	}
+
+	/**
+	 * Returns <code>true</code> if the local-to-parent-transform of any tracked
+	 * {@link Node} in the ancestor chain from the given {@link Node} up to (but
+	 * excluding) the given ancestor changed after the given revision.
+	 * Otherwise returns <code>false</code>.
+	 *
+	 * @param node
+	 *            The {@link Node} at which the ancestor chain starts.
+	 * @param ancestor
+	 *            The ancestor at which the ancestor chain ends (excluding), or
+	 *            <code>null</code> to check up to the root of the scene graph,
+	 *            i.e. the local-to-scene-transform.
+	 * @param revision
+	 *            The revision to compare with, e.g. a value previously
+	 *            returned by {@link #getRevision()}.
+	 * @return <code>true</code> if any tracked transform changed after the
+	 *         given revision, otherwise <code>false</code>.
+	 */
+	public static boolean hasChangedSince(Node node, Node ancestor,
+			long revision) {
+		if (revision >= globalRevision) {
+			// nothing changed at all
+			return false;
+		}
+		Node current = node;
+		while (current != null && current != ancestor) {
+			if (getRevision(current) > revision) {
+				return true;
+			}
+			current = current.getParent();
+		}
+		return false;
+	}
+
+	private static void releaseTracker(NodeTracker tracker) {
+		if (!tracker.hasListeners()) {
+			tracker.node.localToParentTransformProperty()
+					.removeListener(tracker);
+			tracker.node.getProperties().remove(NODE_TRACKER_KEY);
+			dirtyTrackers.remove(tracker);
+		}
+	}
+
+	/**
+	 * Unregisters the given {@link IDeferredTransformChangeListener} from the
+	 * given {@link Node}. If no other listeners are registered for the
+	 * {@link Node}, the local-to-parent-transform property of the {@link Node}
+	 * is no longer observed.
+	 *
+	 * @param node
+	 *            The observed {@link Node}.
+	 * @param listener
+	 *            The {@link IDeferredTransformChangeListener} to unregister.
+	 */
+	public static void removeDeferredListener(Node node,
+			IDeferredTransformChangeListener listener) {
+		NodeTracker tracker = getTracker(node);
+		if (tracker == null) {
+			return;
+		}
+		tracker.deferredListeners.remove(listener);
+		releaseTracker(tracker);
+	}
+
+	/**
+	 * Unregisters the given {@link ITransformChangeListener} from the given
+	 * {@link Node}. If no other listeners are registered for the {@link Node},
+	 * the local-to-parent-transform property of the {@link Node} is no longer
+	 * observed.
+	 *
+	 * @param node
+	 *            The observed {@link Node}.
+	 * @param listener
+	 *            The {@link ITransformChangeListener} to unregister.
+	 */
+	public static void removeListener(Node node,
+			ITransformChangeListener listener) {
+		NodeTracker tracker = getTracker(node);
+		if (tracker == null) {
+			return;
+		}
+		tracker.listeners.remove(listener);
+		releaseTracker(tracker);
+	}
+
+	private static void scheduleFlush() {
+		if (flushScheduled) {
+			return;
+		}
+		flushScheduled = true;
+		Platform.runLater(new Runnable() {
+			@Override
+			public void run() {
+				flush();
+			}
+		});
+	}
+
+	private TransformChangeTracker() {
+		// this class should not be instantiated by clients
+	}
+
+}
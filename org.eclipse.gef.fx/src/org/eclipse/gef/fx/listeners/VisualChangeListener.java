@@ -13,10 +13,10 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.listeners;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.eclipse.gef.fx.listeners.TransformChangeTracker.ITransformChangeListener;
 import org.eclipse.gef.fx.nodes.InfiniteCanvas;
 
 import javafx.beans.value.ChangeListener;
@@ -36,7 +36,9 @@ import javafx.scene.transform.Transform;
  * stroke, local transformations, or geometric bounds change. A
  * local-to-parent-transform change occurs when the node undergoes a
  * transformation change. Transformation listeners are registered for all nodes
- * in the hierarchy up to a specific parent.
+ * in the hierarchy up to a specific parent. The transformation listeners are
+ * shared between all {@link VisualChangeListener}s via the
+ * {@link TransformChangeTracker}.
  *
  * @author anyssen
  * @author mwienand
@@ -45,7 +47,20 @@ import javafx.scene.transform.Transform;
 public abstract class VisualChangeListener {
 
 	private Node observed;
-	private HashMap<ChangeListener<Transform>, Node> localToParentTransformListeners = new HashMap<>();
+	private List<Node> transformObservedNodes = new ArrayList<>();
+
+	private final ITransformChangeListener transformChangeListener = new ITransformChangeListener() {
+		@Override
+		public void transformChanged(Node node, Transform oldTransform,
+				Transform newTransform) {
+			// only fire a visual change event if the new transform is valid
+			if (isValidTransform(newTransform)) {
+				localToParentTransformChanged(node, oldTransform,
+						newTransform);
+				onBoundsChanged();
+			}
+		}
+	};
 
 	private final ChangeListener<? super Bounds> boundsInLocalListener = new ChangeListener<Bounds>() {
 		@Override
@@ -70,39 +85,67 @@ public abstract class VisualChangeListener {
 	protected abstract void boundsInLocalChanged(Bounds oldBounds,
 			Bounds newBounds);
 
+	private int getDepth(Node node) {
+		int depth = 0;
+		Node current = node.getParent();
+		while (current != null) {
+			depth++;
+			current = current.getParent();
+		}
+		return depth;
+	}
+
 	private Node getNearestCommonAncestor(Node source, Node target) {
 		if (source == target) {
 			return source;
 		}
 
-		Set<Node> parents = new HashSet<>();
+		// walk up the deeper node until both are at the same depth, then walk
+		// up both nodes simultaneously until they meet
 		Node m = source;
 		Node n = target;
-		while (m != null || n != null) {
-			if (m != null) {
-				if (parents.contains(m)) {
-					return m;
-				}
-				parents.add(m);
-				if (n != null && parents.contains(n)) {
-					return n;
-				}
-				m = m.getParent();
-			}
-			if (n != null) {
-				if (parents.contains(n)) {
-					return n;
-				}
-				parents.add(n);
-				if (m != null && parents.contains(m)) {
-					return m;
-				}
-				n = n.getParent();
-			}
+		int mDepth = getDepth(m);
+		int nDepth = getDepth(n);
+		while (mDepth > nDepth) {
+			m = m.getParent();
+			mDepth--;
 		}
+		while (nDepth > mDepth) {
+			n = n.getParent();
+			nDepth--;
+		}
+		while (m != n) {
+			m = m.getParent();
+			n = n.getParent();
+		}
+
+		// null if there is no common parent
+		return m;
+	}
 
-		// could not find a common parent
-		return null;
+	/**
+	 * Returns <code>true</code> if any of the observed
+	 * local-to-parent-transforms changed after the given revision of the
+	 * {@link TransformChangeTracker}. Otherwise returns <code>false</code>.
+	 *
+	 * @param revision
+	 *            The revision to compare with, e.g. a value previously
+	 *            returned by {@link TransformChangeTracker#getRevision()}.
+	 * @return <code>true</code> if any of the observed
+	 *         local-to-parent-transforms changed after the given revision,
+	 *         otherwise <code>false</code>.
+	 * @since 5.1
+	 */
+	public boolean hasTransformChangedSince(long revision) {
+		if (revision >= TransformChangeTracker.getRevision()) {
+			return false;
+		}
+		for (Node node : transformObservedNodes) {
+			if (TransformChangeTracker.getRevision(node) > revision) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -275,24 +318,8 @@ public abstract class VisualChangeListener {
 			Node root) {
 		Node tmp = startingPoint;
 		while (tmp != null && tmp != root) {
-			final Node current = tmp;
-			ChangeListener<Transform> transformChangeListener = new ChangeListener<Transform>() {
-				@Override
-				public void changed(
-						ObservableValue<? extends Transform> observable,
-						Transform oldValue, Transform newValue) {
-					// only fire a visual change event if the new transform is
-					// valid
-					if (isValidTransform(newValue)) {
-						localToParentTransformChanged(current, oldValue,
-								newValue);
-						onBoundsChanged();
-					}
-				}
-			};
-			tmp.localToParentTransformProperty()
-					.addListener(transformChangeListener);
-			localToParentTransformListeners.put(transformChangeListener, tmp);
+			TransformChangeTracker.addListener(tmp, transformChangeListener);
+			transformObservedNodes.add(tmp);
 			tmp = tmp.getParent();
 		}
 	}
@@ -309,14 +336,13 @@ public abstract class VisualChangeListener {
 		observed.boundsInLocalProperty().removeListener(boundsInLocalListener);
 
 		// remove transform listeners
-		for (ChangeListener<Transform> l : localToParentTransformListeners
-				.keySet()) {
-			localToParentTransformListeners.get(l)
-					.localToParentTransformProperty().removeListener(l);
+		for (Node node : transformObservedNodes) {
+			TransformChangeTracker.removeListener(node,
+					transformChangeListener);
 		}
 
 		// reset fields
 		observed = null;
-		localToParentTransformListeners.clear();
+		transformObservedNodes.clear();
 	}
 }
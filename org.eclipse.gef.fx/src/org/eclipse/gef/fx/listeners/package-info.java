@@ -14,6 +14,9 @@
  * This package provides a
  * {@link org.eclipse.gef.fx.listeners.VisualChangeListener}, which can be used
  * to recognize visual changes of one observed {@link javafx.scene.Node} visual
- * relative to an observer visual.
+ * relative to an observer visual, as well as a
+ * {@link org.eclipse.gef.fx.listeners.TransformChangeTracker}, which shares
+ * transform listeners between all interested parties and can deliver their
+ * notifications once per pulse.
  */
 package org.eclipse.gef.fx.listeners;
\ No newline at end of file
@@ -88,6 +88,11 @@ public class GeometryNode<T extends IGeometry> extends Region {
 
 	private int listeningCount = 0;
 
+	// the geometry and layout position the path elements were created for
+	private IGeometry renderedGeometry = null;
+	private double renderedLayoutX = 0;
+	private double renderedLayoutY = 0;
+
 	private ChangeListener<T> geometryChangeListener = new ChangeListener<T>() {
 		@Override
 		public void changed(ObservableValue<? extends T> observable, T oldValue,
@@ -430,14 +435,18 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		return geometricShape;
 	}
 
-	private PathElement[] getPathElements() {
+	private org.eclipse.gef.geometry.planar.Path getLocalPath() {
 		@SuppressWarnings("unchecked")
 		IGeometry g = geometryProperty.get() instanceof ITranslatable
 				? ((ITranslatable<? extends IGeometry>) geometryProperty.get())
 						.getTranslated(-getLayoutX(), -getLayoutY())
 				: geometryProperty.get().getTransformed(new AffineTransform()
 						.setToTranslation(-getLayoutX(), -getLayoutY()));
-		return Geometry2Shape.toPathElements(g.toPath());
+		return g.toPath();
+	}
+
+	private PathElement[] getPathElements() {
+		return Geometry2Shape.toPathElements(getLocalPath());
 	}
 
 	/**
@@ -1078,9 +1087,26 @@ public class GeometryNode<T extends IGeometry> extends Region {
 	}
 
 	private void updateShapes(Path... paths) {
-		PathElement[] pathElements = getPathElements();
+		// skip conversion if neither the geometry nor the layout position
+		// changed since the last update
+		IGeometry geometry = geometryProperty.get();
+		double layoutX = getLayoutX();
+		double layoutY = getLayoutY();
+		if (geometry == renderedGeometry && layoutX == renderedLayoutX
+				&& layoutY == renderedLayoutY) {
+			return;
+		}
+		renderedGeometry = geometry;
+		renderedLayoutX = layoutX;
+		renderedLayoutY = layoutY;
+
+		// update the existing path elements in-place, so that no path elements
+		// need to be allocated, and so that the paths are not invalidated if
+		// the local path did not change (e.g. if only a translation was
+		// applied to the geometry)
+		org.eclipse.gef.geometry.planar.Path localPath = getLocalPath();
 		for (Path p : paths) {
-			p.getElements().setAll(pathElements);
+			Geometry2Shape.updatePathElements(localPath, p.getElements());
 		}
 	}
 }
@@ -17,6 +17,7 @@ package org.eclipse.gef.fx.nodes;
 import java.util.Arrays;
 import java.util.List;
 
+import org.eclipse.gef.fx.internal.nodes.ContentTileCache;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
 import org.eclipse.gef.geometry.planar.AffineTransform;
@@ -112,6 +113,15 @@ import javafx.util.Duration;
  * <li>The {@link #gridCellHeightProperty()} determines the grid cell height.
  * </ul>
  * <p>
+ * Optionally, the contents can be rendered from a tile cache, which is
+ * enabled/disabled via the {@link #cacheContentProperty()}. The cached tiles
+ * are re-used while panning, and are scaled during zoom gestures until fresh
+ * tiles are rendered for the new zoom level. Tiles are re-rendered
+ * automatically when nodes are added, removed, re-ordered, moved, resized, or
+ * shown/hidden. Other visual changes (e.g. a changed fill) need to be signaled
+ * via {@link #invalidateContentCache(Bounds)}. The cache is best suited for
+ * large, mostly static contents.
+ * <p>
  * Internally, an {@link InfiniteCanvas} consists of four layers:
  *
  * <pre>
@@ -222,6 +232,11 @@ public class InfiniteCanvas extends Region {
 	private final BooleanProperty clipContentProperty = new SimpleBooleanProperty(
 			true);
 
+	// content caching
+	private ContentTileCache contentTileCache;
+	private final BooleanProperty cacheContentProperty = new SimpleBooleanProperty(
+			false);
+
 	// scrollbars
 	private Group scrollBarGroup;
 	private ScrollBar horizontalScrollBar;
@@ -397,6 +412,45 @@ public class InfiniteCanvas extends Region {
 				}
 			}
 		});
+
+		// register for "cacheContent" changes to enable/disable the tile cache
+		cacheContentProperty.addListener(new ChangeListener<Boolean>() {
+			@Override
+			public void changed(ObservableValue<? extends Boolean> observable,
+					Boolean oldValue, Boolean newValue) {
+				if (newValue.booleanValue()) {
+					cacheContent();
+				} else {
+					uncacheContent();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Enables the tile cache for the contents of this {@link InfiniteCanvas}.
+	 *
+	 * @since 5.1
+	 */
+	protected void cacheContent() {
+		if (contentTileCache == null) {
+			contentTileCache = new ContentTileCache(getContentGroup(),
+					getContentTransform(), this);
+		}
+		contentTileCache.install();
+	}
+
+	/**
+	 * Returns the {@link BooleanProperty} that determines if the contents of
+	 * this {@link InfiniteCanvas} are rendered from a tile cache. Per default,
+	 * the tile cache is disabled.
+	 *
+	 * @return The {@link BooleanProperty} that determines if the contents are
+	 *         rendered from a tile cache.
+	 * @since 5.1
+	 */
+	public BooleanProperty cacheContentProperty() {
+		return cacheContentProperty;
 	}
 
 	/**
@@ -1026,6 +1080,44 @@ public class InfiniteCanvas extends Region {
 		return getScrolledPane().translateXProperty();
 	}
 
+	/**
+	 * Invalidates all cached content tiles. Does nothing if the
+	 * {@link #cacheContentProperty() tile cache} is disabled.
+	 *
+	 * @since 5.1
+	 */
+	public void invalidateContentCache() {
+		if (isCacheContent()) {
+			contentTileCache.invalidate();
+		}
+	}
+
+	/**
+	 * Invalidates the cached content tiles that intersect the given bounds, so
+	 * that they are re-rendered. Does nothing if the
+	 * {@link #cacheContentProperty() tile cache} is disabled.
+	 *
+	 * @param boundsInContent
+	 *            The changed bounds within the local coordinate system of the
+	 *            {@link #getContentGroup() content group}.
+	 * @since 5.1
+	 */
+	public void invalidateContentCache(Bounds boundsInContent) {
+		if (isCacheContent()) {
+			contentTileCache.invalidate(boundsInContent);
+		}
+	}
+
+	/**
+	 * Returns the value of the {@link #cacheContentProperty()}.
+	 *
+	 * @return The value of the {@link #cacheContentProperty()}.
+	 * @since 5.1
+	 */
+	public boolean isCacheContent() {
+		return cacheContentProperty.get();
+	}
+
 	/**
 	 * Returns the value of the {@link #clipContentProperty()}.
 	 *
@@ -1261,6 +1353,19 @@ public class InfiniteCanvas extends Region {
 		return scrollableBoundsProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Enables/Disables the tile cache for the contents of this
+	 * {@link InfiniteCanvas}.
+	 *
+	 * @param cacheContent
+	 *            <code>true</code> to render the contents from a tile cache,
+	 *            otherwise <code>false</code>.
+	 * @since 5.1
+	 */
+	public void setCacheContent(boolean cacheContent) {
+		cacheContentProperty.set(cacheContent);
+	}
+
 	/**
 	 * Sets the value of the {@link #clipContentProperty()} to the given value.
 	 *
@@ -1508,6 +1613,17 @@ public class InfiniteCanvas extends Region {
 		return showGridProperty;
 	}
 
+	/**
+	 * Disables the tile cache for the contents of this {@link InfiniteCanvas}.
+	 *
+	 * @since 5.1
+	 */
+	protected void uncacheContent() {
+		if (contentTileCache != null) {
+			contentTileCache.uninstall();
+		}
+	}
+
 	/**
 	 * Disables content clipping for this {@link InfiniteCanvas}.
 	 */
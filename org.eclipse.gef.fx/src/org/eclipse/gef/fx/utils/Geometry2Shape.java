@@ -14,6 +14,9 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.utils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.gef.geometry.planar.Arc;
 import org.eclipse.gef.geometry.planar.CubicCurve;
 import org.eclipse.gef.geometry.planar.Ellipse;
@@ -128,6 +131,74 @@ public class Geometry2Shape {
 		return fxPath;
 	}
 
+	/**
+	 * Converts the given {@link Segment} to a JavaFX {@link PathElement}. If the
+	 * given reusable {@link PathElement} is of the appropriate type, it is
+	 * updated in-place and returned, otherwise a new {@link PathElement} is
+	 * created.
+	 *
+	 * @param segment
+	 *            The {@link Segment} to convert.
+	 * @param reusable
+	 *            A {@link PathElement} that may be updated in-place, or
+	 *            <code>null</code>.
+	 * @return The updated or newly created {@link PathElement}.
+	 */
+	private static PathElement toPathElement(Segment segment,
+			PathElement reusable) {
+		Point[] points = segment.getPoints();
+		switch (segment.getType()) {
+		case Segment.MOVE_TO:
+			if (reusable instanceof MoveTo) {
+				MoveTo moveTo = (MoveTo) reusable;
+				moveTo.setX(points[0].x);
+				moveTo.setY(points[0].y);
+				return moveTo;
+			}
+			return new MoveTo(points[0].x, points[0].y);
+		case Segment.LINE_TO:
+			if (reusable instanceof LineTo) {
+				LineTo lineTo = (LineTo) reusable;
+				lineTo.setX(points[0].x);
+				lineTo.setY(points[0].y);
+				return lineTo;
+			}
+			return new LineTo(points[0].x, points[0].y);
+		case Segment.QUAD_TO:
+			if (reusable instanceof QuadCurveTo) {
+				QuadCurveTo quadTo = (QuadCurveTo) reusable;
+				quadTo.setControlX(points[0].x);
+				quadTo.setControlY(points[0].y);
+				quadTo.setX(points[1].x);
+				quadTo.setY(points[1].y);
+				return quadTo;
+			}
+			return new QuadCurveTo(points[0].x, points[0].y, points[1].x,
+					points[1].y);
+		case Segment.CUBIC_TO:
+			if (reusable instanceof CubicCurveTo) {
+				CubicCurveTo cubicTo = (CubicCurveTo) reusable;
+				cubicTo.setControlX1(points[0].x);
+				cubicTo.setControlY1(points[0].y);
+				cubicTo.setControlX2(points[1].x);
+				cubicTo.setControlY2(points[1].y);
+				cubicTo.setX(points[2].x);
+				cubicTo.setY(points[2].y);
+				return cubicTo;
+			}
+			return new CubicCurveTo(points[0].x, points[0].y, points[1].x,
+					points[1].y, points[2].x, points[2].y);
+		case Segment.CLOSE:
+			if (reusable instanceof ClosePath) {
+				return reusable;
+			}
+			return new ClosePath();
+		default:
+			throw new IllegalStateException(
+					"Unknown Path.Segment: <" + segment + ">");
+		}
+	}
+
 	/**
 	 * Converts the given {@link Path} to an array of JavaFX {@link PathElement}
 	 * s.
@@ -140,36 +211,49 @@ public class Geometry2Shape {
 		Segment[] segments = path.getSegments();
 		PathElement[] elements = new PathElement[segments.length];
 		for (int i = 0; i < segments.length; i++) {
-			Point[] points = segments[i].getPoints();
-			// if (points.length > 0) {
-			// System.out.println(i + ": " + points[points.length - 1]);
-			// }
-			switch (segments[i].getType()) {
-			case Segment.MOVE_TO:
-				elements[i] = new MoveTo(points[0].x, points[0].y);
-				break;
-			case Segment.LINE_TO:
-				elements[i] = new LineTo(points[0].x, points[0].y);
-				break;
-			case Segment.QUAD_TO:
-				elements[i] = new QuadCurveTo(points[0].x, points[0].y,
-						points[1].x, points[1].y);
-				break;
-			case Segment.CUBIC_TO:
-				elements[i] = new CubicCurveTo(points[0].x, points[0].y,
-						points[1].x, points[1].y, points[2].x, points[2].y);
-				break;
-			case Segment.CLOSE:
-				elements[i] = new ClosePath();
-				break;
-			default:
-				throw new IllegalStateException(
-						"Unknown Path.Segment: <" + segments[i] + ">");
-			}
+			elements[i] = toPathElement(segments[i], null);
 		}
 		return elements;
 	}
 
+	/**
+	 * Updates the given {@link List} of JavaFX {@link PathElement}s so that it
+	 * represents the given {@link Path}. Existing {@link PathElement}s are
+	 * updated in-place where possible, i.e. new {@link PathElement}s are only
+	 * created if the type of a segment changed or if segments were added.
+	 * Values that do not change are not modified, so that a
+	 * {@link javafx.scene.shape.Path} containing the {@link PathElement}s is
+	 * not invalidated in that case.
+	 *
+	 * @param path
+	 *            The {@link Path} to convert.
+	 * @param elements
+	 *            The {@link List} of {@link PathElement}s to update.
+	 * @since 5.1
+	 */
+	public static void updatePathElements(Path path,
+			List<PathElement> elements) {
+		Segment[] segments = path.getSegments();
+		int reusableCount = Math.min(segments.length, elements.size());
+		for (int i = 0; i < reusableCount; i++) {
+			PathElement reusable = elements.get(i);
+			PathElement element = toPathElement(segments[i], reusable);
+			if (element != reusable) {
+				elements.set(i, element);
+			}
+		}
+		if (segments.length > reusableCount) {
+			List<PathElement> added = new ArrayList<>(
+					segments.length - reusableCount);
+			for (int i = reusableCount; i < segments.length; i++) {
+				added.add(toPathElement(segments[i], null));
+			}
+			elements.addAll(added);
+		} else if (elements.size() > reusableCount) {
+			elements.subList(reusableCount, elements.size()).clear();
+		}
+	}
+
 	/**
 	 * Returns a {@link javafx.scene.shape.Polygon} that visualizes the given
 	 * {@link Polygon}.
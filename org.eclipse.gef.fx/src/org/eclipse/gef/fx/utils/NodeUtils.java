@@ -15,7 +15,10 @@
 package org.eclipse.gef.fx.utils;
 
 import java.awt.geom.NoninvertibleTransformException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -250,7 +253,9 @@ public class NodeUtils {
 
 	/**
 	 * Performs picking on the scene graph beginning at the specified root node
-	 * and processing its transitive children.
+	 * and processing its transitive children. When picking is performed
+	 * repeatedly on a large scene graph, a {@link PickingIndex} should be used
+	 * instead.
 	 *
 	 * @param sceneX
 	 *            The x-coordinate of the position to pick nodes at, interpreted
@@ -266,29 +271,49 @@ public class NodeUtils {
 			double sceneY) {
 		List<Node> picked = new ArrayList<>();
 
-		// start with given root node
-		List<Node> nodes = new ArrayList<>();
-		nodes.add(root);
+		// start with given root node; the local coordinates of the children
+		// are derived from the local coordinates of their parent, so that
+		// sceneToLocal() only needs to be evaluated once
+		Deque<Node> nodes = new ArrayDeque<>();
+		Deque<Point2D> positions = new ArrayDeque<>();
+		Point2D pRoot = root.sceneToLocal(sceneX, sceneY);
+		if (pRoot == null) {
+			return picked;
+		}
+		nodes.push(root);
+		positions.push(pRoot);
 
 		while (!nodes.isEmpty()) {
-			Node current = nodes.remove(0);
-			// transform to local coordinates
-			Point2D pLocal = current.sceneToLocal(sceneX, sceneY);
+			Node current = nodes.pop();
+			Point2D pLocal = positions.pop();
 			// check if bounds contains (necessary to find children in mouse
 			// transparent regions)
 			if (!current.isMouseTransparent()
 					&& current.getBoundsInLocal().contains(pLocal)) {
 				// check precisely
 				if (current.contains(pLocal)) {
-					picked.add(0, current);
+					picked.add(current);
 				}
-				// test all children, too
+				// test all children, too (pushed in reverse order, so that
+				// they are processed in order)
 				if (current instanceof Parent) {
-					nodes.addAll(0,
-							((Parent) current).getChildrenUnmodifiable());
+					List<Node> children = ((Parent) current)
+							.getChildrenUnmodifiable();
+					for (int i = children.size() - 1; i >= 0; i--) {
+						Node child = children.get(i);
+						Point2D pChild = child.parentToLocal(pLocal);
+						if (pChild != null) {
+							nodes.push(child);
+							positions.push(pChild);
+						}
+					}
 				}
 			}
 		}
+
+		// nodes are picked in pre-order, but the top-most node is expected
+		// first
+		Collections.reverse(picked);
 		return picked;
 	}
 
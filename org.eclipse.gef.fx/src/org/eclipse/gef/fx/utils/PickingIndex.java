@@ -0,0 +1,633 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.transform.Transform;
+
+/**
+ * A {@link PickingIndex} maintains a bounding volume hierarchy for the
+ * transitive children of a root {@link Node}, so that picking queries (see
+ * {@link #getNodesAt(double, double)} and {@link #getNodesIn(Bounds)}) only
+ * need to examine the {@link Node}s whose bounds contain the query position,
+ * instead of walking the whole scene graph (as done by
+ * {@link NodeUtils#getNodesAt(Node, double, double)}).
+ * <p>
+ * The bounds of the {@link Node}s are indexed within the local coordinate
+ * system of the root {@link Node}, so that transformations of the root (e.g.
+ * scrolling or zooming an {@link org.eclipse.gef.fx.nodes.InfiniteCanvas}) do
+ * not require any updates. The index is updated incrementally: changes to the
+ * children, bounds, or transformations of the indexed {@link Node}s are
+ * recorded, and the affected entries are refreshed lazily upon the next query.
+ * <p>
+ * A {@link PickingIndex} registers listeners on all indexed {@link Node}s, so
+ * it has to be {@link #dispose() disposed} when it is no longer needed.
+ *
+ * @author mwienand
+ * @since 5.1
+ *
+ */
+public class PickingIndex {
+
+	/**
+	 * An {@link Entry} stores the indexing information for a single
+	 * {@link Node}.
+	 */
+	private final class Entry {
+
+		private final Node node;
+		private final Entry parent;
+		private final List<Entry> children = new ArrayList<>();
+
+		// bounds within the coordinate system of the root node
+		private Bounds bounds;
+		private Transform localToRootTransform;
+		private boolean boundsDirty = true;
+		private boolean transformDirty = true;
+		private int order;
+		private TreeNode leaf;
+
+		private final InvalidationListener boundsListener = new InvalidationListener() {
+			@Override
+			public void invalidated(Observable observable) {
+				markBoundsDirty(Entry.this);
+			}
+		};
+
+		private final InvalidationListener transformListener = new InvalidationListener() {
+			@Override
+			public void invalidated(Observable observable) {
+				markTransformDirty(Entry.this);
+			}
+		};
+
+		private final ListChangeListener<Node> childrenListener = new ListChangeListener<Node>() {
+			@Override
+			public void onChanged(
+					ListChangeListener.Change<? extends Node> change) {
+				onChildrenChanged(Entry.this, change);
+			}
+		};
+
+		private Entry(Node node, Entry parent) {
+			this.node = node;
+			this.parent = parent;
+		}
+
+		private Transform getLocalToRootTransform() {
+			if (transformDirty) {
+				// the transformation of the root itself is not considered;
+				// calling the getter re-validates the (lazy) property, so that
+				// further changes are reported to the listener
+				localToRootTransform = parent == null ? Transform.translate(0, 0)
+						: parent.getLocalToRootTransform().createConcatenation(
+								node.getLocalToParentTransform());
+				transformDirty = false;
+			}
+			return localToRootTransform;
+		}
+	}
+
+	/**
+	 * A node of the bounding volume hierarchy, which is realized as a
+	 * self-balancing dynamic AABB tree. Leaf nodes reference an {@link Entry}
+	 * and store its (enlarged) bounds, inner nodes store the union of the
+	 * bounds of their children.
+	 */
+	private static final class TreeNode {
+		private double minX, minY, maxX, maxY;
+		private TreeNode parent, child1, child2;
+		private Entry entry;
+		private int height;
+
+		private boolean contains(double x, double y) {
+			return x >= minX && x <= maxX && y >= minY && y <= maxY;
+		}
+
+		private boolean intersects(double x0, double y0, double x1,
+				double y1) {
+			return x0 <= maxX && x1 >= minX && y0 <= maxY && y1 >= minY;
+		}
+
+		private boolean isLeaf() {
+			return child1 == null;
+		}
+
+		private double perimeter() {
+			return 2 * (maxX - minX + maxY - minY);
+		}
+
+		private void setToUnion(TreeNode a, TreeNode b) {
+			minX = Math.min(a.minX, b.minX);
+			minY = Math.min(a.minY, b.minY);
+			maxX = Math.max(a.maxX, b.maxX);
+			maxY = Math.max(a.maxY, b.maxY);
+		}
+	}
+
+	/**
+	 * The margin (within the coordinate system of the root {@link Node}) by
+	 * which the bounds of a leaf are enlarged, so that small changes to the
+	 * bounds of a {@link Node} do not require the leaf to be re-inserted.
+	 */
+	private static final double LEAF_MARGIN = 2;
+
+	private static final Comparator<Entry> TOP_MOST_FIRST = new Comparator<Entry>() {
+		@Override
+		public int compare(Entry e1, Entry e2) {
+			return Integer.compare(e2.order, e1.order);
+		}
+	};
+
+	private final Node root;
+	private final Map<Node, Entry> entries = new IdentityHashMap<>();
+	private final List<Entry> dirtyEntries = new ArrayList<>();
+	private boolean orderDirty = true;
+	private TreeNode treeRoot;
+
+	/**
+	 * Constructs a new {@link PickingIndex} for the given root {@link Node}
+	 * and its transitive children.
+	 *
+	 * @param root
+	 *            The root {@link Node} for which to build the index.
+	 */
+	public PickingIndex(Node root) {
+		if (root == null) {
+			throw new IllegalArgumentException("root may not be null.");
+		}
+		this.root = root;
+		index(root, null);
+	}
+
+	private TreeNode balance(TreeNode a) {
+		if (a.isLeaf() || a.height < 2) {
+			return a;
+		}
+		TreeNode b = a.child1;
+		TreeNode c = a.child2;
+		int balance = c.height - b.height;
+		if (balance > 1) {
+			// rotate c up
+			TreeNode f = c.child1;
+			TreeNode g = c.child2;
+			c.child1 = a;
+			c.parent = a.parent;
+			replaceChild(a.parent, a, c);
+			a.parent = c;
+			if (f.height > g.height) {
+				c.child2 = f;
+				a.child2 = g;
+				g.parent = a;
+				refit(a);
+				refit(c);
+			} else {
+				c.child2 = g;
+				a.child2 = f;
+				f.parent = a;
+				refit(a);
+				refit(c);
+			}
+			return c;
+		}
+		if (balance < -1) {
+			// rotate b up
+			TreeNode d = b.child1;
+			TreeNode e = b.child2;
+			b.child1 = a;
+			b.parent = a.parent;
+			replaceChild(a.parent, a, b);
+			a.parent = b;
+			if (d.height > e.height) {
+				b.child2 = d;
+				a.child1 = e;
+				e.parent = a;
+				refit(a);
+				refit(b);
+			} else {
+				b.child2 = e;
+				a.child1 = d;
+				d.parent = a;
+				refit(a);
+				refit(b);
+			}
+			return b;
+		}
+		return a;
+	}
+
+	/**
+	 * Unregisters all listeners from the indexed {@link Node}s and clears the
+	 * index.
+	 */
+	public void dispose() {
+		if (entries.containsKey(root)) {
+			unindex(entries.get(root));
+		}
+		dirtyEntries.clear();
+		treeRoot = null;
+	}
+
+	/**
+	 * Returns a {@link List} of the {@link Node}s (the root and its transitive
+	 * children) that contain the given scene position, where the top-most
+	 * {@link Node} is the first element. The result is equivalent to
+	 * {@link NodeUtils#getNodesAt(Node, double, double)} for the root
+	 * {@link Node}.
+	 *
+	 * @param sceneX
+	 *            The x-coordinate of the position to pick nodes at, interpreted
+	 *            in scene coordinate space.
+	 * @param sceneY
+	 *            The y-coordinate of the position to pick nodes at, interpreted
+	 *            in scene coordinate space.
+	 * @return A list of {@link Node}s which contain the given coordinate.
+	 */
+	public List<Node> getNodesAt(double sceneX, double sceneY) {
+		List<Node> picked = new ArrayList<>();
+		Point2D pRoot = root.sceneToLocal(sceneX, sceneY);
+		refresh();
+		if (pRoot == null || treeRoot == null) {
+			return picked;
+		}
+
+		List<Entry> candidates = new ArrayList<>();
+		Deque<TreeNode> stack = new ArrayDeque<>();
+		stack.push(treeRoot);
+		while (!stack.isEmpty()) {
+			TreeNode current = stack.pop();
+			if (!current.contains(pRoot.getX(), pRoot.getY())) {
+				continue;
+			}
+			if (current.isLeaf()) {
+				if (current.entry.bounds.contains(pRoot)) {
+					candidates.add(current.entry);
+				}
+			} else {
+				stack.push(current.child1);
+				stack.push(current.child2);
+			}
+		}
+
+		Collections.sort(candidates, TOP_MOST_FIRST);
+		for (Entry candidate : candidates) {
+			if (isPickable(candidate)) {
+				// check precisely
+				Point2D pLocal = candidate.node.sceneToLocal(sceneX, sceneY);
+				if (pLocal != null && candidate.node.contains(pLocal)) {
+					picked.add(candidate.node);
+				}
+			}
+		}
+		return picked;
+	}
+
+	/**
+	 * Returns a {@link List} of the {@link Node}s (the root and its transitive
+	 * children) whose bounds intersect the given scene bounds, where the
+	 * top-most {@link Node} is the first element. In contrast to
+	 * {@link #getNodesAt(double, double)}, only the bounds of the
+	 * {@link Node}s are tested.
+	 *
+	 * @param boundsInScene
+	 *            The {@link Bounds} (within scene coordinates) for which to
+	 *            determine the intersecting {@link Node}s.
+	 * @return A list of {@link Node}s whose bounds intersect the given
+	 *         {@link Bounds}.
+	 */
+	public List<Node> getNodesIn(Bounds boundsInScene) {
+		List<Node> picked = new ArrayList<>();
+		Bounds query = root.sceneToLocal(boundsInScene);
+		refresh();
+		if (query == null || treeRoot == null) {
+			return picked;
+		}
+
+		List<Entry> candidates = new ArrayList<>();
+		Deque<TreeNode> stack = new ArrayDeque<>();
+		stack.push(treeRoot);
+		while (!stack.isEmpty()) {
+			TreeNode current = stack.pop();
+			if (!current.intersects(query.getMinX(), query.getMinY(),
+					query.getMaxX(), query.getMaxY())) {
+				continue;
+			}
+			if (current.isLeaf()) {
+				if (current.entry.bounds.intersects(query)) {
+					candidates.add(current.entry);
+				}
+			} else {
+				stack.push(current.child1);
+				stack.push(current.child2);
+			}
+		}
+
+		Collections.sort(candidates, TOP_MOST_FIRST);
+		for (Entry candidate : candidates) {
+			if (isPickable(candidate)) {
+				picked.add(candidate.node);
+			}
+		}
+		return picked;
+	}
+
+	/**
+	 * Returns the root {@link Node} of this {@link PickingIndex}.
+	 *
+	 * @return The root {@link Node} of this {@link PickingIndex}.
+	 */
+	public Node getRoot() {
+		return root;
+	}
+
+	private void index(Node node, Entry parent) {
+		Entry entry = new Entry(node, parent);
+		entries.put(node, entry);
+		if (parent != null) {
+			parent.children.add(entry);
+			node.localToParentTransformProperty()
+					.addListener(entry.transformListener);
+		}
+		node.boundsInLocalProperty().addListener(entry.boundsListener);
+		if (node instanceof Parent) {
+			List<Node> children = ((Parent) node).getChildrenUnmodifiable();
+			children.addListener(entry.childrenListener);
+			for (Node child : children) {
+				index(child, entry);
+			}
+		}
+		dirtyEntries.add(entry);
+		orderDirty = true;
+	}
+
+	private void insertLeaf(TreeNode leaf) {
+		if (treeRoot == null) {
+			treeRoot = leaf;
+			leaf.parent = null;
+			return;
+		}
+
+		// find the best sibling (using the perimeter as cost function)
+		TreeNode union = new TreeNode();
+		TreeNode sibling = treeRoot;
+		while (!sibling.isLeaf()) {
+			union.setToUnion(sibling, leaf);
+			double combinedPerimeter = union.perimeter();
+			double cost = 2 * combinedPerimeter;
+			double inheritanceCost = 2
+					* (combinedPerimeter - sibling.perimeter());
+			double cost1 = insertionCost(sibling.child1, leaf, union)
+					+ inheritanceCost;
+			double cost2 = insertionCost(sibling.child2, leaf, union)
+					+ inheritanceCost;
+			if (cost < cost1 && cost < cost2) {
+				break;
+			}
+			sibling = cost1 < cost2 ? sibling.child1 : sibling.child2;
+		}
+
+		// create a new parent for the leaf and its sibling
+		TreeNode oldParent = sibling.parent;
+		TreeNode newParent = new TreeNode();
+		newParent.parent = oldParent;
+		newParent.child1 = sibling;
+		newParent.child2 = leaf;
+		newParent.setToUnion(sibling, leaf);
+		newParent.height = sibling.height + 1;
+		replaceChild(oldParent, sibling, newParent);
+		sibling.parent = newParent;
+		leaf.parent = newParent;
+
+		// re-balance and refit the ancestors
+		refitAncestors(newParent);
+	}
+
+	private double insertionCost(TreeNode child, TreeNode leaf,
+			TreeNode union) {
+		union.setToUnion(child, leaf);
+		if (child.isLeaf()) {
+			return union.perimeter();
+		}
+		return union.perimeter() - child.perimeter();
+	}
+
+	private boolean isPickable(Entry entry) {
+		// mouse transparent nodes (and their children) cannot be picked
+		Entry current = entry;
+		while (current != null) {
+			if (current.node.isMouseTransparent()) {
+				return false;
+			}
+			current = current.parent;
+		}
+		return true;
+	}
+
+	private void markBoundsDirty(Entry entry) {
+		if (!entry.boundsDirty) {
+			entry.boundsDirty = true;
+			dirtyEntries.add(entry);
+		}
+	}
+
+	private void markTransformDirty(Entry entry) {
+		// the transformation affects the bounds of all transitive children
+		Deque<Entry> stack = new ArrayDeque<>();
+		stack.push(entry);
+		while (!stack.isEmpty()) {
+			Entry current = stack.pop();
+			current.transformDirty = true;
+			markBoundsDirty(current);
+			for (Entry child : current.children) {
+				stack.push(child);
+			}
+		}
+	}
+
+	private void onChildrenChanged(Entry entry,
+			ListChangeListener.Change<? extends Node> change) {
+		while (change.next()) {
+			for (Node removed : change.getRemoved()) {
+				Entry removedEntry = entries.get(removed);
+				// the node might have been added elsewhere in the meantime
+				if (removedEntry != null && removedEntry.parent == entry) {
+					unindex(removedEntry);
+				}
+			}
+			for (Node added : change.getAddedSubList()) {
+				Entry addedEntry = entries.get(added);
+				if (addedEntry != null) {
+					unindex(addedEntry);
+				}
+				index(added, entry);
+			}
+		}
+		// the order of the children might have changed
+		orderDirty = true;
+	}
+
+	private void refit(TreeNode node) {
+		node.setToUnion(node.child1, node.child2);
+		node.height = 1 + Math.max(node.child1.height, node.child2.height);
+	}
+
+	private void refitAncestors(TreeNode node) {
+		TreeNode current = node;
+		while (current != null) {
+			current = balance(current);
+			refit(current);
+			current = current.parent;
+		}
+	}
+
+	private void refresh() {
+		// update the bounds of the dirty entries
+		List<Entry> toRefresh = new ArrayList<>(dirtyEntries);
+		dirtyEntries.clear();
+		for (Entry entry : toRefresh) {
+			if (!entry.boundsDirty || entries.get(entry.node) != entry) {
+				// already refreshed or no longer indexed
+				continue;
+			}
+			entry.boundsDirty = false;
+			// calling the getter re-validates the (lazy) property, so that
+			// further changes are reported to the listener
+			Bounds boundsInLocal = entry.node.getBoundsInLocal();
+			entry.bounds = entry.getLocalToRootTransform()
+					.transform(boundsInLocal);
+			updateLeaf(entry);
+		}
+
+		// update the (pre-order) rendering order of the entries
+		if (orderDirty && entries.containsKey(root)) {
+			int order = 0;
+			Deque<Entry> stack = new ArrayDeque<>();
+			stack.push(entries.get(root));
+			while (!stack.isEmpty()) {
+				Entry current = stack.pop();
+				current.order = order++;
+				List<Node> children = current.node instanceof Parent
+						? ((Parent) current.node).getChildrenUnmodifiable()
+						: Collections.<Node> emptyList();
+				for (int i = children.size() - 1; i >= 0; i--) {
+					Entry child = entries.get(children.get(i));
+					if (child != null) {
+						stack.push(child);
+					}
+				}
+			}
+			orderDirty = false;
+		}
+	}
+
+	private void removeLeaf(TreeNode leaf) {
+		if (leaf == treeRoot) {
+			treeRoot = null;
+			return;
+		}
+		TreeNode parent = leaf.parent;
+		TreeNode grandParent = parent.parent;
+		TreeNode sibling = parent.child1 == leaf ? parent.child2
+				: parent.child1;
+		replaceChild(grandParent, parent, sibling);
+		sibling.parent = grandParent;
+		leaf.parent = null;
+		if (grandParent != null) {
+			refitAncestors(grandParent);
+		}
+	}
+
+	private void replaceChild(TreeNode parent, TreeNode oldChild,
+			TreeNode newChild) {
+		if (parent == null) {
+			treeRoot = newChild;
+		} else if (parent.child1 == oldChild) {
+			parent.child1 = newChild;
+		} else {
+			parent.child2 = newChild;
+		}
+	}
+
+	private void unindex(Entry entry) {
+		for (Entry child : new ArrayList<>(entry.children)) {
+			unindex(child);
+		}
+		if (entry.node instanceof Parent) {
+			((Parent) entry.node).getChildrenUnmodifiable()
+					.removeListener(entry.childrenListener);
+		}
+		entry.node.boundsInLocalProperty().removeListener(entry.boundsListener);
+		if (entry.parent != null) {
+			entry.node.localToParentTransformProperty()
+					.removeListener(entry.transformListener);
+			entry.parent.children.remove(entry);
+		}
+		if (entry.leaf != null) {
+			removeLeaf(entry.leaf);
+			entry.leaf = null;
+		}
+		entries.remove(entry.node);
+		orderDirty = true;
+	}
+
+	private void updateLeaf(Entry entry) {
+		Bounds bounds = entry.bounds;
+		TreeNode leaf = entry.leaf;
+		if (bounds.isEmpty()) {
+			// nodes without bounds cannot be picked
+			if (leaf != null) {
+				removeLeaf(leaf);
+				entry.leaf = null;
+			}
+			return;
+		}
+		if (leaf != null) {
+			// keep the leaf if its (enlarged) bounds still contain the bounds
+			if (leaf.minX <= bounds.getMinX() && leaf.minY <= bounds.getMinY()
+					&& leaf.maxX >= bounds.getMaxX()
+					&& leaf.maxY >= bounds.getMaxY()) {
+				return;
+			}
+			removeLeaf(leaf);
+		} else {
+			leaf = new TreeNode();
+			leaf.entry = entry;
+			entry.leaf = leaf;
+		}
+		leaf.minX = bounds.getMinX() - LEAF_MARGIN;
+		leaf.minY = bounds.getMinY() - LEAF_MARGIN;
+		leaf.maxX = bounds.getMaxX() + LEAF_MARGIN;
+		leaf.maxY = bounds.getMaxY() + LEAF_MARGIN;
+		leaf.child1 = null;
+		leaf.child2 = null;
+		leaf.height = 0;
+		insertLeaf(leaf);
+	}
+
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the intersection and offsetting of {@link BezierCurve}s.
+ * Offsetting covers the Tiller-Hanson offset algorithm as well as the
+ * refinement of the offset at local self-intersections.
+ *
+ * @author mwienand
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BezierCurveBenchmarks {
+
+	/**
+	 * The number of random curves (pairs of curves when intersecting) per
+	 * invocation.
+	 */
+	private static final int CURVES = 16;
+
+	/**
+	 * The number of control points of the generated curves.
+	 */
+	@Param({ "3", "4", "6" })
+	public int controlPoints;
+
+	private BezierCurve[] curves;
+
+	/**
+	 * Generates the random curves.
+	 */
+	@Setup
+	public void setUp() {
+		GeometryGenerator generator = new GeometryGenerator();
+		curves = new BezierCurve[2 * CURVES];
+		for (int i = 0; i < curves.length; i++) {
+			curves[i] = generator.createBezierCurve(controlPoints);
+		}
+	}
+
+	/**
+	 * Intersects pairs of random curves.
+	 *
+	 * @return The intersection points, so that they are not eliminated.
+	 */
+	@Benchmark
+	public Point[][] getIntersections() {
+		Point[][] intersections = new Point[CURVES][];
+		for (int i = 0; i < CURVES; i++) {
+			intersections[i] = curves[2 * i]
+					.getIntersections(curves[2 * i + 1]);
+		}
+		return intersections;
+	}
+
+	/**
+	 * Computes the offsets of random curves.
+	 *
+	 * @return The offsets, so that they are not eliminated.
+	 */
+	@Benchmark
+	public PolyBezier[] getOffset() {
+		PolyBezier[] offsets = new PolyBezier[CURVES];
+		for (int i = 0; i < CURVES; i++) {
+			offsets[i] = curves[i].getOffset(10);
+		}
+		return offsets;
+	}
+
+}
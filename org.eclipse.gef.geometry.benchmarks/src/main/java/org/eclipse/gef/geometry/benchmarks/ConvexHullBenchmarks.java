@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Point#getConvexHull(Point...)}.
+ *
+ * @author mwienand
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvexHullBenchmarks {
+
+	/**
+	 * The number of random points.
+	 */
+	@Param({ "100", "1000", "10000" })
+	public int points;
+
+	private Point[] input;
+
+	/**
+	 * Generates the random points.
+	 */
+	@Setup
+	public void setUp() {
+		input = new GeometryGenerator().createPoints(points);
+	}
+
+	/**
+	 * Computes the convex hull of the random points.
+	 *
+	 * @return The convex hull, so that it is not eliminated.
+	 */
+	@Benchmark
+	public Point[] getConvexHull() {
+		return Point.getConvexHull(input);
+	}
+
+}
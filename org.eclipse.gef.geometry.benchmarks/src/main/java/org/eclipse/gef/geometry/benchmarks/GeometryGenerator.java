@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+/**
+ * The {@link GeometryGenerator} creates random geometries for the benchmarks.
+ * All geometries are derived from a {@link Random} that is initialized with a
+ * fixed seed, so that every benchmark run operates on the same input.
+ *
+ * @author mwienand
+ *
+ */
+public final class GeometryGenerator {
+
+	/**
+	 * The seed that is used when no other seed is specified.
+	 */
+	public static final long DEFAULT_SEED = 0x9EF5L;
+
+	/**
+	 * The size of the square area in which geometries are generated.
+	 */
+	public static final double SIZE = 1000;
+
+	private final Random random;
+
+	/**
+	 * Constructs a new {@link GeometryGenerator} using the
+	 * {@link #DEFAULT_SEED}.
+	 */
+	public GeometryGenerator() {
+		this(DEFAULT_SEED);
+	}
+
+	/**
+	 * Constructs a new {@link GeometryGenerator} using the given seed.
+	 *
+	 * @param seed
+	 *            The seed for the random number generator.
+	 */
+	public GeometryGenerator(long seed) {
+		random = new Random(seed);
+	}
+
+	/**
+	 * Creates a random {@link BezierCurve} with the given number of control
+	 * points.
+	 *
+	 * @param controlPoints
+	 *            The number of control points.
+	 * @return A random {@link BezierCurve}.
+	 */
+	public BezierCurve createBezierCurve(int controlPoints) {
+		return new BezierCurve(createPoints(controlPoints));
+	}
+
+	/**
+	 * Creates the given number of random {@link Point}s.
+	 *
+	 * @param count
+	 *            The number of {@link Point}s to create.
+	 * @return The random {@link Point}s.
+	 */
+	public Point[] createPoints(int count) {
+		Point[] points = new Point[count];
+		for (int i = 0; i < count; i++) {
+			points[i] = new Point(random.nextDouble() * SIZE,
+					random.nextDouble() * SIZE);
+		}
+		return points;
+	}
+
+	/**
+	 * Creates a random simple {@link Polygon} with the given number of
+	 * vertices within the whole area. The {@link Polygon} is star-shaped with
+	 * respect to the center of the area.
+	 *
+	 * @param vertices
+	 *            The number of vertices.
+	 * @return A random simple {@link Polygon}.
+	 */
+	public Polygon createPolygon(int vertices) {
+		return createPolygon(vertices, SIZE / 2, SIZE / 2, SIZE / 2);
+	}
+
+	/**
+	 * Creates a random simple {@link Polygon} with the given number of
+	 * vertices. The vertices are placed at increasing angles and random
+	 * distances around the given center, so that the {@link Polygon} is
+	 * star-shaped with respect to that center.
+	 *
+	 * @param vertices
+	 *            The number of vertices.
+	 * @param cx
+	 *            The x coordinate of the center.
+	 * @param cy
+	 *            The y coordinate of the center.
+	 * @param radius
+	 *            The maximum distance of a vertex from the center.
+	 * @return A random simple {@link Polygon}.
+	 */
+	public Polygon createPolygon(int vertices, double cx, double cy,
+			double radius) {
+		double[] angles = new double[vertices];
+		for (int i = 0; i < vertices; i++) {
+			angles[i] = random.nextDouble() * 2 * Math.PI;
+		}
+		Arrays.sort(angles);
+		double[] coordinates = new double[2 * vertices];
+		for (int i = 0; i < vertices; i++) {
+			double r = radius * (0.2 + 0.8 * random.nextDouble());
+			coordinates[2 * i] = cx + r * Math.cos(angles[i]);
+			coordinates[2 * i + 1] = cy + r * Math.sin(angles[i]);
+		}
+		return new Polygon(coordinates);
+	}
+
+	/**
+	 * Creates the given number of small random simple {@link Polygon}s that
+	 * are distributed over the whole area.
+	 *
+	 * @param count
+	 *            The number of {@link Polygon}s to create.
+	 * @param vertices
+	 *            The number of vertices per {@link Polygon}.
+	 * @return The random {@link Polygon}s.
+	 */
+	public Polygon[] createPolygons(int count, int vertices) {
+		Polygon[] polygons = new Polygon[count];
+		double radius = SIZE / Math.sqrt(count);
+		for (int i = 0; i < count; i++) {
+			polygons[i] = createPolygon(vertices,
+					random.nextDouble() * SIZE, random.nextDouble() * SIZE,
+					radius);
+		}
+		return polygons;
+	}
+
+	/**
+	 * Creates the given number of random {@link Rectangle}s that are
+	 * distributed over the whole area.
+	 *
+	 * @param count
+	 *            The number of {@link Rectangle}s to create.
+	 * @return The random {@link Rectangle}s.
+	 */
+	public Rectangle[] createRectangles(int count) {
+		Rectangle[] rectangles = new Rectangle[count];
+		double size = 2 * SIZE / Math.sqrt(count);
+		for (int i = 0; i < count; i++) {
+			rectangles[i] = new Rectangle(random.nextDouble() * SIZE,
+					random.nextDouble() * SIZE,
+					size * (0.1 + random.nextDouble()),
+					size * (0.1 + random.nextDouble()));
+		}
+		return rectangles;
+	}
+
+}
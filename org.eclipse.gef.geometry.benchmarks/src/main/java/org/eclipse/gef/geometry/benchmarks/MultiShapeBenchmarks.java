@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.Polyline;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.geometry.planar.Region;
+import org.eclipse.gef.geometry.planar.Ring;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the construction of {@link Region}s and {@link Ring}s from
+ * overlapping shapes and for the computation of their outlines.
+ *
+ * @author mwienand
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiShapeBenchmarks {
+
+	/**
+	 * The number of vertices of the polygons that are added to a
+	 * {@link Ring}.
+	 */
+	private static final int VERTICES = 6;
+
+	/**
+	 * The number of shapes that are combined.
+	 */
+	@Param({ "10", "25", "50" })
+	public int shapes;
+
+	private Rectangle[] rectangles;
+	private Polygon[] polygons;
+	private Region region;
+	private Ring ring;
+
+	/**
+	 * Generates the random shapes.
+	 */
+	@Setup
+	public void setUp() {
+		GeometryGenerator generator = new GeometryGenerator();
+		rectangles = generator.createRectangles(shapes);
+		polygons = generator.createPolygons(shapes, VERTICES);
+		region = new Region(rectangles);
+		ring = new Ring(polygons);
+	}
+
+	/**
+	 * Constructs a {@link Region} from the random rectangles.
+	 *
+	 * @return The {@link Region}, so that it is not eliminated.
+	 */
+	@Benchmark
+	public Region createRegion() {
+		return new Region(rectangles);
+	}
+
+	/**
+	 * Constructs a {@link Ring} from the random polygons.
+	 *
+	 * @return The {@link Ring}, so that it is not eliminated.
+	 */
+	@Benchmark
+	public Ring createRing() {
+		return new Ring(polygons);
+	}
+
+	/**
+	 * Computes the outlines of the {@link Region}.
+	 *
+	 * @return The outlines, so that they are not eliminated.
+	 */
+	@Benchmark
+	public Polyline[] getRegionOutlines() {
+		return region.getOutlines();
+	}
+
+	/**
+	 * Computes the outlines of the {@link Ring}.
+	 *
+	 * @return The outlines, so that they are not eliminated.
+	 */
+	@Benchmark
+	public Polyline[] getRingOutlines() {
+		return ring.getOutlines();
+	}
+
+}
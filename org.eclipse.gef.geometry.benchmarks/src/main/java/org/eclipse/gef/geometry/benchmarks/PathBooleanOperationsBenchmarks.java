@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the boolean operations on {@link Path}s.
+ *
+ * @author mwienand
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathBooleanOperationsBenchmarks {
+
+	/**
+	 * The number of vertices of each of the two overlapping random polygons.
+	 */
+	@Param({ "8", "32", "128" })
+	public int vertices;
+
+	private Path pa;
+	private Path pb;
+
+	/**
+	 * Generates the random paths.
+	 */
+	@Setup
+	public void setUp() {
+		GeometryGenerator generator = new GeometryGenerator();
+		pa = generator.createPolygon(vertices).toPath();
+		pb = generator.createPolygon(vertices).toPath();
+	}
+
+	/**
+	 * Unions the random paths.
+	 *
+	 * @return The result, so that it is not eliminated.
+	 */
+	@Benchmark
+	public Path add() {
+		return Path.add(pa, pb);
+	}
+
+	/**
+	 * Computes the exclusive-or of the random paths.
+	 *
+	 * @return The result, so that it is not eliminated.
+	 */
+	@Benchmark
+	public Path exclusiveOr() {
+		return Path.exclusiveOr(pa, pb);
+	}
+
+	/**
+	 * Intersects the random paths.
+	 *
+	 * @return The result, so that it is not eliminated.
+	 */
+	@Benchmark
+	public Path intersect() {
+		return Path.intersect(pa, pb);
+	}
+
+	/**
+	 * Subtracts the second random path from the first.
+	 *
+	 * @return The result, so that it is not eliminated.
+	 */
+	@Benchmark
+	public Path subtract() {
+		return Path.subtract(pa, pb);
+	}
+
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Polygon#getTriangulation()}.
+ *
+ * @author mwienand
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TriangulationBenchmarks {
+
+	/**
+	 * The number of vertices of the random polygon.
+	 */
+	@Param({ "10", "100", "1000" })
+	public int vertices;
+
+	private Polygon polygon;
+
+	/**
+	 * Generates the random polygon.
+	 */
+	@Setup
+	public void setUp() {
+		polygon = new GeometryGenerator().createPolygon(vertices);
+	}
+
+	/**
+	 * Triangulates the random polygon.
+	 *
+	 * @return The triangles, so that they are not eliminated.
+	 */
+	@Benchmark
+	public Polygon[] getTriangulation() {
+		return polygon.getTriangulation();
+	}
+
+}
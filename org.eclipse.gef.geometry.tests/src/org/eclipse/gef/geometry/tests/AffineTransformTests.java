@@ -15,6 +15,9 @@ package org.eclipse.gef.geometry.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.NoninvertibleTransformException;
 
 import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.planar.AffineTransform;
@@ -37,6 +40,65 @@ public class AffineTransformTests {
 		assertEquals(t0, t1);
 	}
 
+	@Test
+	public void test_concatenate() {
+		// translation and scaling fast paths agree with general concatenation
+		AffineTransform[] transforms = { new AffineTransform(),
+				new AffineTransform().setToTranslation(3, -4),
+				new AffineTransform().setToScale(2, 0.5),
+				new AffineTransform(2, 0, 0, 0.5, 3, -4),
+				new AffineTransform().setToRotation(0.3, 5, 6) };
+		Point p = new Point(7, 11);
+		for (AffineTransform t0 : transforms) {
+			for (AffineTransform t1 : transforms) {
+				Point expected = t0.getTransformed(t1.getTransformed(p));
+				assertEquals(expected,
+						t0.getCopy().concatenate(t1).getTransformed(p));
+				assertEquals(expected,
+						t1.getCopy().preConcatenate(t0).getTransformed(p));
+			}
+		}
+	}
+
+	@Test
+	public void test_getType() {
+		assertEquals(AffineTransform.TYPE_IDENTITY,
+				new AffineTransform().getType());
+		assertEquals(AffineTransform.TYPE_TRANSLATION,
+				new AffineTransform().setToTranslation(1, 2).getType());
+		assertEquals(AffineTransform.TYPE_UNIFORM_SCALE,
+				new AffineTransform().setToScale(2, 2).getType());
+		assertEquals(
+				AffineTransform.TYPE_FLIP | AffineTransform.TYPE_GENERAL_SCALE,
+				new AffineTransform().setToScale(2, -3).getType());
+		assertEquals(AffineTransform.TYPE_QUADRANT_ROTATION,
+				new AffineTransform().setToQuadrantRotation(1).getType());
+		assertEquals(AffineTransform.TYPE_GENERAL_ROTATION,
+				new AffineTransform().setToRotation(3, 4).getType());
+		assertEquals(AffineTransform.TYPE_GENERAL_TRANSFORM,
+				new AffineTransform().setToShear(1, 0).getType());
+	}
+
+	@Test
+	public void test_invert() throws NoninvertibleTransformException {
+		AffineTransform t = new AffineTransform().rotate(0.5).scale(2, 3)
+				.translate(-4, 5);
+		Point p = new Point(7, 11);
+		assertEquals(p, t.getInverse().getTransformed(t.getTransformed(p)));
+		assertEquals(p, t.inverseTransform(t.getTransformed(p)));
+		assertTrue(t.getCopy().concatenate(t.getInverse()).getTransformed(p)
+				.equals(p));
+		assertEquals(t.getInverse(), t.getCopy().invert());
+
+		boolean thrown = false;
+		try {
+			new AffineTransform().setToScale(0, 1).invert();
+		} catch (NoninvertibleTransformException e) {
+			thrown = true;
+		}
+		assertTrue(thrown);
+	}
+
 	@Test
 	public void test_rotate90() {
 		AffineTransform tx = new AffineTransform();
@@ -45,4 +107,47 @@ public class AffineTransformTests {
 		assertEquals(new Point(0, 1), tx.getTransformed(new Point(1, 0)));
 	}
 
+	@Test
+	public void test_rotate_Angle() {
+		AffineTransform tx = new AffineTransform().rotate(Angle.fromDeg(90));
+		assertEquals(new Point(0, 1), tx.getTransformed(new Point(1, 0)));
+		assertEquals(new AffineTransform().rotate(Angle.fromDeg(30).rad()),
+				new AffineTransform().rotate(Angle.fromDeg(30)));
+
+		// rotation around an anchor point
+		tx = new AffineTransform().rotate(Angle.fromDeg(90), 2, 3);
+		assertEquals(new Point(2, 3), tx.getTransformed(new Point(2, 3)));
+		assertEquals(new Point(2, 4), tx.getTransformed(new Point(3, 3)));
+		assertEquals(
+				new AffineTransform().rotate(Angle.fromDeg(30).rad(), 2, 3),
+				new AffineTransform().rotate(Angle.fromDeg(30), 2, 3));
+	}
+
+	@Test
+	public void test_transform() {
+		AffineTransform[] transforms = { new AffineTransform(),
+				new AffineTransform().setToTranslation(3, -4),
+				new AffineTransform(2, 0, 0, 0.5, 3, -4),
+				new AffineTransform().setToRotation(0.3, 5, 6) };
+		double[] coordinates = { 1, 2, 3, 4, 5, 6, 7, 8 };
+		for (AffineTransform t : transforms) {
+			double[] transformed = new double[coordinates.length];
+			t.transform(coordinates, 0, transformed, 0, 4);
+			for (int i = 0; i < 4; i++) {
+				Point p = t.getTransformed(new Point(coordinates[2 * i],
+						coordinates[2 * i + 1]));
+				assertEquals(p.x, transformed[2 * i], 0);
+				assertEquals(p.y, transformed[2 * i + 1], 0);
+			}
+
+			// overlapping source and destination ranges
+			double[] shifted = new double[coordinates.length + 2];
+			System.arraycopy(coordinates, 0, shifted, 0, coordinates.length);
+			t.transform(shifted, 0, shifted, 2, 4);
+			for (int i = 0; i < transformed.length; i++) {
+				assertEquals(transformed[i], shifted[i + 2], 0);
+			}
+		}
+	}
+
 }
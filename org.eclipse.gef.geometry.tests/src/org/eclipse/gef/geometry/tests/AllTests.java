@@ -20,8 +20,10 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ AffineTransformTests.class, AngleTests.class, ArcTests.class,
-		AWTConversionTests.class, BezierCurveTests.class, CubicCurveTests.class,
-		CurvedPolygonTests.class, CurveUtilsTests.class, DimensionTests.class,
+		AWTConversionTests.class, BezierCurveTests.class,
+		BezierUtilsTests.class, CubicCurveTests.class,
+		CurvedPolygonTests.class, CurveIntersectionsTests.class,
+		CurveUtilsTests.class, DimensionTests.class,
 		EllipseTests.class, IGeometryTests.class, LineTests.class,
 		PathTests.class, PieTests.class, PointListUtilsTests.class,
 		PointTests.class, PolygonTests.class, PolylineTests.class,
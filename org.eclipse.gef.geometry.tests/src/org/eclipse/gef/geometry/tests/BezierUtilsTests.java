@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.geometry.internal.utils.BezierUtils;
+import org.eclipse.gef.geometry.planar.Line;
+import org.eclipse.gef.geometry.planar.Point;
+import org.junit.Test;
+
+public class BezierUtilsTests {
+
+	private static final double[] CUBIC = { 0, 0, 20, 100, 80, -50, 100, 50 };
+
+	private static final double[] QUADRATIC = { 0, 0, 50, 100, 100, 0 };
+
+	private static final double[] QUINTIC = { 0, 0, 10, 80, 40, -60, 60, 90,
+			90, -40, 100, 0 };
+
+	private static final double EPSILON = 1e-9;
+
+	/**
+	 * Evaluates the curve using the explicit Bernstein polynomials.
+	 */
+	private static double[] bernstein(double[] c, double t) {
+		int n = c.length / 2;
+		double x = 0, y = 0;
+		for (int i = 0; i < n; i++) {
+			double b = binomial(n - 1, i) * Math.pow(t, i)
+					* Math.pow(1 - t, n - 1 - i);
+			x += b * c[2 * i];
+			y += b * c[2 * i + 1];
+		}
+		return new double[] { x, y };
+	}
+
+	private static double binomial(int n, int k) {
+		double b = 1;
+		for (int i = 1; i <= k; i++) {
+			b = b * (n - k + i) / i;
+		}
+		return b;
+	}
+
+	@Test
+	public void test_clip() {
+		double[] clipped = new double[CUBIC.length];
+		BezierUtils.clip(CUBIC, 4, 0.2, 0.7, clipped);
+		double[] p = new double[2];
+		for (int i = 0; i <= 10; i++) {
+			double t = i / 10d;
+			BezierUtils.evaluate(clipped, 4, t, p);
+			double[] expected = bernstein(CUBIC, 0.2 + t * 0.5);
+			assertEquals(expected[0], p[0], EPSILON);
+			assertEquals(expected[1], p[1], EPSILON);
+		}
+
+		// in place
+		double[] copy = CUBIC.clone();
+		BezierUtils.clip(copy, 4, 0.2, 0.7, copy);
+		for (int i = 0; i < copy.length; i++) {
+			assertEquals(clipped[i], copy[i], 0);
+		}
+	}
+
+	@Test
+	public void test_evaluate() {
+		double[] p = new double[2];
+		for (double[] c : new double[][] { QUADRATIC, CUBIC, QUINTIC }) {
+			for (int i = 0; i <= 20; i++) {
+				double t = i / 20d;
+				BezierUtils.evaluate(c, c.length / 2, t, p);
+				double[] expected = bernstein(c, t);
+				assertEquals(expected[0], p[0], EPSILON);
+				assertEquals(expected[1], p[1], EPSILON);
+			}
+		}
+	}
+
+	@Test
+	public void test_evaluateDerivative() {
+		double[] d = new double[2];
+		double[] hodograph = new double[CUBIC.length - 2];
+		BezierUtils.getDerivative(CUBIC, 4, hodograph);
+		double[] h = new double[2];
+		for (int i = 0; i <= 10; i++) {
+			double t = i / 10d;
+			BezierUtils.evaluateDerivative(CUBIC, 4, t, d);
+			BezierUtils.evaluate(hodograph, 3, t, h);
+			assertEquals(h[0], d[0], EPSILON);
+			assertEquals(h[1], d[1], EPSILON);
+		}
+		// the derivative at the start is 3 * (P1 - P0) for a cubic curve
+		BezierUtils.evaluateDerivative(CUBIC, 4, 0, d);
+		assertEquals(60, d[0], EPSILON);
+		assertEquals(300, d[1], EPSILON);
+	}
+
+	@Test
+	public void test_flatten() {
+		double tolerance = 0.1;
+		for (double[] c : new double[][] { QUADRATIC, CUBIC, QUINTIC }) {
+			int n = c.length / 2;
+			int segments = BezierUtils.getFlatteningSegmentCount(c, n,
+					tolerance);
+			assertTrue(segments > 1);
+			double[] vertices = new double[2 * (segments + 1)];
+			BezierUtils.flatten(c, n, segments, vertices);
+
+			// check the distance of intermediate curve points to the strip
+			double[] p = new double[2];
+			for (int i = 0; i < segments; i++) {
+				Line segment = new Line(vertices[2 * i], vertices[2 * i + 1],
+						vertices[2 * i + 2], vertices[2 * i + 3]);
+				for (int j = 1; j < 4; j++) {
+					BezierUtils.evaluate(c, n, (i + j / 4d) / segments, p);
+					assertTrue(segment.getProjection(new Point(p[0], p[1]))
+							.getDistance(new Point(p[0], p[1])) <= tolerance);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void test_getBounds() {
+		double[] bounds = new double[4];
+		double[] p = new double[2];
+		for (double[] c : new double[][] { QUADRATIC, CUBIC, QUINTIC }) {
+			int n = c.length / 2;
+			BezierUtils.getBounds(c, n, bounds);
+			double xmin = Double.MAX_VALUE, ymin = Double.MAX_VALUE;
+			double xmax = -Double.MAX_VALUE, ymax = -Double.MAX_VALUE;
+			for (int i = 0; i <= 10000; i++) {
+				BezierUtils.evaluate(c, n, i / 10000d, p);
+				xmin = Math.min(xmin, p[0]);
+				ymin = Math.min(ymin, p[1]);
+				xmax = Math.max(xmax, p[0]);
+				ymax = Math.max(ymax, p[1]);
+			}
+			assertEquals(xmin, bounds[0], 1e-3);
+			assertEquals(ymin, bounds[1], 1e-3);
+			assertEquals(xmax, bounds[2], 1e-3);
+			assertEquals(ymax, bounds[3], 1e-3);
+		}
+	}
+
+	@Test
+	public void test_getProjection() {
+		double[] projection = new double[2];
+		double[] p = new double[2];
+		for (double[] c : new double[][] { QUADRATIC, CUBIC, QUINTIC }) {
+			int n = c.length / 2;
+			for (int x = -50; x <= 150; x += 25) {
+				for (int y = -100; y <= 150; y += 25) {
+					double t = BezierUtils.getProjection(c, n, x, y,
+							projection);
+					BezierUtils.evaluate(c, n, t, p);
+					assertEquals(p[0], projection[0], 0);
+					assertEquals(p[1], projection[1], 0);
+					double distance = Math.hypot(projection[0] - x,
+							projection[1] - y);
+
+					// no sample is closer
+					for (int i = 0; i <= 1000; i++) {
+						BezierUtils.evaluate(c, n, i / 1000d, p);
+						assertTrue(distance <= Math.hypot(p[0] - x, p[1] - y)
+								+ EPSILON);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void test_split() {
+		double[] left = new double[CUBIC.length];
+		double[] right = new double[CUBIC.length];
+		BezierUtils.split(CUBIC, 4, 0.3, left, right);
+		double[] p = new double[2];
+		for (int i = 0; i <= 10; i++) {
+			double t = i / 10d;
+			BezierUtils.evaluate(left, 4, t, p);
+			double[] expected = bernstein(CUBIC, 0.3 * t);
+			assertEquals(expected[0], p[0], EPSILON);
+			assertEquals(expected[1], p[1], EPSILON);
+			BezierUtils.evaluate(right, 4, t, p);
+			expected = bernstein(CUBIC, 0.3 + 0.7 * t);
+			assertEquals(expected[0], p[0], EPSILON);
+			assertEquals(expected[1], p[1], EPSILON);
+		}
+
+		// the input array may be reused as an output array
+		double[] copy = CUBIC.clone();
+		BezierUtils.split(copy, 4, 0.3, copy, right);
+		for (int i = 0; i < copy.length; i++) {
+			assertEquals(left[i], copy[i], 0);
+		}
+	}
+
+}
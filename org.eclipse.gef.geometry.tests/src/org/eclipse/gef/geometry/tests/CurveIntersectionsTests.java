@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.gef.geometry.planar.CubicCurve;
+import org.eclipse.gef.geometry.planar.CurveIntersections;
+import org.eclipse.gef.geometry.planar.CurveIntersections.Intersection;
+import org.eclipse.gef.geometry.planar.ICurve;
+import org.eclipse.gef.geometry.planar.Line;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.junit.Test;
+
+public class CurveIntersectionsTests {
+
+	@Test
+	public void test_grid() {
+		// horizontal and vertical lines intersect in a grid of points
+		List<Line> horizontal = new ArrayList<>();
+		List<Line> vertical = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			horizontal.add(new Line(-5, 10 * i, 200, 10 * i));
+			vertical.add(new Line(10 * i, -5, 10 * i, 200));
+		}
+
+		List<Intersection> intersections = CurveIntersections
+				.getIntersections(horizontal, vertical, false);
+		assertEquals(400, intersections.size());
+		int k = 0;
+		for (int i = 0; i < 20; i++) {
+			for (int j = 0; j < 20; j++) {
+				Intersection intersection = intersections.get(k++);
+				assertEquals(i, intersection.getIndex1());
+				assertEquals(j, intersection.getIndex2());
+				assertEquals(new Point(10 * j, 10 * i),
+						intersection.getPoint());
+			}
+		}
+
+		// all lines at once: parallel lines do not intersect
+		List<Line> all = new ArrayList<>(horizontal);
+		all.addAll(vertical);
+		intersections = CurveIntersections.getIntersections(all, true);
+		assertEquals(400, intersections.size());
+		for (Intersection intersection : intersections) {
+			assertTrue(intersection.getIndex1() < 20);
+			assertTrue(intersection.getIndex2() >= 20);
+		}
+	}
+
+	@Test
+	public void test_outlines() {
+		// connections against node outlines
+		List<ICurve> connections = new ArrayList<>();
+		List<ICurve> outlines = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			connections.add(new CubicCurve(0, 100 * i + 50, 300, 100 * i - 50,
+					700, 100 * i + 150, 1000, 100 * i + 50));
+			outlines.add(new Rectangle(100 * i, 100 * i, 50, 50).getOutline());
+		}
+
+		List<Intersection> sequential = CurveIntersections
+				.getIntersections(connections, outlines, false);
+		List<Intersection> parallel = CurveIntersections
+				.getIntersections(connections, outlines, true);
+		assertEquals(sequential.size(), parallel.size());
+
+		// compare with pairwise intersection
+		int k = 0;
+		for (int i = 0; i < connections.size(); i++) {
+			for (int j = 0; j < outlines.size(); j++) {
+				List<Point> expected = Arrays.asList(
+						connections.get(i).getIntersections(outlines.get(j)));
+				for (int l = 0; l < expected.size(); l++) {
+					Intersection intersection = sequential.get(k);
+					assertEquals(i, intersection.getIndex1());
+					assertEquals(j, intersection.getIndex2());
+					assertTrue(expected.contains(intersection.getPoint()));
+					assertEquals(intersection.getPoint(),
+							parallel.get(k).getPoint());
+					k++;
+				}
+			}
+		}
+		assertEquals(k, sequential.size());
+	}
+
+	@Test
+	public void test_self_intersection_ignored() {
+		// the segments of a curve are not intersected with each other
+		PolyBezier polyBezier = PolyBezier.interpolateCubic(new Point(0, 0),
+				new Point(100, 100), new Point(100, 0), new Point(0, 100));
+		List<ICurve> curves = new ArrayList<>();
+		curves.add(polyBezier);
+		assertTrue(CurveIntersections.getIntersections(curves, false)
+				.isEmpty());
+
+		curves.add(new Line(-10, 50, 110, 50));
+		List<Intersection> intersections = CurveIntersections
+				.getIntersections(curves, false);
+		assertEquals(
+				polyBezier.getIntersections(new Line(-10, 50, 110, 50)).length,
+				intersections.size());
+		for (Intersection intersection : intersections) {
+			assertEquals(0, intersection.getIndex1());
+			assertEquals(1, intersection.getIndex2());
+		}
+	}
+
+}
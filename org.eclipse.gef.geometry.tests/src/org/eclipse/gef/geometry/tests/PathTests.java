@@ -19,6 +19,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 
+import org.eclipse.gef.geometry.planar.Ellipse;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Path;
 import org.eclipse.gef.geometry.planar.Point;
@@ -36,6 +37,31 @@ public class PathTests {
 		assertTrue(unionPath.contains(r1.getCenter()));
 	}
 
+	@Test
+	public void test_CAG_curves() {
+		Ellipse e0 = new Ellipse(0, 0, 100, 100);
+		Ellipse e1 = new Ellipse(50, 0, 100, 100);
+		Path intersectionPath = Path.intersect(e0.toPath(), e1.toPath());
+		assertTrue(intersectionPath.contains(new Point(75, 50)));
+		assertFalse(intersectionPath.contains(new Point(25, 50)));
+		assertFalse(intersectionPath.contains(new Point(125, 50)));
+		// curved segments are preserved (not approximated by lines)
+		boolean hasCurve = false;
+		for (Path.Segment s : intersectionPath.getSegments()) {
+			if (s.getType() == Path.Segment.CUBIC_TO) {
+				hasCurve = true;
+			}
+		}
+		assertTrue(hasCurve);
+
+		// identical operands
+		Path unionPath = Path.add(e0.toPath(), e0.toPath());
+		assertTrue(unionPath.contains(e0.getCenter()));
+		assertEquals(e0.getBounds(), unionPath.getBounds());
+		assertEquals(0,
+				Path.subtract(e0.toPath(), e0.toPath()).getSegments().length);
+	}
+
 	@Test
 	public void test_CAG_exclusiveOr() {
 		Rectangle r0 = new Rectangle(0, 0, 100, 100);
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
@@ -82,4 +83,24 @@ public class PointListUtilsTests {
 			}
 		}
 	}
+
+	@Test
+	public void test_toSegmentsArray_coordinates() {
+		double[] coordinates = { 0, 0, 1, 1, 2, 0 };
+		Point[] points = PointListUtils.toPointsArray(coordinates);
+
+		Line[] segments = PointListUtils.toSegmentsArray(coordinates, false);
+		assertEquals(2, segments.length);
+		for (int i = 0; i < segments.length; i++) {
+			assertEquals(PointListUtils.toSegmentsArray(points, false)[i],
+					segments[i]);
+		}
+
+		segments = PointListUtils.toSegmentsArray(coordinates, true);
+		assertEquals(3, segments.length);
+		assertEquals(new Line(2, 0, 0, 0), segments[2]);
+
+		assertEquals(0, PointListUtils
+				.toSegmentsArray(new double[] { 1, 1 }, true).length);
+	}
 }
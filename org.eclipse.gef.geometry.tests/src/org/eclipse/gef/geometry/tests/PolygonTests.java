@@ -26,6 +26,7 @@ import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Polygon;
 import org.eclipse.gef.geometry.planar.Polyline;
+import org.eclipse.gef.geometry.planar.PreparedPolygon;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.junit.Test;
 
@@ -61,6 +62,16 @@ public class PolygonTests {
 	private static final double UNRECOGNIZABLE_FRACTION = PRECISION_FRACTION
 			- PRECISION_FRACTION / 10;
 
+	private static double getTriangulatedArea(Polygon p, int[] indices) {
+		Point[] points = p.getPoints();
+		double area = 0;
+		for (int i = 0; i < indices.length; i += 3) {
+			area += new Polygon(points[indices[i]], points[indices[i + 1]],
+					points[indices[i + 2]]).getArea();
+		}
+		return area;
+	}
+
 	@Test
 	public void test_constructors() {
 		assertEquals(RHOMB, new Polygon(new Point(2, 0), new Point(4, 2),
@@ -310,6 +321,31 @@ public class PolygonTests {
 				RHOMB.contains(new Point(4, 0)));
 	}
 
+	@Test
+	public void test_contains_Point_ManyVertices() {
+		// star shaped polygon with many vertices
+		int n = 10000;
+		double[] coordinates = new double[2 * n];
+		for (int i = 0; i < n; i++) {
+			double alpha = 2 * Math.PI * i / n;
+			double radius = i % 2 == 0 ? 100 : 90;
+			coordinates[2 * i] = radius * Math.cos(alpha);
+			coordinates[2 * i + 1] = radius * Math.sin(alpha);
+		}
+		Polygon star = new Polygon(coordinates);
+		for (int i = 0; i < 360; i += 7) {
+			double alpha = Math.toRadians(i + 0.5);
+			assertTrue(star.contains(new Point(85 * Math.cos(alpha),
+					85 * Math.sin(alpha))));
+			assertFalse(star.contains(new Point(105 * Math.cos(alpha),
+					105 * Math.sin(alpha))));
+		}
+		for (int i = 0; i < n; i += 101) {
+			assertTrue(star.contains(
+					new Point(coordinates[2 * i], coordinates[2 * i + 1])));
+		}
+	}
+
 	@Test
 	public void test_contains_Polyline() {
 		assertTrue(RHOMB.contains(new Polyline(0, 2, 2, 2)));
@@ -545,6 +581,62 @@ public class PolygonTests {
 		assertTrue(true);
 	}
 
+	@Test
+	public void test_getTriangulationIndices() {
+		Polygon p = new Polygon(150.0, 50.0, 50.0, 100.0, 23.0, 165.0, 50.0,
+				250.0, 135.0, 294.0, 250.0, 300.0, 137.0, 260.0, 63.0, 168.0,
+				113.0, 105.0, 136.0, 206.0, 150.0, 50.0);
+		int[] indices = p.getTriangulationIndices();
+		// the duplicate closing vertex does not lead to a triangle
+		assertEquals(3 * 8, indices.length);
+		assertEquals(p.getArea(), getTriangulatedArea(p, indices),
+				PrecisionUtils.calculateFraction(0));
+		assertEquals(indices.length / 3, p.getTriangulation().length);
+
+		// large polygon with many reflex vertices
+		int n = 10000;
+		double[] coordinates = new double[2 * n];
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			double radius = 100 + (i % 2 == 0 ? 0 : 10)
+					+ 30 * Math.sin(7 * angle);
+			coordinates[2 * i] = radius * Math.cos(angle);
+			coordinates[2 * i + 1] = radius * Math.sin(angle);
+		}
+		p = new Polygon(coordinates);
+		indices = p.getTriangulationIndices();
+		assertEquals(3 * (n - 2), indices.length);
+		assertEquals(p.getArea(), getTriangulatedArea(p, indices),
+				PrecisionUtils.calculateFraction(0) * p.getArea());
+	}
+
+	@Test
+	public void test_getTriangulationIndices_degenerate() {
+		double[][] polygons = {
+				// duplicate vertex and zero-area spike
+				{ 0, 0, 1, 4, 1, 4, 5, 5, 1, 2, 5, 5, 3, 0, 4, 4 },
+				// zero-area spikes
+				{ 5, 3, 5, 1, 0, 2, 4, 2, 0, 2 },
+				{ 4, 5, 5, 1, 1, 0, 4, 3, 1, 0, 0, 5 },
+				// boundary touching itself in a vertex
+				{ 4, 0, 3, 0, 3, 1, 0, 1, 0, 2, 3, 1 },
+				{ 1, 5, 1, 0, 2, 3, 3, 1, 1, 0, 4, 0 } };
+		double[] areas = { 9, 5, 18.5, 2, 5 };
+		for (int i = 0; i < polygons.length; i++) {
+			Polygon p = new Polygon(polygons[i]);
+			assertEquals(areas[i], p.getArea(), 0);
+			assertEquals(areas[i],
+					getTriangulatedArea(p, p.getTriangulationIndices()),
+					PrecisionUtils.calculateFraction(0));
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void test_getTriangulationIndices_notSimple() {
+		// bow-tie
+		new Polygon(0, 0, 10, 10, 10, 0, 0, 10).getTriangulationIndices();
+	}
+
 	@Test
 	public void test_intersects_Ellipse() {
 		assertTrue(RHOMB.touches(new Ellipse(0, 0, 4, 4)));
@@ -619,6 +711,44 @@ public class PolygonTests {
 				RHOMB.touches(new Rectangle(-2, 0, 2, 2)));
 	}
 
+	@Test
+	public void test_prepare() {
+		// the prepared polygons yield the same results on a fine grid, which
+		// includes vertices, border points, and imprecise border points
+		for (Polygon polygon : new Polygon[] { CONCAVE_OCTAGON,
+				CONCAVE_PENTAGON, RECTANGLE, RHOMB }) {
+			PreparedPolygon prepared = polygon.prepare();
+			double[] coordinates = new double[2 * 41 * 41];
+			int k = 0;
+			for (int i = -20; i <= 100; i += 3) {
+				for (int j = -20; j <= 100; j += 3) {
+					double x = i / 10d + UNRECOGNIZABLE_FRACTION;
+					double y = j / 10d - UNRECOGNIZABLE_FRACTION;
+					assertEquals(polygon.contains(new Point(x, y)),
+							prepared.contains(x, y));
+					coordinates[k++] = x;
+					coordinates[k++] = y;
+				}
+			}
+
+			boolean[] result = new boolean[coordinates.length / 2];
+			prepared.contains(coordinates, result);
+			for (int i = 0; i < result.length; i++) {
+				assertEquals(
+						polygon.contains(new Point(coordinates[2 * i],
+								coordinates[2 * i + 1])),
+						result[i]);
+			}
+		}
+
+		// later changes are not reflected
+		Polygon polygon = RECTANGLE.getCopy();
+		PreparedPolygon prepared = polygon.prepare();
+		polygon.translate(10, 10);
+		assertTrue(prepared.contains(1, 1));
+		assertEquals(RECTANGLE, prepared.getPolygon());
+	}
+
 	@Test
 	public void test_rotateCCW() {
 		assertEquals(RHOMB,
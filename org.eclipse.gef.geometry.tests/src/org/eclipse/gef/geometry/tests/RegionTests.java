@@ -39,6 +39,30 @@ public class RegionTests {
 		assertEquals(1, region.getShapes().length);
 	}
 
+	@Test
+	public void test_constructor_overlapping() {
+		// 10x10 overlapping rectangles that cover a 110x110 square
+		Rectangle[] rectangles = new Rectangle[100];
+		Region added = new Region();
+		for (int i = 0; i < rectangles.length; i++) {
+			rectangles[i] = new Rectangle(i % 10 * 10, i / 10 * 10, 20, 20);
+			added.add(rectangles[i]);
+		}
+		Region region = new Region(rectangles);
+
+		// the internal rectangles are coalesced
+		assertEquals(1, region.getShapes().length);
+		assertEquals(new Rectangle(0, 0, 110, 110), region.getShapes()[0]);
+
+		// the internal rectangles do not share any area
+		double area = 0;
+		for (Rectangle r : added.getShapes()) {
+			area += r.getArea();
+		}
+		assertEquals(110 * 110, area, 1e-9);
+		assertEquals(region, added);
+	}
+
 	@Test
 	public void test_copy_semantics() {
 		Rectangle r1 = new Rectangle(0, 0, 100, 100);
@@ -142,9 +166,9 @@ public class RegionTests {
 				new Rectangle(50, 50, 100, 100));
 		path = region.toPath();
 		segs = path.getSegments();
-		assertEquals(12, segs.length);
+		assertEquals(10, segs.length);
 		assertEquals(Path.Segment.MOVE_TO, segs[0].getType());
-		assertEquals(Path.Segment.CLOSE, segs[11].getType());
+		assertEquals(Path.Segment.CLOSE, segs[9].getType());
 
 		// distinct rectangles
 		region = new Region(new Rectangle(0, 0, 50, 50),
@@ -0,0 +1,720 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.internal.utils;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+
+/**
+ * Primitive evaluation kernels for {@link BezierCurve}s. The control points of
+ * a curve are given as a flat array of alternating x and y coordinates,
+ * together with the number of control points <i>n</i>, so that (larger)
+ * scratch arrays can be reused. All results are written to caller-provided
+ * output arrays, i.e. apart from
+ * {@link #getBounds(double[], int, double[])} for curves of a degree higher
+ * than three, no objects are allocated.
+ *
+ * @author mwienand
+ *
+ */
+public class BezierUtils {
+
+	// maximum subdivision depth when searching for the extremes of curves of
+	// a degree higher than three
+	private static final int MAX_EXTREME_DEPTH = 48;
+
+	// maximum number of (safeguarded) Newton iterations when refining a
+	// projection
+	private static final int MAX_NEWTON_ITERATIONS = 64;
+
+	// maximum subdivision depth when isolating the minima of the distance to
+	// a point
+	private static final int MAX_PROJECTION_DEPTH = 32;
+
+	// parameter difference at which the Newton iteration is regarded to have
+	// converged, well below the imprecision of PrecisionUtils
+	private static final double PARAMETER_EPSILON = 1e-14;
+
+	/**
+	 * Computes the control points of the sub-curve over the parameter interval
+	 * <code>[t0;t1]</code> of the given curve. The output array may be the
+	 * input array.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param t0
+	 *            The start parameter of the sub-curve.
+	 * @param t1
+	 *            The end parameter of the sub-curve.
+	 * @param out
+	 *            The array that receives the <code>2 * n</code> control point
+	 *            coordinates of the sub-curve.
+	 */
+	public static void clip(double[] c, int n, double t0, double t1,
+			double[] out) {
+		if (c != out) {
+			System.arraycopy(c, 0, out, 0, 2 * n);
+		}
+		if (t0 > 0) {
+			splitRight(out, n, t0);
+		}
+		if (t1 < 1) {
+			splitLeft(out, n, t0 == 1 ? 1 : (t1 - t0) / (1 - t0));
+		}
+	}
+
+	/**
+	 * Evaluates the given curve at the given parameter value.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param t
+	 *            The parameter value.
+	 * @param out
+	 *            The array that receives the x and y coordinate of the
+	 *            {@link org.eclipse.gef.geometry.planar.Point} at the given
+	 *            parameter value.
+	 */
+	public static void evaluate(double[] c, int n, double t, double[] out) {
+		evaluate(c, 0, 1, n, t, out, 0);
+	}
+
+	/**
+	 * Evaluates the control points in the given array that start at the given
+	 * offset and are separated by the given stride (in coordinate pairs) using
+	 * Horner's scheme.
+	 */
+	private static void evaluate(double[] c, int offset, int stride, int n,
+			double t, double[] out, int outOffset) {
+		double bn = 1, tn = 1, d = 1d - t;
+		double x = c[offset], y = c[offset + 1];
+		for (int i = 1; i < n; i++) {
+			bn = bn * (n - i) / i;
+			tn = tn * t;
+			int j = offset + 2 * i * stride;
+			x = x * d + c[j] * bn * tn;
+			y = y * d + c[j + 1] * bn * tn;
+		}
+		out[outOffset] = x;
+		out[outOffset + 1] = y;
+	}
+
+	/**
+	 * Evaluates the first derivative of the given curve at the given parameter
+	 * value.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param t
+	 *            The parameter value.
+	 * @param out
+	 *            The array that receives the x and y coordinate of the
+	 *            derivative at the given parameter value.
+	 */
+	public static void evaluateDerivative(double[] c, int n, double t,
+			double[] out) {
+		evaluateDerivative(c, n, t, out, 0, 1);
+	}
+
+	/**
+	 * Evaluates the given (first or second) derivative of the given curve
+	 * using Horner's scheme on the forward differences of the control points.
+	 */
+	private static void evaluateDerivative(double[] c, int n, double t,
+			double[] out, int outOffset, int order) {
+		int m = n - 1 - order;
+		if (m < 0) {
+			out[outOffset] = out[outOffset + 1] = 0;
+			return;
+		}
+		double bn = 1, tn = 1, d = 1d - t;
+		double x = getDifference(c, 0, order);
+		double y = getDifference(c, 1, order);
+		for (int i = 1; i <= m; i++) {
+			bn = bn * (m + 1 - i) / i;
+			tn = tn * t;
+			x = x * d + getDifference(c, 2 * i, order) * bn * tn;
+			y = y * d + getDifference(c, 2 * i + 1, order) * bn * tn;
+		}
+		// factor (n - 1) * ... * (n - order)
+		double factor = 1;
+		for (int i = 0; i < order; i++) {
+			factor *= n - 1 - i;
+		}
+		out[outOffset] = factor * x;
+		out[outOffset + 1] = factor * y;
+	}
+
+	/**
+	 * Evaluates the given curve at <code>segments + 1</code> equidistant
+	 * parameter values, i.e. computes the vertices of a line strip that
+	 * approximates the curve. The number of segments that are needed to
+	 * guarantee a given tolerance can be determined using
+	 * {@link #getFlatteningSegmentCount(double[], int, double)}.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param segments
+	 *            The number of line segments.
+	 * @param out
+	 *            The array that receives the <code>2 * (segments + 1)</code>
+	 *            vertex coordinates.
+	 */
+	public static void flatten(double[] c, int n, int segments, double[] out) {
+		out[0] = c[0];
+		out[1] = c[1];
+		for (int i = 1; i < segments; i++) {
+			evaluate(c, 0, 1, n, (double) i / segments, out, 2 * i);
+		}
+		out[2 * segments] = c[2 * n - 2];
+		out[2 * segments + 1] = c[2 * n - 1];
+	}
+
+	/**
+	 * Computes the tight bounds of the given curve. The extremes of quadratic
+	 * and cubic curves are computed analytically. The extremes of curves of a
+	 * higher degree are approximated by subdivision.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param out
+	 *            The array that receives the minimum x, minimum y, maximum x,
+	 *            and maximum y coordinate (in that order).
+	 */
+	public static void getBounds(double[] c, int n, double[] out) {
+		for (int k = 0; k < 2; k++) {
+			double p0 = c[k], pn = c[2 * n - 2 + k];
+			double min = Math.min(p0, pn), max = Math.max(p0, pn);
+			if (n == 3) {
+				double p1 = c[2 + k];
+				double denominator = p0 - 2 * p1 + pn;
+				if (denominator != 0) {
+					double t = (p0 - p1) / denominator;
+					if (t > 0 && t < 1) {
+						double d = 1 - t;
+						double v = d * d * p0 + 2 * d * t * p1 + t * t * pn;
+						min = Math.min(min, v);
+						max = Math.max(max, v);
+					}
+				}
+			} else if (n == 4) {
+				double p1 = c[2 + k], p2 = c[4 + k];
+				// derivative / 3 = a * t^2 + b * t + cc
+				double a = -p0 + 3 * p1 - 3 * p2 + pn;
+				double b = 2 * (p0 - 2 * p1 + p2);
+				double cc = p1 - p0;
+				double[] roots = { Double.NaN, Double.NaN };
+				if (Math.abs(a) < 1e-12 * (Math.abs(b) + Math.abs(cc))
+						|| a == 0) {
+					if (b != 0) {
+						roots[0] = -cc / b;
+					}
+				} else {
+					double discriminant = b * b - 4 * a * cc;
+					if (discriminant >= 0) {
+						double sqrt = Math.sqrt(discriminant);
+						// numerically stable
+						double q = -0.5 * (b + (b < 0 ? -sqrt : sqrt));
+						roots[0] = q / a;
+						if (q != 0) {
+							roots[1] = cc / q;
+						}
+					}
+				}
+				for (double t : roots) {
+					if (t > 0 && t < 1) {
+						double d = 1 - t;
+						double v = d * d * d * p0 + 3 * d * d * t * p1
+								+ 3 * d * t * t * p2 + t * t * t * pn;
+						min = Math.min(min, v);
+						max = Math.max(max, v);
+					}
+				}
+			} else if (n > 4) {
+				min = getExtreme(c, n, k, false);
+				max = getExtreme(c, n, k, true);
+			}
+			out[k] = min;
+			out[2 + k] = max;
+		}
+	}
+
+	/**
+	 * Computes the bounds of the control polygon of the given curve.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param out
+	 *            The array that receives the minimum x, minimum y, maximum x,
+	 *            and maximum y coordinate (in that order).
+	 */
+	public static void getControlBounds(double[] c, int n, double[] out) {
+		double xmin = c[0], ymin = c[1], xmax = c[0], ymax = c[1];
+		for (int i = 1; i < n; i++) {
+			double x = c[2 * i], y = c[2 * i + 1];
+			if (x < xmin) {
+				xmin = x;
+			} else if (x > xmax) {
+				xmax = x;
+			}
+			if (y < ymin) {
+				ymin = y;
+			} else if (y > ymax) {
+				ymax = y;
+			}
+		}
+		out[0] = xmin;
+		out[1] = ymin;
+		out[2] = xmax;
+		out[3] = ymax;
+	}
+
+	/**
+	 * Returns the first or second forward difference of the coordinate at the
+	 * given index.
+	 */
+	private static double getDifference(double[] c, int i, int order) {
+		if (order == 1) {
+			return c[i + 2] - c[i];
+		}
+		return c[i + 4] - 2 * c[i + 2] + c[i];
+	}
+
+	/**
+	 * Computes the Bernstein coefficients of the derivative of the squared
+	 * distance of the given curve to the given point, up to a positive factor.
+	 * The binomial coefficients of degree <code>n - 1</code> and
+	 * <code>n - 2</code> are expected to be stored at the start of
+	 * <i>binomials</i>, one after the other.
+	 */
+	private static void getDistanceDerivative(double[] c, int n, double x,
+			double y, double[] binomials, double[] out) {
+		// (B(t) - P) has degree m, B'(t) has degree k
+		int m = n - 1, k = n - 2;
+		for (int l = 0; l <= m + k; l++) {
+			double f = 0;
+			for (int i = Math.max(0, l - k); i <= Math.min(m, l); i++) {
+				int j = l - i;
+				double dx = c[2 * i] - x;
+				double dy = c[2 * i + 1] - y;
+				double bx = c[2 * j + 2] - c[2 * j];
+				double by = c[2 * j + 3] - c[2 * j + 1];
+				f += binomials[i] * binomials[n + j] * (dx * bx + dy * by);
+			}
+			out[l] = f;
+		}
+	}
+
+	/**
+	 * Computes the control points of the hodograph, i.e. the first parametric
+	 * derivative, of the given curve.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param out
+	 *            The array that receives the <code>2 * (n - 1)</code> control
+	 *            point coordinates of the hodograph.
+	 */
+	public static void getDerivative(double[] c, int n, double[] out) {
+		for (int i = 0; i < 2 * (n - 1); i++) {
+			out[i] = (n - 1) * (c[i + 2] - c[i]);
+		}
+	}
+
+	/**
+	 * Returns the maximum distance of the inner control points of the given
+	 * curve to its base line, i.e. to the straight through its start and end
+	 * point. If the start and end point are equal, <code>0</code> is returned.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @return The maximum distance of the inner control points to the base
+	 *         line.
+	 */
+	public static double getDistanceToBaseLine(double[] c, int n) {
+		double x0 = c[0], y0 = c[1], xn = c[2 * n - 2], yn = c[2 * n - 1];
+		// straight through start and end point (homogeneous coordinates)
+		double a = y0 - yn;
+		double b = xn - x0;
+		double f = Math.sqrt(a * a + b * b);
+		if (f == 0d) {
+			return 0d;
+		}
+		double cc = x0 * yn - y0 * xn;
+		double maxDistance = 0d;
+		for (int i = 1; i < n - 1; i++) {
+			maxDistance = Math.max(maxDistance,
+					Math.abs((a * c[2 * i] + b * c[2 * i + 1] + cc) / f));
+		}
+		return maxDistance;
+	}
+
+	/**
+	 * Approximates the minimum or maximum of the given coordinate (0 for x, 1
+	 * for y) of the given curve by subdivision of its control polygon.
+	 */
+	private static double getExtreme(double[] c, int n, int k, boolean max) {
+		double sign = max ? 1 : -1;
+		// the coordinate function in Bernstein form, and a stack of the
+		// pending (right) halves
+		double[] stack = new double[(MAX_EXTREME_DEPTH + 2) * n];
+		int[] depths = new int[MAX_EXTREME_DEPTH + 2];
+		for (int i = 0; i < n; i++) {
+			stack[i] = sign * c[2 * i + k];
+		}
+		depths[0] = 0;
+		int top = 1;
+		double extreme = Math.max(stack[0], stack[n - 1]);
+		while (top > 0) {
+			top--;
+			int o = top * n;
+			int depth = depths[top];
+			extreme = Math.max(extreme, Math.max(stack[o], stack[o + n - 1]));
+			double hull = stack[o];
+			for (int i = 1; i < n; i++) {
+				hull = Math.max(hull, stack[o + i]);
+			}
+			if (hull <= extreme || depth == MAX_EXTREME_DEPTH
+					|| hull - extreme < PrecisionUtils.calculateFraction(0)) {
+				continue;
+			}
+			// split at 0.5 into left (kept at o) and right (pushed at o + n)
+			int r = o + n;
+			for (int i = 0; i < n; i++) {
+				stack[r + i] = stack[o + i];
+			}
+			for (int level = 1; level < n; level++) {
+				for (int j = n - 1; j >= level; j--) {
+					stack[o + j] = (stack[o + j - 1] + stack[o + j]) / 2;
+				}
+				for (int j = 0; j < n - level; j++) {
+					stack[r + j] = (stack[r + j] + stack[r + j + 1]) / 2;
+				}
+			}
+			// process the left half first
+			for (int i = 0; i < n; i++) {
+				double tmp = stack[o + i];
+				stack[o + i] = stack[r + i];
+				stack[r + i] = tmp;
+			}
+			depths[top] = depth + 1;
+			depths[top + 1] = depth + 1;
+			top += 2;
+		}
+		return sign * extreme;
+	}
+
+	/**
+	 * Determines the number of line segments that are sufficient to
+	 * approximate the given curve by equidistant parameter values with the
+	 * given tolerance (Wang's formula).
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param tolerance
+	 *            The maximum distance of the line segments to the curve.
+	 * @return The number of line segments to use for
+	 *         {@link #flatten(double[], int, int, double[])}.
+	 */
+	public static int getFlatteningSegmentCount(double[] c, int n,
+			double tolerance) {
+		if (n < 3) {
+			return 1;
+		}
+		double m = 0;
+		for (int i = 0; i < n - 2; i++) {
+			double dx = c[2 * i] - 2 * c[2 * i + 2] + c[2 * i + 4];
+			double dy = c[2 * i + 1] - 2 * c[2 * i + 3] + c[2 * i + 5];
+			m = Math.max(m, Math.sqrt(dx * dx + dy * dy));
+		}
+		int d = n - 1;
+		double segments = Math
+				.ceil(Math.sqrt(d * (d - 1) * m / (8 * tolerance)));
+		return segments < 1 ? 1 : (int) Math.min(segments, 1 << 16);
+	}
+
+	/**
+	 * Computes the projection of the given point onto the given curve, i.e.
+	 * the point on the curve that is closest to the given point.
+	 * <p>
+	 * The curve is subdivided and pieces whose control bounds are farther away
+	 * than the best candidate are pruned. The Bernstein coefficients of the
+	 * derivative of the squared distance identify pieces that contain exactly
+	 * one local minimum (variation diminishing property). These minima are
+	 * refined by a Newton-Raphson iteration that is safeguarded by bisection,
+	 * so that the result is only limited by floating point precision.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param x
+	 *            The x coordinate of the point to project.
+	 * @param y
+	 *            The y coordinate of the point to project.
+	 * @param out
+	 *            The array that receives the x and y coordinate of the
+	 *            projection.
+	 * @return The parameter value of the projection.
+	 */
+	public static double getProjection(double[] c, int n, double x, double y,
+			double[] out) {
+		if (n < 2) {
+			out[0] = c[0];
+			out[1] = c[1];
+			return 0;
+		}
+
+		// start and end point are the initial candidates
+		double bestT = 0;
+		double best = getSquaredDistance(c[0], c[1], x, y);
+		double d = getSquaredDistance(c[2 * n - 2], c[2 * n - 1], x, y);
+		if (d < best) {
+			bestT = 1;
+			best = d;
+		}
+
+		// binomial coefficients of degree n - 1 and n - 2
+		double[] binomials = new double[2 * n - 1];
+		binomials[0] = binomials[n] = 1;
+		for (int i = 1; i < n; i++) {
+			binomials[i] = binomials[i - 1] * (n - i) / i;
+			if (i < n - 1) {
+				binomials[n + i] = binomials[n + i - 1] * (n - 1 - i) / i;
+			}
+		}
+
+		double[] part = new double[2 * n];
+		double[] bounds = new double[4];
+		double[] f = new double[2 * n - 2];
+		double[] scratch = new double[6];
+
+		// stack of pending pieces (start, end, depth)
+		double[] stack = new double[3 * (MAX_PROJECTION_DEPTH + 2)];
+		stack[0] = 0;
+		stack[1] = 1;
+		stack[2] = 0;
+		int top = 1;
+		while (top > 0) {
+			top--;
+			double a = stack[3 * top];
+			double b = stack[3 * top + 1];
+			int depth = (int) stack[3 * top + 2];
+
+			// prune pieces whose control bounds are too far away
+			clip(c, n, a, b, part);
+			getControlBounds(part, n, bounds);
+			double dx = Math.max(0, Math.max(bounds[0] - x, x - bounds[2]));
+			double dy = Math.max(0, Math.max(bounds[1] - y, y - bounds[3]));
+			if (dx * dx + dy * dy >= best) {
+				continue;
+			}
+
+			// the end points of the piece are candidates
+			d = getSquaredDistance(part[0], part[1], x, y);
+			if (d < best) {
+				bestT = a;
+				best = d;
+			}
+			d = getSquaredDistance(part[2 * n - 2], part[2 * n - 1], x, y);
+			if (d < best) {
+				bestT = b;
+				best = d;
+			}
+
+			// count the sign changes of the distance derivative
+			getDistanceDerivative(part, n, x, y, binomials, f);
+			int changes = 0;
+			double sign = 0;
+			double first = 0;
+			for (int i = 0; i < f.length; i++) {
+				if (f[i] != 0) {
+					if (sign == 0) {
+						first = f[i];
+					} else if (sign * f[i] < 0) {
+						changes++;
+					}
+					sign = f[i];
+				}
+			}
+
+			if (changes == 1 && first < 0) {
+				// a single local minimum within the piece
+				double t = refineProjection(c, n, x, y, a, b, scratch);
+				evaluate(c, n, t, scratch);
+				d = getSquaredDistance(scratch[0], scratch[1], x, y);
+				if (d < best) {
+					bestT = t;
+					best = d;
+				}
+			} else if (changes > 1) {
+				if (depth < MAX_PROJECTION_DEPTH) {
+					double mid = (a + b) / 2;
+					stack[3 * top] = mid;
+					stack[3 * top + 1] = b;
+					stack[3 * top + 2] = depth + 1;
+					stack[3 * top + 3] = a;
+					stack[3 * top + 4] = mid;
+					stack[3 * top + 5] = depth + 1;
+					top += 2;
+				} else {
+					double t = refineProjection(c, n, x, y, a, b, scratch);
+					evaluate(c, n, t, scratch);
+					d = getSquaredDistance(scratch[0], scratch[1], x, y);
+					if (d < best) {
+						bestT = t;
+						best = d;
+					}
+				}
+			}
+			// otherwise, the distance is monotonic or has a single maximum
+			// within the piece, so that the end points are sufficient
+		}
+
+		evaluate(c, n, bestT, out);
+		return bestT;
+	}
+
+	private static double getSquaredDistance(double x1, double y1, double x2,
+			double y2) {
+		double dx = x2 - x1;
+		double dy = y2 - y1;
+		return dx * dx + dy * dy;
+	}
+
+	/**
+	 * Refines the parameter value of a local minimum of the distance of the
+	 * given curve to the given point within the parameter interval
+	 * <code>[lo;hi]</code> by Newton-Raphson iteration on the derivative of
+	 * the squared distance. Steps that leave the bracketing interval are
+	 * replaced by bisection steps. The scratch array needs to provide space
+	 * for six values.
+	 */
+	private static double refineProjection(double[] c, int n, double x,
+			double y, double lo, double hi, double[] scratch) {
+		double t = (lo + hi) / 2;
+		for (int i = 0; i < MAX_NEWTON_ITERATIONS; i++) {
+			evaluate(c, 0, 1, n, t, scratch, 0);
+			evaluateDerivative(c, n, t, scratch, 2, 1);
+			evaluateDerivative(c, n, t, scratch, 4, 2);
+			double ex = scratch[0] - x;
+			double ey = scratch[1] - y;
+			double f = ex * scratch[2] + ey * scratch[3];
+			double df = scratch[2] * scratch[2] + scratch[3] * scratch[3]
+					+ ex * scratch[4] + ey * scratch[5];
+			if (f < 0) {
+				lo = t;
+			} else if (f > 0) {
+				hi = t;
+			} else {
+				return t;
+			}
+			double next = t - f / df;
+			if (!(next > lo && next < hi)) {
+				// Newton step leaves the bracket (or is undefined)
+				next = (lo + hi) / 2;
+			}
+			if (Math.abs(next - t) <= PARAMETER_EPSILON) {
+				return next;
+			}
+			t = next;
+		}
+		return t;
+	}
+
+	/**
+	 * Subdivides the given curve at the given parameter value (de Casteljau).
+	 * The output arrays have to be different from each other, but either of
+	 * them may be the input array.
+	 *
+	 * @param c
+	 *            The control point coordinates of the curve.
+	 * @param n
+	 *            The number of control points.
+	 * @param t
+	 *            The parameter value at which to subdivide.
+	 * @param left
+	 *            The array that receives the <code>2 * n</code> control point
+	 *            coordinates of the curve over <code>[0;t]</code>.
+	 * @param right
+	 *            The array that receives the <code>2 * n</code> control point
+	 *            coordinates of the curve over <code>[t;1]</code>.
+	 */
+	public static void split(double[] c, int n, double t, double[] left,
+			double[] right) {
+		if (c == left) {
+			// keep the input in the right array
+			System.arraycopy(c, 0, right, 0, 2 * n);
+			c = right;
+		} else if (c != right) {
+			System.arraycopy(c, 0, right, 0, 2 * n);
+		}
+		for (int i = 0; i < n; i++) {
+			left[2 * i] = right[0];
+			left[2 * i + 1] = right[1];
+			for (int j = 0; j < n - i - 1; j++) {
+				right[2 * j] += (right[2 * j + 2] - right[2 * j]) * t;
+				right[2 * j + 1] += (right[2 * j + 3] - right[2 * j + 1]) * t;
+			}
+		}
+	}
+
+	/**
+	 * Replaces the given control points by those of the curve over
+	 * <code>[0;t]</code>.
+	 */
+	private static void splitLeft(double[] c, int n, double t) {
+		for (int level = 1; level < n; level++) {
+			for (int j = n - 1; j >= level; j--) {
+				c[2 * j] = c[2 * j - 2] + (c[2 * j] - c[2 * j - 2]) * t;
+				c[2 * j + 1] = c[2 * j - 1] + (c[2 * j + 1] - c[2 * j - 1]) * t;
+			}
+		}
+	}
+
+	/**
+	 * Replaces the given control points by those of the curve over
+	 * <code>[t;1]</code>.
+	 */
+	private static void splitRight(double[] c, int n, double t) {
+		for (int level = 1; level < n; level++) {
+			for (int j = 0; j < n - level; j++) {
+				c[2 * j] += (c[2 * j + 2] - c[2 * j]) * t;
+				c[2 * j + 1] += (c[2 * j + 3] - c[2 * j + 1]) * t;
+			}
+		}
+	}
+
+	private BezierUtils() {
+		// this class should not be instantiated by clients
+	}
+
+}
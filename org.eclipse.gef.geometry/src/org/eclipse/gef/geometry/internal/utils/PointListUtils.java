@@ -164,6 +164,36 @@ public class PointListUtils {
 		return segments;
 	}
 
+	/**
+	 * Converts an array of alternating x and y coordinates into an array of
+	 * {@link Line} segments, connecting each two successive points. If the
+	 * <i>close</i> flag is set, an additional segment is created, connecting
+	 * the last point with the first point.
+	 *
+	 * @param coordinates
+	 *            The alternating x and y coordinates of the points to connect.
+	 * @param close
+	 *            <code>true</code> to connect the last point with the first
+	 *            point, otherwise <code>false</code>.
+	 * @return The {@link Line} segments connecting the points.
+	 */
+	public static Line[] toSegmentsArray(double[] coordinates, boolean close) {
+		int n = coordinates.length / 2;
+		// cannot construct lines for less than 2 points
+		if (n < 2) {
+			return new Line[] {};
+		}
+
+		int segmentCount = close ? n : n - 1;
+		Line[] segments = new Line[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			int j = i + 1 < n ? i + 1 : 0;
+			segments[i] = new Line(coordinates[2 * i], coordinates[2 * i + 1],
+					coordinates[2 * j], coordinates[2 * j + 1]);
+		}
+		return segments;
+	}
+
 	private PointListUtils() {
 		// this class should not be instantiated by clients
 	}
@@ -0,0 +1,623 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.internal.utils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.TreeSet;
+
+import org.eclipse.gef.geometry.planar.Line;
+import org.eclipse.gef.geometry.planar.Polygon;
+
+/**
+ * Utilities for simplicity tests and triangulation of polygons, which are
+ * given as flat arrays of alternating x and y coordinates (as used within
+ * {@link Polygon}).
+ *
+ * @author mwienand
+ *
+ */
+public class PolygonUtils {
+
+	/**
+	 * The status structure of the Shamos-Hoey sweep, which orders the edges
+	 * that are intersected by the sweep line by their y-coordinate at the
+	 * current sweep position.
+	 */
+	private static final class SweepStatus implements Comparator<Integer> {
+
+		private final double[] coordinates;
+		private final int n;
+		private double sweepX;
+		private double sweepY;
+
+		private SweepStatus(double[] coordinates) {
+			this.coordinates = coordinates;
+			this.n = coordinates.length / 2;
+		}
+
+		@Override
+		public int compare(Integer e1, Integer e2) {
+			if (e1.intValue() == e2.intValue()) {
+				return 0;
+			}
+			int c = Double.compare(getY(e1), getY(e2));
+			if (c == 0) {
+				boolean vertical1 = x(e1) == x(e1 + 1);
+				boolean vertical2 = x(e2) == x(e2 + 1);
+				if (vertical1 != vertical2) {
+					// a vertical edge is located above the other edge at its
+					// lower end point, and below the other edge otherwise
+					int vertical = vertical1 ? e1 : e2;
+					c = sweepY <= Math.min(y(vertical), y(vertical + 1)) ? 1
+							: -1;
+					return vertical1 ? c : -c;
+				}
+				// edges pass through the same point, so that they are ordered
+				// by their slopes to the right of the sweep line (or to the
+				// left of the sweep line if one of them ends at the point)
+				c = Double.compare(getSlope(e1), getSlope(e2));
+				if (getMaxX(e1) <= sweepX || getMaxX(e2) <= sweepX) {
+					c = -c;
+				}
+			}
+			return c == 0 ? Integer.compare(e1, e2) : c;
+		}
+
+		private double getMaxX(int edge) {
+			return Math.max(x(edge), x(edge + 1));
+		}
+
+		private double getSlope(int edge) {
+			double dx = x(edge + 1) - x(edge);
+			double dy = y(edge + 1) - y(edge);
+			if (dx == 0) {
+				return Double.POSITIVE_INFINITY;
+			}
+			return dy / dx;
+		}
+
+		private double getY(int edge) {
+			double x0 = x(edge);
+			double y0 = y(edge);
+			double x1 = x(edge + 1);
+			double y1 = y(edge + 1);
+			if (x0 == x1) {
+				// vertical edges are located at the current event
+				return Math.max(Math.min(y0, y1),
+						Math.min(sweepY, Math.max(y0, y1)));
+			}
+			if (sweepX == x0) {
+				return y0;
+			} else if (sweepX == x1) {
+				return y1;
+			}
+			return y0 + (sweepX - x0) * (y1 - y0) / (x1 - x0);
+		}
+
+		private double x(int vertex) {
+			return coordinates[2 * (vertex % n)];
+		}
+
+		private double y(int vertex) {
+			return coordinates[2 * (vertex % n) + 1];
+		}
+	}
+
+	/**
+	 * A uniform grid over the bounds of the polygon, which indexes the vertices
+	 * that may obstruct an ear, i.e. reflex vertices and vertices that occur
+	 * more than once.
+	 */
+	private static final class VertexGrid {
+
+		private final double minX;
+		private final double minY;
+		private final double cellWidth;
+		private final double cellHeight;
+		private final int size;
+		private final int[] cellStart;
+		private final int[] cellVertices;
+		// whether a vertex may (still) obstruct an ear
+		private final boolean[] indexed;
+
+		private VertexGrid(double[] coordinates, int[] next, int first,
+				int count, boolean[] indexed) {
+			this.indexed = indexed;
+			double minX = Double.POSITIVE_INFINITY;
+			double minY = Double.POSITIVE_INFINITY;
+			double maxX = Double.NEGATIVE_INFINITY;
+			double maxY = Double.NEGATIVE_INFINITY;
+			int indexedCount = 0;
+			int v = first;
+			do {
+				minX = Math.min(minX, coordinates[2 * v]);
+				minY = Math.min(minY, coordinates[2 * v + 1]);
+				maxX = Math.max(maxX, coordinates[2 * v]);
+				maxY = Math.max(maxY, coordinates[2 * v + 1]);
+				if (indexed[v]) {
+					indexedCount++;
+				}
+				v = next[v];
+			} while (v != first);
+			this.minX = minX;
+			this.minY = minY;
+			size = Math.max(1, (int) Math.sqrt(count));
+			cellWidth = Math.max((maxX - minX) / size, Double.MIN_VALUE);
+			cellHeight = Math.max((maxY - minY) / size, Double.MIN_VALUE);
+
+			cellStart = new int[size * size + 1];
+			v = first;
+			do {
+				if (indexed[v]) {
+					cellStart[getCell(coordinates, v) + 1]++;
+				}
+				v = next[v];
+			} while (v != first);
+			for (int i = 1; i < cellStart.length; i++) {
+				cellStart[i] += cellStart[i - 1];
+			}
+			int[] cellFill = Arrays.copyOf(cellStart, cellStart.length);
+			cellVertices = new int[indexedCount];
+			v = first;
+			do {
+				if (indexed[v]) {
+					cellVertices[cellFill[getCell(coordinates, v)]++] = v;
+				}
+				v = next[v];
+			} while (v != first);
+		}
+
+		private int getCell(double[] coordinates, int vertex) {
+			return getColumn(coordinates[2 * vertex]) * size
+					+ getRow(coordinates[2 * vertex + 1]);
+		}
+
+		private int getColumn(double x) {
+			return getIndex(x, minX, cellWidth);
+		}
+
+		private int getIndex(double value, double min, double cellSize) {
+			int index = (int) ((value - min) / cellSize);
+			return index < 0 ? 0 : index >= size ? size - 1 : index;
+		}
+
+		private int getRow(double y) {
+			return getIndex(y, minY, cellHeight);
+		}
+	}
+
+	/**
+	 * Returns the index of the vertex that is associated with the given event.
+	 * The event with an even index (2 * edge) is the insertion event, the event
+	 * with an odd index (2 * edge + 1) is the removal event of the edge.
+	 */
+	private static int getEventVertex(SweepStatus status, int event) {
+		int edge = event / 2;
+		boolean startIsLeft = isStartLeft(status, edge);
+		boolean insertion = event % 2 == 0;
+		return startIsLeft == insertion ? edge : edge + 1;
+	}
+
+	private static double getTurn(double[] coordinates, int a, int b, int c) {
+		double ax = coordinates[2 * a];
+		double ay = coordinates[2 * a + 1];
+		return (coordinates[2 * b] - ax) * (coordinates[2 * c + 1] - ay)
+				- (coordinates[2 * b + 1] - ay) * (coordinates[2 * c] - ax);
+	}
+
+	private static boolean isEar(double[] coordinates, int[] prev, int[] next,
+			int a, int b, int c, double orientation, VertexGrid grid,
+			boolean[] removed) {
+		double ax = coordinates[2 * a];
+		double ay = coordinates[2 * a + 1];
+		double bx = coordinates[2 * b];
+		double by = coordinates[2 * b + 1];
+		double cx = coordinates[2 * c];
+		double cy = coordinates[2 * c + 1];
+		int x0 = grid.getColumn(Math.min(ax, Math.min(bx, cx)));
+		int x1 = grid.getColumn(Math.max(ax, Math.max(bx, cx)));
+		int y0 = grid.getRow(Math.min(ay, Math.min(by, cy)));
+		int y1 = grid.getRow(Math.max(ay, Math.max(by, cy)));
+		for (int i = x0; i <= x1; i++) {
+			for (int j = y0; j <= y1; j++) {
+				int cell = i * grid.size + j;
+				for (int k = grid.cellStart[cell]; k < grid.cellStart[cell
+						+ 1]; k++) {
+					int r = grid.cellVertices[k];
+					if (removed[r] || !grid.indexed[r] || r == a || r == b
+							|| r == c) {
+						continue;
+					}
+					double rx = coordinates[2 * r];
+					double ry = coordinates[2 * r + 1];
+					boolean atA = rx == ax && ry == ay;
+					boolean atB = rx == bx && ry == by;
+					if (atA || atB || rx == cx && ry == cy) {
+						// another occurrence of a vertex of the triangle
+						// obstructs the ear if one of its edges enters the
+						// triangle, i.e. the angle of the triangle at that
+						// vertex
+						for (int q : new int[] { prev[r], next[r] }) {
+							boolean leftOfAB = orientation
+									* getTurn(coordinates, a, b, q) > 0;
+							boolean leftOfBC = orientation
+									* getTurn(coordinates, b, c, q) > 0;
+							boolean leftOfCA = orientation
+									* getTurn(coordinates, c, a, q) > 0;
+							if (atA ? leftOfAB && leftOfCA
+									: atB ? leftOfAB && leftOfBC
+											: leftOfBC && leftOfCA) {
+								return false;
+							}
+						}
+						continue;
+					}
+					// inside or on the boundary of the triangle
+					if (orientation * getTurn(coordinates, a, b, r) >= 0
+							&& orientation * getTurn(coordinates, b, c, r) >= 0
+							&& orientation
+									* getTurn(coordinates, c, a, r) >= 0) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isInsertion(int event) {
+		return event % 2 == 0;
+	}
+
+	/**
+	 * Tests whether the polygon that is described by the given coordinates is
+	 * simple, i.e. whether it does not have any self-intersections. Only
+	 * non-adjacent edges, i.e. edges that do not share an end point, are tested
+	 * for intersections (with an accuracy defined within
+	 * {@link PrecisionUtils}). Edges of length zero are ignored.
+	 * <p>
+	 * The test is performed by a Shamos-Hoey sweep in O(n log n).
+	 *
+	 * @param coordinates
+	 *            An alternating, even-numbered sequence of x and y coordinates,
+	 *            representing the vertices of the polygon.
+	 * @return <code>true</code> if the polygon is simple, otherwise
+	 *         <code>false</code>.
+	 */
+	public static boolean isSimple(double[] coordinates) {
+		final int n = coordinates.length / 2;
+		if (n < 3) {
+			return true;
+		}
+
+		// each edge is represented by the index of its start vertex; for each
+		// edge, an insertion (left end point) and a removal event (right end
+		// point) is created
+		final SweepStatus status = new SweepStatus(coordinates);
+		Integer[] events = new Integer[2 * n];
+		int eventCount = 0;
+		for (int i = 0; i < n; i++) {
+			if (status.x(i) != status.x(i + 1)
+					|| status.y(i) != status.y(i + 1)) {
+				events[eventCount++] = 2 * i;
+				events[eventCount++] = 2 * i + 1;
+			}
+		}
+		events = Arrays.copyOf(events, eventCount);
+		final int[] eventVertices = new int[2 * n];
+		for (Integer event : events) {
+			eventVertices[event] = getEventVertex(status, event);
+		}
+		Arrays.sort(events, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer ev1, Integer ev2) {
+				int v1 = eventVertices[ev1];
+				int v2 = eventVertices[ev2];
+				int c = Double.compare(status.x(v1), status.x(v2));
+				if (c == 0) {
+					c = Double.compare(status.y(v1), status.y(v2));
+				}
+				if (c == 0) {
+					// removals before insertions
+					c = Boolean.compare(isInsertion(ev1),
+							isInsertion(ev2));
+				}
+				return c;
+			}
+		});
+
+		TreeSet<Integer> edges = new TreeSet<>(status);
+		for (Integer event : events) {
+			int edge = event / 2;
+			int vertex = eventVertices[event];
+			status.sweepX = status.x(vertex);
+			status.sweepY = status.y(vertex);
+			if (isInsertion(event)) {
+				edges.add(edge);
+				if (touchesNeighbor(coordinates, n, edges, edge, true)
+						|| touchesNeighbor(coordinates, n, edges, edge,
+								false)) {
+					return false;
+				}
+			} else {
+				Integer below = edges.lower(edge);
+				Integer above = edges.higher(edge);
+				if (!edges.remove(edge)) {
+					// the order of the edges got inconsistent due to rounding
+					// effects, so that the neighbors are determined linearly
+					below = null;
+					above = null;
+					for (Iterator<Integer> it = edges.iterator(); it
+							.hasNext();) {
+						Integer e = it.next();
+						if (e.intValue() == edge) {
+							it.remove();
+							above = it.hasNext() ? it.next() : null;
+							break;
+						}
+						below = e;
+					}
+				}
+				if (below != null && touchesNeighbor(coordinates, n, edges,
+						below, false)
+						|| above != null && touchesNeighbor(coordinates, n,
+								edges, above, true)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isStartLeft(SweepStatus status, int edge) {
+		double x0 = status.x(edge);
+		double x1 = status.x(edge + 1);
+		return x0 < x1 || x0 == x1 && status.y(edge) <= status.y(edge + 1);
+	}
+
+	private static boolean isAdjacent(double[] coordinates, int n, int e1,
+			int e2) {
+		int[] v1 = { e1, (e1 + 1) % n };
+		int[] v2 = { e2, (e2 + 1) % n };
+		for (int i : v1) {
+			for (int j : v2) {
+				if (PrecisionUtils.equal(coordinates[2 * i], coordinates[2 * j])
+						&& PrecisionUtils.equal(coordinates[2 * i + 1],
+								coordinates[2 * j + 1])) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean touches(double[] coordinates, int n, int e1,
+			int e2) {
+		int v1 = (e1 + 1) % n;
+		int v2 = (e2 + 1) % n;
+		double px0 = coordinates[2 * e1];
+		double py0 = coordinates[2 * e1 + 1];
+		double px1 = coordinates[2 * v1];
+		double py1 = coordinates[2 * v1 + 1];
+		double qx0 = coordinates[2 * e2];
+		double qy0 = coordinates[2 * e2 + 1];
+		double qx1 = coordinates[2 * v2];
+		double qy1 = coordinates[2 * v2 + 1];
+		// quick rejection of clearly separated edges, before performing the
+		// (imprecise) touches test
+		double epsilon = 10 * PrecisionUtils.calculateFraction(0);
+		if (Math.max(px0, px1) + epsilon < Math.min(qx0, qx1)
+				|| Math.max(qx0, qx1) + epsilon < Math.min(px0, px1)
+				|| Math.max(py0, py1) + epsilon < Math.min(qy0, qy1)
+				|| Math.max(qy0, qy1) + epsilon < Math.min(py0, py1)) {
+			return false;
+		}
+		double dx = px1 - px0;
+		double dy = py1 - py0;
+		double margin = epsilon * Math.hypot(dx, dy);
+		double s0 = dx * (qy0 - py0) - dy * (qx0 - px0);
+		double s1 = dx * (qy1 - py0) - dy * (qx1 - px0);
+		if (s0 > margin && s1 > margin || s0 < -margin && s1 < -margin) {
+			return false;
+		}
+		return new Line(px0, py0, px1, py1)
+				.touches(new Line(qx0, qy0, qx1, qy1));
+	}
+
+	/**
+	 * Tests the given edge for intersections with its neighbors in the given
+	 * direction. Neighbors that are adjacent to the edge (e.g. collinear,
+	 * overlapping edges sharing a vertex) are skipped, so that they do not
+	 * hide an intersection with the next neighbor.
+	 */
+	private static boolean touchesNeighbor(double[] coordinates, int n,
+			TreeSet<Integer> edges, int edge, boolean below) {
+		Integer neighbor = below ? edges.lower(edge) : edges.higher(edge);
+		while (neighbor != null) {
+			if (!isAdjacent(coordinates, n, edge, neighbor)) {
+				return touches(coordinates, n, edge, neighbor);
+			}
+			neighbor = below ? edges.lower(neighbor) : edges.higher(neighbor);
+		}
+		return false;
+	}
+
+	/**
+	 * Computes a triangulation of the simple polygon that is described by the
+	 * given coordinates, using an indexed ear-clipping algorithm. Only reflex
+	 * vertices, and vertices that occur more than once, can be located within
+	 * an ear, so that these are kept within a uniform grid, which limits the
+	 * number of vertices that need to be tested per ear candidate. Duplicate
+	 * and collinear vertices, as well as zero-area spikes, are removed without
+	 * emitting a (degenerate) triangle.
+	 *
+	 * @param coordinates
+	 *            An alternating, even-numbered sequence of x and y coordinates,
+	 *            representing the vertices of the polygon.
+	 * @return An array of vertex indices, in which each three successive
+	 *         indices represent a triangle.
+	 */
+	public static int[] triangulate(double[] coordinates) {
+		int n = coordinates.length / 2;
+		if (n < 3) {
+			return new int[0];
+		}
+
+		// doubly linked list of the remaining vertices
+		int[] prev = new int[n];
+		int[] next = new int[n];
+		for (int i = 0; i < n; i++) {
+			prev[i] = (i + n - 1) % n;
+			next[i] = (i + 1) % n;
+		}
+		boolean[] removed = new boolean[n];
+
+		// remove duplicate and collinear vertices, which includes the tips of
+		// spikes (after which the base vertices are duplicates); the
+		// predecessor of a removed vertex is tested again
+		int count = n;
+		int v = 0;
+		int stop = v;
+		while (count > 2) {
+			int a = prev[v];
+			int c = next[v];
+			if (getTurn(coordinates, a, v, c) == 0) {
+				removed[v] = true;
+				next[a] = c;
+				prev[c] = a;
+				count--;
+				v = a;
+				stop = v;
+			} else {
+				v = c;
+				if (v == stop) {
+					break;
+				}
+			}
+		}
+		if (count < 3) {
+			return new int[0];
+		}
+		int first = v;
+
+		// determine orientation, so that convex vertices can be identified
+		double signedArea = 0;
+		do {
+			int w = next[v];
+			signedArea += coordinates[2 * v] * coordinates[2 * w + 1]
+					- coordinates[2 * w] * coordinates[2 * v + 1];
+			v = w;
+		} while (v != first);
+		double orientation = signedArea >= 0 ? 1 : -1;
+
+		// determine the vertices that occur more than once (where the
+		// boundary touches itself), which may obstruct an ear although being
+		// convex, by means of a hash table (with open addressing)
+		int[] table = new int[Integer.highestOneBit(count) << 2];
+		Arrays.fill(table, -1);
+		boolean[] pinched = new boolean[n];
+		do {
+			// normalize -0.0, which is equal to (but hashed unlike) 0.0
+			double x = coordinates[2 * v] + 0.0;
+			double y = coordinates[2 * v + 1] + 0.0;
+			int slot = 31 * Double.hashCode(x) + Double.hashCode(y);
+			slot = (slot ^ slot >>> 16) & table.length - 1;
+			while (table[slot] >= 0) {
+				int w = table[slot];
+				if (coordinates[2 * w] == x && coordinates[2 * w + 1] == y) {
+					pinched[w] = true;
+					pinched[v] = true;
+					break;
+				}
+				slot = slot + 1 & table.length - 1;
+			}
+			if (!pinched[v]) {
+				table[slot] = v;
+			}
+			v = next[v];
+		} while (v != first);
+
+		// index the reflex and pinched vertices in a uniform grid
+		boolean[] indexed = new boolean[n];
+		do {
+			indexed[v] = pinched[v] || orientation
+					* getTurn(coordinates, prev[v], v, next[v]) < 0;
+			v = next[v];
+		} while (v != first);
+		VertexGrid grid = new VertexGrid(coordinates, next, first, count,
+				indexed);
+
+		// clip ears
+		int[] triangles = new int[3 * (count - 2)];
+		int triangleCount = 0;
+		stop = v;
+		boolean force = false;
+		while (count > 2) {
+			int a = prev[v];
+			int c = next[v];
+			double turn = orientation * getTurn(coordinates, a, v, c);
+			if (force || turn == 0 || turn > 0 && isEar(coordinates, prev,
+					next, a, v, c, orientation, grid, removed)) {
+				if (turn != 0) {
+					triangles[triangleCount++] = a;
+					triangles[triangleCount++] = v;
+					triangles[triangleCount++] = c;
+				}
+				removed[v] = true;
+				next[a] = c;
+				prev[c] = a;
+				count--;
+				double turnA = orientation
+						* getTurn(coordinates, prev[a], a, c);
+				double turnC = orientation
+						* getTurn(coordinates, a, c, next[c]);
+				// the neighbors may have become convex
+				if (!pinched[a] && turnA >= 0) {
+					indexed[a] = false;
+				}
+				if (!pinched[c] && turnC >= 0) {
+					indexed[c] = false;
+				}
+				if (turnA == 0) {
+					// the neighbors may have become degenerate (e.g. the tip
+					// of a spike), so that they are removed first
+					v = a;
+				} else if (turnC == 0 || turn == 0) {
+					v = c;
+				} else {
+					// skip the next vertex to prevent fans of sliver triangles
+					v = next[c];
+				}
+				stop = v;
+				force = false;
+			} else {
+				v = c;
+				if (v == stop) {
+					// no ear was found within a complete cycle, which may
+					// only happen due to rounding effects (or for non-simple
+					// polygons), so that the next vertex is clipped anyway
+					force = true;
+				}
+			}
+		}
+		return Arrays.copyOf(triangles, triangleCount);
+	}
+
+	private PolygonUtils() {
+		// this class should not be instantiated by clients
+	}
+
+}
@@ -294,7 +294,7 @@ abstract class AbstractMultiShape extends AbstractGeometry
 			Polyline outline = findOutline(outlineSegments,
 					segmentsByEndPoints);
 			// System.out.println("outline: " + outline);
-			outlines.add(outline);
+			outlines.add(removeCollinearPoints(outline));
 
 			// Remove the segments of the previously found outline from the set
 			// of remaining outline segments.
@@ -335,7 +335,7 @@ abstract class AbstractMultiShape extends AbstractGeometry
 
 		addingElements: while (!elementsToAdd.empty()) {
 			Line toAdd = elementsToAdd.pop();
-			for (Line seg : new HashSet<>(seen.keySet())) {
+			for (Line seg : seen.keySet()) {
 				if (seg.overlaps(toAdd)) {
 					Point[] p = getSortedEndpoints(toAdd, seg);
 					seen.remove(seg);
@@ -397,6 +397,35 @@ abstract class AbstractMultiShape extends AbstractGeometry
 		}
 	}
 
+	/**
+	 * Removes those {@link Point}s from the given closed outline that lie on
+	 * the line between their neighbors. Such {@link Point}s result from
+	 * internal {@link IShape}s that meet the outline at different locations.
+	 *
+	 * @param outline
+	 * @return the outline without collinear {@link Point}s
+	 */
+	private static Polyline removeCollinearPoints(Polyline outline) {
+		Point[] points = outline.getPoints();
+		int n = points.length;
+		if (n > 1 && points[0].equals(points[n - 1])) {
+			n--;
+		}
+		List<Point> corners = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			Point prev = points[i == 0 ? n - 1 : i - 1];
+			Point next = points[i + 1 == n ? 0 : i + 1];
+			if (!new Line(prev, next).contains(points[i])) {
+				corners.add(points[i]);
+			}
+		}
+		if (corners.size() < 3 || corners.size() == n) {
+			return outline;
+		}
+		return new Polyline(CurveUtils.toSegmentsArray(
+				corners.toArray(new Point[] {}), true));
+	}
+
 	@Override
 	public Path toPath() {
 		return toPath(Path::exclusiveOr);
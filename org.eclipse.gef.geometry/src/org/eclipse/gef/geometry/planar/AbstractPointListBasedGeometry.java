@@ -14,13 +14,19 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
+import java.util.Arrays;
+
 import org.eclipse.gef.geometry.euclidean.Angle;
-import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
 
 /**
  * Abstract superclass of geometries that are defined by means of a point list.
  * <p>
+ * The points are stored as a packed array of alternating x and y coordinates,
+ * so that no {@link Point} objects have to be kept for the vertices, and
+ * computations can iterate over the coordinates directly.
+ * </p>
+ * <p>
  * The type parameter <code>T</code> specifies the type of the inheriting class.
  * This is to be able to return the correct type, so that a type cast is
  * unnecessary.
@@ -41,9 +47,10 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * The points constituting this {@link AbstractPointListBasedGeometry}.
+	 * The alternating x and y coordinates of the points constituting this
+	 * {@link AbstractPointListBasedGeometry}.
 	 */
-	Point[] points;
+	double[] coordinates;
 
 	/**
 	 * Constructs a new {@link AbstractPointListBasedGeometry} from a
@@ -56,10 +63,8 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 * @see #AbstractPointListBasedGeometry(Point...)
 	 */
 	public AbstractPointListBasedGeometry(double... coordinates) {
-		points = new Point[coordinates.length / 2];
-		for (int i = 0; i < coordinates.length / 2; i++) {
-			points[i] = new Point(coordinates[i * 2], coordinates[i * 2 + 1]);
-		}
+		this.coordinates = Arrays.copyOf(coordinates,
+				coordinates.length / 2 * 2);
 	}
 
 	/**
@@ -71,12 +76,31 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *            {@link AbstractPointListBasedGeometry} is to be created.
 	 */
 	public AbstractPointListBasedGeometry(Point... points) {
-		this.points = Point.getCopy(points);
+		coordinates = PointListUtils.toCoordinatesArray(points);
 	}
 
 	@Override
 	public final Rectangle getBounds() {
-		return Point.getBounds(points);
+		if (coordinates.length == 0) {
+			return new Rectangle();
+		}
+		double minX = coordinates[0], minY = coordinates[1];
+		double maxX = minX, maxY = minY;
+		for (int i = 2; i < coordinates.length; i += 2) {
+			double x = coordinates[i];
+			double y = coordinates[i + 1];
+			if (x < minX) {
+				minX = x;
+			} else if (x > maxX) {
+				maxX = x;
+			}
+			if (y < minY) {
+				minY = y;
+			} else if (y > maxY) {
+				maxY = y;
+			}
+		}
+		return new Rectangle(minX, minY, maxX - minX, maxY - minY);
 	}
 
 	/**
@@ -91,7 +115,30 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *         {@link AbstractPointListBasedGeometry}
 	 */
 	public Point getCentroid() {
-		return Point.getCentroid(points);
+		int n = coordinates.length;
+		if (n == 0) {
+			return null;
+		} else if (n == 2) {
+			return new Point(coordinates[0], coordinates[1]);
+		}
+
+		double cx = 0, cy = 0, sa = 0;
+		for (int i = 0; i < n; i += 2) {
+			// the last segment closes the point list
+			int j = i + 2 < n ? i + 2 : 0;
+			double x0 = coordinates[i], y0 = coordinates[i + 1];
+			double x1 = coordinates[j], y1 = coordinates[j + 1];
+			double a = x0 * y1 - y0 * x1;
+			sa += a;
+			cx += (x0 + x1) * a;
+			cy += (y0 + y1) * a;
+		}
+
+		if (sa == 0) {
+			return new Point(cx, cy);
+		} else {
+			return new Point(cx / (3 * sa), cy / (3 * sa));
+		}
 	}
 
 	/**
@@ -103,7 +150,7 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *         this {@link AbstractPointListBasedGeometry}'s points
 	 */
 	public final double[] getCoordinates() {
-		return PointListUtils.toCoordinatesArray(points);
+		return coordinates.clone();
 	}
 
 	/**
@@ -114,7 +161,18 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *         make up this {@link AbstractPointListBasedGeometry}
 	 */
 	public final Point[] getPoints() {
-		return Point.getCopy(points);
+		return PointListUtils.toPointsArray(coordinates);
+	}
+
+	/**
+	 * Returns the number of {@link Point}s that make up this
+	 * {@link AbstractPointListBasedGeometry}.
+	 *
+	 * @return The number of {@link Point}s that make up this
+	 *         {@link AbstractPointListBasedGeometry}.
+	 */
+	int getPointCount() {
+		return coordinates.length / 2;
 	}
 
 	@Override
@@ -250,14 +308,7 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 */
 	@SuppressWarnings("unchecked")
 	public T rotateCCW(Angle alpha, Point center) {
-		translate(center.getNegated());
-		for (Point p : points) {
-			Point np = new Vector(p).rotateCCW(alpha).toPoint();
-			p.x = np.x;
-			p.y = np.y;
-		}
-		translate(center);
-		return (T) this;
+		return rotateCW(alpha.getOppositeFull(), center);
 	}
 
 	/**
@@ -314,13 +365,14 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 */
 	@SuppressWarnings("unchecked")
 	public T rotateCW(Angle alpha, Point center) {
-		translate(center.getNegated());
-		for (Point p : points) {
-			Point np = new Vector(p).rotateCW(alpha).toPoint();
-			p.x = np.x;
-			p.y = np.y;
+		double cos = Math.cos(alpha.rad());
+		double sin = Math.sin(alpha.rad());
+		for (int i = 0; i < coordinates.length; i += 2) {
+			double x = coordinates[i] - center.x;
+			double y = coordinates[i + 1] - center.y;
+			coordinates[i] = x * cos - y * sin + center.x;
+			coordinates[i + 1] = x * sin + y * cos + center.y;
 		}
-		translate(center);
 		return (T) this;
 	}
 
@@ -347,10 +399,10 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	@Override
 	@SuppressWarnings("unchecked")
 	public T scale(double fx, double fy, Point center) {
-		for (Point p : points) {
-			Point np = p.getScaled(fx, fy, center);
-			p.x = np.x;
-			p.y = np.y;
+		for (int i = 0; i < coordinates.length; i += 2) {
+			coordinates[i] = (coordinates[i] - center.x) * fx + center.x;
+			coordinates[i + 1] = (coordinates[i + 1] - center.y) * fy
+					+ center.y;
 		}
 		return (T) this;
 	}
@@ -363,7 +415,10 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	@Override
 	@SuppressWarnings("unchecked")
 	public T translate(double dx, double dy) {
-		Point.translate(points, dx, dy);
+		for (int i = 0; i < coordinates.length; i += 2) {
+			coordinates[i] += dx;
+			coordinates[i + 1] += dy;
+		}
 		return (T) this;
 	}
 
@@ -16,8 +16,6 @@ package org.eclipse.gef.geometry.planar;
 
 import java.awt.geom.NoninvertibleTransformException;
 
-import org.eclipse.gef.geometry.convert.awt.AWT2Geometry;
-import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
 import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.euclidean.Vector;
 
@@ -27,7 +25,10 @@ import org.eclipse.gef.geometry.euclidean.Vector;
  * 2-dimensional affine transformations.
  * </p>
  * <p>
- * It delegates to the {@link java.awt.geom.AffineTransform} functionality.
+ * The transformation matrix is stored in six <code>double</code> fields, so
+ * that no AWT classes have to be loaded for its computations. Only the
+ * {@link NoninvertibleTransformException} is still used to indicate that an
+ * {@link AffineTransform} cannot be inverted.
  * </p>
  *
  * @author anyssen
@@ -36,10 +37,98 @@ import org.eclipse.gef.geometry.euclidean.Vector;
  */
 public class AffineTransform implements Cloneable {
 
-	// TODO: implement affine transform locally to get rid of dependency on
-	// awt.geom.
+	/**
+	 * The {@link #TYPE_IDENTITY} flag indicates that an
+	 * {@link AffineTransform} does not change the coordinates of a
+	 * {@link Point}.
+	 *
+	 * @see #getType()
+	 * @since 5.1
+	 */
+	public static final int TYPE_IDENTITY = 0;
+
+	/**
+	 * The {@link #TYPE_TRANSLATION} flag indicates that an
+	 * {@link AffineTransform} translates {@link Point}s.
+	 *
+	 * @see #getType()
+	 * @since 5.1
+	 */
+	public static final int TYPE_TRANSLATION = 1;
+
+	/**
+	 * The {@link #TYPE_UNIFORM_SCALE} flag indicates that an
+	 * {@link AffineTransform} scales {@link Point}s by the same factor in x and
+	 * y direction.
+	 *
+	 * @see #getType()
+	 * @since 5.1
+	 */
+	public static final int TYPE_UNIFORM_SCALE = 2;
+
+	/**
+	 * The {@link #TYPE_GENERAL_SCALE} flag indicates that an
+	 * {@link AffineTransform} scales {@link Point}s by different factors in x
+	 * and y direction.
+	 *
+	 * @see #getType()
+	 * @since 5.1
+	 */
+	public static final int TYPE_GENERAL_SCALE = 4;
+
+	/**
+	 * The {@link #TYPE_QUADRANT_ROTATION} flag indicates that an
+	 * {@link AffineTransform} rotates {@link Point}s by an integer multiple of
+	 * 90deg.
+	 *
+	 * @see #getType()
+	 * @since 5.1
+	 */
+	public static final int TYPE_QUADRANT_ROTATION = 8;
+
+	/**
+	 * The {@link #TYPE_GENERAL_ROTATION} flag indicates that an
+	 * {@link AffineTransform} rotates {@link Point}s by an arbitrary angle.
+	 *
+	 * @see #getType()
+	 * @since 5.1
+	 */
+	public static final int TYPE_GENERAL_ROTATION = 16;
+
+	/**
+	 * The {@link #TYPE_GENERAL_TRANSFORM} flag indicates that an
+	 * {@link AffineTransform} does not preserve the angles between lines.
+	 *
+	 * @see #getType()
+	 * @since 5.1
+	 */
+	public static final int TYPE_GENERAL_TRANSFORM = 32;
+
+	/**
+	 * The {@link #TYPE_FLIP} flag indicates that an {@link AffineTransform}
+	 * mirrors {@link Point}s about some axis.
+	 *
+	 * @see #getType()
+	 * @since 5.1
+	 */
+	public static final int TYPE_FLIP = 64;
+
+	// the states are used to select fast paths for translation and scaling
+	private static final int STATE_IDENTITY = 0;
+	private static final int STATE_TRANSLATE = 1;
+	private static final int STATE_SCALE = 2;
+	private static final int STATE_SHEAR = 4;
+
+	private static double round(double value) {
+		return Math.rint(value * 1E15) / 1E15;
+	}
 
-	private java.awt.geom.AffineTransform delegate = new java.awt.geom.AffineTransform();
+	private double m00 = 1;
+	private double m10 = 0;
+	private double m01 = 0;
+	private double m11 = 1;
+	private double m02 = 0;
+	private double m12 = 0;
 
 	/**
 	 * Creates a new {@link AffineTransform} with its transformation matrix set
@@ -74,16 +163,15 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform(double m00, double m10, double m01, double m11,
 			double m02, double m12) {
-		delegate = new java.awt.geom.AffineTransform(m00, m10, m01, m11, m02,
-				m12);
+		setTransform(m00, m10, m01, m11, m02, m12);
 	}
 
 	/**
 	 * Creates a new {@link AffineTransform} with its transformation matrix set
 	 * to the values of the passed-in array. See the
 	 * {@link AffineTransform#AffineTransform(double, double, double, double, double, double)}
-	 * or the {@link java.awt.geom.AffineTransform#AffineTransform(double[])}
-	 * method for a specification of the values in the array.
+	 * method for a specification of the values in the array. If the array
+	 * contains only 4 values, the translation components are set to 0.
 	 *
 	 * @param flatmatrix
 	 *            the values for the transformation matrix
@@ -91,16 +179,19 @@ public class AffineTransform implements Cloneable {
 	 *      double, double)
 	 */
 	public AffineTransform(double[] flatmatrix) {
-		delegate = new java.awt.geom.AffineTransform(flatmatrix);
-	}
-
-	private AffineTransform(java.awt.geom.AffineTransform delegate) {
-		this.delegate = delegate;
+		m00 = flatmatrix[0];
+		m10 = flatmatrix[1];
+		m01 = flatmatrix[2];
+		m11 = flatmatrix[3];
+		if (flatmatrix.length > 5) {
+			m02 = flatmatrix[4];
+			m12 = flatmatrix[5];
+		}
 	}
 
 	@Override
 	public Object clone() {
-		return delegate.clone();
+		return getCopy();
 	}
 
 	/**
@@ -115,8 +206,20 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform concatenate(AffineTransform Tx) {
-		delegate.concatenate(Tx.delegate);
-		return this;
+		int state = Tx.getState();
+		if (state == STATE_IDENTITY) {
+			return this;
+		}
+		if ((state & STATE_SHEAR) == 0) {
+			// pure translation and/or scaling
+			double sx = Tx.m00, sy = Tx.m11, tx = Tx.m02, ty = Tx.m12;
+			return setTransform(m00 * sx, m10 * sx, m01 * sy, m11 * sy,
+					m00 * tx + m01 * ty + m02, m10 * tx + m11 * ty + m12);
+		}
+		return setTransform(m00 * Tx.m00 + m01 * Tx.m10,
+				m10 * Tx.m00 + m11 * Tx.m10, m00 * Tx.m01 + m01 * Tx.m11,
+				m10 * Tx.m01 + m11 * Tx.m11, m00 * Tx.m02 + m01 * Tx.m12 + m02,
+				m10 * Tx.m02 + m11 * Tx.m12 + m12);
 	}
 
 	/**
@@ -141,7 +244,18 @@ public class AffineTransform implements Cloneable {
 	 */
 	public void deltaTransform(double[] srcPts, int srcOff, double[] dstPts,
 			int dstOff, int numPts) {
-		delegate.deltaTransform(srcPts, srcOff, dstPts, dstOff, numPts);
+		if (srcPts == dstPts && dstOff > srcOff
+				&& dstOff < srcOff + 2 * numPts) {
+			// overlapping ranges: transform a copy
+			System.arraycopy(srcPts, srcOff, dstPts, dstOff, 2 * numPts);
+			srcOff = dstOff;
+		}
+		for (int i = 0; i < numPts; i++) {
+			double x = srcPts[srcOff++];
+			double y = srcPts[srcOff++];
+			dstPts[dstOff++] = m00 * x + m01 * y;
+			dstPts[dstOff++] = m10 * x + m11 * y;
+		}
 	}
 
 	/**
@@ -154,14 +268,15 @@ public class AffineTransform implements Cloneable {
 	 * @return a new, transformed {@link Point}
 	 */
 	public Point deltaTransform(Point pt) {
-		return AWT2Geometry.toPoint(
-				delegate.deltaTransform(Geometry2AWT.toAWTPoint(pt), null));
+		return new Point(m00 * pt.x + m01 * pt.y, m10 * pt.x + m11 * pt.y);
 	}
 
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof AffineTransform) {
-			return delegate.equals(((AffineTransform) obj).delegate);
+			AffineTransform t = (AffineTransform) obj;
+			return m00 == t.m00 && m10 == t.m10 && m01 == t.m01
+					&& m11 == t.m11 && m02 == t.m02 && m12 == t.m12;
 		}
 		return false;
 	}
@@ -183,7 +298,7 @@ public class AffineTransform implements Cloneable {
 	 *         {@link AffineTransform}
 	 */
 	public double getDeterminant() {
-		return delegate.getDeterminant();
+		return m00 * m11 - m01 * m10;
 	}
 
 	/**
@@ -194,11 +309,13 @@ public class AffineTransform implements Cloneable {
 	 *         transformation of this {@link AffineTransform}
 	 */
 	public AffineTransform getInverse() {
-		try {
-			return new AffineTransform(delegate.createInverse());
-		} catch (NoninvertibleTransformException e) {
-			throw new IllegalArgumentException(e);
+		double det = getDeterminant();
+		if (!isInvertible(det)) {
+			throw new IllegalArgumentException("Determinant is " + det);
 		}
+		return new AffineTransform(m11 / det, -m10 / det, -m01 / det,
+				m00 / det, (m01 * m12 - m11 * m02) / det,
+				(m10 * m02 - m00 * m12) / det);
 	}
 
 	/**
@@ -207,7 +324,7 @@ public class AffineTransform implements Cloneable {
 	 * @return The matrix component in the first row and first column.
 	 */
 	public double getM00() {
-		return delegate.getScaleX();
+		return m00;
 	}
 
 	/**
@@ -216,7 +333,7 @@ public class AffineTransform implements Cloneable {
 	 * @return The matrix component in the first row and second column.
 	 */
 	public double getM01() {
-		return delegate.getShearX();
+		return m01;
 	}
 
 	/**
@@ -225,7 +342,7 @@ public class AffineTransform implements Cloneable {
 	 * @return The matrix component in the second row and first column.
 	 */
 	public double getM10() {
-		return delegate.getShearY();
+		return m10;
 	}
 
 	/**
@@ -234,7 +351,7 @@ public class AffineTransform implements Cloneable {
 	 * @return The matrix component in the second row and second column.
 	 */
 	public double getM11() {
-		return delegate.getScaleY();
+		return m11;
 	}
 
 	/**
@@ -245,9 +362,7 @@ public class AffineTransform implements Cloneable {
 	 *         {@link AffineTransform}
 	 */
 	public double[] getMatrix() {
-		double[] flatmatrix = new double[6];
-		delegate.getMatrix(flatmatrix);
-		return flatmatrix;
+		return new double[] { m00, m10, m01, m11, m02, m12 };
 	}
 
 	/**
@@ -292,8 +407,8 @@ public class AffineTransform implements Cloneable {
 	 * @return a new, transformed {@link Point}
 	 */
 	public Point getTransformed(Point ptSrc) {
-		return AWT2Geometry.toPoint(
-				delegate.transform(Geometry2AWT.toAWTPoint(ptSrc), null));
+		return new Point(m00 * ptSrc.x + m01 * ptSrc.y + m02,
+				m10 * ptSrc.x + m11 * ptSrc.y + m12);
 	}
 
 	/**
@@ -310,7 +425,10 @@ public class AffineTransform implements Cloneable {
 		Point[] result = new Point[points.length];
 
 		for (int i = 0; i < points.length; i++) {
-			result[i] = getTransformed(points[i]);
+			double x = points[i].x;
+			double y = points[i].y;
+			result[i] = new Point(m00 * x + m01 * y + m02,
+					m10 * x + m11 * y + m12);
 		}
 
 		return result;
@@ -324,7 +442,7 @@ public class AffineTransform implements Cloneable {
 	 *         transformation matrix
 	 */
 	public double getTranslateX() {
-		return delegate.getTranslateX();
+		return m02;
 	}
 
 	/**
@@ -335,25 +453,95 @@ public class AffineTransform implements Cloneable {
 	 *         transformation matrix
 	 */
 	public double getTranslateY() {
-		return delegate.getTranslateY();
+		return m12;
 	}
 
 	/**
 	 * Returns the type of transformation represented by this
-	 * {@link AffineTransform}. See the
-	 * {@link java.awt.geom.AffineTransform#getType()} method for a
-	 * specification of the return type of this method.
+	 * {@link AffineTransform}. The type is either {@link #TYPE_IDENTITY},
+	 * {@link #TYPE_GENERAL_TRANSFORM}, or a combination of the
+	 * {@link #TYPE_TRANSLATION}, {@link #TYPE_UNIFORM_SCALE},
+	 * {@link #TYPE_GENERAL_SCALE}, {@link #TYPE_QUADRANT_ROTATION},
+	 * {@link #TYPE_GENERAL_ROTATION}, and {@link #TYPE_FLIP} flags. The values
+	 * are compatible with the {@link java.awt.geom.AffineTransform#getType()}
+	 * method.
 	 *
 	 * @return the type of transformation represented by this
 	 *         {@link AffineTransform}
 	 */
 	public int getType() {
-		return delegate.getType();
+		int type = m02 != 0 || m12 != 0 ? TYPE_TRANSLATION : TYPE_IDENTITY;
+		if (m01 == 0 && m10 == 0) {
+			// scaling along the axes
+			if (m00 == 1 && m11 == 1) {
+				return type;
+			}
+			if ((m00 >= 0) != (m11 >= 0)) {
+				return type | TYPE_FLIP | (m00 != -m11 ? TYPE_GENERAL_SCALE
+						: m00 != 1 && m00 != -1 ? TYPE_UNIFORM_SCALE : 0);
+			}
+			if (m00 >= 0) {
+				return type | (m00 != m11 ? TYPE_GENERAL_SCALE
+						: TYPE_UNIFORM_SCALE);
+			}
+			// rotation by 180deg
+			return type | TYPE_QUADRANT_ROTATION
+					| (m00 != m11 ? TYPE_GENERAL_SCALE
+							: m00 != -1 ? TYPE_UNIFORM_SCALE : 0);
+		}
+		if (m00 == 0 && m11 == 0) {
+			// rotation by 90deg or 270deg
+			if ((m01 >= 0) == (m10 >= 0)) {
+				return type | TYPE_QUADRANT_ROTATION | TYPE_FLIP
+						| (m01 != m10 ? TYPE_GENERAL_SCALE
+								: TYPE_UNIFORM_SCALE);
+			}
+			return type | TYPE_QUADRANT_ROTATION
+					| (m01 != -m10 ? TYPE_GENERAL_SCALE
+							: m01 != 1 && m01 != -1 ? TYPE_UNIFORM_SCALE : 0);
+		}
+		if (m00 * m01 + m10 * m11 != 0) {
+			// the transformed unit vectors are not perpendicular
+			return TYPE_GENERAL_TRANSFORM;
+		}
+		type |= TYPE_GENERAL_ROTATION;
+		boolean flip = (m00 >= 0) != (m11 >= 0);
+		if (flip) {
+			type |= TYPE_FLIP;
+		}
+		if (flip ? m00 != -m11 || m01 != m10 : m00 != m11 || m01 != -m10) {
+			return type | TYPE_GENERAL_SCALE;
+		}
+		return type | (getDeterminant() != 1 ? TYPE_UNIFORM_SCALE : 0);
+	}
+
+	/**
+	 * Determines the state of this {@link AffineTransform}, i.e. a combination
+	 * of {@link #STATE_TRANSLATE}, {@link #STATE_SCALE}, and
+	 * {@link #STATE_SHEAR}. If {@link #STATE_SHEAR} is set, the
+	 * {@link #STATE_SCALE} flag is omitted.
+	 *
+	 * @return The state of this {@link AffineTransform}.
+	 */
+	private int getState() {
+		int state = m02 != 0 || m12 != 0 ? STATE_TRANSLATE : STATE_IDENTITY;
+		if (m01 != 0 || m10 != 0) {
+			state |= STATE_SHEAR;
+		} else if (m00 != 1 || m11 != 1) {
+			state |= STATE_SCALE;
+		}
+		return state;
 	}
 
 	@Override
 	public int hashCode() {
-		return delegate.hashCode();
+		long bits = Double.doubleToLongBits(m00);
+		bits = bits * 31 + Double.doubleToLongBits(m01);
+		bits = bits * 31 + Double.doubleToLongBits(m02);
+		bits = bits * 31 + Double.doubleToLongBits(m10);
+		bits = bits * 31 + Double.doubleToLongBits(m11);
+		bits = bits * 31 + Double.doubleToLongBits(m12);
+		return (int) bits ^ (int) (bits >> 32);
 	}
 
 	/**
@@ -379,7 +567,22 @@ public class AffineTransform implements Cloneable {
 	 */
 	public void inverseTransform(double[] srcPts, int srcOff, double[] dstPts,
 			int dstOff, int numPts) throws NoninvertibleTransformException {
-		delegate.inverseTransform(srcPts, srcOff, dstPts, dstOff, numPts);
+		double det = getDeterminant();
+		if (!isInvertible(det)) {
+			throw new NoninvertibleTransformException("Determinant is " + det);
+		}
+		if (srcPts == dstPts && dstOff > srcOff
+				&& dstOff < srcOff + 2 * numPts) {
+			// overlapping ranges: transform a copy
+			System.arraycopy(srcPts, srcOff, dstPts, dstOff, 2 * numPts);
+			srcOff = dstOff;
+		}
+		for (int i = 0; i < numPts; i++) {
+			double x = srcPts[srcOff++] - m02;
+			double y = srcPts[srcOff++] - m12;
+			dstPts[dstOff++] = (x * m11 - y * m01) / det;
+			dstPts[dstOff++] = (y * m00 - x * m10) / det;
+		}
 	}
 
 	/**
@@ -394,8 +597,9 @@ public class AffineTransform implements Cloneable {
 	 */
 	public Point inverseTransform(Point pt)
 			throws NoninvertibleTransformException {
-		return AWT2Geometry.toPoint(
-				delegate.inverseTransform(Geometry2AWT.toAWTPoint(pt), null));
+		double[] coordinates = { pt.x, pt.y };
+		inverseTransform(coordinates, 0, coordinates, 0, 1);
+		return new Point(coordinates[0], coordinates[1]);
 	}
 
 	/**
@@ -406,8 +610,12 @@ public class AffineTransform implements Cloneable {
 	 *             when this {@link AffineTransform} is not invertible.
 	 */
 	public AffineTransform invert() throws NoninvertibleTransformException {
-		delegate.invert();
-		return this;
+		double det = getDeterminant();
+		if (!isInvertible(det)) {
+			throw new NoninvertibleTransformException("Determinant is " + det);
+		}
+		return setTransform(m11 / det, -m10 / det, -m01 / det, m00 / det,
+				(m01 * m12 - m11 * m02) / det, (m10 * m02 - m00 * m12) / det);
 	}
 
 	/**
@@ -419,7 +627,11 @@ public class AffineTransform implements Cloneable {
 	 *         <code>false</code>
 	 */
 	public boolean isIdentity() {
-		return delegate.isIdentity();
+		return getState() == STATE_IDENTITY;
+	}
+
+	private boolean isInvertible(double det) {
+		return Math.abs(det) > Double.MIN_VALUE;
 	}
 
 	/**
@@ -434,8 +646,25 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform preConcatenate(AffineTransform Tx) {
-		delegate.preConcatenate(Tx.delegate);
-		return this;
+		int state = Tx.getState();
+		if (state == STATE_IDENTITY) {
+			return this;
+		}
+		if (state == STATE_TRANSLATE) {
+			m02 += Tx.m02;
+			m12 += Tx.m12;
+			return this;
+		}
+		if ((state & STATE_SHEAR) == 0) {
+			// pure scaling, possibly followed by translation
+			double sx = Tx.m00, sy = Tx.m11;
+			return setTransform(sx * m00, sy * m10, sx * m01, sy * m11,
+					sx * m02 + Tx.m02, sy * m12 + Tx.m12);
+		}
+		return setTransform(Tx.m00 * m00 + Tx.m01 * m10,
+				Tx.m10 * m00 + Tx.m11 * m10, Tx.m00 * m01 + Tx.m01 * m11,
+				Tx.m10 * m01 + Tx.m11 * m11, Tx.m00 * m02 + Tx.m01 * m12 + Tx.m02,
+				Tx.m10 * m02 + Tx.m11 * m12 + Tx.m12);
 	}
 
 	/**
@@ -448,8 +677,16 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform quadrantRotate(int numquadrants) {
-		delegate.quadrantRotate(numquadrants);
-		return this;
+		switch (numquadrants & 3) {
+		case 1:
+			return setTransform(m01, m11, -m00, -m10, m02, m12);
+		case 2:
+			return setTransform(-m00, -m10, -m01, -m11, m02, m12);
+		case 3:
+			return setTransform(-m01, -m11, m00, m10, m02, m12);
+		default:
+			return this;
+		}
 	}
 
 	/**
@@ -467,8 +704,8 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform quadrantRotate(int numquadrants, double anchorx,
 			double anchory) {
-		delegate.quadrantRotate(numquadrants, anchorx, anchory);
-		return this;
+		return translate(anchorx, anchory).quadrantRotate(numquadrants)
+				.translate(-anchorx, -anchory);
 	}
 
 	/**
@@ -480,8 +717,19 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform rotate(double theta) {
-		delegate.rotate(theta);
-		return this;
+		double sin = Math.sin(theta);
+		if (sin == 1) {
+			return quadrantRotate(1);
+		} else if (sin == -1) {
+			return quadrantRotate(3);
+		}
+		double cos = Math.cos(theta);
+		if (cos == -1) {
+			return quadrantRotate(2);
+		} else if (cos == 1) {
+			return this;
+		}
+		return concatenateRotation(sin, cos);
 	}
 
 	/**
@@ -498,8 +746,13 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform rotate(double vecx, double vecy) {
-		delegate.rotate(vecx, vecy);
-		return this;
+		if (vecy == 0) {
+			return vecx < 0 ? quadrantRotate(2) : this;
+		} else if (vecx == 0) {
+			return quadrantRotate(vecy > 0 ? 1 : 3);
+		}
+		double length = Math.sqrt(vecx * vecx + vecy * vecy);
+		return concatenateRotation(vecy / length, vecx / length);
 	}
 
 	/**
@@ -517,12 +770,41 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform rotate(double theta, double anchorx,
 			double anchory) {
-		delegate.rotate(theta, anchorx, anchory);
-		return this;
+		return translate(anchorx, anchory).rotate(theta).translate(-anchorx,
+				-anchory);
 	}
 
-	// TODO: Add the possibility to pass Angle objects instead of simple double
-	// values.
+	/**
+	 * Adds a rotation with the given {@link Angle} to the transformation matrix
+	 * of this {@link AffineTransform}.
+	 *
+	 * @param angle
+	 *            the rotation {@link Angle}
+	 * @return <code>this</code> for convenience
+	 * @since 5.1
+	 */
+	public AffineTransform rotate(Angle angle) {
+		return rotate(angle.rad());
+	}
+
+	/**
+	 * Adds a rotation with the given {@link Angle} around a {@link Point}
+	 * specified by the given x and y coordinates to the transformation matrix
+	 * of this {@link AffineTransform}.
+	 *
+	 * @param angle
+	 *            the rotation {@link Angle}
+	 * @param anchorx
+	 *            the x coordinate of the {@link Point} to rotate around
+	 * @param anchory
+	 *            the y coordinate of the {@link Point} to rotate around
+	 * @return <code>this</code> for convenience
+	 * @since 5.1
+	 */
+	public AffineTransform rotate(Angle angle, double anchorx,
+			double anchory) {
+		return rotate(angle.rad(), anchorx, anchory);
+	}
 
 	/**
 	 * Adds a rotation around a {@link Point} to the transformation matrix of
@@ -544,8 +826,17 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform rotate(double vecx, double vecy, double anchorx,
 			double anchory) {
-		delegate.rotate(vecx, vecy, anchorx, anchory);
-		return this;
+		return translate(anchorx, anchory).rotate(vecx, vecy)
+				.translate(-anchorx, -anchory);
+	}
+
+	/**
+	 * Adds the rotation specified by the given sine and cosine to the
+	 * transformation matrix of this {@link AffineTransform}.
+	 */
+	private AffineTransform concatenateRotation(double sin, double cos) {
+		return setTransform(m00 * cos + m01 * sin, m10 * cos + m11 * sin,
+				m01 * cos - m00 * sin, m11 * cos - m10 * sin, m02, m12);
 	}
 
 	/**
@@ -561,8 +852,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform scale(double sx, double sy) {
-		delegate.scale(sx, sy);
-		return this;
+		return setTransform(m00 * sx, m10 * sx, m01 * sy, m11 * sy, m02, m12);
 	}
 
 	/**
@@ -572,8 +862,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToIdentity() {
-		delegate.setToIdentity();
-		return this;
+		return setTransform(1, 0, 0, 1, 0, 0);
 	}
 
 	/**
@@ -585,8 +874,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToQuadrantRotation(int numquadrants) {
-		delegate.setToQuadrantRotation(numquadrants);
-		return this;
+		return setToIdentity().quadrantRotate(numquadrants);
 	}
 
 	/**
@@ -605,8 +893,7 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform setToQuadrantRotation(int numquadrants,
 			double anchorx, double anchory) {
-		delegate.setToQuadrantRotation(numquadrants, anchorx, anchory);
-		return this;
+		return setToIdentity().quadrantRotate(numquadrants, anchorx, anchory);
 	}
 
 	/**
@@ -618,8 +905,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToRotation(double theta) {
-		delegate.setToRotation(theta);
-		return this;
+		return setToIdentity().rotate(theta);
 	}
 
 	/**
@@ -636,8 +922,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToRotation(double vecx, double vecy) {
-		delegate.setToRotation(vecx, vecy);
-		return this;
+		return setToIdentity().rotate(vecx, vecy);
 	}
 
 	/**
@@ -656,8 +941,7 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform setToRotation(double theta, double anchorx,
 			double anchory) {
-		delegate.setToRotation(theta, anchorx, anchory);
-		return this;
+		return setToIdentity().rotate(theta, anchorx, anchory);
 	}
 
 	/**
@@ -681,8 +965,7 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform setToRotation(double vecx, double vecy,
 			double anchorx, double anchory) {
-		delegate.setToRotation(vecx, vecy, anchorx, anchory);
-		return this;
+		return setToIdentity().rotate(vecx, vecy, anchorx, anchory);
 	}
 
 	/**
@@ -696,8 +979,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToScale(double sx, double sy) {
-		delegate.setToScale(sx, sy);
-		return this;
+		return setTransform(sx, 0, 0, sy, 0, 0);
 	}
 
 	/**
@@ -711,8 +993,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToShear(double shx, double shy) {
-		delegate.setToShear(shx, shy);
-		return this;
+		return setTransform(1, shy, shx, 1, 0, 0);
 	}
 
 	/**
@@ -727,8 +1008,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setToTranslation(double tx, double ty) {
-		delegate.setToTranslation(tx, ty);
-		return this;
+		return setTransform(1, 0, 0, 1, tx, ty);
 	}
 
 	/**
@@ -741,8 +1021,7 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform setTransform(AffineTransform Tx) {
-		delegate.setTransform(Tx.delegate);
-		return this;
+		return setTransform(Tx.m00, Tx.m10, Tx.m01, Tx.m11, Tx.m02, Tx.m12);
 	}
 
 	/**
@@ -772,7 +1051,12 @@ public class AffineTransform implements Cloneable {
 	 */
 	public AffineTransform setTransform(double m00, double m10, double m01,
 			double m11, double m02, double m12) {
-		delegate.setTransform(m00, m10, m01, m11, m02, m12);
+		this.m00 = m00;
+		this.m10 = m10;
+		this.m01 = m01;
+		this.m11 = m11;
+		this.m02 = m02;
+		this.m12 = m12;
 		return this;
 	}
 
@@ -789,13 +1073,76 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform shear(double shx, double shy) {
-		delegate.shear(shx, shy);
-		return this;
+		return setTransform(m00 + m01 * shy, m10 + m11 * shy,
+				m00 * shx + m01, m10 * shx + m11, m02, m12);
 	}
 
 	@Override
 	public String toString() {
-		return delegate.toString();
+		return "AffineTransform[[" + round(m00) + ", " + round(m01) + ", "
+				+ round(m02) + "], [" + round(m10) + ", " + round(m11) + ", "
+				+ round(m12) + "]]";
+	}
+
+	/**
+	 * Transforms an array of {@link Point}s specified by their coordinate
+	 * values with this {@link AffineTransform}. The source and destination
+	 * arrays may be the same, even if the ranges overlap. Pure translations
+	 * and scalings are applied without evaluating the full transformation
+	 * matrix.
+	 *
+	 * @param srcPts
+	 *            the array of x and y coordinates specifying the {@link Point}s
+	 *            that are transformed
+	 * @param srcOff
+	 *            the index of the <i>srcPts</i> array where the x coordinate of
+	 *            the first {@link Point} to transform is found
+	 * @param dstPts
+	 *            the destination array of x and y coordinates for the result of
+	 *            the transformation
+	 * @param dstOff
+	 *            the index of the <i>dstPts</i> array where the x coordinate of
+	 *            the first transformed {@link Point} is stored
+	 * @param numPts
+	 *            the number of {@link Point}s to transform
+	 * @since 5.1
+	 */
+	public void transform(double[] srcPts, int srcOff, double[] dstPts,
+			int dstOff, int numPts) {
+		if (srcPts == dstPts && dstOff > srcOff
+				&& dstOff < srcOff + 2 * numPts) {
+			// overlapping ranges: transform a copy
+			System.arraycopy(srcPts, srcOff, dstPts, dstOff, 2 * numPts);
+			srcOff = dstOff;
+		}
+		int end = srcOff + 2 * numPts;
+		switch (getState()) {
+		case STATE_IDENTITY:
+			if (srcPts != dstPts || srcOff != dstOff) {
+				System.arraycopy(srcPts, srcOff, dstPts, dstOff, 2 * numPts);
+			}
+			break;
+		case STATE_TRANSLATE:
+			while (srcOff < end) {
+				dstPts[dstOff++] = srcPts[srcOff++] + m02;
+				dstPts[dstOff++] = srcPts[srcOff++] + m12;
+			}
+			break;
+		case STATE_SCALE:
+		case STATE_SCALE | STATE_TRANSLATE:
+			while (srcOff < end) {
+				dstPts[dstOff++] = srcPts[srcOff++] * m00 + m02;
+				dstPts[dstOff++] = srcPts[srcOff++] * m11 + m12;
+			}
+			break;
+		default:
+			while (srcOff < end) {
+				double x = srcPts[srcOff++];
+				double y = srcPts[srcOff++];
+				dstPts[dstOff++] = m00 * x + m01 * y + m02;
+				dstPts[dstOff++] = m10 * x + m11 * y + m12;
+			}
+		}
 	}
 
 	/**
@@ -809,7 +1156,8 @@ public class AffineTransform implements Cloneable {
 	 * @return <code>this</code> for convenience
 	 */
 	public AffineTransform translate(double tx, double ty) {
-		delegate.translate(tx, ty);
+		m02 += m00 * tx + m01 * ty;
+		m12 += m10 * tx + m11 * ty;
 		return this;
 	}
 
@@ -25,15 +25,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.function.BiFunction;
 
 import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.euclidean.Straight;
 import org.eclipse.gef.geometry.euclidean.Vector;
+import org.eclipse.gef.geometry.internal.utils.BezierUtils;
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
-import org.eclipse.gef.geometry.projective.Straight3D;
-import org.eclipse.gef.geometry.projective.Vector3D;
 
 /**
  * <p>
@@ -657,8 +655,9 @@ public class BezierCurve extends AbstractGeometry
 
 	/**
 	 * <p>
-	 * A {@link FatLine} combines a {@link Straight3D} with a positive and
-	 * negative distance called dmax and dmin, respectively.
+	 * A {@link FatLine} combines a straight line (in homogeneous coordinates)
+	 * with a positive and negative distance called dmax and dmin,
+	 * respectively.
 	 * </p>
 	 * <p>
 	 * It is used to apply a geometric clipping algorithm for finding
@@ -670,24 +669,40 @@ public class BezierCurve extends AbstractGeometry
 	private static class FatLine {
 
 		public static FatLine from(BezierCurve c, boolean ortho) {
-			FatLine L = new FatLine();
-			L.dmin = L.dmax = 0;
-
-			L.line = Straight3D.through(c.points[0],
-					c.points[c.points.length - 1]);
-			if (L.line == null) {
+			double[] coordinates = c.coordinates;
+			int n = coordinates.length / 2;
+			double x0 = coordinates[0];
+			double y0 = coordinates[1];
+
+			// straight through start and end point, i.e. their cross product
+			double xn = coordinates[2 * n - 2];
+			double yn = coordinates[2 * n - 1];
+			double a = y0 - yn;
+			double b = xn - x0;
+			if (Math.sqrt(a * a + b * b) == 0d) {
 				return null;
 			}
 
 			if (ortho) {
-				L.line = L.line.getOrtho();
+				// orthogonal straight through the start point
+				xn = x0 + a;
+				yn = y0 + b;
+				a = y0 - yn;
+				b = xn - x0;
 			}
-			if (L.line == null) {
+
+			FatLine L = new FatLine();
+			L.a = a;
+			L.b = b;
+			L.c = x0 * yn - y0 * xn;
+			L.f = Math.sqrt(a * a + b * b);
+			if (L.f == 0d) {
 				return null;
 			}
 
-			for (int i = 0; i < c.points.length; i++) {
-				double d = L.line.getSignedDistanceCW(c.points[i]);
+			for (int i = 0; i < n; i++) {
+				double d = L.getSignedDistanceCW(coordinates[2 * i],
+						coordinates[2 * i + 1]);
 				if (d < L.dmin) {
 					L.dmin = d;
 				} else if (d > L.dmax) {
@@ -698,15 +713,28 @@ public class BezierCurve extends AbstractGeometry
 			return L;
 		}
 
-		public Straight3D line;
+		private double a, b, c, f;
 
 		public double dmin, dmax;
 
 		private FatLine() {
-			line = null;
 			dmin = dmax = 0;
 		}
 
+		/**
+		 * Returns the clock-wise signed distance of the given point to the
+		 * straight line of this {@link FatLine}.
+		 *
+		 * @param x
+		 *            The x coordinate of the point.
+		 * @param y
+		 *            The y coordinate of the point.
+		 * @return the clock-wise signed distance of the given point
+		 */
+		public double getSignedDistanceCW(double x, double y) {
+			return (a * x + b * y + c) / f;
+		}
+
 	}
 
 	/**
@@ -928,12 +956,15 @@ public class BezierCurve extends AbstractGeometry
 			dst.qi = src.qi;
 		}
 
-		private static boolean equals(Vector3D v1, Vector3D v2,
+		private static boolean equals(BezierCurve c, double t1, double t2,
 				int precisionShift) {
-			return PrecisionUtils.equal(v1.x / v1.z, v2.x / v2.z,
-					precisionShift)
-					&& PrecisionUtils.equal(v1.y / v1.z, v2.y / v2.z,
-							precisionShift);
+			int n = c.coordinates.length / 2;
+			double[] p1 = new double[2];
+			double[] p2 = new double[2];
+			BezierUtils.evaluate(c.coordinates, n, t1, p1);
+			BezierUtils.evaluate(c.coordinates, n, t2, p2);
+			return PrecisionUtils.equal(p1[0], p2[0], precisionShift)
+					&& PrecisionUtils.equal(p1[1], p2[1], precisionShift);
 		}
 
 		/**
@@ -1003,9 +1034,8 @@ public class BezierCurve extends AbstractGeometry
 		 */
 		public boolean converges(int shift) {
 			return (pi.converges(shift)
-					|| equals(p.getHC(pi.a), p.getHC(pi.b), shift))
-					&& (qi.converges(shift)
-							|| equals(q.getHC(qi.a), q.getHC(qi.b), shift));
+					|| equals(p, pi.a, pi.b, shift))
+					&& (qi.converges(shift) || equals(q, qi.a, qi.b, shift));
 		}
 
 		/**
@@ -1016,7 +1046,7 @@ public class BezierCurve extends AbstractGeometry
 		 *         point, otherwise <code>false</code>.
 		 */
 		public boolean convergesP() {
-			return equals(p.getHC(pi.a), p.getHC(pi.b), 0);
+			return equals(p, pi.a, pi.b, 0);
 		}
 
 		/**
@@ -1027,7 +1057,7 @@ public class BezierCurve extends AbstractGeometry
 		 *         single point, otherwise <code>false</code>.
 		 */
 		public boolean convergesQ() {
-			return equals(q.getHC(qi.a), q.getHC(qi.b), 0);
+			return equals(q, qi.a, qi.b, 0);
 		}
 
 		/**
@@ -1619,54 +1649,6 @@ public class BezierCurve extends AbstractGeometry
 	private static final double UNRECOGNIZABLE_PRECISION_FRACTION = PrecisionUtils
 			.calculateFraction(0) / 10;
 
-	/**
-	 * A criteria {@link BiFunction} to find the {@link Point} with the minimal
-	 * x coordinate in a list of {@link Point}s.
-	 *
-	 * @see #findExtreme(BiFunction)
-	 * @see #findExtreme(BiFunction, Interval)
-	 */
-	private static final BiFunction<Point, Point, Boolean> xminCriteria = (p,
-			q) -> {
-		return PrecisionUtils.smallerEqual(p.x, q.x);
-	};
-
-	/**
-	 * A criteria {@link BiFunction} to find the {@link Point} with the maximal
-	 * x coordinate in a list of {@link Point}s.
-	 *
-	 * @see #findExtreme(BiFunction)
-	 * @see #findExtreme(BiFunction, Interval)
-	 */
-	private static final BiFunction<Point, Point, Boolean> xmaxCriteria = (p,
-			q) -> {
-		return PrecisionUtils.greaterEqual(p.x, q.x);
-	};
-
-	/**
-	 * A criteria {@link BiFunction} to find the {@link Point} with the minimal
-	 * y coordinate in a list of {@link Point}s.
-	 *
-	 * @see #findExtreme(BiFunction)
-	 * @see #findExtreme(BiFunction, Interval)
-	 */
-	private static final BiFunction<Point, Point, Boolean> yminCriteria = (p,
-			q) -> {
-		return PrecisionUtils.smallerEqual(p.y, q.y);
-	};
-
-	/**
-	 * A criteria {@link BiFunction} to find the {@link Point} with the maximal
-	 * y coordinate in a list of {@link Point}s.
-	 *
-	 * @see #findExtreme(BiFunction)
-	 * @see #findExtreme(BiFunction, Interval)
-	 */
-	private static final BiFunction<Point, Point, Boolean> ymaxCriteria = (p,
-			q) -> {
-		return PrecisionUtils.greaterEqual(p.y, q.y);
-	};
-
 	/**
 	 * <p>
 	 * Clusters consecutive {@link IntervalPair}s into a new array of
@@ -1808,20 +1790,8 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Line}
 	 */
 	private static double distanceToBaseLine(BezierCurve c) {
-		Straight3D baseLine = Straight3D.through(c.points[0],
-				c.points[c.points.length - 1]);
-
-		if (baseLine == null) {
-			return 0d;
-		}
-
-		double maxDistance = 0d;
-		for (int i = 1; i < c.points.length - 1; i++) {
-			maxDistance = Math.max(maxDistance,
-					Math.abs(baseLine.getSignedDistanceCW(c.points[i])));
-		}
-
-		return maxDistance;
+		return BezierUtils.getDistanceToBaseLine(c.coordinates,
+				c.coordinates.length / 2);
 	}
 
 	/**
@@ -1916,7 +1886,7 @@ public class BezierCurve extends AbstractGeometry
 		final double CHUNK_SHIFT_EPSILON = PrecisionUtils
 				.calculateFraction(CHUNK_SHIFT);
 
-		Point poi = ip.p.points[0].toPoint();
+		Point poi = ip.p.getP1();
 		double[] interval = new double[] { 0, 1 };
 		if (containmentParameter(ip.q, interval, poi)) {
 			ip.pi.a = CHUNK_SHIFT_EPSILON;
@@ -1928,7 +1898,7 @@ public class BezierCurve extends AbstractGeometry
 			intersections.add(poi);
 		}
 
-		poi = ip.p.points[ip.p.points.length - 1].toPoint();
+		poi = ip.p.getP2();
 		interval[0] = 0;
 		interval[1] = 1;
 		if (containmentParameter(ip.q, interval, poi)) {
@@ -1941,7 +1911,7 @@ public class BezierCurve extends AbstractGeometry
 			intersections.add(poi);
 		}
 
-		poi = ip.q.points[0].toPoint();
+		poi = ip.q.getP1();
 		interval[0] = 0;
 		interval[1] = 1;
 		if (containmentParameter(ip.p, interval, poi)) {
@@ -1954,7 +1924,7 @@ public class BezierCurve extends AbstractGeometry
 			intersections.add(poi);
 		}
 
-		poi = ip.q.points[ip.q.points.length - 1].toPoint();
+		poi = ip.q.getP2();
 		interval[0] = 0;
 		interval[1] = 1;
 		if (containmentParameter(ip.p, interval, poi)) {
@@ -2006,7 +1976,7 @@ public class BezierCurve extends AbstractGeometry
 		// curve implosion check
 		if (L1 == null || L2 == null) {
 			// q is degenerated
-			Point poi = ip.q.getHC(ip.qi.getMid()).toPoint();
+			Point poi = ip.q.get(ip.qi.getMid());
 			double[] interval = new double[] { 0, 1 };
 			if (poi != null && containmentParameter(ip.p, interval, poi)) {
 				intersections.add(poi);
@@ -2075,14 +2045,14 @@ public class BezierCurve extends AbstractGeometry
 			}
 
 			if (ip.convergesP()) {
-				Point p = ip.p.getHC(ip.pi.a).toPoint();
+				Point p = ip.p.get(ip.pi.a);
 				if (ip.q.contains(p)) {
 					return p;
 				}
 			}
 
 			if (ip.convergesQ()) {
-				Point q = ip.q.getHC(ip.qi.a).toPoint();
+				Point q = ip.q.get(ip.qi.a);
 				if (ip.p.contains(q)) {
 					return q;
 				}
@@ -2109,7 +2079,7 @@ public class BezierCurve extends AbstractGeometry
 			// curve implosion check
 			if (L1 == null || L2 == null) {
 				// q is degenerated
-				Point poi = ip.q.getHC(ip.qi.getMid()).toPoint();
+				Point poi = ip.q.get(ip.qi.getMid());
 				if (ip.p.contains(poi)) {
 					IntervalPair.copy(ipIO, ip);
 					return poi;
@@ -2165,17 +2135,22 @@ public class BezierCurve extends AbstractGeometry
 	 * The point of intersection is given by f(x) = g(x). The x-coordinate of
 	 * this point is x = (y - b) / m.
 	 *
-	 * @param p
-	 *            The start point of the {@link Line}
-	 * @param q
-	 *            The end point of the {@link Line}
+	 * @param px
+	 *            The x coordinate of the start point of the {@link Line}
+	 * @param py
+	 *            The y coordinate of the start point of the {@link Line}
+	 * @param qx
+	 *            The x coordinate of the end point of the {@link Line}
+	 * @param qy
+	 *            The y coordinate of the end point of the {@link Line}
 	 * @param y
 	 *            The x-axis-parallel line f(x) = y
 	 * @return the x coordinate of the intersection point.
 	 */
-	private static double intersectXAxisParallel(Point p, Point q, double y) {
-		double m = (q.y - p.y) / (q.x - p.x);
-		return (y - p.y + m * p.x) / m;
+	private static double intersectXAxisParallel(double px, double py,
+			double qx, double qy, double y) {
+		double m = (qy - py) / (qx - px);
+		return (y - py + m * px) / m;
 	}
 
 	/**
@@ -2405,10 +2380,10 @@ public class BezierCurve extends AbstractGeometry
 	}
 
 	/**
-	 * An array of {@link Vector3D}s which represent the control points of this
-	 * {@link BezierCurve} in homogenous coordinates.
+	 * The coordinates of the control points of this {@link BezierCurve} in x,
+	 * y order.
 	 */
-	private final Vector3D[] points;
+	private final double[] coordinates;
 
 	/**
 	 * Constructs a new {@link BezierCurve} from the given {@link CubicCurve}.
@@ -2431,7 +2406,8 @@ public class BezierCurve extends AbstractGeometry
 	 *            {@link BezierCurve} in x, y order
 	 */
 	public BezierCurve(double... controlPoints) {
-		this(PointListUtils.toPointsArray(controlPoints));
+		coordinates = Arrays.copyOf(controlPoints,
+				controlPoints.length / 2 * 2);
 	}
 
 	/**
@@ -2442,10 +2418,7 @@ public class BezierCurve extends AbstractGeometry
 	 *            the control {@link Point}s of the new {@link BezierCurve}
 	 */
 	public BezierCurve(Point... controlPoints) {
-		points = new Vector3D[controlPoints.length];
-		for (int i = 0; i < points.length; i++) {
-			points[i] = new Vector3D(controlPoints[i].x, controlPoints[i].y, 1);
-		}
+		coordinates = PointListUtils.toCoordinatesArray(controlPoints);
 	}
 
 	/**
@@ -2460,26 +2433,6 @@ public class BezierCurve extends AbstractGeometry
 		this(c.getP1(), c.getCtrl(), c.getP2());
 	}
 
-	/**
-	 * <p>
-	 * Constructs a new {@link BezierCurve} object from the control points
-	 * represented by the given {@link Vector3D}s.
-	 * </p>
-	 * <p>
-	 * Note that a Point(x, y) is represented by a Vector3D(x, y, 1).
-	 * </p>
-	 *
-	 * @param controlPoints
-	 *            the {@link Vector3D}s representing the control points of the
-	 *            new {@link BezierCurve}
-	 */
-	private BezierCurve(Vector3D... controlPoints) {
-		points = new Vector3D[controlPoints.length];
-		for (int i = 0; i < points.length; i++) {
-			points[i] = controlPoints[i].getCopy();
-		}
-	}
-
 	/**
 	 * <p>
 	 * Firstly, the difference of this {@link BezierCurve} to the given
@@ -2521,54 +2474,64 @@ public class BezierCurve extends AbstractGeometry
 	private double[] clipTo(FatLine L) {
 		double[] interval = new double[] { 1, 0 };
 
-		Vector3D[] differenceVectors = genDifferencePoints(L.line);
-
-		Point[] differencePoints = new Point[differenceVectors.length];
-		for (int i = 0; i < differenceVectors.length; i++) {
-			differencePoints[i] = differenceVectors[i].toPoint();
-		}
+		// the difference control points are (i / (n - 1), d[i])
+		double[] d = genDifferencePoints(L);
+		int n = d.length;
 
 		// inside fat line check
-		for (Point p : differencePoints) {
-			if (Double.isNaN(p.y) || L.dmin <= p.y && p.y <= L.dmax) {
-				moveInterval(interval, p.x);
+		for (int i = 0; i < n; i++) {
+			if (Double.isNaN(d[i]) || L.dmin <= d[i] && d[i] <= L.dmax) {
+				moveInterval(interval, (double) i / (n - 1));
 			}
 		}
 
 		// intersections from start
-		for (int i = 1; i < differencePoints.length; i++) {
-			Line seg = new Line(differencePoints[0], differencePoints[i]);
-			if (seg.getP1().y < L.dmin != seg.getP2().y < L.dmin) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmin);
-				moveInterval(interval, x);
-			}
-			if (seg.getP1().y < L.dmax != seg.getP2().y < L.dmax) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmax);
-				moveInterval(interval, x);
-			}
+		for (int i = 1; i < n; i++) {
+			clipTo(interval, L, 0, d[0], (double) i / (n - 1), d[i]);
 		}
 
 		// intersections from end
-		for (int i = 0; i < differencePoints.length - 1; i++) {
-			Line seg = new Line(differencePoints[i],
-					differencePoints[differencePoints.length - 1]);
-			if (seg.getP1().y < L.dmin != seg.getP2().y < L.dmin) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmin);
-				moveInterval(interval, x);
-			}
-			if (seg.getP1().y < L.dmax != seg.getP2().y < L.dmax) {
-				double x = intersectXAxisParallel(seg.getP1(), seg.getP2(),
-						L.dmax);
-				moveInterval(interval, x);
-			}
+		for (int i = 0; i < n - 1; i++) {
+			clipTo(interval, L, (double) i / (n - 1), d[i], 1, d[n - 1]);
 		}
 
 		return interval;
 	}
 
+	/**
+	 * Moves the given interval to the intersections of the difference
+	 * {@link Line} from <code>(px, py)</code> to <code>(qx, qy)</code> with the
+	 * bounds of the given {@link FatLine}.
+	 *
+	 * @param interval
+	 *            the parameter interval to adjust
+	 * @param L
+	 *            the {@link FatLine} to clip to
+	 * @param px
+	 *            the x coordinate of the start point of the difference
+	 *            {@link Line}
+	 * @param py
+	 *            the y coordinate of the start point of the difference
+	 *            {@link Line}
+	 * @param qx
+	 *            the x coordinate of the end point of the difference
+	 *            {@link Line}
+	 * @param qy
+	 *            the y coordinate of the end point of the difference
+	 *            {@link Line}
+	 */
+	private static void clipTo(double[] interval, FatLine L, double px,
+			double py, double qx, double qy) {
+		if (py < L.dmin != qy < L.dmin) {
+			moveInterval(interval,
+					intersectXAxisParallel(px, py, qx, qy, L.dmin));
+		}
+		if (py < L.dmax != qy < L.dmax) {
+			moveInterval(interval,
+					intersectXAxisParallel(px, py, qx, qy, L.dmax));
+		}
+	}
+
 	/**
 	 * <p>
 	 * Tests if this {@link BezierCurve} contains the given other
@@ -2611,10 +2574,10 @@ public class BezierCurve extends AbstractGeometry
 		}
 		BezierCurve o = (BezierCurve) other;
 		BezierCurve t = this;
-		while (o.points.length < t.points.length) {
+		while (o.coordinates.length < t.coordinates.length) {
 			o = o.getElevated();
 		}
-		while (t.points.length < o.points.length) {
+		while (t.coordinates.length < o.coordinates.length) {
 			t = t.getElevated();
 		}
 		Point[] oPoints = o.getPoints();
@@ -2623,95 +2586,31 @@ public class BezierCurve extends AbstractGeometry
 				|| Arrays.equals(oPoints, Point.getReverseCopy(tPoints));
 	}
 
-	/**
-	 * Searches for the specified extreme on this {@link BezierCurve}.
-	 *
-	 * @param criteria
-	 *            Specifies the criteria to use for finding the extreme. As long
-	 *            as it returns <code>true</code> for a given pair of points,
-	 *            search is continued.
-	 * @return The extreme {@link Point} that can be identified
-	 */
-	private Point findExtreme(BiFunction<Point, Point, Boolean> criteria) {
-		return findExtreme(criteria, Interval.getFull());
-	}
-
-	/**
-	 * <p>
-	 * Searches for an extreme {@link Point} on this {@link BezierCurve}.
-	 * </p>
-	 *
-	 * @param criteria
-	 *            Specifies the criteria to use for finding the extreme. As long
-	 *            as it returns <code>true</code> for a given pair of points,
-	 *            search is continued.
-	 * @param iStart
-	 *            the start {@link Interval} on this {@link BezierCurve} in
-	 *            which the extreme {@link Point} is searched for
-	 * @return The extreme {@link Point} that could be found
-	 */
-	private Point findExtreme(BiFunction<Point, Point, Boolean> criteria,
-			Interval iStart) {
-		Stack<Interval> parts = new Stack<>();
-		parts.push(iStart);
-
-		Point xtreme = getHC(iStart.a).toPoint();
-
-		while (!parts.isEmpty()) {
-			Interval i = parts.pop();
-			BezierCurve clipped = getClipped(i.a, i.b);
-
-			Point sp = clipped.points[0].toPoint();
-			xtreme = criteria.apply(sp, xtreme) ? sp : xtreme;
-			Point ep = clipped.points[clipped.points.length - 1].toPoint();
-			xtreme = criteria.apply(ep, xtreme) ? ep : xtreme;
-
-			boolean everythingWorse = true;
-			for (int j = 1; j < clipped.points.length - 1; j++) {
-				if (!criteria.apply(xtreme, clipped.points[j].toPoint())) {
-					everythingWorse = false;
-					break;
-				}
-			}
-
-			if (everythingWorse) {
-				continue;
-			}
-
-			// split interval
-			if (!i.converges()) {
-				double im = i.getMid();
-				parts.push(new Interval(im, i.b));
-				parts.push(new Interval(i.a, im));
-			}
-		}
-
-		return xtreme;
-	}
-
 	/**
 	 * <p>
 	 * Generates the difference control {@link Point}s of this
-	 * {@link BezierCurve} to the given {@link Straight3D}.
+	 * {@link BezierCurve} to the straight line of the given {@link FatLine}.
 	 * </p>
 	 * <p>
 	 * The difference control {@link Point}s are the control {@link Point}s of a
 	 * {@link BezierCurve} that yields the signed distance of each {@link Point}
-	 * on this {@link BezierCurve} to the given {@link Straight3D}.
+	 * on this {@link BezierCurve} to the given straight line. The x coordinate
+	 * of the <i>i</i>th difference control {@link Point} is
+	 * <code>i / (n - 1)</code>, therefore, only the y coordinates are returned.
 	 * </p>
 	 *
-	 * @param line
-	 *            the {@link Straight3D} to which the difference
+	 * @param L
+	 *            the {@link FatLine} to which the difference
 	 *            {@link BezierCurve}'s control {@link Point}s are to be
 	 *            computed
-	 * @return the difference {@link BezierCurve}'s control {@link Point}s
+	 * @return the y coordinates of the difference {@link BezierCurve}'s control
+	 *         {@link Point}s
 	 */
-	private Vector3D[] genDifferencePoints(Straight3D line) {
-		Vector3D[] D = new Vector3D[points.length];
-		for (int i = 0; i < points.length; i++) {
-			double y = line.getSignedDistanceCW(points[i]);
-			D[i] = new Vector3D((double) (i) / (double) (points.length - 1), y,
-					1);
+	private double[] genDifferencePoints(FatLine L) {
+		double[] D = new double[coordinates.length / 2];
+		for (int i = 0; i < D.length; i++) {
+			D[i] = L.getSignedDistanceCW(coordinates[2 * i],
+					coordinates[2 * i + 1]);
 		}
 		return D;
 	}
@@ -2728,17 +2627,20 @@ public class BezierCurve extends AbstractGeometry
 	 *         parameter value
 	 */
 	public Point get(double t) {
-		return getHC(t).toPoint();
+		if (t < 0 || t > 1) {
+			throw new IllegalArgumentException("t out of range: " + t);
+		}
+		double[] p = new double[2];
+		BezierUtils.evaluate(coordinates, coordinates.length / 2, t, p);
+		return new Point(p[0], p[1]);
 	}
 
 	@Override
 	public Rectangle getBounds() {
-		// TODO: check costs of 'inlining' lambdas here
-		double xmin = findExtreme(xminCriteria).x;
-		double xmax = findExtreme(xmaxCriteria).x;
-		double ymin = findExtreme(yminCriteria).y;
-		double ymax = findExtreme(ymaxCriteria).y;
-		return new Rectangle(new Point(xmin, ymin), new Point(xmax, ymax));
+		double[] bounds = new double[4];
+		BezierUtils.getBounds(coordinates, coordinates.length / 2, bounds);
+		return new Rectangle(bounds[0], bounds[1], bounds[2] - bounds[0],
+				bounds[3] - bounds[1]);
 	}
 
 	/**
@@ -2756,11 +2658,12 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	public BezierCurve getClipped(double s, double e) {
 		if (s == 1) {
-			return new BezierCurve(points[points.length - 1]);
+			return new BezierCurve(getP2());
 		}
-		BezierCurve right = split(s)[1];
-		double rightT2 = (e - s) / (1 - s);
-		return right.split(rightT2)[0];
+		BezierCurve clipped = new BezierCurve(coordinates);
+		BezierUtils.clip(coordinates, coordinates.length / 2, s, e,
+				clipped.coordinates);
+		return clipped;
 	}
 
 	/**
@@ -2771,31 +2674,28 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Polygon} of this {@link BezierCurve}
 	 */
 	public Rectangle getControlBounds() {
-		Point[] realPoints = getPoints();
-
-		double xmin = realPoints[0].x, xmax = realPoints[0].x,
-				ymin = realPoints[0].y, ymax = realPoints[0].y;
-
-		for (int i = 1; i < realPoints.length; i++) {
-			if (realPoints[i].x < xmin) {
-				xmin = realPoints[i].x;
-			} else if (realPoints[i].x > xmax) {
-				xmax = realPoints[i].x;
-			}
-
-			if (realPoints[i].y < ymin) {
-				ymin = realPoints[i].y;
-			} else if (realPoints[i].y > ymax) {
-				ymax = realPoints[i].y;
-			}
-		}
+		double[] bounds = new double[4];
+		BezierUtils.getControlBounds(coordinates, coordinates.length / 2,
+				bounds);
+		return new Rectangle(bounds[0], bounds[1], bounds[2] - bounds[0],
+				bounds[3] - bounds[1]);
+	}
 
-		return new Rectangle(xmin, ymin, xmax - xmin, ymax - ymin);
+	/**
+	 * Returns the coordinates of the control points of this
+	 * {@link BezierCurve} in x, y order. The returned array is not copied, so
+	 * that it may only be modified to initialize a newly created
+	 * {@link BezierCurve} (e.g. when splitting).
+	 *
+	 * @return The (internal) control point coordinates.
+	 */
+	double[] getControlPointCoordinates() {
+		return coordinates;
 	}
 
 	@Override
 	public BezierCurve getCopy() {
-		return new BezierCurve(points);
+		return new BezierCurve(coordinates);
 	}
 
 	/**
@@ -2805,15 +2705,9 @@ public class BezierCurve extends AbstractGeometry
 	 * @return the hodograph of this {@link BezierCurve}
 	 */
 	public BezierCurve getDerivative() {
-		Vector3D[] controlPoints = new Vector3D[points.length - 1];
-
-		for (int i = 0; i < controlPoints.length; i++) {
-			controlPoints[i] = points[i + 1].getSubtracted(points[i])
-					.getScaled(points.length - 1);
-			// ignore z coordinate:
-			controlPoints[i].z = 1;
-		}
-
+		double[] controlPoints = new double[coordinates.length - 2];
+		BezierUtils.getDerivative(coordinates, coordinates.length / 2,
+				controlPoints);
 		return new BezierCurve(controlPoints);
 	}
 
@@ -2836,38 +2730,6 @@ public class BezierCurve extends AbstractGeometry
 		return new BezierCurve(q);
 	}
 
-	/**
-	 * Returns a {@link Vector3D} representing the {@link Point} at the given
-	 * parameter value.
-	 *
-	 * @param t
-	 *            the parameter value for which this {@link BezierCurve} is
-	 *            evaluated
-	 * @return The point at the given parameter value, represented in
-	 *         homogeneous coordinates as a {@link Vector3D}.
-	 */
-	private Vector3D getHC(double t) {
-		if (t < 0 || t > 1) {
-			throw new IllegalArgumentException("t out of range: " + t);
-		}
-
-		// using horner's scheme:
-		int n = points.length;
-		if (n < 1) {
-			return null;
-		}
-
-		double bn = 1, tn = 1, d = 1d - t;
-		Vector3D pn = points[0].getScaled(bn * tn);
-		for (int i = 1; i < n; i++) {
-			bn = bn * (n - i) / i;
-			tn = tn * t;
-			pn = pn.getScaled(d).getAdded(points[i].getScaled(bn * tn));
-		}
-
-		return pn;
-	}
-
 	/**
 	 * <p>
 	 * Computes {@link IntervalPair}s which do reflect {@link Point}s of
@@ -3069,12 +2931,13 @@ public class BezierCurve extends AbstractGeometry
 
 	@Override
 	public Point getP1() {
-		return points[0].toPoint();
+		return new Point(coordinates[0], coordinates[1]);
 	}
 
 	@Override
 	public Point getP2() {
-		return points[points.length - 1].toPoint();
+		return new Point(coordinates[coordinates.length - 2],
+				coordinates[coordinates.length - 1]);
 	}
 
 	/**
@@ -3116,13 +2979,13 @@ public class BezierCurve extends AbstractGeometry
 	 * @return the <i>i</i>th control {@link Point} of this {@link BezierCurve}
 	 */
 	public Point getPoint(int i) {
-		if (i < 0 || i >= points.length) {
+		if (i < 0 || i >= coordinates.length / 2) {
 			throw new IllegalArgumentException(
 					"You can only index this BezierCurve's points from 0 to "
-							+ (points.length - 1) + ": getPoint(" + i
+							+ (coordinates.length / 2 - 1) + ": getPoint(" + i
 							+ "), this = " + this);
 		}
-		return points[i].toPoint();
+		return new Point(coordinates[2 * i], coordinates[2 * i + 1]);
 	}
 
 	/**
@@ -3131,92 +2994,15 @@ public class BezierCurve extends AbstractGeometry
 	 * @return the control {@link Point}s of this {@link BezierCurve}
 	 */
 	public Point[] getPoints() {
-		Point[] realPoints = new Point[points.length];
-		for (int i = 0; i < points.length; i++) {
-			realPoints[i] = points[i].toPoint();
-		}
-		return realPoints;
-	}
-
-	/**
-	 * Returns a copy of the {@link Vector3D} representations of the control
-	 * points of this {@link BezierCurve}.
-	 *
-	 * @return a copy of the {@link Vector3D} representations of the control
-	 *         points of this {@link BezierCurve}
-	 */
-	private Vector3D[] getPointsCopy() {
-		Vector3D[] copy = new Vector3D[points.length];
-		for (int i = 0; i < points.length; i++) {
-			copy[i] = points[i].getCopy();
-		}
-		return copy;
+		return PointListUtils.toPointsArray(coordinates);
 	}
 
 	@Override
 	public Point getProjection(final Point reference) {
-		// find nearest to reference within 100 samples
-		int numSamples = 100;
-
-		double nearestParam = 0;
-		Point nearest = get(nearestParam);
-		double distance = reference.getDistance(nearest);
-		for (int i = 1; i < numSamples; i++) {
-			double t = i / (numSamples - 1.0);
-			Point candidate = get(t);
-			double d = reference.getDistance(candidate);
-			if (d < distance) {
-				nearestParam = t;
-				nearest = candidate;
-				distance = d;
-			}
-		}
-
-		// compute interval
-		Interval interval = new Interval(
-				nearestParam / (numSamples - 1) - 1 / (double) (numSamples - 1),
-				nearestParam / (numSamples - 1)
-						+ 1 / (double) (numSamples - 1));
-		// ensure interval is valid
-		interval.a = Math.min(1, Math.max(0, interval.a));
-		interval.b = Math.min(1, Math.max(0, interval.b));
-
-		// refine interval
-		while (!interval.converges()) {
-			// compute start point and end point for the current interval
-			Point sp = get(interval.a);
-			Point ep = get(interval.b);
-
-			// compute distance to reference point
-			double sDist = reference.getDistance(sp);
-			double eDist = reference.getDistance(ep);
-
-			if (sDist >= distance && eDist >= distance) {
-				// start point and end point have greater distance
-				// => reduce interval on both sides
-				double range = interval.b - interval.a;
-				interval.b = interval.a + 0.75 * range;
-				interval.a = interval.a + 0.25 * range;
-			} else if (sDist < distance && sDist < eDist) {
-				// start has smaller distance
-				distance = sDist;
-				nearest = sp;
-				// reduce interval to its left side
-				interval.b = (interval.a + interval.b) / 2;
-			} else if (eDist < distance) {
-				// end has smaller distance
-				distance = eDist;
-				nearest = ep;
-				// reduce interval to its right side
-				interval.a = (interval.a + interval.b) / 2;
-			} else {
-				// impossible
-				throw new IllegalStateException(
-						"condition should not be reachable");
-			}
-		}
-
-		return nearest;
+		double[] projection = new double[2];
+		BezierUtils.getProjection(coordinates, coordinates.length / 2,
+				reference.x, reference.y, projection);
+		return new Point(projection[0], projection[1]);
 	}
 
 	@Override
@@ -3284,7 +3070,22 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	@Override
 	public BezierCurve getTransformed(AffineTransform t) {
-		return new BezierCurve(t.getTransformed(getPoints()));
+		return new BezierCurve(getTransformedCoordinates(t));
+	}
+
+	/**
+	 * Transforms the control point coordinates of this {@link BezierCurve}
+	 * with the given {@link AffineTransform} without creating intermediate
+	 * {@link Point}s.
+	 *
+	 * @param t
+	 *            The {@link AffineTransform} to apply.
+	 * @return A new array containing the transformed coordinates.
+	 */
+	double[] getTransformedCoordinates(AffineTransform t) {
+		double[] transformed = new double[coordinates.length];
+		t.transform(coordinates, 0, transformed, 0, coordinates.length / 2);
+		return transformed;
 	}
 
 	@Override
@@ -3299,22 +3100,22 @@ public class BezierCurve extends AbstractGeometry
 
 	@Override
 	public double getX1() {
-		return getP1().x;
+		return coordinates[0];
 	}
 
 	@Override
 	public double getX2() {
-		return getP2().x;
+		return coordinates[coordinates.length - 2];
 	}
 
 	@Override
 	public double getY1() {
-		return getP1().y;
+		return coordinates[1];
 	}
 
 	@Override
 	public double getY2() {
-		return getP2().y;
+		return coordinates[coordinates.length - 1];
 	}
 
 	@Override
@@ -3396,11 +3197,10 @@ public class BezierCurve extends AbstractGeometry
 	 * @return <code>this</code> for convenience
 	 */
 	public BezierCurve rotateCCW(Angle angle, Point center) {
-		for (int i = 0; i < points.length; i++) {
-			points[i] = new Vector3D(new Vector(
-					points[i].toPoint().getTranslated(center.getNegated()))
-							.getRotatedCCW(angle).toPoint()
-							.getTranslated(center));
+		for (int i = 0; i < coordinates.length / 2; i++) {
+			Point p = getPoint(i).getTranslated(center.getNegated());
+			setPoint(i, new Vector(p).getRotatedCCW(angle).toPoint()
+					.getTranslated(center));
 		}
 		return this;
 	}
@@ -3515,7 +3315,7 @@ public class BezierCurve extends AbstractGeometry
 	 * @return <code>this</code> for convenience
 	 */
 	public BezierCurve setP2(Point p2) {
-		setPoint(points.length - 1, p2);
+		setPoint(coordinates.length / 2 - 1, p2);
 		return this;
 	}
 
@@ -3532,12 +3332,13 @@ public class BezierCurve extends AbstractGeometry
 	 * @return <code>this</code> for convenience
 	 */
 	public BezierCurve setPoint(int i, Point p) {
-		if (i < 0 || i >= points.length) {
+		if (i < 0 || i >= coordinates.length / 2) {
 			throw new IllegalArgumentException("setPoint(" + i + ", " + p
 					+ "): You can only index this BezierCurve's points from 0 to "
-					+ (points.length - 1) + ".");
+					+ (coordinates.length / 2 - 1) + ".");
 		}
-		points[i] = new Vector3D(p);
+		coordinates[2 * i] = p.x;
+		coordinates[2 * i + 1] = p.y;
 		return this;
 	}
 
@@ -3555,23 +3356,11 @@ public class BezierCurve extends AbstractGeometry
 	 *         <code>[0;t]</code>) and the right (<code>[t;1]</code>)
 	 */
 	public BezierCurve[] split(double t) {
-		Vector3D[] leftPoints = new Vector3D[points.length];
-		Vector3D[] rightPoints = new Vector3D[points.length];
-
-		Vector3D[] ratioPoints = getPointsCopy();
-
-		for (int i = 0; i < points.length; i++) {
-			leftPoints[i] = ratioPoints[0];
-			rightPoints[points.length - 1 - i] = ratioPoints[points.length - 1
-					- i];
-
-			for (int j = 0; j < points.length - i - 1; j++) {
-				ratioPoints[j] = ratioPoints[j].getRatio(ratioPoints[j + 1], t);
-			}
-		}
-
-		return new BezierCurve[] { new BezierCurve(leftPoints),
-				new BezierCurve(rightPoints) };
+		BezierCurve left = new BezierCurve(coordinates);
+		BezierCurve right = new BezierCurve(coordinates);
+		BezierUtils.split(coordinates, coordinates.length / 2, t,
+				left.coordinates, right.coordinates);
+		return new BezierCurve[] { left, right };
 	}
 
 	@Override
@@ -3595,9 +3384,11 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Point}s
 	 */
 	public CubicCurve toCubic() {
-		if (points.length > 3) {
-			return new CubicCurve(points[0].toPoint(), points[1].toPoint(),
-					points[2].toPoint(), points[points.length - 1].toPoint());
+		int n = coordinates.length;
+		if (n > 6) {
+			return new CubicCurve(coordinates[0], coordinates[1],
+					coordinates[2], coordinates[3], coordinates[4],
+					coordinates[5], coordinates[n - 2], coordinates[n - 1]);
 		}
 		return null;
 	}
@@ -3612,9 +3403,10 @@ public class BezierCurve extends AbstractGeometry
 	 *         this {@link BezierCurve} does only have one control {@link Point}
 	 */
 	public Line toLine() {
-		if (points.length > 1) {
-			return new Line(points[0].toPoint(),
-					points[points.length - 1].toPoint());
+		int n = coordinates.length;
+		if (n > 2) {
+			return new Line(coordinates[0], coordinates[1], coordinates[n - 2],
+					coordinates[n - 1]);
 		}
 		return null;
 	}
@@ -3661,19 +3453,25 @@ public class BezierCurve extends AbstractGeometry
 	public Line[] toLineStrip(double lineSimilarity, Interval startInterval) {
 		ArrayList<Line> lines = new ArrayList<>();
 
-		Point startPoint = getHC(startInterval.a).toPoint();
+		int n = coordinates.length / 2;
+		double[] part = new double[coordinates.length];
+		double[] p = new double[2];
+		BezierUtils.evaluate(coordinates, n, startInterval.a, p);
+		double startX = p[0], startY = p[1];
 
 		Stack<Interval> parts = new Stack<>();
 		parts.push(startInterval);
 
 		while (!parts.isEmpty()) {
 			Interval i = parts.pop();
-			BezierCurve part = getClipped(i.a, i.b);
-
-			if (distanceToBaseLine(part) < lineSimilarity) {
-				Point endPoint = getHC(i.b).toPoint();
-				lines.add(new Line(startPoint, endPoint));
-				startPoint = endPoint;
+			BezierUtils.clip(coordinates, n, i.a, i.b, part);
+
+			if (BezierUtils.getDistanceToBaseLine(part,
+					n) < lineSimilarity) {
+				BezierUtils.evaluate(coordinates, n, i.b, p);
+				lines.add(new Line(startX, startY, p[0], p[1]));
+				startX = p[0];
+				startY = p[1];
 			} else {
 				double im = i.getMid();
 				parts.push(new Interval(im, i.b));
@@ -3695,8 +3493,7 @@ public class BezierCurve extends AbstractGeometry
 	public Path toPath() {
 		Path path = new Path();
 
-		Point startPoint = points[0].toPoint();
-		path.moveTo(startPoint.x, startPoint.y);
+		path.moveTo(coordinates[0], coordinates[1]);
 
 		for (Line seg : toLineStrip(0.25d)) {
 			path.lineTo(seg.getX2(), seg.getY2());
@@ -3719,27 +3516,29 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	public Point[] toPoints(Interval startInterval) {
 		ArrayList<Point> points = new ArrayList<>();
-		points.add(getHC(startInterval.a).toPoint());
+		points.add(get(startInterval.a));
+
+		int n = coordinates.length / 2;
+		double[] part = new double[coordinates.length];
 
 		Stack<Interval> parts = new Stack<>();
 		parts.push(startInterval);
 
 		while (!parts.isEmpty()) {
 			Interval i = parts.pop();
-			BezierCurve part = getClipped(i.a, i.b);
-
-			Point[] partPoints = part.getPoints();
+			BezierUtils.clip(coordinates, n, i.a, i.b, part);
 
 			boolean allTogether = true;
-			for (int j = 1; j < partPoints.length; j++) {
-				if (!partPoints[0].equals(partPoints[j])) {
+			for (int j = 1; j < n; j++) {
+				if (!PrecisionUtils.equal(part[0], part[2 * j])
+						|| !PrecisionUtils.equal(part[1], part[2 * j + 1])) {
 					allTogether = false;
 					break;
 				}
 			}
 
 			if (allTogether) {
-				points.add(partPoints[partPoints.length - 1]);
+				points.add(new Point(part[2 * n - 2], part[2 * n - 1]));
 			} else {
 				double im = i.getMid();
 				parts.push(new Interval(im, i.b));
@@ -3766,9 +3565,11 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link Point}s
 	 */
 	public QuadraticCurve toQuadratic() {
-		if (points.length > 2) {
-			return new QuadraticCurve(points[0].toPoint(), points[1].toPoint(),
-					points[points.length - 1].toPoint());
+		int n = coordinates.length;
+		if (n > 4) {
+			return new QuadraticCurve(coordinates[0], coordinates[1],
+					coordinates[2], coordinates[3], coordinates[n - 2],
+					coordinates[n - 1]);
 		}
 		return null;
 	}
@@ -3777,10 +3578,11 @@ public class BezierCurve extends AbstractGeometry
 	public String toString() {
 		StringBuffer str = new StringBuffer();
 		str.append("BezierCurve(");
-		for (int i = 0; i < points.length; i++) {
-			Vector3D v = points[i];
-			str.append(v);
-			if (i < points.length - 1) {
+		for (int i = 0; i < coordinates.length; i += 2) {
+			// homogeneous coordinates (z = 1)
+			str.append("Vector3D(" + coordinates[i] + ", " + coordinates[i + 1]
+					+ ", 1.0)");
+			if (i < coordinates.length - 2) {
 				str.append(", ");
 			}
 		}
@@ -3790,10 +3592,9 @@ public class BezierCurve extends AbstractGeometry
 
 	@Override
 	public BezierCurve translate(double dx, double dy) {
-		Point[] realPoints = getPoints();
-		Point.translate(realPoints, dx, dy);
-		for (int i = 0; i < realPoints.length; i++) {
-			setPoint(i, realPoints[i]);
+		for (int i = 0; i < coordinates.length; i += 2) {
+			coordinates[i] += dx;
+			coordinates[i + 1] += dy;
 		}
 		return this;
 	}
@@ -0,0 +1,1124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+import org.eclipse.gef.geometry.planar.Path.Segment;
+
+/**
+ * The {@link BooleanOperations} class computes the union, intersection,
+ * difference, and exclusive-or of the areas described by two {@link Path}s,
+ * without approximating curved segments by lines.
+ * <p>
+ * The outlines of both {@link Path}s are subdivided into x- and y-monotone
+ * {@link BezierCurve} pieces (lines, quadratic, and cubic curves). A sweep over
+ * the x-extents of the pieces determines the candidate pairs, which are then
+ * intersected (lines analytically, curves by subdivision and subsequent
+ * Newton refinement). The pieces are split at
+ * all points of intersection into edges that do not cross any other edge. For
+ * each edge, the winding numbers of both {@link Path}s are evaluated to the
+ * left and to the right of the edge, so that the edges that separate the
+ * interior of the result from its exterior can be selected. Finally, the
+ * selected edges are oriented (interior to the left) and linked into closed
+ * contours.
+ * <p>
+ * The result uses the {@link Path#WIND_NON_ZERO} winding rule.
+ *
+ * @author mwienand
+ *
+ */
+class BooleanOperations {
+
+	/**
+	 * An edge is a monotone piece of an outline of one of the operands.
+	 */
+	private static final class Edge {
+		// control points
+		private final double[] xs;
+		private final double[] ys;
+		// 0 for the first operand, 1 for the second operand
+		private final int operand;
+		private final double minX, minY, maxX, maxY;
+		private final List<Split> splits = new ArrayList<>();
+		private Vertex start, end;
+
+		private Edge(double[] xs, double[] ys, int operand) {
+			this.xs = xs;
+			this.ys = ys;
+			this.operand = operand;
+			int n = xs.length - 1;
+			// monotone, so that the bounds are determined by the end points
+			minX = Math.min(xs[0], xs[n]);
+			maxX = Math.max(xs[0], xs[n]);
+			minY = Math.min(ys[0], ys[n]);
+			maxY = Math.max(ys[0], ys[n]);
+		}
+
+		private boolean isLine() {
+			return xs.length == 2;
+		}
+	}
+
+	/**
+	 * A split of an {@link Edge} at a parameter value.
+	 */
+	private static final class Split {
+		private final double t;
+		private final Vertex vertex;
+
+		private Split(double t, Vertex vertex) {
+			this.t = t;
+			this.vertex = vertex;
+		}
+	}
+
+	/**
+	 * A sub-edge that results from splitting an {@link Edge} at all points of
+	 * intersection, and that is part of the result if it is selected.
+	 */
+	private static final class Fragment {
+		private final double[] xs;
+		private final double[] ys;
+		private final Vertex start;
+		private final Vertex end;
+		private boolean used = false;
+
+		private Fragment(double[] xs, double[] ys, Vertex start, Vertex end) {
+			this.xs = xs;
+			this.ys = ys;
+			this.start = start;
+			this.end = end;
+		}
+
+		private Fragment getReversed() {
+			int n = xs.length;
+			double[] rxs = new double[n];
+			double[] rys = new double[n];
+			for (int i = 0; i < n; i++) {
+				rxs[i] = xs[n - 1 - i];
+				rys[i] = ys[n - 1 - i];
+			}
+			return new Fragment(rxs, rys, end, start);
+		}
+	}
+
+	/**
+	 * A canonical point, so that points that are equal w.r.t. the tolerance
+	 * are represented by the same {@link Vertex}.
+	 */
+	private static final class Vertex {
+		private final double x;
+		private final double y;
+		private final List<Fragment> outgoing = new ArrayList<>(2);
+
+		private Vertex(double x, double y) {
+			this.x = x;
+			this.y = y;
+		}
+	}
+
+	/**
+	 * Operation constant for computing the union of two areas.
+	 */
+	static final int UNION = 0;
+
+	/**
+	 * Operation constant for computing the intersection of two areas.
+	 */
+	static final int INTERSECTION = 1;
+
+	/**
+	 * Operation constant for computing the difference of two areas.
+	 */
+	static final int DIFFERENCE = 2;
+
+	/**
+	 * Operation constant for computing the exclusive-or of two areas.
+	 */
+	static final int EXCLUSIVE_OR = 3;
+
+	private static final int MAX_SUBDIVISION_DEPTH = 50;
+	private static final int BISECTION_ITERATIONS = 60;
+
+	/**
+	 * Computes the given boolean operation for the given {@link Path}s.
+	 *
+	 * @param pa
+	 *            The first operand.
+	 * @param pb
+	 *            The second operand.
+	 * @param operation
+	 *            The operation to perform, one of {@link #UNION},
+	 *            {@link #INTERSECTION}, {@link #DIFFERENCE}, or
+	 *            {@link #EXCLUSIVE_OR}.
+	 * @return A new {@link Path} representing the result of the operation.
+	 */
+	static Path compute(Path pa, Path pb, int operation) {
+		return new BooleanOperations(pa, pb, operation).compute();
+	}
+
+	private static double cross(double ax, double ay, double bx, double by) {
+		return ax * by - ay * bx;
+	}
+
+	private static double evaluate(double[] c, double t) {
+		// Bernstein form (the edges are at most cubic)
+		double mt = 1 - t;
+		switch (c.length) {
+		case 2:
+			return mt * c[0] + t * c[1];
+		case 3:
+			return mt * mt * c[0] + 2 * mt * t * c[1] + t * t * c[2];
+		default:
+			return mt * mt * mt * c[0] + 3 * mt * mt * t * c[1]
+					+ 3 * mt * t * t * c[2] + t * t * t * c[3];
+		}
+	}
+
+	private static double evaluateDerivative(double[] c, double t) {
+		double mt = 1 - t;
+		switch (c.length) {
+		case 2:
+			return c[1] - c[0];
+		case 3:
+			return 2 * (mt * (c[1] - c[0]) + t * (c[2] - c[1]));
+		default:
+			return 3 * (mt * mt * (c[1] - c[0]) + 2 * mt * t * (c[2] - c[1])
+					+ t * t * (c[3] - c[2]));
+		}
+	}
+
+	/**
+	 * Finds the roots of the Bernstein polynomial with the given coefficients
+	 * within the parameter interval [t0, t1] by recursive subdivision (the
+	 * number of roots within an interval is bounded by the number of sign
+	 * changes of the coefficients).
+	 */
+	private static void findRoots(double[] c, double t0, double t1,
+			List<Double> roots, int depth) {
+		int n = c.length - 1;
+		int signChanges = 0;
+		int lastSign = 0;
+		for (double ci : c) {
+			int sign = ci > 0 ? 1 : ci < 0 ? -1 : 0;
+			if (sign != 0) {
+				if (lastSign != 0 && sign != lastSign) {
+					signChanges++;
+				}
+				lastSign = sign;
+			}
+		}
+		if (signChanges == 0) {
+			return;
+		}
+		if (signChanges == 1 && c[0] != 0 && c[n] != 0) {
+			// exactly one root, which is found using bisection
+			double lo = 0;
+			double hi = 1;
+			boolean loPositive = c[0] > 0;
+			for (int i = 0; i < BISECTION_ITERATIONS; i++) {
+				double mid = (lo + hi) / 2;
+				if ((evaluate(c, mid) > 0) == loPositive) {
+					lo = mid;
+				} else {
+					hi = mid;
+				}
+			}
+			roots.add(t0 + (lo + hi) / 2 * (t1 - t0));
+			return;
+		}
+		if (depth >= MAX_SUBDIVISION_DEPTH) {
+			roots.add((t0 + t1) / 2);
+			return;
+		}
+		double[][] halves = split(c, 0.5);
+		double tm = (t0 + t1) / 2;
+		findRoots(halves[0], t0, tm, roots, depth + 1);
+		findRoots(halves[1], tm, t1, roots, depth + 1);
+	}
+
+	private static double[][] split(double[] c, double t) {
+		int n = c.length;
+		double[] left = new double[n];
+		double[] right = new double[n];
+		double[] tmp = c.clone();
+		for (int k = 0; k < n; k++) {
+			left[k] = tmp[0];
+			right[n - 1 - k] = tmp[n - 1 - k];
+			for (int i = 0; i < n - 1 - k; i++) {
+				tmp[i] = tmp[i] + t * (tmp[i + 1] - tmp[i]);
+			}
+		}
+		return new double[][] { left, right };
+	}
+
+	private static double[] subCurve(double[] c, double t0, double t1) {
+		double[] right = t0 <= 0 ? c : split(c, t0)[1];
+		if (t1 >= 1) {
+			return right;
+		}
+		return split(right, (t1 - t0) / (1 - t0))[0];
+	}
+
+	private final Path pa;
+	private final Path pb;
+	private final int operation;
+	private final double tolerance = PrecisionUtils.calculateFraction(0);
+	private final Map<Long, List<Vertex>> vertices = new HashMap<>();
+	private final List<List<Edge>> operandEdges = new ArrayList<>();
+	private final List<List<List<Edge>>> operandBuckets = new ArrayList<>();
+	private final double[] operandMinY = new double[2];
+	private final double[] operandMaxY = new double[2];
+	private double scale = 0;
+
+	private BooleanOperations(Path pa, Path pb, int operation) {
+		this.pa = pa;
+		this.pb = pb;
+		this.operation = operation;
+	}
+
+	private void addCurve(double[] xs, double[] ys, int operand,
+			List<Edge> edges) {
+		boolean degenerate = true;
+		for (int i = 1; i < xs.length; i++) {
+			if (xs[i] != xs[0] || ys[i] != ys[0]) {
+				degenerate = false;
+				break;
+			}
+		}
+		if (!degenerate) {
+			updateScale(xs, ys);
+			addEdge(xs, ys, operand, edges);
+		}
+	}
+
+	private void addEdge(double[] xs, double[] ys, int operand,
+			List<Edge> edges) {
+		// split at the extrema, so that the resulting pieces are monotone in
+		// x and y
+		List<Double> params = new ArrayList<>();
+		if (xs.length > 2) {
+			double[] dx = new double[xs.length - 1];
+			double[] dy = new double[ys.length - 1];
+			for (int i = 0; i < dx.length; i++) {
+				dx[i] = xs[i + 1] - xs[i];
+				dy[i] = ys[i + 1] - ys[i];
+			}
+			findRoots(dx, 0, 1, params, 0);
+			findRoots(dy, 0, 1, params, 0);
+			Collections.sort(params);
+		}
+		double t0 = 0;
+		for (double t : params) {
+			if (t - t0 > 1e-9 && t < 1 - 1e-9) {
+				edges.add(new Edge(subCurve(xs, t0, t), subCurve(ys, t0, t),
+						operand));
+				t0 = t;
+			}
+		}
+		edges.add(new Edge(subCurve(xs, t0, 1), subCurve(ys, t0, 1), operand));
+	}
+
+	private void addLine(double x0, double y0, double x1, double y1,
+			int operand, List<Edge> edges) {
+		if (x0 != x1 || y0 != y1) {
+			double[] xs = { x0, x1 };
+			double[] ys = { y0, y1 };
+			updateScale(xs, ys);
+			edges.add(new Edge(xs, ys, operand));
+		}
+	}
+
+	private void addSplit(Edge edge, double t, double x, double y) {
+		Vertex v = getVertex(x, y);
+		if (v == edge.start || v == edge.end) {
+			return;
+		}
+		edge.splits.add(new Split(t, v));
+	}
+
+	private void buildIndex(int operand) {
+		// y-buckets for the winding number computation
+		List<Edge> edges = operandEdges.get(operand);
+		double minY = Double.POSITIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (Edge e : edges) {
+			minY = Math.min(minY, e.minY);
+			maxY = Math.max(maxY, e.maxY);
+		}
+		int bucketCount = Math.max(1, Math.min(edges.size(), 4096));
+		List<List<Edge>> buckets = new ArrayList<>(bucketCount);
+		for (int i = 0; i < bucketCount; i++) {
+			buckets.add(new ArrayList<Edge>());
+		}
+		operandMinY[operand] = minY;
+		operandMaxY[operand] = maxY;
+		operandBuckets.add(buckets);
+		for (Edge e : edges) {
+			int b0 = getBucket(operand, e.minY);
+			int b1 = getBucket(operand, e.maxY);
+			for (int b = b0; b <= b1; b++) {
+				buckets.get(b).add(e);
+			}
+		}
+	}
+
+	private boolean classify(boolean insideA, boolean insideB) {
+		switch (operation) {
+		case UNION:
+			return insideA || insideB;
+		case INTERSECTION:
+			return insideA && insideB;
+		case DIFFERENCE:
+			return insideA && !insideB;
+		case EXCLUSIVE_OR:
+			return insideA != insideB;
+		default:
+			throw new IllegalStateException(
+					"Unknown operation <" + operation + ">.");
+		}
+	}
+
+	private Path compute() {
+		// determine monotone edges
+		operandEdges.add(toEdges(pa, 0));
+		operandEdges.add(toEdges(pb, 1));
+		for (int i = 0; i < 2; i++) {
+			buildIndex(i);
+		}
+		List<Edge> allEdges = new ArrayList<>(operandEdges.get(0));
+		allEdges.addAll(operandEdges.get(1));
+		for (Edge e : allEdges) {
+			e.start = getVertex(e.xs[0], e.ys[0]);
+			e.end = getVertex(e.xs[e.xs.length - 1], e.ys[e.ys.length - 1]);
+		}
+
+		// sweep over x to find candidate pairs and intersect them
+		Collections.sort(allEdges, new Comparator<Edge>() {
+			@Override
+			public int compare(Edge e1, Edge e2) {
+				return Double.compare(e1.minX, e2.minX);
+			}
+		});
+		List<Edge> active = new ArrayList<>();
+		for (Edge e : allEdges) {
+			int kept = 0;
+			for (int i = 0; i < active.size(); i++) {
+				Edge a = active.get(i);
+				if (a.maxX >= e.minX - tolerance) {
+					active.set(kept++, a);
+					if (a.maxY >= e.minY - tolerance
+							&& a.minY <= e.maxY + tolerance) {
+						intersect(a, e);
+					}
+				}
+			}
+			active.subList(kept, active.size()).clear();
+			active.add(e);
+		}
+
+		// split edges into fragments and select the boundary fragments
+		Map<Long, List<Fragment>> fragmentsByVertices = new HashMap<>();
+		List<Fragment> selected = new ArrayList<>();
+		for (Edge e : allEdges) {
+			for (Fragment f : fragment(e)) {
+				if (!isDuplicate(f, fragmentsByVertices)) {
+					Fragment oriented = select(f);
+					if (oriented != null) {
+						selected.add(oriented);
+					}
+				}
+			}
+		}
+
+		// link the selected fragments into closed contours
+		for (Fragment f : selected) {
+			f.start.outgoing.add(f);
+		}
+		Path result = new Path(Path.WIND_NON_ZERO);
+		for (Fragment f : selected) {
+			if (!f.used) {
+				emitContour(f, result);
+			}
+		}
+		return result;
+	}
+
+	private void emitContour(Fragment first, Path result) {
+		List<Fragment> contour = new ArrayList<>();
+		Fragment current = first;
+		while (current != null && !current.used) {
+			current.used = true;
+			contour.add(current);
+			if (current.end == first.start) {
+				break;
+			}
+			Fragment next = null;
+			for (Fragment candidate : current.end.outgoing) {
+				if (!candidate.used) {
+					next = candidate;
+					break;
+				}
+			}
+			current = next;
+		}
+
+		// merge collinear lines
+		List<Fragment> merged = new ArrayList<>();
+		for (Fragment f : contour) {
+			if (!merged.isEmpty()) {
+				Fragment last = merged.get(merged.size() - 1);
+				if (isCollinearContinuation(last, f)) {
+					merged.set(merged.size() - 1,
+							new Fragment(
+									new double[] { last.xs[0],
+											f.xs[f.xs.length - 1] },
+									new double[] { last.ys[0],
+											f.ys[f.ys.length - 1] },
+									last.start, f.end));
+					continue;
+				}
+			}
+			merged.add(f);
+		}
+		if (merged.size() > 2 && isCollinearContinuation(
+				merged.get(merged.size() - 1), merged.get(0))) {
+			Fragment last = merged.remove(merged.size() - 1);
+			Fragment f = merged.get(0);
+			merged.set(0,
+					new Fragment(new double[] { last.xs[0], f.xs[1] },
+							new double[] { last.ys[0], f.ys[1] }, last.start,
+							f.end));
+		}
+
+		Fragment start = merged.get(0);
+		result.moveTo(start.xs[0], start.ys[0]);
+		for (int i = 0; i < merged.size(); i++) {
+			Fragment f = merged.get(i);
+			double[] xs = f.xs;
+			double[] ys = f.ys;
+			if (xs.length == 2) {
+				// the closing line is implied by the CLOSE segment
+				if (i < merged.size() - 1) {
+					result.lineTo(xs[1], ys[1]);
+				}
+			} else if (xs.length == 3) {
+				result.quadTo(xs[1], ys[1], xs[2], ys[2]);
+			} else {
+				result.cubicTo(xs[1], ys[1], xs[2], ys[2], xs[3], ys[3]);
+			}
+		}
+		result.close();
+	}
+
+	private List<Fragment> fragment(Edge e) {
+		Collections.sort(e.splits, new Comparator<Split>() {
+			@Override
+			public int compare(Split s1, Split s2) {
+				return Double.compare(s1.t, s2.t);
+			}
+		});
+		List<Fragment> fragments = new ArrayList<>();
+		double t0 = 0;
+		Vertex v0 = e.start;
+		List<Split> splits = new ArrayList<>(e.splits);
+		splits.add(new Split(1, e.end));
+		for (Split s : splits) {
+			if (s.vertex == v0) {
+				continue;
+			}
+			double[] xs = subCurve(e.xs, t0, s.t);
+			double[] ys = subCurve(e.ys, t0, s.t);
+			// snap end points to the vertices
+			xs[0] = v0.x;
+			ys[0] = v0.y;
+			xs[xs.length - 1] = s.vertex.x;
+			ys[ys.length - 1] = s.vertex.y;
+			fragments.add(new Fragment(xs, ys, v0, s.vertex));
+			t0 = s.t;
+			v0 = s.vertex;
+		}
+		return fragments;
+	}
+
+	private int getBucket(int operand, double y) {
+		int bucketCount = operandBuckets.get(operand).size();
+		double minY = operandMinY[operand];
+		double height = operandMaxY[operand] - minY;
+		if (height <= 0) {
+			return 0;
+		}
+		int b = (int) ((y - minY) / height * bucketCount);
+		return Math.max(0, Math.min(bucketCount - 1, b));
+	}
+
+	private double[] getControlBounds(double[] xs, double[] ys) {
+		double[] bounds = { xs[0], ys[0], xs[0], ys[0] };
+		for (int i = 1; i < xs.length; i++) {
+			bounds[0] = Math.min(bounds[0], xs[i]);
+			bounds[1] = Math.min(bounds[1], ys[i]);
+			bounds[2] = Math.max(bounds[2], xs[i]);
+			bounds[3] = Math.max(bounds[3], ys[i]);
+		}
+		return bounds;
+	}
+
+	/**
+	 * Returns the parameter value of the point on the given monotone edge
+	 * that is closest to the given coordinates, or <code>-1</code> if the
+	 * point is not located on the edge (w.r.t. the tolerance).
+	 */
+	private double getParameter(Edge e, double x, double y) {
+		if (x < e.minX - tolerance || x > e.maxX + tolerance
+				|| y < e.minY - tolerance || y > e.maxY + tolerance) {
+			return -1;
+		}
+		int n = e.xs.length - 1;
+		if (Math.abs(e.xs[0] - x) <= tolerance
+				&& Math.abs(e.ys[0] - y) <= tolerance) {
+			return 0;
+		}
+		if (Math.abs(e.xs[n] - x) <= tolerance
+				&& Math.abs(e.ys[n] - y) <= tolerance) {
+			return 1;
+		}
+		// solve for the dominant (monotone) coordinate
+		boolean useX = Math.abs(e.xs[n] - e.xs[0]) >= Math
+				.abs(e.ys[n] - e.ys[0]);
+		double[] c = useX ? e.xs : e.ys;
+		double v = useX ? x : y;
+		boolean increasing = c[n] >= c[0];
+		double lo = 0;
+		double hi = 1;
+		for (int i = 0; i < BISECTION_ITERATIONS; i++) {
+			double mid = (lo + hi) / 2;
+			if ((evaluate(c, mid) < v) == increasing) {
+				lo = mid;
+			} else {
+				hi = mid;
+			}
+		}
+		double t = (lo + hi) / 2;
+		double dx = evaluate(e.xs, t) - x;
+		double dy = evaluate(e.ys, t) - y;
+		if (!e.isLine()) {
+			// the dominant coordinate may be flat close to an extremum of the
+			// curve, so refine the parameter by projecting onto the tangent
+			for (int i = 0; i < 4; i++) {
+				double tx = evaluateDerivative(e.xs, t);
+				double ty = evaluateDerivative(e.ys, t);
+				double lengthSquared = tx * tx + ty * ty;
+				if (lengthSquared == 0) {
+					break;
+				}
+				t = Math.max(0, Math.min(1,
+						t - (dx * tx + dy * ty) / lengthSquared));
+				dx = evaluate(e.xs, t) - x;
+				dy = evaluate(e.ys, t) - y;
+			}
+		}
+		if (dx * dx + dy * dy > tolerance * tolerance) {
+			return -1;
+		}
+		return t;
+	}
+
+	private Vertex getVertex(double x, double y) {
+		// hash on a grid, whose cells are as large as the tolerance, so that
+		// only the neighboring cells need to be examined
+		long cx = (long) Math.floor(x / tolerance);
+		long cy = (long) Math.floor(y / tolerance);
+		for (long i = cx - 1; i <= cx + 1; i++) {
+			for (long j = cy - 1; j <= cy + 1; j++) {
+				List<Vertex> cell = vertices.get(key(i, j));
+				if (cell != null) {
+					for (Vertex v : cell) {
+						if (Math.abs(v.x - x) <= tolerance
+								&& Math.abs(v.y - y) <= tolerance) {
+							return v;
+						}
+					}
+				}
+			}
+		}
+		Vertex v = new Vertex(x, y);
+		Long key = key(cx, cy);
+		List<Vertex> cell = vertices.get(key);
+		if (cell == null) {
+			cell = new ArrayList<>(1);
+			vertices.put(key, cell);
+		}
+		cell.add(v);
+		return v;
+	}
+
+	private int getWindingNumber(int operand, double x, double y) {
+		if (y < operandMinY[operand] || y > operandMaxY[operand]) {
+			return 0;
+		}
+		int winding = 0;
+		for (Edge e : operandBuckets.get(operand).get(getBucket(operand, y))) {
+			int n = e.ys.length - 1;
+			double y0 = e.ys[0];
+			double y1 = e.ys[n];
+			// half-open interval, so that shared end points are only counted
+			// once
+			boolean upwards = y1 > y0;
+			if (upwards ? (y < y0 || y >= y1) : (y < y1 || y >= y0)) {
+				continue;
+			}
+			if (e.maxX <= x) {
+				continue;
+			}
+			double crossingX;
+			if (e.minX > x) {
+				crossingX = e.minX;
+			} else if (e.isLine()) {
+				crossingX = e.xs[0]
+						+ (y - y0) * (e.xs[1] - e.xs[0]) / (y1 - y0);
+			} else {
+				double lo = 0;
+				double hi = 1;
+				for (int i = 0; i < BISECTION_ITERATIONS; i++) {
+					double mid = (lo + hi) / 2;
+					if ((evaluate(e.ys, mid) < y) == upwards) {
+						lo = mid;
+					} else {
+						hi = mid;
+					}
+				}
+				crossingX = evaluate(e.xs, (lo + hi) / 2);
+			}
+			if (crossingX > x) {
+				winding += upwards ? 1 : -1;
+			}
+		}
+		return winding;
+	}
+
+	private void intersect(Edge p, Edge q) {
+		if (p.isLine() && q.isLine()) {
+			intersectLines(p, q);
+			return;
+		}
+
+		// end points of one edge that are located on the other edge
+		intersectEndPoints(p, q);
+		intersectEndPoints(q, p);
+
+		// proper intersections
+		if (p.isLine() || q.isLine()) {
+			Edge line = p.isLine() ? p : q;
+			Edge curve = line == p ? q : p;
+			double dx = line.xs[1] - line.xs[0];
+			double dy = line.ys[1] - line.ys[0];
+			double lengthSquared = dx * dx + dy * dy;
+			// implicit line equation applied to the control points yields the
+			// Bernstein coefficients of the signed distance
+			double[] c = new double[curve.xs.length];
+			for (int i = 0; i < c.length; i++) {
+				c[i] = cross(dx, dy, curve.xs[i] - line.xs[0],
+						curve.ys[i] - line.ys[0]);
+			}
+			List<Double> roots = new ArrayList<>();
+			findRoots(c, 0, 1, roots, 0);
+			for (double t : roots) {
+				double x = evaluate(curve.xs, t);
+				double y = evaluate(curve.ys, t);
+				double s = ((x - line.xs[0]) * dx + (y - line.ys[0]) * dy)
+						/ lengthSquared;
+				if (s >= 0 && s <= 1) {
+					addSplit(curve, t, x, y);
+					addSplit(line, s, x, y);
+				}
+			}
+		} else if (!isOverlapping(p, q)) {
+			intersectCurves(p, p.xs, p.ys, 0, 1, q, q.xs, q.ys, 0, 1, 0);
+		}
+	}
+
+	/**
+	 * Intersects the given (sub-)curves by recursive subdivision of their
+	 * control polygons. Near a point of intersection, the parameter values are
+	 * refined using Newton's method on the original curves.
+	 */
+	private void intersectCurves(Edge p, double[] pxs, double[] pys, double p0,
+			double p1, Edge q, double[] qxs, double[] qys, double q0, double q1,
+			int depth) {
+		double[] pb = getControlBounds(pxs, pys);
+		double[] qb = getControlBounds(qxs, qys);
+		if (pb[0] > qb[2] + tolerance || qb[0] > pb[2] + tolerance
+				|| pb[1] > qb[3] + tolerance || qb[1] > pb[3] + tolerance) {
+			return;
+		}
+		double pExtent = Math.max(pb[2] - pb[0], pb[3] - pb[1]);
+		double qExtent = Math.max(qb[2] - qb[0], qb[3] - qb[1]);
+		if (depth >= MAX_SUBDIVISION_DEPTH
+				|| Math.max(pExtent, qExtent) < tolerance / 4) {
+			refineIntersection(p, (p0 + p1) / 2, q, (q0 + q1) / 2);
+			return;
+		}
+		if (isFlat(pxs, pys) && isFlat(qxs, qys)) {
+			// intersect the chords (this also stops the subdivision at end
+			// points that are shared by adjacent edges)
+			int pn = pxs.length - 1;
+			int qn = qxs.length - 1;
+			double dpx = pxs[pn] - pxs[0];
+			double dpy = pys[pn] - pys[0];
+			double dqx = qxs[qn] - qxs[0];
+			double dqy = qys[qn] - qys[0];
+			double denominator = cross(dpx, dpy, dqx, dqy);
+			if (denominator != 0) {
+				double t = cross(qxs[0] - pxs[0], qys[0] - pys[0], dqx, dqy)
+						/ denominator;
+				double s = cross(qxs[0] - pxs[0], qys[0] - pys[0], dpx, dpy)
+						/ denominator;
+				if (t >= -1e-9 && t <= 1 + 1e-9 && s >= -1e-9
+						&& s <= 1 + 1e-9) {
+					refineIntersection(p, p0 + t * (p1 - p0), q,
+							q0 + s * (q1 - q0));
+				}
+			}
+			return;
+		}
+		if (pExtent >= qExtent) {
+			double[][] xs = split(pxs, 0.5);
+			double[][] ys = split(pys, 0.5);
+			double pm = (p0 + p1) / 2;
+			intersectCurves(p, xs[0], ys[0], p0, pm, q, qxs, qys, q0, q1,
+					depth + 1);
+			intersectCurves(p, xs[1], ys[1], pm, p1, q, qxs, qys, q0, q1,
+					depth + 1);
+		} else {
+			double[][] xs = split(qxs, 0.5);
+			double[][] ys = split(qys, 0.5);
+			double qm = (q0 + q1) / 2;
+			intersectCurves(p, pxs, pys, p0, p1, q, xs[0], ys[0], q0, qm,
+					depth + 1);
+			intersectCurves(p, pxs, pys, p0, p1, q, xs[1], ys[1], qm, q1,
+					depth + 1);
+		}
+	}
+
+	private void intersectEndPoints(Edge e, Edge other) {
+		int n = other.xs.length - 1;
+		double[][] endPoints = { { other.xs[0], other.ys[0] },
+				{ other.xs[n], other.ys[n] } };
+		for (double[] endPoint : endPoints) {
+			double t = getParameter(e, endPoint[0], endPoint[1]);
+			if (t > 0 && t < 1) {
+				addSplit(e, t, endPoint[0], endPoint[1]);
+			}
+		}
+	}
+
+	private void intersectLines(Edge p, Edge q) {
+		double px = p.xs[0];
+		double py = p.ys[0];
+		double dpx = p.xs[1] - px;
+		double dpy = p.ys[1] - py;
+		double qx = q.xs[0];
+		double qy = q.ys[0];
+		double dqx = q.xs[1] - qx;
+		double dqy = q.ys[1] - qy;
+		double denominator = cross(dpx, dpy, dqx, dqy);
+		double lp = Math.hypot(dpx, dpy);
+		double lq = Math.hypot(dqx, dqy);
+
+		// end points of one line that are located on the other line (covers
+		// touching and overlapping lines)
+		intersectEndPoints(p, q);
+		intersectEndPoints(q, p);
+
+		if (Math.abs(denominator) <= 1e-12 * lp * lq) {
+			// parallel
+			return;
+		}
+		double t = cross(qx - px, qy - py, dqx, dqy) / denominator;
+		double s = cross(qx - px, qy - py, dpx, dpy) / denominator;
+		if (t > 0 && t < 1 && s > 0 && s < 1) {
+			double x = px + t * dpx;
+			double y = py + t * dpy;
+			addSplit(p, t, x, y);
+			addSplit(q, s, x, y);
+		}
+	}
+
+	private boolean isCoincident(Fragment f1, Fragment f2, boolean reversed) {
+		if (f1.xs.length == 2 && f2.xs.length == 2) {
+			return true;
+		}
+		double coincidenceTolerance = 10 * tolerance;
+		for (double t = 0.25; t < 1; t += 0.25) {
+			double t2 = reversed ? 1 - t : t;
+			if (Math.abs(evaluate(f1.xs, t)
+					- evaluate(f2.xs, t2)) > coincidenceTolerance
+					|| Math.abs(evaluate(f1.ys, t)
+							- evaluate(f2.ys, t2)) > coincidenceTolerance) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isCollinearContinuation(Fragment f1, Fragment f2) {
+		if (f1.xs.length != 2 || f2.xs.length != 2 || f1.end != f2.start) {
+			return false;
+		}
+		double dx1 = f1.xs[1] - f1.xs[0];
+		double dy1 = f1.ys[1] - f1.ys[0];
+		double dx2 = f2.xs[1] - f2.xs[0];
+		double dy2 = f2.ys[1] - f2.ys[0];
+		return Math.abs(cross(dx1, dy1, dx2, dy2)) <= 1e-12
+				* Math.hypot(dx1, dy1) * Math.hypot(dx2, dy2)
+				&& dx1 * dx2 + dy1 * dy2 > 0;
+	}
+
+	private boolean isDuplicate(Fragment f,
+			Map<Long, List<Fragment>> fragmentsByVertices) {
+		// coincident fragments (of the same or of different operands) are
+		// only considered once
+		int h1 = System.identityHashCode(f.start);
+		int h2 = System.identityHashCode(f.end);
+		Long key = Math.min(h1, h2) * 31L + Math.max(h1, h2);
+		List<Fragment> candidates = fragmentsByVertices.get(key);
+		if (candidates == null) {
+			candidates = new ArrayList<>(1);
+			fragmentsByVertices.put(key, candidates);
+		}
+		for (Fragment c : candidates) {
+			boolean reversed = c.start != f.start;
+			if ((reversed ? c.end == f.start && c.start == f.end
+					: c.end == f.end)
+					&& isCoincident(c, f, reversed)) {
+				return true;
+			}
+		}
+		candidates.add(f);
+		return false;
+	}
+
+	/**
+	 * Returns <code>true</code> if the inner control points are within the
+	 * tolerance of the chord between the end points.
+	 */
+	private boolean isFlat(double[] xs, double[] ys) {
+		// distances of the inner control points from the chord
+		int n = xs.length - 1;
+		double dx = xs[n] - xs[0];
+		double dy = ys[n] - ys[0];
+		double length = Math.hypot(dx, dy);
+		for (int i = 1; i < n; i++) {
+			double distance = Math
+					.abs(cross(dx, dy, xs[i] - xs[0], ys[i] - ys[0]));
+			if (distance > tolerance * length / 4) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isInside(int operand, double x, double y) {
+		int winding = getWindingNumber(operand, x, y);
+		int windingRule = operand == 0 ? pa.getWindingRule()
+				: pb.getWindingRule();
+		return windingRule == Path.WIND_EVEN_ODD ? (winding & 1) != 0
+				: winding != 0;
+	}
+
+	/**
+	 * Returns <code>true</code> if the given curves overlap, i.e. share a
+	 * common part. In this case, the end points of the overlapping part are
+	 * found by {@link #intersectEndPoints(Edge, Edge)}.
+	 */
+	private boolean isOverlapping(Edge p, Edge q) {
+		// parameter values on p that are located on q as well
+		List<Double> params = new ArrayList<>(4);
+		int n = q.xs.length - 1;
+		double[][] points = { { q.xs[0], q.ys[0] }, { q.xs[n], q.ys[n] } };
+		for (double[] point : points) {
+			double t = getParameter(p, point[0], point[1]);
+			if (t >= 0) {
+				params.add(t);
+			}
+		}
+		n = p.xs.length - 1;
+		if (getParameter(q, p.xs[0], p.ys[0]) >= 0) {
+			params.add(0d);
+		}
+		if (getParameter(q, p.xs[n], p.ys[n]) >= 0) {
+			params.add(1d);
+		}
+		if (params.size() < 2) {
+			return false;
+		}
+		Collections.sort(params);
+		double t0 = params.get(0);
+		double t1 = params.get(params.size() - 1);
+		if (t1 - t0 < 1e-9) {
+			return false;
+		}
+		for (double t : new double[] { 0.25, 0.5, 0.75 }) {
+			double tm = t0 + t * (t1 - t0);
+			if (getParameter(q, evaluate(p.xs, tm), evaluate(p.ys, tm)) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long key(long cx, long cy) {
+		return cx * 73856093L ^ cy * 19349663L;
+	}
+
+	private void refineIntersection(Edge p, double t, Edge q, double s) {
+		// Newton's method on P(t) - Q(s) = 0
+		for (int i = 0; i < 8; i++) {
+			double fx = evaluate(p.xs, t) - evaluate(q.xs, s);
+			double fy = evaluate(p.ys, t) - evaluate(q.ys, s);
+			if (fx * fx + fy * fy < 1e-24) {
+				break;
+			}
+			double ptx = evaluateDerivative(p.xs, t);
+			double pty = evaluateDerivative(p.ys, t);
+			double qsx = -evaluateDerivative(q.xs, s);
+			double qsy = -evaluateDerivative(q.ys, s);
+			double determinant = cross(ptx, pty, qsx, qsy);
+			if (Math.abs(determinant) < 1e-18) {
+				break;
+			}
+			t = Math.max(0, Math.min(1,
+					t - cross(fx, fy, qsx, qsy) / determinant));
+			s = Math.max(0, Math.min(1,
+					s - cross(ptx, pty, fx, fy) / determinant));
+		}
+		double x = evaluate(p.xs, t);
+		double y = evaluate(p.ys, t);
+		double dx = x - evaluate(q.xs, s);
+		double dy = y - evaluate(q.ys, s);
+		if (dx * dx + dy * dy <= tolerance * tolerance) {
+			addSplit(p, t, x, y);
+			addSplit(q, s, x, y);
+		}
+	}
+
+	/**
+	 * Returns the given {@link Fragment} (oriented so that the interior of the
+	 * result is located to its left) if it separates interior and exterior of
+	 * the result, otherwise <code>null</code>.
+	 */
+	private Fragment select(Fragment f) {
+		// sample a point to the left and to the right of the fragment
+		double mx = evaluate(f.xs, 0.5);
+		double my = evaluate(f.ys, 0.5);
+		double tx = evaluateDerivative(f.xs, 0.5);
+		double ty = evaluateDerivative(f.ys, 0.5);
+		double tl = Math.hypot(tx, ty);
+		int n = f.xs.length - 1;
+		double chordX = f.xs[n] - f.xs[0];
+		double chordY = f.ys[n] - f.ys[0];
+		double chordLength = Math.hypot(chordX, chordY);
+		if (tl <= 1e-12 * chordLength) {
+			tx = chordX;
+			ty = chordY;
+			tl = chordLength;
+		}
+		if (tl == 0) {
+			return null;
+		}
+		double offset = Math.max(tolerance,
+				Math.min(chordLength * 1e-2, scale * 1e-5));
+		double nx = -ty / tl * offset;
+		double ny = tx / tl * offset;
+		boolean left = classify(isInside(0, mx + nx, my + ny),
+				isInside(1, mx + nx, my + ny));
+		boolean right = classify(isInside(0, mx - nx, my - ny),
+				isInside(1, mx - nx, my - ny));
+		if (left == right) {
+			return null;
+		}
+		return left ? f : f.getReversed();
+	}
+
+	private List<Edge> toEdges(Path path, int operand) {
+		List<Edge> edges = new ArrayList<>();
+		double startX = 0, startY = 0;
+		double currentX = 0, currentY = 0;
+		boolean open = false;
+		for (Segment s : path.getSegments()) {
+			Point[] points = s.getPoints();
+			switch (s.getType()) {
+			case Segment.MOVE_TO:
+				if (open) {
+					// sub-paths are implicitly closed
+					addLine(currentX, currentY, startX, startY, operand,
+							edges);
+				}
+				startX = currentX = points[0].x;
+				startY = currentY = points[0].y;
+				open = true;
+				break;
+			case Segment.LINE_TO:
+				addLine(currentX, currentY, points[0].x, points[0].y, operand,
+						edges);
+				currentX = points[0].x;
+				currentY = points[0].y;
+				break;
+			case Segment.QUAD_TO:
+				addCurve(new double[] { currentX, points[0].x, points[1].x },
+						new double[] { currentY, points[0].y, points[1].y },
+						operand, edges);
+				currentX = points[1].x;
+				currentY = points[1].y;
+				break;
+			case Segment.CUBIC_TO:
+				addCurve(
+						new double[] { currentX, points[0].x, points[1].x,
+								points[2].x },
+						new double[] { currentY, points[0].y, points[1].y,
+								points[2].y },
+						operand, edges);
+				currentX = points[2].x;
+				currentY = points[2].y;
+				break;
+			case Segment.CLOSE:
+				addLine(currentX, currentY, startX, startY, operand, edges);
+				currentX = startX;
+				currentY = startY;
+				break;
+			default:
+				throw new IllegalStateException(
+						"Unknown Path.Segment: <" + s + ">");
+			}
+		}
+		if (open) {
+			addLine(currentX, currentY, startX, startY, operand, edges);
+		}
+		return edges;
+	}
+
+	private void updateScale(double[] xs, double[] ys) {
+		for (int i = 0; i < xs.length; i++) {
+			scale = Math.max(scale, Math.max(Math.abs(xs[i]), Math.abs(ys[i])));
+		}
+	}
+
+}
@@ -0,0 +1,450 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.eclipse.gef.geometry.internal.utils.BezierUtils;
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+
+/**
+ * A {@link BoundingVolumeHierarchy} organizes the {@link BezierCurve} segments
+ * of a number of {@link ICurve}s in a binary tree of axis-aligned bounding
+ * boxes. The leaves of the tree are x- and y-monotone pieces of the segments,
+ * so that their bounds are tight (spanned by their end points). Two
+ * hierarchies are traversed simultaneously to find the pairs of segments that
+ * may intersect, so that the (expensive) {@link BezierCurve} intersection is
+ * only computed for those.
+ *
+ * @author mwienand
+ *
+ */
+class BoundingVolumeHierarchy {
+
+	/**
+	 * A candidate pair of segments, together with the computed
+	 * {@link Point}s of intersection.
+	 */
+	static final class Candidate {
+
+		/**
+		 * The index of the segment within the first hierarchy.
+		 */
+		final int segment1;
+
+		/**
+		 * The index of the segment within the second hierarchy.
+		 */
+		final int segment2;
+
+		/**
+		 * The {@link Point}s of intersection of both segments, or
+		 * <code>null</code> if not computed yet.
+		 */
+		Point[] intersections;
+
+		private Candidate(int segment1, int segment2) {
+			this.segment1 = segment1;
+			this.segment2 = segment2;
+		}
+
+	}
+
+	// maximum number of pieces per leaf node
+	private static final int LEAF_SIZE = 4;
+
+	// maximum subdivision depth when splitting segments into monotone pieces
+	private static final int MAX_MONOTONE_DEPTH = 6;
+
+	// margin by which bounds are expanded, so that segments that are regarded
+	// to intersect within the imprecision of PrecisionUtils are not pruned
+	private static final double MARGIN = PrecisionUtils.calculateFraction(-1);
+
+	/**
+	 * Computes all {@link Point}s of intersection between the given
+	 * {@link ICurve}s of the first and the given {@link ICurve}s of the second
+	 * group.
+	 *
+	 * @param curves1
+	 *            The first group of {@link ICurve}s.
+	 * @param curves2
+	 *            The second group of {@link ICurve}s.
+	 * @return The {@link Point}s of intersection.
+	 */
+	static Set<Point> getIntersections(List<? extends ICurve> curves1,
+			List<? extends ICurve> curves2) {
+		BoundingVolumeHierarchy h1 = new BoundingVolumeHierarchy(curves1);
+		BoundingVolumeHierarchy h2 = new BoundingVolumeHierarchy(curves2);
+		Set<Point> intersections = new HashSet<>();
+		for (Candidate candidate : h1.getCandidates(h2, false)) {
+			intersections.addAll(Arrays.asList(candidate.intersections));
+		}
+		return intersections;
+	}
+
+	/**
+	 * The {@link BezierCurve} segments of all curves.
+	 */
+	final BezierCurve[] segments;
+
+	/**
+	 * The index of the curve for each segment.
+	 */
+	final int[] owners;
+
+	// bounds (xmin, ymin, xmax, ymax) and segment index of each piece
+	private double[] pieceBounds;
+	private int[] pieceSegments;
+	private int pieceCount;
+
+	// bounds, children (or -1 for leaf nodes), and piece range of each node
+	private double[] nodeBounds;
+	private int[] nodeLeft;
+	private int[] nodeRight;
+	private int[] nodeStart;
+	private int[] nodeEnd;
+	private int nodeCount;
+
+	/**
+	 * Constructs a new {@link BoundingVolumeHierarchy} for the given
+	 * {@link ICurve}s.
+	 *
+	 * @param curves
+	 *            The {@link ICurve}s to organize.
+	 */
+	BoundingVolumeHierarchy(List<? extends ICurve> curves) {
+		List<BezierCurve> segmentList = new ArrayList<>();
+		List<Integer> ownerList = new ArrayList<>();
+		for (int i = 0; i < curves.size(); i++) {
+			for (BezierCurve segment : curves.get(i).toBezier()) {
+				segmentList.add(segment);
+				ownerList.add(i);
+			}
+		}
+		segments = segmentList.toArray(new BezierCurve[] {});
+		owners = new int[segments.length];
+		for (int i = 0; i < owners.length; i++) {
+			owners[i] = ownerList.get(i);
+		}
+
+		pieceBounds = new double[4 * Math.max(1, segments.length)];
+		pieceSegments = new int[Math.max(1, segments.length)];
+		for (int i = 0; i < segments.length; i++) {
+			addMonotonePieces(i);
+		}
+
+		// a binary tree with non-empty leaves has less than twice as many
+		// nodes as pieces
+		int maxNodes = 2 * Math.max(1, pieceCount);
+		nodeBounds = new double[4 * maxNodes];
+		nodeLeft = new int[maxNodes];
+		nodeRight = new int[maxNodes];
+		nodeStart = new int[maxNodes];
+		nodeEnd = new int[maxNodes];
+		if (pieceCount > 0) {
+			build(0, pieceCount);
+		}
+	}
+
+	/**
+	 * Subdivides the segment at the given index into pieces that are monotone
+	 * in x and y direction, i.e. the coordinates of their hodographs do not
+	 * change their sign, and records the bounds of these pieces.
+	 */
+	private void addMonotonePieces(int segment) {
+		double[] c = segments[segment].getControlPointCoordinates();
+		int n = c.length / 2;
+		if (n < 2) {
+			addPiece(segment, c, n);
+			return;
+		}
+		double[] part = new double[2 * n];
+		double[] hodograph = new double[2 * n - 2];
+		// stack of pending parameter intervals (start, end, depth)
+		double[] stack = new double[3 * (MAX_MONOTONE_DEPTH + 2)];
+		stack[0] = 0;
+		stack[1] = 1;
+		stack[2] = 0;
+		int top = 1;
+		while (top > 0) {
+			top--;
+			double a = stack[3 * top];
+			double b = stack[3 * top + 1];
+			int depth = (int) stack[3 * top + 2];
+			BezierUtils.clip(c, n, a, b, part);
+			BezierUtils.getDerivative(part, n, hodograph);
+			if (depth == MAX_MONOTONE_DEPTH || isMonotone(hodograph, n - 1)) {
+				addPiece(segment, part, n);
+			} else {
+				double mid = (a + b) / 2;
+				stack[3 * top] = mid;
+				stack[3 * top + 1] = b;
+				stack[3 * top + 2] = depth + 1;
+				stack[3 * top + 3] = a;
+				stack[3 * top + 4] = mid;
+				stack[3 * top + 5] = depth + 1;
+				top += 2;
+			}
+		}
+	}
+
+	private void addPiece(int segment, double[] c, int n) {
+		if (pieceCount == pieceSegments.length) {
+			pieceSegments = Arrays.copyOf(pieceSegments, 2 * pieceCount);
+			pieceBounds = Arrays.copyOf(pieceBounds, 8 * pieceCount);
+		}
+		// the control bounds of a monotone piece are spanned by its end points
+		double[] bounds = new double[4];
+		BezierUtils.getControlBounds(c, n, bounds);
+		System.arraycopy(bounds, 0, pieceBounds, 4 * pieceCount, 4);
+		pieceSegments[pieceCount++] = segment;
+	}
+
+	/**
+	 * Builds the subtree for the pieces within the given range and returns the
+	 * index of its root node. The pieces are partitioned at the median of
+	 * their centers along the longer axis of the node bounds.
+	 */
+	private int build(int start, int end) {
+		int node = nodeCount++;
+		nodeStart[node] = start;
+		nodeEnd[node] = end;
+		double xmin = Double.POSITIVE_INFINITY;
+		double ymin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY;
+		double ymax = Double.NEGATIVE_INFINITY;
+		for (int i = start; i < end; i++) {
+			xmin = Math.min(xmin, pieceBounds[4 * i]);
+			ymin = Math.min(ymin, pieceBounds[4 * i + 1]);
+			xmax = Math.max(xmax, pieceBounds[4 * i + 2]);
+			ymax = Math.max(ymax, pieceBounds[4 * i + 3]);
+		}
+		nodeBounds[4 * node] = xmin;
+		nodeBounds[4 * node + 1] = ymin;
+		nodeBounds[4 * node + 2] = xmax;
+		nodeBounds[4 * node + 3] = ymax;
+
+		if (end - start <= LEAF_SIZE) {
+			nodeLeft[node] = nodeRight[node] = -1;
+			return node;
+		}
+
+		int axis = xmax - xmin >= ymax - ymin ? 0 : 1;
+		int mid = (start + end) / 2;
+		select(start, end - 1, mid, axis);
+		nodeLeft[node] = build(start, mid);
+		nodeRight[node] = build(mid, end);
+		return node;
+	}
+
+	/**
+	 * Collects the pairs of pieces of this and the given other hierarchy
+	 * whose bounds overlap, and computes the {@link Point}s of intersection
+	 * of the corresponding segments. If the other hierarchy is this
+	 * hierarchy, only segments of different curves are paired.
+	 *
+	 * @param other
+	 *            The other {@link BoundingVolumeHierarchy}.
+	 * @param parallel
+	 *            <code>true</code> to compute the intersections of the
+	 *            candidate segments in parallel, otherwise <code>false</code>.
+	 * @return The candidate pairs of segments, sorted by segment indices.
+	 */
+	List<Candidate> getCandidates(BoundingVolumeHierarchy other,
+			boolean parallel) {
+		final List<Candidate> candidates = new ArrayList<>();
+		if (nodeCount == 0 || other.nodeCount == 0) {
+			return candidates;
+		}
+
+		boolean self = other == this;
+		Set<Long> seen = new HashSet<>();
+		int[] stack = new int[64];
+		stack[0] = 0;
+		stack[1] = 0;
+		int top = 1;
+		while (top > 0) {
+			top--;
+			int a = stack[2 * top];
+			int b = stack[2 * top + 1];
+			if (!overlaps(nodeBounds, a, other.nodeBounds, b)) {
+				continue;
+			}
+			boolean leafA = nodeLeft[a] < 0;
+			boolean leafB = other.nodeLeft[b] < 0;
+			if (top + 3 > stack.length / 2) {
+				stack = Arrays.copyOf(stack, 2 * stack.length);
+			}
+			if (leafA && leafB) {
+				for (int i = nodeStart[a]; i < nodeEnd[a]; i++) {
+					int j0 = self && a == b ? i + 1 : other.nodeStart[b];
+					for (int j = j0; j < other.nodeEnd[b]; j++) {
+						if (!overlaps(pieceBounds, i, other.pieceBounds, j)) {
+							continue;
+						}
+						int s1 = pieceSegments[i];
+						int s2 = other.pieceSegments[j];
+						if (self) {
+							if (owners[s1] == owners[s2]) {
+								continue;
+							}
+							if (s1 > s2) {
+								int tmp = s1;
+								s1 = s2;
+								s2 = tmp;
+							}
+						}
+						if (seen.add((long) s1 * other.segments.length + s2)) {
+							candidates.add(new Candidate(s1, s2));
+						}
+					}
+				}
+			} else if (self && a == b) {
+				// pairs within the same node
+				int l = nodeLeft[a], r = nodeRight[a];
+				stack[2 * top] = l;
+				stack[2 * top + 1] = l;
+				stack[2 * top + 2] = r;
+				stack[2 * top + 3] = r;
+				stack[2 * top + 4] = l;
+				stack[2 * top + 5] = r;
+				top += 3;
+			} else if (leafB || !leafA && getArea(nodeBounds,
+					a) >= getArea(other.nodeBounds, b)) {
+				stack[2 * top] = nodeLeft[a];
+				stack[2 * top + 1] = b;
+				stack[2 * top + 2] = nodeRight[a];
+				stack[2 * top + 3] = b;
+				top += 2;
+			} else {
+				stack[2 * top] = a;
+				stack[2 * top + 1] = other.nodeLeft[b];
+				stack[2 * top + 2] = a;
+				stack[2 * top + 3] = other.nodeRight[b];
+				top += 2;
+			}
+		}
+
+		// report candidates in a deterministic order
+		Collections.sort(candidates, new Comparator<Candidate>() {
+			@Override
+			public int compare(Candidate c1, Candidate c2) {
+				if (c1.segment1 != c2.segment1) {
+					return Integer.compare(c1.segment1, c2.segment1);
+				}
+				return Integer.compare(c1.segment2, c2.segment2);
+			}
+		});
+
+		final BezierCurve[] segments2 = other.segments;
+		IntConsumer intersect = new IntConsumer() {
+			@Override
+			public void accept(int i) {
+				Candidate candidate = candidates.get(i);
+				candidate.intersections = segments[candidate.segment1]
+						.getIntersections(segments2[candidate.segment2]);
+			}
+		};
+		if (parallel) {
+			IntStream.range(0, candidates.size()).parallel().forEach(intersect);
+		} else {
+			for (int i = 0; i < candidates.size(); i++) {
+				intersect.accept(i);
+			}
+		}
+		return candidates;
+	}
+
+	private static double getArea(double[] bounds, int i) {
+		return (bounds[4 * i + 2] - bounds[4 * i])
+				* (bounds[4 * i + 3] - bounds[4 * i + 1]);
+	}
+
+	private static boolean isMonotone(double[] hodograph, int n) {
+		for (int k = 0; k < 2; k++) {
+			boolean negative = false, positive = false;
+			for (int i = 0; i < n; i++) {
+				double d = hodograph[2 * i + k];
+				negative |= d < 0;
+				positive |= d > 0;
+			}
+			if (negative && positive) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean overlaps(double[] bounds1, int i, double[] bounds2,
+			int j) {
+		return bounds1[4 * i] <= bounds2[4 * j + 2] + MARGIN
+				&& bounds2[4 * j] <= bounds1[4 * i + 2] + MARGIN
+				&& bounds1[4 * i + 1] <= bounds2[4 * j + 3] + MARGIN
+				&& bounds2[4 * j + 1] <= bounds1[4 * i + 3] + MARGIN;
+	}
+
+	/**
+	 * Partially sorts the pieces within the given (inclusive) range, so that
+	 * the piece at index <i>k</i> is the one whose center is at that position
+	 * along the given axis (quickselect).
+	 */
+	private void select(int lo, int hi, int k, int axis) {
+		while (lo < hi) {
+			double pivot = getCenter((lo + hi) >>> 1, axis);
+			int i = lo, j = hi;
+			while (i <= j) {
+				while (getCenter(i, axis) < pivot) {
+					i++;
+				}
+				while (getCenter(j, axis) > pivot) {
+					j--;
+				}
+				if (i <= j) {
+					swap(i++, j--);
+				}
+			}
+			if (k <= j) {
+				hi = j;
+			} else if (k >= i) {
+				lo = i;
+			} else {
+				return;
+			}
+		}
+	}
+
+	private double getCenter(int i, int axis) {
+		return pieceBounds[4 * i + axis] + pieceBounds[4 * i + 2 + axis];
+	}
+
+	private void swap(int i, int j) {
+		int segment = pieceSegments[i];
+		pieceSegments[i] = pieceSegments[j];
+		pieceSegments[j] = segment;
+		for (int k = 0; k < 4; k++) {
+			double bound = pieceBounds[4 * i + k];
+			pieceBounds[4 * i + k] = pieceBounds[4 * j + k];
+			pieceBounds[4 * j + k] = bound;
+		}
+	}
+
+}
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
+import org.eclipse.gef.geometry.internal.utils.BezierUtils;
+
 /**
  * An instance of the {@link CubicCurve} class represents a {@link BezierCurve}
  * of degree 3, having a start and an end {@link Point} and two handle
@@ -152,7 +154,7 @@ public class CubicCurve extends BezierCurve {
 	 * @return the first handle {@link Point}'s x coordinate
 	 */
 	public double getCtrlX1() {
-		return getPoint(1).x;
+		return getControlPointCoordinates()[2];
 	}
 
 	/**
@@ -161,7 +163,7 @@ public class CubicCurve extends BezierCurve {
 	 * @return the second handle {@link Point}'s x coordinate
 	 */
 	public double getCtrlX2() {
-		return getPoint(2).x;
+		return getControlPointCoordinates()[4];
 	}
 
 	/**
@@ -170,7 +172,7 @@ public class CubicCurve extends BezierCurve {
 	 * @return the first handle {@link Point}'s y coordinate
 	 */
 	public double getCtrlY1() {
-		return getPoint(1).y;
+		return getControlPointCoordinates()[3];
 	}
 
 	/**
@@ -179,12 +181,12 @@ public class CubicCurve extends BezierCurve {
 	 * @return the second handle {@link Point}'s y coordinate
 	 */
 	public double getCtrlY2() {
-		return getPoint(2).y;
+		return getControlPointCoordinates()[5];
 	}
 
 	@Override
 	public CubicCurve getTransformed(AffineTransform t) {
-		return new CubicCurve(t.getTransformed(getPoints()));
+		return new CubicCurve(getTransformedCoordinates(t));
 	}
 
 	/**
@@ -295,8 +297,12 @@ public class CubicCurve extends BezierCurve {
 
 	@Override
 	public CubicCurve[] split(double t) {
-		BezierCurve[] split = super.split(t);
-		return new CubicCurve[] { split[0].toCubic(), split[1].toCubic() };
+		CubicCurve left = new CubicCurve(getControlPointCoordinates());
+		CubicCurve right = new CubicCurve(getControlPointCoordinates());
+		BezierUtils.split(getControlPointCoordinates(), 4, t,
+				left.getControlPointCoordinates(),
+				right.getControlPointCoordinates());
+		return new CubicCurve[] { left, right };
 	}
 
 	@Override
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.gef.geometry.planar.BoundingVolumeHierarchy.Candidate;
+
+/**
+ * The {@link CurveIntersections} class computes the {@link Point}s of
+ * intersection between many {@link ICurve}s at once. Instead of intersecting
+ * every {@link BezierCurve} segment of one {@link ICurve} with every segment of
+ * another {@link ICurve}, the segments are organized in bounding volume
+ * hierarchies over their x- and y-monotone pieces, so that only segments with
+ * overlapping bounds are intersected. The intersection of the candidate
+ * segments can optionally be computed in parallel.
+ *
+ * @author mwienand
+ * @since 5.1
+ *
+ */
+public final class CurveIntersections {
+
+	/**
+	 * An {@link Intersection} records a {@link Point} of intersection together
+	 * with the indices of the intersecting {@link ICurve}s.
+	 */
+	public static final class Intersection {
+
+		private final int index1;
+		private final int index2;
+		private final Point point;
+
+		private Intersection(int index1, int index2, Point point) {
+			this.index1 = index1;
+			this.index2 = index2;
+			this.point = point;
+		}
+
+		/**
+		 * Returns the index of the first intersecting {@link ICurve}.
+		 *
+		 * @return The index of the first intersecting {@link ICurve}.
+		 */
+		public int getIndex1() {
+			return index1;
+		}
+
+		/**
+		 * Returns the index of the second intersecting {@link ICurve}. When
+		 * intersecting a single list of {@link ICurve}s, this index is greater
+		 * than {@link #getIndex1()}.
+		 *
+		 * @return The index of the second intersecting {@link ICurve}.
+		 */
+		public int getIndex2() {
+			return index2;
+		}
+
+		/**
+		 * Returns (a copy of) the {@link Point} of intersection.
+		 *
+		 * @return The {@link Point} of intersection.
+		 */
+		public Point getPoint() {
+			return point.getCopy();
+		}
+
+		@Override
+		public String toString() {
+			return "Intersection(" + index1 + ", " + index2 + ", " + point
+					+ ")";
+		}
+
+	}
+
+	/**
+	 * Computes the {@link Point}s of intersection between all pairs of the
+	 * given {@link ICurve}s. The intersections of an {@link ICurve} with
+	 * itself are not computed.
+	 *
+	 * @param curves
+	 *            The {@link ICurve}s to intersect with each other.
+	 * @param parallel
+	 *            <code>true</code> to compute the intersections of candidate
+	 *            segments in parallel, otherwise <code>false</code>.
+	 * @return The {@link Intersection}s, ordered by the indices of the
+	 *         intersecting {@link ICurve}s.
+	 */
+	public static List<Intersection> getIntersections(
+			List<? extends ICurve> curves, boolean parallel) {
+		BoundingVolumeHierarchy hierarchy = new BoundingVolumeHierarchy(
+				curves);
+		return getIntersections(hierarchy, hierarchy, curves.size(), parallel);
+	}
+
+	/**
+	 * Computes the {@link Point}s of intersection between every
+	 * {@link ICurve} of the first and every {@link ICurve} of the second list.
+	 * This can be used, for example, to intersect all connections with all
+	 * node outlines.
+	 *
+	 * @param curves1
+	 *            The first list of {@link ICurve}s.
+	 * @param curves2
+	 *            The second list of {@link ICurve}s.
+	 * @param parallel
+	 *            <code>true</code> to compute the intersections of candidate
+	 *            segments in parallel, otherwise <code>false</code>.
+	 * @return The {@link Intersection}s, ordered by the indices of the
+	 *         intersecting {@link ICurve}s. The first index refers to the first
+	 *         list, the second index refers to the second list.
+	 */
+	public static List<Intersection> getIntersections(
+			List<? extends ICurve> curves1, List<? extends ICurve> curves2,
+			boolean parallel) {
+		return getIntersections(new BoundingVolumeHierarchy(curves1),
+				new BoundingVolumeHierarchy(curves2), curves2.size(), parallel);
+	}
+
+	private static List<Intersection> getIntersections(
+			BoundingVolumeHierarchy h1, BoundingVolumeHierarchy h2, int size2,
+			boolean parallel) {
+		// group the intersection points by pairs of curves
+		Map<Long, Set<Point>> pointsByPair = new TreeMap<>();
+		for (Candidate candidate : h1.getCandidates(h2, parallel)) {
+			if (candidate.intersections.length == 0) {
+				continue;
+			}
+			long key = (long) h1.owners[candidate.segment1] * size2
+					+ h2.owners[candidate.segment2];
+			Set<Point> points = pointsByPair.get(key);
+			if (points == null) {
+				points = new HashSet<>();
+				pointsByPair.put(key, points);
+			}
+			for (Point p : candidate.intersections) {
+				points.add(p);
+			}
+		}
+
+		List<Intersection> intersections = new ArrayList<>();
+		for (Map.Entry<Long, Set<Point>> entry : pointsByPair.entrySet()) {
+			int index1 = (int) (entry.getKey() / size2);
+			int index2 = (int) (entry.getKey() % size2);
+			for (Point p : entry.getValue()) {
+				intersections.add(new Intersection(index1, index2, p));
+			}
+		}
+		return intersections;
+	}
+
+	private CurveIntersections() {
+		// this class should not be instantiated by clients
+	}
+
+}
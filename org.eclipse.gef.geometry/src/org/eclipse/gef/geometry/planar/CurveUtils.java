@@ -13,8 +13,11 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -51,11 +54,23 @@ class CurveUtils {
 	 * @return An array of intersection {@link Point}s
 	 */
 	public static Point[] getIntersections(ICurve curve1, ICurve curve2) {
+		BezierCurve[] beziers1 = curve1.toBezier();
+		BezierCurve[] beziers2 = curve2.toBezier();
+		if (beziers1.length > 1 || beziers2.length > 1) {
+			// prune segment pairs by their bounds
+			return BoundingVolumeHierarchy
+					.getIntersections(Arrays.asList(beziers1),
+							Arrays.asList(beziers2))
+					.toArray(new Point[] {});
+		}
+
 		Set<Point> intersections = new HashSet<>();
 
-		for (BezierCurve bezier : curve1.toBezier()) {
-			intersections
-					.addAll(Arrays.asList(bezier.getIntersections(curve2)));
+		for (BezierCurve bezier : beziers1) {
+			for (BezierCurve other : beziers2) {
+				intersections
+						.addAll(Arrays.asList(bezier.getIntersections(other)));
+			}
 		}
 
 		return intersections.toArray(new Point[] {});
@@ -77,13 +92,11 @@ class CurveUtils {
 	public static Point[] getIntersections(ICurve curve, IGeometry geom) {
 		if (geom instanceof ICurve) {
 			return getIntersections(curve, (ICurve) geom);
-		} else if (geom instanceof IShape) {
-			return getIntersections(curve, (IShape) geom);
-		} else if (geom instanceof IMultiShape) {
-			return getIntersections(curve, (IMultiShape) geom);
-		} else {
-			throw new UnsupportedOperationException("Not yet implemented.");
 		}
+		return BoundingVolumeHierarchy
+				.getIntersections(Collections.singletonList(curve),
+						getOutlineSegments(geom))
+				.toArray(new Point[] {});
 	}
 
 	/**
@@ -97,13 +110,7 @@ class CurveUtils {
 	 */
 	public static Point[] getIntersections(ICurve curve,
 			IMultiShape multiShape) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (IShape shape : multiShape.getShapes()) {
-			intersections.addAll(Arrays.asList(getIntersections(curve, shape)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return getIntersections(curve, (IGeometry) multiShape);
 	}
 
 	/**
@@ -116,14 +123,7 @@ class CurveUtils {
 	 * @return an array of intersection {@link Point}s
 	 */
 	public static Point[] getIntersections(ICurve curve, IShape shape) {
-		Set<Point> intersections = new HashSet<>();
-
-		for (ICurve curve2 : shape.getOutlineSegments()) {
-			intersections
-					.addAll(Arrays.asList(getIntersections(curve, curve2)));
-		}
-
-		return intersections.toArray(new Point[] {});
+		return getIntersections(curve, (IGeometry) shape);
 	}
 
 	/**
@@ -138,26 +138,35 @@ class CurveUtils {
 	public static Point[] getIntersections(IGeometry geom1, IGeometry geom2) {
 		if (geom1 instanceof ICurve) {
 			return getIntersections((ICurve) geom1, geom2);
-		} else {
-			Set<Point> intersections = new HashSet<>();
+		}
+		return BoundingVolumeHierarchy
+				.getIntersections(getOutlineSegments(geom1),
+						getOutlineSegments(geom2))
+				.toArray(new Point[] {});
+	}
 
-			if (geom1 instanceof IShape) {
-				for (ICurve curve : ((IShape) geom1).getOutlineSegments()) {
-					intersections.addAll(
-							Arrays.asList(getIntersections(curve, geom2)));
-				}
-			} else if (geom1 instanceof IMultiShape) {
-				for (IShape shape : ((IMultiShape) geom1).getShapes()) {
-					for (ICurve curve : shape.getOutlineSegments()) {
-						intersections.addAll(
-								Arrays.asList(getIntersections(curve, geom2)));
-					}
-				}
-			} else {
-				throw new UnsupportedOperationException("Not yet implemented.");
+	/**
+	 * Returns the outline segments of the given {@link IGeometry}, i.e. the
+	 * {@link ICurve} itself, the outline segments of an {@link IShape}, or the
+	 * outline segments of all {@link IShape}s of an {@link IMultiShape}.
+	 *
+	 * @param geom
+	 *            the {@link IGeometry} of which to return the outline segments
+	 * @return the outline segments of the given {@link IGeometry}
+	 */
+	private static List<ICurve> getOutlineSegments(IGeometry geom) {
+		if (geom instanceof ICurve) {
+			return Collections.singletonList((ICurve) geom);
+		} else if (geom instanceof IShape) {
+			return Arrays.<ICurve> asList(((IShape) geom).getOutlineSegments());
+		} else if (geom instanceof IMultiShape) {
+			List<ICurve> segments = new ArrayList<>();
+			for (IShape shape : ((IMultiShape) geom).getShapes()) {
+				segments.addAll(Arrays.asList(shape.getOutlineSegments()));
 			}
-
-			return intersections.toArray(new Point[] {});
+			return segments;
+		} else {
+			throw new UnsupportedOperationException("Not yet implemented.");
 		}
 	}
 
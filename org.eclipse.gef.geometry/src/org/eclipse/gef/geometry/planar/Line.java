@@ -382,7 +382,7 @@ public class Line extends BezierCurve {
 	 */
 	@Override
 	public Line getTransformed(AffineTransform t) {
-		return new Line(t.getTransformed(getPoints()));
+		return new Line(getTransformedCoordinates(t));
 	}
 
 	@Override
@@ -13,13 +13,10 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
-import java.awt.geom.Area;
-import java.awt.geom.Path2D;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import org.eclipse.gef.geometry.convert.awt.AWT2Geometry;
 import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 
@@ -255,10 +252,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the sum of the areas
 	 */
 	public static Path add(Path pa, Path pb) {
-		Area a = new Area(Geometry2AWT.toAWTPath(pa));
-		Area b = new Area(Geometry2AWT.toAWTPath(pb));
-		a.add(b);
-		return AWT2Geometry.toPath(new Path2D.Double(a));
+		return BooleanOperations.compute(pa, pb, BooleanOperations.UNION);
 	}
 
 	/**
@@ -272,10 +266,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the exclusive-or of the areas
 	 */
 	public static Path exclusiveOr(Path pa, Path pb) {
-		Area a = new Area(Geometry2AWT.toAWTPath(pa));
-		Area b = new Area(Geometry2AWT.toAWTPath(pb));
-		a.exclusiveOr(b);
-		return AWT2Geometry.toPath(new Path2D.Double(a));
+		return BooleanOperations.compute(pa, pb, BooleanOperations.EXCLUSIVE_OR);
 	}
 
 	/**
@@ -289,10 +280,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 *         areas
 	 */
 	public static Path intersect(Path pa, Path pb) {
-		Area a = new Area(Geometry2AWT.toAWTPath(pa));
-		Area b = new Area(Geometry2AWT.toAWTPath(pb));
-		a.intersect(b);
-		return AWT2Geometry.toPath(new Path2D.Double(a));
+		return BooleanOperations.compute(pa, pb, BooleanOperations.INTERSECTION);
 	}
 
 	/**
@@ -305,10 +293,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the area covered by the first but not the second given area
 	 */
 	public static Path subtract(Path pa, Path pb) {
-		Area a = new Area(Geometry2AWT.toAWTPath(pa));
-		Area b = new Area(Geometry2AWT.toAWTPath(pb));
-		a.subtract(b);
-		return AWT2Geometry.toPath(new Path2D.Double(a));
+		return BooleanOperations.compute(pa, pb, BooleanOperations.DIFFERENCE);
 	}
 
 	private int windingRule = WIND_NON_ZERO;
@@ -549,9 +534,12 @@ public class Path extends AbstractGeometry implements IGeometry {
 
 	@Override
 	public Path getTransformed(AffineTransform t) {
-		return AWT2Geometry
-				.toPath(new Path2D.Double(Geometry2AWT.toAWTPath(this),
-						Geometry2AWT.toAWTAffineTransform(t)));
+		Path transformed = new Path(windingRule);
+		for (Segment s : segments) {
+			transformed.segments
+					.add(new Segment(s.type, t.getTransformed(s.points)));
+		}
+		return transformed;
 	}
 
 	/**
@@ -18,6 +18,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.gef.geometry.euclidean.Angle;
+import org.eclipse.gef.geometry.internal.utils.BezierUtils;
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
 
 /**
@@ -240,13 +241,20 @@ public class PolyBezier extends AbstractGeometry
 			return new Rectangle();
 		}
 
-		Rectangle bounds = beziers[0].getBounds();
-
+		double[] bounds = new double[4];
+		double xmin = Double.POSITIVE_INFINITY;
+		double ymin = Double.POSITIVE_INFINITY;
+		double xmax = Double.NEGATIVE_INFINITY;
+		double ymax = Double.NEGATIVE_INFINITY;
 		for (BezierCurve c : beziers) {
-			bounds.union(c.getBounds());
+			double[] coordinates = c.getControlPointCoordinates();
+			BezierUtils.getBounds(coordinates, coordinates.length / 2, bounds);
+			xmin = Math.min(xmin, bounds[0]);
+			ymin = Math.min(ymin, bounds[1]);
+			xmax = Math.max(xmax, bounds[2]);
+			ymax = Math.max(ymax, bounds[3]);
 		}
-
-		return bounds;
+		return new Rectangle(xmin, ymin, xmax - xmin, ymax - ymin);
 	}
 
 	@Override
@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
+import org.eclipse.gef.geometry.internal.utils.PolygonUtils;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 
 /**
@@ -75,92 +76,34 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 		}
 	}
 
-	private static Polygon clipEar(Polygon p, int[] ear,
-			ArrayList<Polygon> ears) {
-		Point[] points = p.getPoints();
-		ears.add(new Polygon(points[ear[0]], points[ear[1]], points[ear[2]]));
-		return new Polygon(getPointsWithout(points, ear[1]));
-	}
+	private static final long serialVersionUID = 1L;
 
 	/**
-	 * Searches the given list of {@link Point}s for a vertex that starts an
-	 * ear. An ear is a list of 3 vertices which build up a triangle that lies
-	 * inside the {@link Polygon} respective to the list of {@link Point}s and
-	 * can be clipped out of it so that the remaining {@link Polygon} remains
-	 * simple.
-	 *
-	 * @param points
-	 * @return
+	 * Sides that are farther away from the test {@link Line} than this margin
+	 * can neither contain the tested {@link Point} nor intersect the test
+	 * {@link Line}, because the margin exceeds the imprecision of the
+	 * comparisons.
 	 */
-	private static int[] findEarVertex(Polygon p) {
-		Point[] points = p.getPoints();
-
-		for (int start = 0; start < points.length; start++) {
-			int mid = start == points.length - 1 ? 0 : start + 1;
-			int end = start == points.length - 2 ? 0
-					: start == points.length - 1 ? 1 : start + 2;
-
-			if (p.contains(new Line(points[start], points[end]))) {
-				return new int[] { start, mid, end };
-			}
-		}
-
-		// this should never happen (for simple polygons)
-		return null;
-	}
-
-	private static Point[] getPointsWithout(Point[] points,
-			int... indicesToRemove) {
-		Point[] rest = new Point[points.length - indicesToRemove.length];
-		Arrays.sort(indicesToRemove);
-		for (int i = 0, j = 0; i < indicesToRemove.length; i++) {
-			for (int r = j; r < indicesToRemove[i]; r++) {
-				rest[r - i] = points[r];
-			}
-			j = indicesToRemove[i] + 1;
-		}
-		for (int i = indicesToRemove[indicesToRemove.length - 1]
-				+ 1; i < points.length; i++) {
-			rest[i - indicesToRemove.length] = points[i];
-		}
-		return rest;
-	}
+	static final double CONTAINMENT_MARGIN = PrecisionUtils
+			.calculateFraction(-3);
 
 	/**
-	 * Clips exactly one ear off of the given {@link Polygon} and adds it to the
-	 * list of ears. If the resulting {@link Polygon} is a triangle, this is
-	 * added to the list of ears, too. Otherwise, the method recurses.
-	 *
-	 * @param p
-	 * @param ears
+	 * Result of {@link #testSide(double, double, double, double, Point, Line)}
+	 * if the side does not cross the test {@link Line}.
 	 */
-	private static void triangulate(Polygon p, ArrayList<Polygon> ears) {
-		if (p == null) {
-			throw new IllegalArgumentException(
-					"The given Polygon may not be null.");
-		}
-		if (ears == null) {
-			throw new IllegalArgumentException(
-					"The given ear-list may not be null.");
-		}
-		if (p.points.length < 3) {
-			throw new IllegalArgumentException(
-					"The given Polygon may not have less than three vertices.");
-		}
+	static final int SIDE_NO_CROSSING = 0;
 
-		if (p.points.length == 3) {
-			ears.add(p.getCopy());
-			return;
-		}
-
-		int[] ear = findEarVertex(p);
-		Polygon rest = clipEar(p, ear, ears);
-
-		// recurse
-		triangulate(rest, ears);
-	}
+	/**
+	 * Result of {@link #testSide(double, double, double, double, Point, Line)}
+	 * if the side crosses the test {@link Line}.
+	 */
+	static final int SIDE_CROSSING = 1;
 
-	private static final long serialVersionUID = 1L;
+	/**
+	 * Result of {@link #testSide(double, double, double, double, Point, Line)}
+	 * if the tested {@link Point} lies on the side.
+	 */
+	static final int SIDE_CONTAINS = 2;
 
 	/**
 	 * Constructs a new {@link Polygon} from a even-numbered sequence of
@@ -198,27 +141,19 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 * If the {@link Polygon} does not have at least three vertices, a
 	 * {@link IllegalStateException} is thrown.
 	 *
-	 * The edges are added to the {@link Polygon} one after the other. If a
+	 * The self-intersections are searched by a sweep over the edges of the
+	 * {@link Polygon} (see {@link PolygonUtils#isSimple(double[])}). If a
 	 * self-intersection is found an {@link IllegalStateException} is thrown.
 	 */
 	private void assureSimplicity() {
-		if (points.length < 3) {
+		if (getPointCount() < 3) {
 			throw new IllegalStateException(
 					"A polygon can only be constructed of at least 3 vertices.");
 		}
 
-		for (Line e1 : getOutlineSegments()) {
-			for (Line e2 : getOutlineSegments()) {
-				if (!e1.getP1().equals(e2.getP1())
-						&& !e1.getP2().equals(e2.getP1())
-						&& !e1.getP1().equals(e2.getP2())
-						&& !e1.getP2().equals(e2.getP2())) {
-					if (e1.touches(e2)) {
-						throw new IllegalStateException(
-								"Only simple polygons allowed. A polygon without any self-intersections is considered to be simple. This polygon is not simple.");
-					}
-				}
-			}
+		if (!PolygonUtils.isSimple(coordinates)) {
+			throw new IllegalStateException(
+					"Only simple polygons allowed. A polygon without any self-intersections is considered to be simple. This polygon is not simple.");
 		}
 	}
 
@@ -307,12 +242,13 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 */
 	@Override
 	public boolean contains(Point p) {
-		if (points.length == 0) {
+		int n = coordinates.length;
+		if (n == 0) {
 			return false;
-		} else if (points.length == 1) {
-			return points[0].equals(p);
-		} else if (points.length == 2) {
-			return new Line(points[0], points[1]).contains(p);
+		} else if (n == 2) {
+			return new Point(coordinates[0], coordinates[1]).equals(p);
+		} else if (n == 4) {
+			return new Line(coordinates).contains(p);
 		} else {
 			// perform a quick rejection test via the bounds
 			Rectangle bounds = getBounds();
@@ -336,68 +272,30 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 			 * the point is located on one of the sides
 			 */
 			boolean odd = false;
-			for (int i = 0; i < points.length; i++) {
-				Point p1 = points[i];
-				Point p2 = points[i + 1 < points.length ? i + 1 : 0];
-
-				// check whether the point is located on the current side
-				if (p1.equals(p2)) {
-					if (p1.equals(p)) {
-						return true;
-					}
+			for (int i = 0; i < n; i += 2) {
+				int j = i + 2 < n ? i + 2 : 0;
+				double x1 = coordinates[i], y1 = coordinates[i + 1];
+				double x2 = coordinates[j], y2 = coordinates[j + 1];
+
+				// sides that are not close to the test line can neither
+				// contain the point nor intersect the test line
+				if (y1 < p.y - CONTAINMENT_MARGIN
+						&& y2 < p.y - CONTAINMENT_MARGIN
+						|| y1 > p.y + CONTAINMENT_MARGIN
+								&& y2 > p.y + CONTAINMENT_MARGIN
+						|| x1 < p.x - CONTAINMENT_MARGIN
+								&& x2 < p.x - CONTAINMENT_MARGIN) {
 					continue;
 				}
 
-				Line segment = new Line(p1, p2);
-
-				if (segment.contains(p)) {
+				switch (testSide(x1, y1, x2, y2, p, testLine)) {
+				case SIDE_CONTAINS:
 					return true;
-				}
-
-				/*
-				 * check if one of the two vertices of the link line is
-				 * contained by the test line. the containment test is done to
-				 * handle special cases where the intersection has to be counted
-				 * appropriately.
-				 * 
-				 * 1) if the vertex is above (greater y-component) the other
-				 * point of the line, it is counted once.
-				 * 
-				 * 2) if the vertex is below (lower y-component) or on the same
-				 * height as the other point of the line, it is omitted.
-				 */
-				boolean p1contained = testLine.contains(p1);
-				boolean p2contained = testLine.contains(p2);
-
-				// TODO: is imprecision needed for this test?
-				if (p1contained || p2contained) {
-					if (p1contained) {
-						if (p1.y > p2.y) {
-							odd = !odd;
-						}
-					}
-					if (p2contained) {
-						if (p2.y > p1.y) {
-							odd = !odd;
-						}
-					}
-					continue;
-				}
-
-				/*
-				 * check the current link for an intersection with the test
-				 * line. if there is an intersection, change state.
-				 * 
-				 * Special case error prevention: If the point in question (p)
-				 * is very near to an edge of and inside the polygon, it can
-				 * happen, that the edge.contains(p) is false, but an
-				 * intersection can be found, although p is right to the edge.
-				 * To prevent a wrong state change, the intersection has to be
-				 * right-of p.
-				 */
-				Point poi = testLine.getIntersection(segment);
-				if (poi != null && poi.x >= p.x) {
+				case SIDE_CROSSING:
 					odd = !odd;
+					break;
+				default:
+					break;
 				}
 			}
 			return odd;
@@ -485,7 +383,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 *         the array of points are regarded to form the same segments.
 	 */
 	public boolean equals(Point[] points) {
-		if (points.length != this.points.length) {
+		if (points.length != getPointCount()) {
 			return false;
 		}
 
@@ -534,7 +432,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 
 	@Override
 	public Polyline getOutline() {
-		return new Polyline(PointListUtils.toSegmentsArray(points, true));
+		return new Polyline(PointListUtils.toSegmentsArray(coordinates, true));
 	}
 
 	/**
@@ -547,7 +445,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 */
 	@Override
 	public Line[] getOutlineSegments() {
-		return PointListUtils.toSegmentsArray(points, true);
+		return PointListUtils.toSegmentsArray(coordinates, true);
 	}
 
 	/**
@@ -558,19 +456,20 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 * @return the signed area of this {@link Polygon}
 	 */
 	public double getSignedArea() {
-		if (points.length < 3) {
+		int n = coordinates.length;
+		if (n < 6) {
 			return 0;
 		}
 
 		double area = 0;
-		for (int i = 0; i < points.length - 1; i++) {
-			area += points[i].x * points[i + 1].y
-					- points[i].y * points[i + 1].x;
+		for (int i = 0; i < n - 2; i += 2) {
+			area += coordinates[i] * coordinates[i + 3]
+					- coordinates[i + 1] * coordinates[i + 2];
 		}
 
 		// closing segment
-		area += points[points.length - 1].x * points[0].y
-				- points[points.length - 1].y * points[0].x;
+		area += coordinates[n - 2] * coordinates[1]
+				- coordinates[n - 1] * coordinates[0];
 
 		return area * 0.5;
 	}
@@ -581,20 +480,133 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	@Override
 	public Polygon getTransformed(AffineTransform t) {
 		// shape type should remain polygon (not path)
-		return new Polygon(t.getTransformed(points));
+		double[] transformed = new double[coordinates.length];
+		t.transform(coordinates, 0, transformed, 0, getPointCount());
+		return new Polygon(transformed);
 	}
 
 	/**
-	 * Naive, recursive ear-clipping algorithm to triangulate this simple,
-	 * planar {@link Polygon}.
+	 * Computes a triangulation of this simple, planar {@link Polygon} by
+	 * ear-clipping. The triangles are returned as {@link Polygon}s, see
+	 * {@link #getTriangulationIndices()} for an index-based representation.
 	 *
 	 * @return triangulation {@link Polygon}s (triangles)
 	 */
 	public Polygon[] getTriangulation() {
+		int[] indices = getTriangulationIndices();
+		Polygon[] triangles = new Polygon[indices.length / 3];
+		for (int i = 0; i < triangles.length; i++) {
+			int a = 2 * indices[3 * i];
+			int b = 2 * indices[3 * i + 1];
+			int c = 2 * indices[3 * i + 2];
+			triangles[i] = new Polygon(coordinates[a], coordinates[a + 1],
+					coordinates[b], coordinates[b + 1], coordinates[c],
+					coordinates[c + 1]);
+		}
+		return triangles;
+	}
+
+	/**
+	 * Computes a triangulation of this simple, planar {@link Polygon} by
+	 * ear-clipping. The triangles are returned as indices into the
+	 * {@link #getPoints() points} of this {@link Polygon}, where each three
+	 * successive indices represent one triangle. Collinear and duplicate
+	 * vertices do not lead to (degenerate) triangles.
+	 *
+	 * @return An array of vertex indices, in which each three successive
+	 *         indices represent a triangle.
+	 * @throws IllegalStateException
+	 *             if this {@link Polygon} has less than three vertices, or if
+	 *             it is not simple.
+	 * @since 5.1
+	 */
+	public int[] getTriangulationIndices() {
 		assureSimplicity();
-		ArrayList<Polygon> ears = new ArrayList<>(points.length - 2);
-		triangulate(this, ears);
-		return ears.toArray(new Polygon[] {});
+		return PolygonUtils.triangulate(coordinates);
+	}
+
+	/**
+	 * Creates a {@link PreparedPolygon} for this {@link Polygon}, which indexes
+	 * the sides of this {@link Polygon} for fast repeated containment tests.
+	 * Later changes to this {@link Polygon} are not reflected by the
+	 * {@link PreparedPolygon}.
+	 *
+	 * @return A new {@link PreparedPolygon} for this {@link Polygon}.
+	 * @since 5.1
+	 */
+	public PreparedPolygon prepare() {
+		return new PreparedPolygon(this);
+	}
+
+	/**
+	 * Tests the side of a {@link Polygon} from (x1, y1) to (x2, y2) against
+	 * the given {@link Point} and the horizontal test {@link Line}, which
+	 * starts at the {@link Point} and ends outside of the {@link Polygon}.
+	 *
+	 * @param x1
+	 *            The x coordinate of the start point of the side.
+	 * @param y1
+	 *            The y coordinate of the start point of the side.
+	 * @param x2
+	 *            The x coordinate of the end point of the side.
+	 * @param y2
+	 *            The y coordinate of the end point of the side.
+	 * @param p
+	 *            The {@link Point} that is tested for containment.
+	 * @param testLine
+	 *            The test {@link Line}.
+	 * @return {@link #SIDE_CONTAINS} if the {@link Point} lies on the side,
+	 *         {@link #SIDE_CROSSING} if the side crosses the test
+	 *         {@link Line}, or {@link #SIDE_NO_CROSSING} otherwise.
+	 */
+	static int testSide(double x1, double y1, double x2, double y2, Point p,
+			Line testLine) {
+		Point p1 = new Point(x1, y1);
+		Point p2 = new Point(x2, y2);
+
+		// check whether the point is located on the current side
+		if (p1.equals(p2)) {
+			return p1.equals(p) ? SIDE_CONTAINS : SIDE_NO_CROSSING;
+		}
+
+		Line segment = new Line(p1, p2);
+
+		if (segment.contains(p)) {
+			return SIDE_CONTAINS;
+		}
+
+		/*
+		 * check if one of the two vertices of the link line is contained by
+		 * the test line. the containment test is done to handle special cases
+		 * where the intersection has to be counted appropriately.
+		 * 
+		 * 1) if the vertex is above (greater y-component) the other point of
+		 * the line, it is counted once.
+		 * 
+		 * 2) if the vertex is below (lower y-component) or on the same height
+		 * as the other point of the line, it is omitted.
+		 */
+		boolean p1contained = testLine.contains(p1);
+		boolean p2contained = testLine.contains(p2);
+
+		// TODO: is imprecision needed for this test?
+		if (p1contained || p2contained) {
+			return p1contained && p1.y > p2.y || p2contained && p2.y > p1.y
+					? SIDE_CROSSING : SIDE_NO_CROSSING;
+		}
+
+		/*
+		 * check the current link for an intersection with the test line. if
+		 * there is an intersection, change state.
+		 * 
+		 * Special case error prevention: If the point in question (p) is very
+		 * near to an edge of and inside the polygon, it can happen, that the
+		 * edge.contains(p) is false, but an intersection can be found, although
+		 * p is right to the edge. To prevent a wrong state change, the
+		 * intersection has to be right-of p.
+		 */
+		Point poi = testLine.getIntersection(segment);
+		return poi != null && poi.x >= p.x ? SIDE_CROSSING : SIDE_NO_CROSSING;
 	}
 
 	/**
@@ -603,10 +615,10 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	@Override
 	public Path toPath() {
 		Path path = new Path();
-		if (points.length > 0) {
-			path.moveTo(points[0].x, points[0].y);
-			for (int i = 1; i < points.length; i++) {
-				path.lineTo(points[i].x, points[i].y);
+		if (coordinates.length > 0) {
+			path.moveTo(coordinates[0], coordinates[1]);
+			for (int i = 2; i < coordinates.length; i += 2) {
+				path.lineTo(coordinates[i], coordinates[i + 1]);
 			}
 			path.close();
 		}
@@ -616,13 +628,14 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	@Override
 	public String toString() {
 		StringBuffer stringBuffer = new StringBuffer("Polygon: ");
-		if (points.length > 0) {
-			for (int i = 0; i < points.length; i++) {
-				stringBuffer
-						.append("(" + points[i].x + ", " + points[i].y + ")");
+		if (coordinates.length > 0) {
+			for (int i = 0; i < coordinates.length; i += 2) {
+				stringBuffer.append("(" + coordinates[i] + ", "
+						+ coordinates[i + 1] + ")");
 				stringBuffer.append(" -> ");
 			}
-			stringBuffer.append("(" + points[0].x + ", " + points[0].y + ")");
+			stringBuffer.append(
+					"(" + coordinates[0] + ", " + coordinates[1] + ")");
 		} else {
 			stringBuffer.append("<no points>");
 		}
@@ -94,10 +94,18 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public boolean contains(Point p) {
-		for (int i = 0; i + 1 < points.length; i++) {
-			Point p1 = points[i];
-			Point p2 = points[i + 1];
-			if (new Line(p1, p2).contains(p)) {
+		double margin = PrecisionUtils.calculateFraction(-3);
+		for (int i = 0; i + 3 < coordinates.length; i += 2) {
+			double x1 = coordinates[i], y1 = coordinates[i + 1];
+			double x2 = coordinates[i + 2], y2 = coordinates[i + 3];
+			// skip segments whose bounds are not close to the point
+			if (Math.min(x1, x2) > p.x + margin
+					|| Math.max(x1, x2) < p.x - margin
+					|| Math.min(y1, y2) > p.y + margin
+					|| Math.max(y1, y2) < p.y - margin) {
+				continue;
+			}
+			if (new Line(x1, y1, x2, y2).contains(p)) {
 				return true;
 			}
 		}
@@ -129,11 +137,12 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 	 *         via the array of points are regarded to form the same segments
 	 */
 	public boolean equals(Point... points) {
-		if (points.length != this.points.length) {
+		if (points.length != getPointCount()) {
 			return false;
 		}
-		return Arrays.equals(this.points, points)
-				|| Arrays.equals(this.points, Point.getReverseCopy(points));
+		Point[] thisPoints = getPoints();
+		return Arrays.equals(thisPoints, points)
+				|| Arrays.equals(thisPoints, Point.getReverseCopy(points));
 	}
 
 	@Override
@@ -150,7 +159,7 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 	 *         this {@link Polyline}
 	 */
 	public Line[] getCurves() {
-		return PointListUtils.toSegmentsArray(points, false);
+		return PointListUtils.toSegmentsArray(coordinates, false);
 	}
 
 	@Override
@@ -181,12 +190,13 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public Point getP1() {
-		return points[0].getCopy();
+		return new Point(coordinates[0], coordinates[1]);
 	}
 
 	@Override
 	public Point getP2() {
-		return points[points.length - 1].getCopy();
+		int n = coordinates.length;
+		return new Point(coordinates[n - 2], coordinates[n - 1]);
 	}
 
 	@Override
@@ -206,7 +216,9 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public Polyline getTransformed(AffineTransform t) {
-		return new Polyline(t.getTransformed(points));
+		double[] transformed = new double[coordinates.length];
+		t.transform(coordinates, 0, transformed, 0, getPointCount());
+		return new Polyline(transformed);
 	}
 
 	@Override
@@ -241,16 +253,16 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public Line[] toBezier() {
-		return PointListUtils.toSegmentsArray(points, false);
+		return PointListUtils.toSegmentsArray(coordinates, false);
 	}
 
 	@Override
 	public Path toPath() {
 		Path path = new Path();
-		if (points.length > 0) {
-			path.moveTo(points[0].x, points[0].y);
-			for (int i = 1; i < points.length; i++) {
-				path.lineTo(points[i].x, points[i].y);
+		if (coordinates.length > 0) {
+			path.moveTo(coordinates[0], coordinates[1]);
+			for (int i = 2; i < coordinates.length; i += 2) {
+				path.lineTo(coordinates[i], coordinates[i + 1]);
 			}
 		}
 		return path;
@@ -262,18 +274,18 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 	 * @return a {@link PolyBezier} representing this {@link Polyline}
 	 */
 	public PolyBezier toPolyBezier() {
-		Line[] segments = PointListUtils.toSegmentsArray(points, false);
+		Line[] segments = PointListUtils.toSegmentsArray(coordinates, false);
 		return new PolyBezier(segments);
 	}
 
 	@Override
 	public String toString() {
 		StringBuffer stringBuffer = new StringBuffer("Polyline: ");
-		if (points.length > 0) {
-			for (int i = 0; i < points.length; i++) {
-				stringBuffer
-						.append("(" + points[i].x + ", " + points[i].y + ")");
-				if (i < points.length - 1) {
+		if (coordinates.length > 0) {
+			for (int i = 0; i < coordinates.length; i += 2) {
+				stringBuffer.append("(" + coordinates[i] + ", "
+						+ coordinates[i + 1] + ")");
+				if (i < coordinates.length - 2) {
 					stringBuffer.append(" -> ");
 				}
 			}
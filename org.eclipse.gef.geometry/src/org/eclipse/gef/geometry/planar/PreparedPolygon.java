@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * A {@link PreparedPolygon} is an index over the sides of a {@link Polygon}
+ * that speeds up repeated containment tests, for example, when hit-testing on
+ * every mouse move. It is created via {@link Polygon#prepare()}.
+ * <p>
+ * The sides are sorted by their minimum y coordinate, and a tree over that
+ * order stores the maximum y coordinate of its subtrees. A containment test
+ * only visits the sides that span the y coordinate of the tested point, which
+ * takes logarithmic time in the number of sides, plus the number of visited
+ * sides. Sides that clearly cross the horizontal test ray are evaluated
+ * without creating any objects. Only the sides that come close to the tested
+ * point fall back to the imprecise tests of {@link Polygon#contains(Point)},
+ * so that both yield the same results.
+ * </p>
+ * <p>
+ * The {@link PreparedPolygon} represents the state of the {@link Polygon} at
+ * the time it was prepared. Later changes to the {@link Polygon} are not
+ * reflected.
+ * </p>
+ *
+ * @author mwienand
+ * @since 5.1
+ *
+ */
+public final class PreparedPolygon {
+
+	private final Polygon polygon;
+	private final Rectangle bounds;
+
+	// the start and end coordinates of the sides, sorted by minimum y
+	private final double[] sides;
+	private final double[] minY;
+
+	// tree of the maximum y coordinates within the subtrees, the leaves are
+	// stored at the indices starting at leafOffset
+	private final double[] maxY;
+	private final int leafOffset;
+
+	/**
+	 * Constructs a new {@link PreparedPolygon} for the given {@link Polygon}.
+	 *
+	 * @param polygon
+	 *            The {@link Polygon} to prepare.
+	 */
+	PreparedPolygon(Polygon polygon) {
+		this.polygon = polygon.getCopy();
+		this.bounds = polygon.getBounds();
+
+		final double[] coordinates = this.polygon.coordinates;
+		final int n = coordinates.length;
+		Integer[] order = new Integer[n / 2];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = 2 * i;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer i, Integer j) {
+				return Double.compare(getMinY(coordinates, n, i),
+						getMinY(coordinates, n, j));
+			}
+		});
+
+		sides = new double[4 * order.length];
+		minY = new double[order.length];
+		int size = 1;
+		while (size < order.length) {
+			size <<= 1;
+		}
+		leafOffset = size;
+		maxY = new double[2 * size];
+		Arrays.fill(maxY, Double.NEGATIVE_INFINITY);
+		for (int k = 0; k < order.length; k++) {
+			int i = order[k];
+			int j = i + 2 < n ? i + 2 : 0;
+			sides[4 * k] = coordinates[i];
+			sides[4 * k + 1] = coordinates[i + 1];
+			sides[4 * k + 2] = coordinates[j];
+			sides[4 * k + 3] = coordinates[j + 1];
+			minY[k] = getMinY(coordinates, n, i);
+			maxY[size + k] = Math.max(coordinates[i + 1], coordinates[j + 1]);
+		}
+		for (int node = size - 1; node > 0; node--) {
+			maxY[node] = Math.max(maxY[2 * node], maxY[2 * node + 1]);
+		}
+	}
+
+	private static double getMinY(double[] coordinates, int n, int i) {
+		return Math.min(coordinates[i + 1],
+				coordinates[i + 2 < n ? i + 3 : 1]);
+	}
+
+	/**
+	 * Tests the given coordinates for containment in the prepared
+	 * {@link Polygon}. The results are stored in the given array.
+	 *
+	 * @param coordinates
+	 *            The alternating x and y coordinates of the points to test.
+	 * @param result
+	 *            The array that receives the containment results. It needs to
+	 *            provide at least one element per point.
+	 */
+	public void contains(double[] coordinates, boolean[] result) {
+		for (int i = 0; i < coordinates.length / 2; i++) {
+			result[i] = contains(coordinates[2 * i], coordinates[2 * i + 1]);
+		}
+	}
+
+	/**
+	 * Tests the point specified by the given coordinates for containment in
+	 * the prepared {@link Polygon}. The result is the same as for
+	 * {@link Polygon#contains(double, double)}.
+	 *
+	 * @param x
+	 *            The x coordinate of the point to test.
+	 * @param y
+	 *            The y coordinate of the point to test.
+	 * @return <code>true</code> if the point is contained within the prepared
+	 *         {@link Polygon}, otherwise <code>false</code>.
+	 */
+	public boolean contains(double x, double y) {
+		if (minY.length < 3) {
+			// degenerate polygons are handled by the polygon itself
+			return polygon.contains(x, y);
+		}
+		if (!bounds.contains(x, y)) {
+			return false;
+		}
+
+		// only the sides with a minimum y up to the given y can be relevant
+		int lo = 0, hi = minY.length;
+		double limit = y + Polygon.CONTAINMENT_MARGIN;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (minY[mid] <= limit) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return testSides(1, 0, leafOffset, lo, x, y) != 0;
+	}
+
+	/**
+	 * Tests the given {@link Point} for containment in the prepared
+	 * {@link Polygon}. The result is the same as for
+	 * {@link Polygon#contains(Point)}.
+	 *
+	 * @param p
+	 *            The {@link Point} to test.
+	 * @return <code>true</code> if the {@link Point} is contained within the
+	 *         prepared {@link Polygon}, otherwise <code>false</code>.
+	 */
+	public boolean contains(Point p) {
+		return contains(p.x, p.y);
+	}
+
+	/**
+	 * Returns a copy of the prepared {@link Polygon}.
+	 *
+	 * @return A copy of the prepared {@link Polygon}.
+	 */
+	public Polygon getPolygon() {
+		return polygon.getCopy();
+	}
+
+	/**
+	 * Tests the side at the given index.
+	 *
+	 * @return See
+	 *         {@link Polygon#testSide(double, double, double, double, Point, Line)}
+	 *         .
+	 */
+	private int testSide(int index, double x, double y) {
+		double x1 = sides[4 * index], y1 = sides[4 * index + 1];
+		double x2 = sides[4 * index + 2], y2 = sides[4 * index + 3];
+		double margin = Polygon.CONTAINMENT_MARGIN;
+		if (x1 < x - margin && x2 < x - margin) {
+			return Polygon.SIDE_NO_CROSSING;
+		}
+
+		// a side that clearly crosses the test line and does not come close to
+		// the point can be evaluated exactly
+		if (y1 < y - margin && y2 > y + margin
+				|| y2 < y - margin && y1 > y + margin) {
+			double dx = x2 - x1, dy = y2 - y1;
+			double distance = (dx * (y - y1) - dy * (x - x1))
+					/ Math.sqrt(dx * dx + dy * dy);
+			if (Math.abs(distance) > margin) {
+				return x1 + (y - y1) * dx / dy > x ? Polygon.SIDE_CROSSING
+						: Polygon.SIDE_NO_CROSSING;
+			}
+		}
+
+		Point p = new Point(x, y);
+		Line testLine = new Line(p, new Point(x + bounds.getWidth() + 1, y));
+		return Polygon.testSide(x1, y1, x2, y2, p, testLine);
+	}
+
+	/**
+	 * Tests the sides with an index below the given limit within the subtree
+	 * of the given node, skipping all subtrees that end below the given y
+	 * coordinate.
+	 *
+	 * @return {@link Polygon#SIDE_CONTAINS} if the point lies on one of the
+	 *         sides, otherwise the parity of the number of crossings.
+	 */
+	private int testSides(int node, int from, int to, int limit, double x,
+			double y) {
+		if (from >= limit || maxY[node] < y - Polygon.CONTAINMENT_MARGIN) {
+			return Polygon.SIDE_NO_CROSSING;
+		}
+		if (node >= leafOffset) {
+			return testSide(node - leafOffset, x, y);
+		}
+		int mid = (from + to) >>> 1;
+		int left = testSides(2 * node, from, mid, limit, x, y);
+		if (left == Polygon.SIDE_CONTAINS) {
+			return left;
+		}
+		int right = testSides(2 * node + 1, mid, to, limit, x, y);
+		if (right == Polygon.SIDE_CONTAINS) {
+			return right;
+		}
+		return left ^ right;
+	}
+
+}
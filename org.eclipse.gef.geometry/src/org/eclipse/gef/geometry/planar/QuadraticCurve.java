@@ -14,6 +14,8 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
+import org.eclipse.gef.geometry.internal.utils.BezierUtils;
+
 /**
  * Represents the geometric shape of a quadratic Bézier curve.
  *
@@ -137,7 +139,7 @@ public class QuadraticCurve extends BezierCurve {
 	 * @return the control point's x-coordinate
 	 */
 	public double getCtrlX() {
-		return getPoint(1).x;
+		return getControlPointCoordinates()[2];
 	}
 
 	/**
@@ -146,7 +148,7 @@ public class QuadraticCurve extends BezierCurve {
 	 * @return the control point's y-coordinate
 	 */
 	public double getCtrlY() {
-		return getPoint(1).y;
+		return getControlPointCoordinates()[3];
 	}
 
 	/**
@@ -173,7 +175,7 @@ public class QuadraticCurve extends BezierCurve {
 
 	@Override
 	public QuadraticCurve getTransformed(AffineTransform t) {
-		return new QuadraticCurve(t.getTransformed(getPoints()));
+		return new QuadraticCurve(getTransformedCoordinates(t));
 	}
 
 	/**
@@ -225,9 +227,12 @@ public class QuadraticCurve extends BezierCurve {
 	 */
 	@Override
 	public QuadraticCurve[] split(double t) {
-		BezierCurve[] split = super.split(t);
-		return new QuadraticCurve[] { split[0].toQuadratic(),
-				split[1].toQuadratic() };
+		QuadraticCurve left = new QuadraticCurve(getControlPointCoordinates());
+		QuadraticCurve right = new QuadraticCurve(getControlPointCoordinates());
+		BezierUtils.split(getControlPointCoordinates(), 3, t,
+				left.getControlPointCoordinates(),
+				right.getControlPointCoordinates());
+		return new QuadraticCurve[] { left, right };
 	}
 
 	/**
@@ -44,42 +44,6 @@ import org.eclipse.gef.geometry.euclidean.Angle;
 public class Region extends AbstractMultiShape
 		implements ITranslatable<Region>, IScalable<Region>, IRotatable<Ring> {
 
-	/**
-	 * Cuts the given {@link Rectangle}s along the given parallel to the x-axis.
-	 *
-	 * @param y
-	 *            the distance of the cut-line to the x-axis
-	 * @param parts
-	 *            the {@link Rectangle}s to cut along that line
-	 */
-	private static void cutH(double y, ArrayList<Rectangle> parts) {
-		for (Rectangle r : new ArrayList<>(parts)) {
-			if (r.y < y && y < r.y + r.height) {
-				parts.remove(r);
-				parts.add(new Rectangle(r.x, r.y, r.width, y - r.y));
-				parts.add(new Rectangle(r.x, y, r.width, r.y + r.height - y));
-			}
-		}
-	}
-
-	/**
-	 * Cuts the given {@link Rectangle}s along the given parallel to the y-axis.
-	 *
-	 * @param x
-	 *            the distance of the cut-line to the y-axis
-	 * @param parts
-	 *            the {@link Rectangle}s to cut along that line
-	 */
-	private static void cutV(double x, ArrayList<Rectangle> parts) {
-		for (Rectangle r : new ArrayList<>(parts)) {
-			if (r.x < x && x < r.x + r.width) {
-				parts.remove(r);
-				parts.add(new Rectangle(r.x, r.y, x - r.x, r.height));
-				parts.add(new Rectangle(x, r.y, r.x + r.width - x, r.height));
-			}
-		}
-	}
-
 	private static final long serialVersionUID = 1L;
 
 	private ArrayList<Rectangle> rects;
@@ -95,20 +59,16 @@ public class Region extends AbstractMultiShape
 	 * Constructs a new {@link Region} from the given list of {@link Rectangle}
 	 * s.
 	 *
-	 * The given {@link Rectangle}s are {@link #add(Rectangle)}ed to the
-	 * {@link Region} one after the other.
+	 * The given {@link Rectangle}s are decomposed all at once (using a sweep
+	 * along the y-axis), which is considerably faster than
+	 * {@link #add(Rectangle)}ing them one after the other.
 	 *
 	 * @param rectangles
 	 *            The array of {@link Rectangle}s from which this {@link Region}
 	 *            is constructed.
 	 */
 	public Region(Rectangle... rectangles) {
-		this();
-		rects.add(rectangles[0].getCopy());
-
-		for (int i = 1; i < rectangles.length; i++) {
-			add(rectangles[i].getCopy());
-		}
+		rects = SweepDecomposition.getRectangles(Arrays.asList(rectangles));
 	}
 
 	/**
@@ -131,50 +91,36 @@ public class Region extends AbstractMultiShape
 	 * Adds the given {@link Rectangle} to this {@link Region}.
 	 *
 	 * To assure the required conditions for internal {@link Rectangle}s, the
-	 * given {@link Rectangle} is cut into several sub-{@link Rectangle}s so
-	 * that no internal {@link Rectangle}s share any area.
+	 * given {@link Rectangle} and all internal {@link Rectangle}s that share
+	 * area with it are decomposed into several sub-{@link Rectangle}s so that
+	 * no internal {@link Rectangle}s share any area. The other internal
+	 * {@link Rectangle}s are not affected.
 	 *
 	 * @param rectangle
 	 *            the {@link Rectangle} to add to this {@link Region}
 	 * @return <code>this</code> for convenience
 	 */
 	public Region add(Rectangle rectangle) {
-		ArrayList<Rectangle> toAdd = new ArrayList<>(1);
-
-		toAdd.add(rectangle.getCopy());
-
-		for (Rectangle retain : rects) {
-			for (Rectangle addend : new ArrayList<>(toAdd)) {
-				ArrayList<Rectangle> parts = new ArrayList<>(8);
-				parts.add(addend);
-
-				if (addend.x <= retain.x && retain.x <= addend.x + addend.width
-						|| retain.x <= addend.x
-								&& addend.x <= retain.x + retain.width) {
-					cutH(retain.y, parts);
-					cutH(retain.y + retain.height, parts);
-				}
-
-				if (addend.y <= retain.y && retain.y <= addend.y + addend.height
-						|| retain.y <= addend.y
-								&& addend.y <= retain.y + retain.height) {
-					cutV(retain.x, parts);
-					cutV(retain.x + retain.width, parts);
-				}
-
-				// filter inner parts:
-				for (Iterator<Rectangle> p = parts.iterator(); p.hasNext();) {
-					if (retain.contains(p.next())) {
-						p.remove();
-					}
-				}
-
-				toAdd.remove(addend);
-				toAdd.addAll(parts);
+		Rectangle addend = rectangle.getCopy();
+		ArrayList<Rectangle> retained = new ArrayList<>(rects.size() + 1);
+		List<Rectangle> overlapping = new ArrayList<>();
+		for (Rectangle r : rects) {
+			if (r.x < addend.x + addend.width && addend.x < r.x + r.width
+					&& r.y < addend.y + addend.height
+					&& addend.y < r.y + r.height) {
+				overlapping.add(r);
+			} else {
+				retained.add(r);
 			}
 		}
 
-		rects.addAll(toAdd);
+		if (overlapping.isEmpty()) {
+			rects.add(addend);
+		} else {
+			overlapping.add(addend);
+			retained.addAll(SweepDecomposition.getRectangles(overlapping));
+			rects = retained;
+		}
 
 		return this;
 	}
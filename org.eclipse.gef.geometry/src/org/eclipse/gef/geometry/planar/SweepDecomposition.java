@@ -0,0 +1,466 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+
+/**
+ * The {@link SweepDecomposition} class computes the normalized internal shapes
+ * of {@link Region}s and {@link Ring}s, i.e. decompositions of the area that
+ * is covered by a number of (possibly overlapping) input shapes into shapes
+ * that do not share any area.
+ * <p>
+ * {@link Rectangle}s are decomposed by a sweep along the y-axis. For every band
+ * between two consecutive y-coordinates, the x-intervals of the active
+ * {@link Rectangle}s are merged. Equal intervals of vertically adjacent bands
+ * are coalesced into one {@link Rectangle}.
+ * <p>
+ * {@link Polygon}s are decomposed by a sweep along the x-axis. The slabs
+ * between all vertex and edge intersection x-coordinates do not contain any
+ * vertex or intersection, so that the edges crossing a slab can be ordered by
+ * their y-coordinates. The parity of each {@link Polygon} determines which of
+ * the trapezoids between two consecutive edges are covered. Horizontally
+ * adjacent trapezoids that are bounded by the same edges are coalesced, and
+ * the resulting trapezoids are split into triangles.
+ *
+ * @author mwienand
+ *
+ */
+class SweepDecomposition {
+
+	/**
+	 * Computes a decomposition of the area that is covered by the given
+	 * {@link Rectangle}s into {@link Rectangle}s that do not share any area.
+	 * {@link Rectangle}s that do not cover any area are ignored, unless only a
+	 * single {@link Rectangle} is given.
+	 *
+	 * @param rectangles
+	 *            The {@link Rectangle}s to decompose.
+	 * @return The {@link Rectangle}s that cover the same area as the given
+	 *         {@link Rectangle}s, but do not share any area.
+	 */
+	static ArrayList<Rectangle> getRectangles(List<Rectangle> rectangles) {
+		if (rectangles.size() == 1) {
+			ArrayList<Rectangle> result = new ArrayList<>(1);
+			result.add(rectangles.get(0).getCopy());
+			return result;
+		}
+		List<Rectangle> input = new ArrayList<>(rectangles.size());
+		for (Rectangle r : rectangles) {
+			if (r.width > 0 && r.height > 0) {
+				input.add(r);
+			}
+		}
+		ArrayList<Rectangle> result = new ArrayList<>();
+		if (input.isEmpty()) {
+			return result;
+		}
+		if (input.size() == 1) {
+			result.add(input.get(0).getCopy());
+			return result;
+		}
+
+		// band boundaries
+		double[] ys = new double[2 * input.size()];
+		for (int i = 0; i < input.size(); i++) {
+			Rectangle r = input.get(i);
+			ys[2 * i] = r.y;
+			ys[2 * i + 1] = r.y + r.height;
+		}
+		Arrays.sort(ys);
+		int ny = unique(ys);
+
+		Collections.sort(input, new Comparator<Rectangle>() {
+			@Override
+			public int compare(Rectangle r1, Rectangle r2) {
+				return Double.compare(r1.y, r2.y);
+			}
+		});
+		Comparator<Rectangle> xComparator = new Comparator<Rectangle>() {
+			@Override
+			public int compare(Rectangle r1, Rectangle r2) {
+				return Double.compare(r1.x, r2.x);
+			}
+		};
+
+		List<Rectangle> active = new ArrayList<>();
+		// merged x-intervals of the current and previous band, and the
+		// rectangles that cover them
+		double[] intervals = new double[2 * input.size()];
+		double[] previous = new double[2 * input.size()];
+		int previousCount = 0;
+		Rectangle[] current = new Rectangle[input.size()];
+		Rectangle[] open = new Rectangle[input.size()];
+		int next = 0;
+		for (int k = 0; k < ny - 1; k++) {
+			double top = ys[k];
+			double bottom = ys[k + 1];
+
+			// update active rectangles
+			int retained = 0;
+			for (int i = 0; i < active.size(); i++) {
+				Rectangle r = active.get(i);
+				if (r.y + r.height > top) {
+					active.set(retained++, r);
+				}
+			}
+			active.subList(retained, active.size()).clear();
+			while (next < input.size() && input.get(next).y <= top) {
+				active.add(input.get(next++));
+			}
+			Collections.sort(active, xComparator);
+
+			// merge x-intervals
+			int count = 0;
+			for (Rectangle r : active) {
+				double x1 = r.x + r.width;
+				if (count > 0 && r.x <= intervals[count - 1]) {
+					if (x1 > intervals[count - 1]) {
+						intervals[count - 1] = x1;
+					}
+				} else {
+					intervals[count++] = r.x;
+					intervals[count++] = x1;
+				}
+			}
+
+			// extend the rectangles of equal intervals of the previous band
+			for (int i = 0, j = 0; i < count; i += 2) {
+				while (j < previousCount && previous[j] < intervals[i]) {
+					j += 2;
+				}
+				if (j < previousCount && previous[j] == intervals[i]
+						&& previous[j + 1] == intervals[i + 1]) {
+					current[i / 2] = open[j / 2];
+					current[i / 2].height = bottom - current[i / 2].y;
+				} else {
+					current[i / 2] = new Rectangle(intervals[i], top,
+							intervals[i + 1] - intervals[i], bottom - top);
+					result.add(current[i / 2]);
+				}
+			}
+
+			double[] swapIntervals = previous;
+			previous = intervals;
+			intervals = swapIntervals;
+			previousCount = count;
+			Rectangle[] swapRectangles = open;
+			open = current;
+			current = swapRectangles;
+		}
+		return result;
+	}
+
+	/**
+	 * Computes a decomposition of the area that is covered by the given
+	 * {@link Polygon}s into triangles that do not share any area. The area
+	 * covered by an individual {@link Polygon} is determined using the
+	 * even-odd rule.
+	 *
+	 * @param polygons
+	 *            The {@link Polygon}s to decompose.
+	 * @return The triangles ({@link Polygon}s) that cover the same area as the
+	 *         given {@link Polygon}s, but do not share any area.
+	 */
+	static ArrayList<Polygon> getTriangles(List<Polygon> polygons) {
+		// collect non-vertical edges, oriented from left to right
+		int edgeCount = 0;
+		for (Polygon p : polygons) {
+			edgeCount += p.getPointCount();
+		}
+		final double[] ex0 = new double[edgeCount];
+		final double[] ey0 = new double[edgeCount];
+		final double[] ex1 = new double[edgeCount];
+		final double[] ey1 = new double[edgeCount];
+		int[] owner = new int[edgeCount];
+		int m = 0;
+		for (int pi = 0; pi < polygons.size(); pi++) {
+			double[] coordinates = polygons.get(pi).coordinates;
+			int n = coordinates.length;
+			for (int i = 0; i < n; i += 2) {
+				int j = i + 2 == n ? 0 : i + 2;
+				double px = coordinates[i], py = coordinates[i + 1];
+				double qx = coordinates[j], qy = coordinates[j + 1];
+				if (px == qx) {
+					continue;
+				}
+				boolean forward = px < qx;
+				ex0[m] = forward ? px : qx;
+				ey0[m] = forward ? py : qy;
+				ex1[m] = forward ? qx : px;
+				ey1[m] = forward ? qy : py;
+				owner[m] = pi;
+				m++;
+			}
+		}
+		ArrayList<Polygon> result = new ArrayList<>();
+		if (m == 0) {
+			return result;
+		}
+
+		// slab boundaries: all end point and intersection x-coordinates
+		double[] boundaries = getSlabBoundaries(ex0, ey0, ex1, ey1, m);
+		int nx = boundaries.length;
+
+		// determine the slabs spanned by the edges
+		final int[] first = new int[m];
+		int[] last = new int[m];
+		Integer[] byFirst = new Integer[m];
+		for (int e = 0; e < m; e++) {
+			first[e] = indexOf(boundaries, ex0[e]);
+			last[e] = indexOf(boundaries, ex1[e]);
+			byFirst[e] = e;
+		}
+		Arrays.sort(byFirst, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer e1, Integer e2) {
+				return Integer.compare(first[e1], first[e2]);
+			}
+		});
+
+		int[] parity = new int[polygons.size()];
+		List<Integer> active = new ArrayList<>();
+		final double[] mid = new double[m];
+		Comparator<Integer> yComparator = new Comparator<Integer>() {
+			@Override
+			public int compare(Integer e1, Integer e2) {
+				int c = Double.compare(mid[e1], mid[e2]);
+				return c != 0 ? c : Integer.compare(e1, e2);
+			}
+		};
+		// trapezoids (bounded by a lower and an upper edge) of the previous
+		// slab, mapped to the slab at which they start
+		Map<Long, Integer> open = new HashMap<>();
+		int next = 0;
+		for (int s = 0; s < nx - 1; s++) {
+			// update active edges
+			int retained = 0;
+			for (int i = 0; i < active.size(); i++) {
+				Integer e = active.get(i);
+				if (last[e] > s) {
+					active.set(retained++, e);
+				}
+			}
+			active.subList(retained, active.size()).clear();
+			while (next < m && first[byFirst[next]] <= s) {
+				int e = byFirst[next++];
+				if (last[e] > s) {
+					active.add(e);
+				}
+			}
+
+			// order active edges within the slab
+			double xm = (boundaries[s] + boundaries[s + 1]) / 2;
+			for (Integer e : active) {
+				mid[e] = getY(ex0, ey0, ex1, ey1, e, xm);
+			}
+			Collections.sort(active, yComparator);
+
+			// determine covered trapezoids
+			Map<Long, Integer> current = new HashMap<>();
+			int covered = 0;
+			for (int i = 0; i < active.size(); i++) {
+				int e = active.get(i);
+				parity[owner[e]] ^= 1;
+				covered += parity[owner[e]] == 1 ? 1 : -1;
+				if (covered > 0 && i + 1 < active.size()) {
+					int f = active.get(i + 1);
+					Long key = ((long) e << 32) | f;
+					Integer start = open.remove(key);
+					current.put(key, start == null ? s : start);
+				}
+			}
+
+			// emit trapezoids that are not continued
+			for (Map.Entry<Long, Integer> t : open.entrySet()) {
+				addTrapezoid(result, ex0, ey0, ex1, ey1, t.getKey(),
+						boundaries[t.getValue()], boundaries[s]);
+			}
+			open = current;
+		}
+		for (Map.Entry<Long, Integer> t : open.entrySet()) {
+			addTrapezoid(result, ex0, ey0, ex1, ey1, t.getKey(),
+					boundaries[t.getValue()], boundaries[nx - 1]);
+		}
+		return result;
+	}
+
+	private static void addTrapezoid(List<Polygon> triangles, double[] ex0,
+			double[] ey0, double[] ex1, double[] ey1, long key, double xl,
+			double xr) {
+		int lower = (int) (key >>> 32);
+		int upper = (int) key;
+		double yl0 = getY(ex0, ey0, ex1, ey1, lower, xl);
+		double yl1 = getY(ex0, ey0, ex1, ey1, lower, xr);
+		double yu0 = getY(ex0, ey0, ex1, ey1, upper, xl);
+		double yu1 = getY(ex0, ey0, ex1, ey1, upper, xr);
+		boolean leftDegenerated = PrecisionUtils.equal(yl0, yu0);
+		boolean rightDegenerated = PrecisionUtils.equal(yl1, yu1);
+		if (leftDegenerated && rightDegenerated) {
+			// coincident edges
+			return;
+		}
+		if (!rightDegenerated) {
+			triangles.add(new Polygon(xl, yl0, xr, yl1, xr, yu1));
+		}
+		if (!leftDegenerated) {
+			triangles.add(new Polygon(xl, yl0, xr, rightDegenerated ? yl1 : yu1,
+					xl, yu0));
+		}
+	}
+
+	/**
+	 * Collects the x-coordinates of all end points and all points of
+	 * intersection of the given edges. Nearly equal x-coordinates are merged.
+	 */
+	private static double[] getSlabBoundaries(final double[] ex0, double[] ey0,
+			double[] ex1, double[] ey1, int m) {
+		double[] xs = new double[2 * m];
+		int n = 0;
+		for (int e = 0; e < m; e++) {
+			xs[n++] = ex0[e];
+			xs[n++] = ex1[e];
+		}
+
+		// sweep over the x-extents of the edges to find the intersections
+		Integer[] order = new Integer[m];
+		for (int e = 0; e < m; e++) {
+			order[e] = e;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer e1, Integer e2) {
+				return Double.compare(ex0[e1], ex0[e2]);
+			}
+		});
+		int[] active = new int[m];
+		int activeCount = 0;
+		for (int i = 0; i < m; i++) {
+			int e = order[i];
+			int retained = 0;
+			for (int j = 0; j < activeCount; j++) {
+				int f = active[j];
+				if (ex1[f] < ex0[e]) {
+					continue;
+				}
+				active[retained++] = f;
+				double x = getIntersectionX(ex0, ey0, ex1, ey1, e, f);
+				if (!Double.isNaN(x)) {
+					if (n == xs.length) {
+						xs = Arrays.copyOf(xs, 2 * n);
+					}
+					xs[n++] = x;
+				}
+			}
+			activeCount = retained;
+			active[activeCount++] = e;
+		}
+
+		Arrays.sort(xs, 0, n);
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			if (count == 0 || !PrecisionUtils.equal(xs[i], xs[count - 1])) {
+				xs[count++] = xs[i];
+			}
+		}
+		return Arrays.copyOf(xs, count);
+	}
+
+	/**
+	 * Returns the x-coordinate of the point of intersection of the given
+	 * edges, if they cross in the interior of both edges. Otherwise returns
+	 * {@link Double#NaN}.
+	 */
+	private static double getIntersectionX(double[] ex0, double[] ey0,
+			double[] ex1, double[] ey1, int e, int f) {
+		double dxe = ex1[e] - ex0[e];
+		double dye = ey1[e] - ey0[e];
+		double dxf = ex1[f] - ex0[f];
+		double dyf = ey1[f] - ey0[f];
+		double d = dxe * dyf - dye * dxf;
+		if (d == 0) {
+			return Double.NaN;
+		}
+		double dx = ex0[f] - ex0[e];
+		double dy = ey0[f] - ey0[e];
+		double t = (dx * dyf - dy * dxf) / d;
+		double u = (dx * dye - dy * dxe) / d;
+		if (t <= 0 || t >= 1 || u <= 0 || u >= 1) {
+			return Double.NaN;
+		}
+		return ex0[e] + t * dxe;
+	}
+
+	/**
+	 * Returns the y-coordinate of the given edge at the given x-coordinate,
+	 * which is clamped to the x-extent of the edge, so that end points are
+	 * reproduced exactly.
+	 */
+	private static double getY(double[] ex0, double[] ey0, double[] ex1,
+			double[] ey1, int e, double x) {
+		if (x <= ex0[e]) {
+			return ey0[e];
+		}
+		if (x >= ex1[e]) {
+			return ey1[e];
+		}
+		return ey0[e]
+				+ (ey1[e] - ey0[e]) * (x - ex0[e]) / (ex1[e] - ex0[e]);
+	}
+
+	/**
+	 * Returns the index of the slab boundary that is (nearly) equal to the
+	 * given x-coordinate.
+	 */
+	private static int indexOf(double[] boundaries, double x) {
+		int i = Arrays.binarySearch(boundaries, x);
+		if (i >= 0) {
+			return i;
+		}
+		// not contained, because it was merged with a smaller neighbor
+		int insertion = -i - 1;
+		if (insertion == boundaries.length) {
+			return insertion - 1;
+		}
+		if (insertion == 0) {
+			return 0;
+		}
+		double below = x - boundaries[insertion - 1];
+		double above = boundaries[insertion] - x;
+		return below <= above ? insertion - 1 : insertion;
+	}
+
+	private static int unique(double[] values) {
+		int count = 0;
+		for (int i = 0; i < values.length; i++) {
+			if (count == 0 || values[i] != values[count - 1]) {
+				values[count++] = values[i];
+			}
+		}
+		return count;
+	}
+
+	private SweepDecomposition() {
+		// this class should not be instantiated by clients
+	}
+
+}
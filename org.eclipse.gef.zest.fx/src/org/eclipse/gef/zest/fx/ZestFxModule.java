@@ -47,9 +47,12 @@ import org.eclipse.gef.mvc.fx.viewer.IViewer;
 import org.eclipse.gef.zest.fx.behaviors.EdgeHidingBehavior;
 import org.eclipse.gef.zest.fx.behaviors.EdgeLabelHidingBehavior;
 import org.eclipse.gef.zest.fx.behaviors.EdgeLayoutBehavior;
+import org.eclipse.gef.zest.fx.behaviors.EdgeLevelOfDetailBehavior;
 import org.eclipse.gef.zest.fx.behaviors.GraphLayoutBehavior;
+import org.eclipse.gef.zest.fx.behaviors.LabelLevelOfDetailBehavior;
 import org.eclipse.gef.zest.fx.behaviors.NodeHidingBehavior;
 import org.eclipse.gef.zest.fx.behaviors.NodeLayoutBehavior;
+import org.eclipse.gef.zest.fx.behaviors.NodeLevelOfDetailBehavior;
 import org.eclipse.gef.zest.fx.handlers.BendFirstAnchorageAndRelocateLabelsOnSegmentHandleDragHandler;
 import org.eclipse.gef.zest.fx.handlers.HideFirstAnchorageOnClickHandler;
 import org.eclipse.gef.zest.fx.handlers.HideOnTypeHandler;
@@ -60,6 +63,7 @@ import org.eclipse.gef.zest.fx.handlers.ShowHiddenNeighborsOfFirstAnchorageOnCli
 import org.eclipse.gef.zest.fx.handlers.ShowHiddenNeighborsOnTypeHandler;
 import org.eclipse.gef.zest.fx.handlers.TranslateSelectedAndRelocateLabelsOnDragHandler;
 import org.eclipse.gef.zest.fx.models.HidingModel;
+import org.eclipse.gef.zest.fx.models.LevelOfDetailModel;
 import org.eclipse.gef.zest.fx.models.NavigationModel;
 import org.eclipse.gef.zest.fx.parts.EdgeLabelPart;
 import org.eclipse.gef.zest.fx.parts.EdgePart;
@@ -144,6 +148,9 @@ public class ZestFxModule extends MvcFxModule {
 		// hiding behavior
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(EdgeLabelHidingBehavior.class);
 
+		// level of detail behavior
+		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(LabelLevelOfDetailBehavior.class);
+
 		// hover on-hover policy
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(HoverOnHoverHandler.class);
 
@@ -169,6 +176,8 @@ public class ZestFxModule extends MvcFxModule {
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(EdgeLayoutBehavior.class);
 		// hiding behavior
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(EdgeHidingBehavior.class);
+		// level of detail behavior
+		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(EdgeLevelOfDetailBehavior.class);
 
 		// selection link feedback provider
 		adapterMapBinder
@@ -303,6 +312,19 @@ public class ZestFxModule extends MvcFxModule {
 		bindNavigationModelAsContentViewerAdapter(adapterMapBinder);
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(HidingModel.class);
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(LabelOffsetSupport.class);
+		bindLevelOfDetailModelAsContentViewerAdapter(adapterMapBinder);
+	}
+
+	/**
+	 * Adds a binding for {@link LevelOfDetailModel} to the given adapter map
+	 * binder that will insert the bindings into {@link IViewer}s.
+	 *
+	 * @param adapterMapBinder
+	 *            The adapter map binder to which the binding is added.
+	 * @since 5.2
+	 */
+	protected void bindLevelOfDetailModelAsContentViewerAdapter(MapBinder<AdapterKey<?>, Object> adapterMapBinder) {
+		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(LevelOfDetailModel.class);
 	}
 
 	/**
@@ -354,6 +376,8 @@ public class ZestFxModule extends MvcFxModule {
 		// translate on drag
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(TranslateSelectedOnDragHandler.class);
 
+		// level of detail behavior
+		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(LabelLevelOfDetailBehavior.class);
 	}
 
 	/**
@@ -376,6 +400,8 @@ public class ZestFxModule extends MvcFxModule {
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(HidePolicy.class);
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(ShowHiddenNeighborsPolicy.class);
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(NodeHidingBehavior.class);
+		// level of detail
+		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(NodeLevelOfDetailBehavior.class);
 
 		// translate on-drag
 		adapterMapBinder.addBinding(AdapterKey.defaultRole()).to(TranslateSelectedAndRelocateLabelsOnDragHandler.class);
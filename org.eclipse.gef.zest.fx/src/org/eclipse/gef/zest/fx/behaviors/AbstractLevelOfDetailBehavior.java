@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API & implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.behaviors;
+
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.mvc.fx.behaviors.AbstractBehavior;
+import org.eclipse.gef.mvc.fx.viewer.IViewer;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+import org.eclipse.gef.zest.fx.models.LevelOfDetailModel;
+import org.eclipse.gef.zest.fx.models.LevelOfDetailModel.LevelOfDetail;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.transform.Affine;
+
+/**
+ * The {@link AbstractLevelOfDetailBehavior} registers listeners on the content
+ * transform of the {@link InfiniteCanvas} and on the {@link LevelOfDetailModel}
+ * upon activation. When the zoom level or one of the thresholds changes, the
+ * {@link LevelOfDetail} of the {@link #getHost() host} is
+ * {@link #determineLevelOfDetail(double) determined}. If it changed,
+ * {@link #applyLevelOfDetail(LevelOfDetail)} is called, so that the host can
+ * switch to simplified visuals.
+ *
+ * @author mwienand
+ *
+ * @since 5.2
+ */
+public abstract class AbstractLevelOfDetailBehavior extends AbstractBehavior {
+
+	private ChangeListener<Number> levelOfDetailObserver = new ChangeListener<Number>() {
+		@Override
+		public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
+			refreshLevelOfDetail();
+		}
+	};
+
+	private LevelOfDetail levelOfDetail = LevelOfDetail.FULL;
+
+	/**
+	 * Applies the given {@link LevelOfDetail} to the {@link #getHost() host}.
+	 *
+	 * @param levelOfDetail
+	 *            The new {@link LevelOfDetail} of the {@link #getHost() host}.
+	 */
+	protected abstract void applyLevelOfDetail(LevelOfDetail levelOfDetail);
+
+	/**
+	 * Determines the {@link LevelOfDetail} of the {@link #getHost() host} at
+	 * the given zoom level.
+	 *
+	 * @param zoomLevel
+	 *            The current zoom level.
+	 * @return The {@link LevelOfDetail} of the {@link #getHost() host}.
+	 */
+	protected abstract LevelOfDetail determineLevelOfDetail(double zoomLevel);
+
+	@Override
+	protected void doActivate() {
+		LevelOfDetailModel levelOfDetailModel = getLevelOfDetailModel();
+		levelOfDetailModel.simplificationZoomThresholdProperty().addListener(levelOfDetailObserver);
+		levelOfDetailModel.cullingSizeThresholdProperty().addListener(levelOfDetailObserver);
+		InfiniteCanvas canvas = getCanvas();
+		if (canvas != null) {
+			// the content transform is modified in-place, so we need to listen
+			// to its scale components
+			Affine contentTransform = canvas.getContentTransform();
+			contentTransform.mxxProperty().addListener(levelOfDetailObserver);
+			contentTransform.myxProperty().addListener(levelOfDetailObserver);
+		}
+		refreshLevelOfDetail();
+	}
+
+	@Override
+	protected void doDeactivate() {
+		InfiniteCanvas canvas = getCanvas();
+		if (canvas != null) {
+			Affine contentTransform = canvas.getContentTransform();
+			contentTransform.mxxProperty().removeListener(levelOfDetailObserver);
+			contentTransform.myxProperty().removeListener(levelOfDetailObserver);
+		}
+		LevelOfDetailModel levelOfDetailModel = getLevelOfDetailModel();
+		levelOfDetailModel.simplificationZoomThresholdProperty().removeListener(levelOfDetailObserver);
+		levelOfDetailModel.cullingSizeThresholdProperty().removeListener(levelOfDetailObserver);
+	}
+
+	/**
+	 * Returns the {@link InfiniteCanvas} of the {@link #getHost() host's}
+	 * {@link IViewer}, or <code>null</code> if the viewer is not an
+	 * {@link InfiniteCanvasViewer}.
+	 *
+	 * @return The {@link InfiniteCanvas} of the {@link #getHost() host's}
+	 *         {@link IViewer}, or <code>null</code>.
+	 */
+	protected InfiniteCanvas getCanvas() {
+		IViewer viewer = getHost().getRoot().getViewer();
+		if (viewer instanceof InfiniteCanvasViewer) {
+			return ((InfiniteCanvasViewer) viewer).getCanvas();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the current {@link LevelOfDetail} of the {@link #getHost() host}.
+	 *
+	 * @return The current {@link LevelOfDetail} of the {@link #getHost()
+	 *         host}.
+	 */
+	public LevelOfDetail getLevelOfDetail() {
+		return levelOfDetail;
+	}
+
+	/**
+	 * Returns the {@link LevelOfDetailModel} that is installed on the
+	 * {@link IViewer} of the {@link #getHost() host}.
+	 *
+	 * @return The {@link LevelOfDetailModel} that is installed on the
+	 *         {@link IViewer} of the {@link #getHost() host}.
+	 */
+	protected LevelOfDetailModel getLevelOfDetailModel() {
+		LevelOfDetailModel levelOfDetailModel = getHost().getRoot().getViewer().getAdapter(LevelOfDetailModel.class);
+		if (levelOfDetailModel == null) {
+			throw new IllegalStateException(
+					"Unable to retrieve LevelOfDetailModel viewer adapter. Please check your adapter bindings.");
+		}
+		return levelOfDetailModel;
+	}
+
+	/**
+	 * Returns the current zoom level, i.e. the horizontal scale of the content
+	 * transform of the {@link #getCanvas() canvas}, or <code>1</code> if no
+	 * canvas is available.
+	 *
+	 * @return The current zoom level.
+	 */
+	protected double getZoomLevel() {
+		InfiniteCanvas canvas = getCanvas();
+		if (canvas == null) {
+			return 1;
+		}
+		Affine contentTransform = canvas.getContentTransform();
+		return Math.hypot(contentTransform.getMxx(), contentTransform.getMyx());
+	}
+
+	/**
+	 * Re-determines the {@link LevelOfDetail} of the {@link #getHost() host}
+	 * and {@link #applyLevelOfDetail(LevelOfDetail) applies} it in case it
+	 * changed.
+	 */
+	protected void refreshLevelOfDetail() {
+		LevelOfDetail newLevelOfDetail = determineLevelOfDetail(getZoomLevel());
+		if (newLevelOfDetail != levelOfDetail) {
+			levelOfDetail = newLevelOfDetail;
+			applyLevelOfDetail(newLevelOfDetail);
+		}
+	}
+}
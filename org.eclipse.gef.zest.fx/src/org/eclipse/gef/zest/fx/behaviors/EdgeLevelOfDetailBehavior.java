@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API & implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.behaviors;
+
+import org.eclipse.gef.zest.fx.models.LevelOfDetailModel.LevelOfDetail;
+import org.eclipse.gef.zest.fx.parts.EdgePart;
+
+/**
+ * The {@link EdgeLevelOfDetailBehavior} is an {@link EdgePart}-specific
+ * {@link AbstractLevelOfDetailBehavior} implementation. Edges are never culled,
+ * as their extent is not related to the size of a single element.
+ *
+ * @author mwienand
+ *
+ * @since 5.2
+ */
+// only applicable for EdgePart (see #getHost())
+public class EdgeLevelOfDetailBehavior extends AbstractLevelOfDetailBehavior {
+
+	@Override
+	protected void applyLevelOfDetail(LevelOfDetail levelOfDetail) {
+		getHost().setLevelOfDetail(levelOfDetail);
+	}
+
+	@Override
+	protected LevelOfDetail determineLevelOfDetail(double zoomLevel) {
+		return getLevelOfDetailModel().getLevelOfDetail(zoomLevel, Double.POSITIVE_INFINITY,
+				Double.POSITIVE_INFINITY);
+	}
+
+	@Override
+	public EdgePart getHost() {
+		return (EdgePart) super.getHost();
+	}
+
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API & implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.behaviors;
+
+import org.eclipse.gef.zest.fx.models.LevelOfDetailModel.LevelOfDetail;
+import org.eclipse.gef.zest.fx.parts.AbstractLabelPart;
+
+/**
+ * The {@link LabelLevelOfDetailBehavior} is an {@link AbstractLabelPart}
+ * -specific {@link AbstractLevelOfDetailBehavior} implementation. Labels are
+ * hidden as soon as the zoom level falls below the simplification threshold.
+ *
+ * @author mwienand
+ *
+ * @since 5.2
+ */
+// only applicable for AbstractLabelPart (see #getHost())
+public class LabelLevelOfDetailBehavior extends AbstractLevelOfDetailBehavior {
+
+	@Override
+	protected void applyLevelOfDetail(LevelOfDetail levelOfDetail) {
+		getHost().setLevelOfDetail(levelOfDetail);
+	}
+
+	@Override
+	protected LevelOfDetail determineLevelOfDetail(double zoomLevel) {
+		return getLevelOfDetailModel().getLevelOfDetail(zoomLevel, Double.POSITIVE_INFINITY,
+				Double.POSITIVE_INFINITY);
+	}
+
+	@Override
+	public AbstractLabelPart getHost() {
+		return (AbstractLabelPart) super.getHost();
+	}
+
+}
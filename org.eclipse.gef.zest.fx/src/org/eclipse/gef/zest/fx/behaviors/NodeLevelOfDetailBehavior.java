@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API & implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.behaviors;
+
+import org.eclipse.gef.zest.fx.models.LevelOfDetailModel.LevelOfDetail;
+import org.eclipse.gef.zest.fx.parts.NodePart;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+
+/**
+ * The {@link NodeLevelOfDetailBehavior} is a {@link NodePart}-specific
+ * {@link AbstractLevelOfDetailBehavior} implementation. Besides zoom level
+ * changes, it also reacts to changes of the node's size, so that nodes that
+ * are too small to be noticed are culled. The size is determined by the
+ * {@link NodePart#getShape() shape}, because the bounds of the visual do not
+ * account for hidden children.
+ *
+ * @author mwienand
+ *
+ * @since 5.2
+ */
+// only applicable for NodePart (see #getHost())
+public class NodeLevelOfDetailBehavior extends AbstractLevelOfDetailBehavior {
+
+	private ChangeListener<Bounds> shapeLayoutBoundsObserver = new ChangeListener<Bounds>() {
+		@Override
+		public void changed(ObservableValue<? extends Bounds> observable, Bounds oldValue, Bounds newValue) {
+			if (oldValue.getWidth() != newValue.getWidth() || oldValue.getHeight() != newValue.getHeight()) {
+				refreshLevelOfDetail();
+			}
+		}
+	};
+
+	private ListChangeListener<Node> childrenObserver = new ListChangeListener<Node>() {
+		@Override
+		public void onChanged(ListChangeListener.Change<? extends Node> change) {
+			// the shape might have been replaced
+			refreshLevelOfDetail();
+		}
+	};
+
+	private Node observedShape;
+
+	@Override
+	protected void applyLevelOfDetail(LevelOfDetail levelOfDetail) {
+		getHost().setLevelOfDetail(levelOfDetail);
+	}
+
+	@Override
+	protected LevelOfDetail determineLevelOfDetail(double zoomLevel) {
+		observeShape(getHost().getShape());
+		if (observedShape == null) {
+			return LevelOfDetail.FULL;
+		}
+		Bounds layoutBounds = observedShape.getLayoutBounds();
+		return getLevelOfDetailModel().getLevelOfDetail(zoomLevel, layoutBounds.getWidth(), layoutBounds.getHeight());
+	}
+
+	@Override
+	protected void doActivate() {
+		getHost().getVisual().getChildren().addListener(childrenObserver);
+		super.doActivate();
+	}
+
+	@Override
+	protected void doDeactivate() {
+		super.doDeactivate();
+		observeShape(null);
+		getHost().getVisual().getChildren().removeListener(childrenObserver);
+	}
+
+	@Override
+	public NodePart getHost() {
+		return (NodePart) super.getHost();
+	}
+
+	/**
+	 * Transfers the size listener to the given shape.
+	 *
+	 * @param shape
+	 *            The shape whose size is observed, or <code>null</code>.
+	 */
+	private void observeShape(Node shape) {
+		if (observedShape != shape) {
+			if (observedShape != null) {
+				observedShape.layoutBoundsProperty().removeListener(shapeLayoutBoundsObserver);
+			}
+			observedShape = shape;
+			if (observedShape != null) {
+				observedShape.layoutBoundsProperty().addListener(shapeLayoutBoundsObserver);
+			}
+		}
+	}
+
+}
@@ -21,6 +21,11 @@
  * {@link org.eclipse.gef.zest.fx.behaviors.AbstractHidingBehavior},
  * {@link org.eclipse.gef.zest.fx.behaviors.NodeHidingBehavior},
  * {@link org.eclipse.gef.zest.fx.behaviors.EdgeHidingBehavior},
- * {@link org.eclipse.gef.zest.fx.behaviors.EdgeLabelHidingBehavior}).
+ * {@link org.eclipse.gef.zest.fx.behaviors.EdgeLabelHidingBehavior}), and
+ * switching to simplified visuals at low zoom levels (
+ * {@link org.eclipse.gef.zest.fx.behaviors.AbstractLevelOfDetailBehavior},
+ * {@link org.eclipse.gef.zest.fx.behaviors.NodeLevelOfDetailBehavior},
+ * {@link org.eclipse.gef.zest.fx.behaviors.EdgeLevelOfDetailBehavior},
+ * {@link org.eclipse.gef.zest.fx.behaviors.LabelLevelOfDetailBehavior}).
  */
 package org.eclipse.gef.zest.fx.behaviors;
\ No newline at end of file
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API & implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.fx.models;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+
+/**
+ * The {@link LevelOfDetailModel} stores the thresholds that determine the
+ * {@link LevelOfDetail} at which nodes, edges, and labels are rendered. The
+ * {@link LevelOfDetail} is derived from the zoom level, i.e. the scale of the
+ * content transform of the viewer's
+ * {@link org.eclipse.gef.fx.nodes.InfiniteCanvas}, and (for nodes) from the
+ * size a node occupies on screen.
+ * <p>
+ * By default, both thresholds are <code>0</code>, i.e. the level-of-detail
+ * rendering is disabled and all elements are rendered at
+ * {@link LevelOfDetail#FULL}. Clients can enable it by setting the thresholds,
+ * e.g. to {@link #SIMPLIFICATION_ZOOM_THRESHOLD_RECOMMENDED} and
+ * {@link #CULLING_SIZE_THRESHOLD_RECOMMENDED}.
+ *
+ * @author mwienand
+ *
+ * @since 5.2
+ */
+public class LevelOfDetailModel {
+
+	/**
+	 * The levels of detail that are supported by the Zest.FX parts.
+	 */
+	public enum LevelOfDetail {
+
+		/**
+		 * All visuals (labels, icons, decorations, nested content, etc.) are
+		 * rendered.
+		 */
+		FULL,
+
+		/**
+		 * Only simplified visuals are rendered, i.e. node shapes without labels,
+		 * icons, or nested content, and edges as straight lines without
+		 * decorations.
+		 */
+		SIMPLIFIED,
+
+		/**
+		 * Nothing is rendered, because the element would occupy less than
+		 * {@link LevelOfDetailModel#getCullingSizeThreshold()} pixels on screen.
+		 */
+		CULLED
+	}
+
+	/**
+	 * The default value for {@link #getSimplificationZoomThreshold()}, which
+	 * disables simplification.
+	 */
+	public static final double SIMPLIFICATION_ZOOM_THRESHOLD_DEFAULT = 0;
+
+	/**
+	 * The default value for {@link #getCullingSizeThreshold()}, which disables
+	 * culling.
+	 */
+	public static final double CULLING_SIZE_THRESHOLD_DEFAULT = 0;
+
+	/**
+	 * A recommended value for {@link #getSimplificationZoomThreshold()}, below
+	 * which labels are hardly readable.
+	 */
+	public static final double SIMPLIFICATION_ZOOM_THRESHOLD_RECOMMENDED = 0.4;
+
+	/**
+	 * A recommended value for {@link #getCullingSizeThreshold()}, below which
+	 * elements are hardly noticeable.
+	 */
+	public static final double CULLING_SIZE_THRESHOLD_RECOMMENDED = 2;
+
+	/**
+	 * Name of the "simplification zoom threshold" property.
+	 */
+	public static final String SIMPLIFICATION_ZOOM_THRESHOLD_PROPERTY = "simplificationZoomThreshold";
+
+	/**
+	 * Name of the "culling size threshold" property.
+	 */
+	public static final String CULLING_SIZE_THRESHOLD_PROPERTY = "cullingSizeThreshold";
+
+	private DoubleProperty simplificationZoomThresholdProperty = new SimpleDoubleProperty(this,
+			SIMPLIFICATION_ZOOM_THRESHOLD_PROPERTY, SIMPLIFICATION_ZOOM_THRESHOLD_DEFAULT);
+	private DoubleProperty cullingSizeThresholdProperty = new SimpleDoubleProperty(this,
+			CULLING_SIZE_THRESHOLD_PROPERTY, CULLING_SIZE_THRESHOLD_DEFAULT);
+
+	/**
+	 * Returns a double property representing the culling size threshold.
+	 *
+	 * @return A double property named {@link #CULLING_SIZE_THRESHOLD_PROPERTY}.
+	 */
+	public DoubleProperty cullingSizeThresholdProperty() {
+		return cullingSizeThresholdProperty;
+	}
+
+	/**
+	 * Returns the culling size threshold, i.e. the size (in pixels) that the
+	 * width and height of an element need to fall below on screen for the
+	 * element to be {@link LevelOfDetail#CULLED culled}. A value of
+	 * <code>0</code> disables culling.
+	 *
+	 * @return The culling size threshold.
+	 */
+	public double getCullingSizeThreshold() {
+		return cullingSizeThresholdProperty.get();
+	}
+
+	/**
+	 * Determines the {@link LevelOfDetail} for an element that has the given
+	 * width and height (within its local coordinate system) at the given zoom
+	 * level. Elements without an extent (edges, labels) should pass
+	 * {@link Double#POSITIVE_INFINITY}, so that they are never culled.
+	 *
+	 * @param zoomLevel
+	 *            The current zoom level.
+	 * @param width
+	 *            The (unzoomed) width of the element.
+	 * @param height
+	 *            The (unzoomed) height of the element.
+	 * @return The {@link LevelOfDetail} to use for the element.
+	 */
+	public LevelOfDetail getLevelOfDetail(double zoomLevel, double width, double height) {
+		double cullingSize = getCullingSizeThreshold();
+		if (width * zoomLevel < cullingSize && height * zoomLevel < cullingSize) {
+			return LevelOfDetail.CULLED;
+		}
+		if (zoomLevel < getSimplificationZoomThreshold()) {
+			return LevelOfDetail.SIMPLIFIED;
+		}
+		return LevelOfDetail.FULL;
+	}
+
+	/**
+	 * Returns the simplification zoom threshold, i.e. the zoom level below
+	 * which elements are rendered {@link LevelOfDetail#SIMPLIFIED simplified}. A
+	 * value of <code>0</code> disables simplification.
+	 *
+	 * @return The simplification zoom threshold.
+	 */
+	public double getSimplificationZoomThreshold() {
+		return simplificationZoomThresholdProperty.get();
+	}
+
+	/**
+	 * Sets the culling size threshold to the given value.
+	 *
+	 * @param cullingSizeThreshold
+	 *            The new culling size threshold (in pixels).
+	 */
+	public void setCullingSizeThreshold(double cullingSizeThreshold) {
+		cullingSizeThresholdProperty.set(cullingSizeThreshold);
+	}
+
+	/**
+	 * Sets the simplification zoom threshold to the given value.
+	 *
+	 * @param simplificationZoomThreshold
+	 *            The new simplification zoom threshold.
+	 */
+	public void setSimplificationZoomThreshold(double simplificationZoomThreshold) {
+		simplificationZoomThresholdProperty.set(simplificationZoomThreshold);
+	}
+
+	/**
+	 * Returns a double property representing the simplification zoom
+	 * threshold.
+	 *
+	 * @return A double property named
+	 *         {@link #SIMPLIFICATION_ZOOM_THRESHOLD_PROPERTY}.
+	 */
+	public DoubleProperty simplificationZoomThresholdProperty() {
+		return simplificationZoomThresholdProperty;
+	}
+}
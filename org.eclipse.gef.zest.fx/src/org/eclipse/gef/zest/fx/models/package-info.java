@@ -13,6 +13,8 @@
 /**
  * This package provides viewer models to support hiding/unhiding of nodes (
  * {@link org.eclipse.gef.zest.fx.models.HidingModel}) as well as semantic
- * zooming ({@link org.eclipse.gef.zest.fx.models.NavigationModel}).
+ * zooming ({@link org.eclipse.gef.zest.fx.models.NavigationModel}) and
+ * level-of-detail rendering
+ * ({@link org.eclipse.gef.zest.fx.models.LevelOfDetailModel}).
  */
 package org.eclipse.gef.zest.fx.models;
\ No newline at end of file
@@ -25,6 +25,7 @@ import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
 import org.eclipse.gef.mvc.fx.parts.ITransformableContentPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.models.LevelOfDetailModel.LevelOfDetail;
 
 import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableMap;
@@ -58,12 +59,17 @@ public abstract class AbstractLabelPart extends AbstractContentPart<Group> imple
 	private VisualChangeListener vcl = new VisualChangeListener() {
 		@Override
 		protected void boundsInLocalChanged(Bounds oldBounds, Bounds newBounds) {
-			refreshVisual();
+			// the label is re-positioned when returning to full detail
+			if (levelOfDetail == LevelOfDetail.FULL) {
+				refreshVisual();
+			}
 		}
 
 		@Override
 		protected void localToParentTransformChanged(Node observed, Transform oldTransform, Transform newTransform) {
-			refreshVisual();
+			if (levelOfDetail == LevelOfDetail.FULL) {
+				refreshVisual();
+			}
 		}
 	};
 
@@ -76,6 +82,8 @@ public abstract class AbstractLabelPart extends AbstractContentPart<Group> imple
 
 	private Text text;
 
+	private LevelOfDetail levelOfDetail = LevelOfDetail.FULL;
+
 	/**
 	 * Computes a position for this label.
 	 *
@@ -141,6 +149,17 @@ public abstract class AbstractLabelPart extends AbstractContentPart<Group> imple
 		return new Affine(new Translate(p.x, p.y));
 	}
 
+	/**
+	 * Returns the {@link LevelOfDetail} at which this label is currently
+	 * rendered.
+	 *
+	 * @return The current {@link LevelOfDetail}.
+	 * @since 5.2
+	 */
+	public LevelOfDetail getLevelOfDetail() {
+		return levelOfDetail;
+	}
+
 	/**
 	 * Retrieves the stored position for the label.
 	 *
@@ -221,6 +240,27 @@ public abstract class AbstractLabelPart extends AbstractContentPart<Group> imple
 		setLabelPosition(new Point(transform.getTx(), transform.getTy()));
 	}
 
+	/**
+	 * Changes the {@link LevelOfDetail} at which this label is rendered. Below
+	 * {@link LevelOfDetail#FULL}, the text is hidden and the label is not
+	 * re-positioned when its anchorage changes.
+	 *
+	 * @param levelOfDetail
+	 *            The new {@link LevelOfDetail}.
+	 * @since 5.2
+	 */
+	public void setLevelOfDetail(LevelOfDetail levelOfDetail) {
+		if (this.levelOfDetail != levelOfDetail) {
+			this.levelOfDetail = levelOfDetail;
+			if (text != null) {
+				text.setVisible(levelOfDetail == LevelOfDetail.FULL);
+			}
+			if (levelOfDetail == LevelOfDetail.FULL) {
+				refreshVisual();
+			}
+		}
+	}
+
 	/**
 	 * Sets the stored label position to the given value.
 	 *
@@ -24,6 +24,7 @@ import org.eclipse.gef.fx.anchors.IAnchor;
 import org.eclipse.gef.fx.nodes.Connection;
 import org.eclipse.gef.fx.nodes.IConnectionInterpolator;
 import org.eclipse.gef.fx.nodes.IConnectionRouter;
+import org.eclipse.gef.fx.nodes.PolylineInterpolator;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.mvc.fx.parts.AbstractContentPart;
@@ -31,6 +32,7 @@ import org.eclipse.gef.mvc.fx.parts.IBendableContentPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.mvc.fx.providers.IAnchorProvider;
 import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.models.LevelOfDetailModel.LevelOfDetail;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
@@ -66,6 +68,9 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 
 	private Tooltip tooltipNode;
 
+	private LevelOfDetail levelOfDetail = LevelOfDetail.FULL;
+	private IConnectionInterpolator detailedInterpolator;
+
 	private MapChangeListener<String, Object> edgeAttributesObserver = new MapChangeListener<String, Object>() {
 
 		@Override
@@ -256,10 +261,28 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 			visual.setRouter(router);
 		}
 
-		// interpolator
+		// decorations are not rendered below full detail
+		boolean isFullDetail = levelOfDetail == LevelOfDetail.FULL;
+		if (visual.getStartDecoration() != null && visual.getStartDecoration().isVisible() != isFullDetail) {
+			visual.getStartDecoration().setVisible(isFullDetail);
+		}
+		if (visual.getEndDecoration() != null && visual.getEndDecoration().isVisible() != isFullDetail) {
+			visual.getEndDecoration().setVisible(isFullDetail);
+		}
+
+		// interpolator (straight line segments below full detail)
 		IConnectionInterpolator interpolator = ZestProperties.getInterpolator(edge);
-		if (interpolator != null) {
+		if (!isFullDetail) {
+			if (!(visual.getInterpolator() instanceof PolylineInterpolator)) {
+				detailedInterpolator = visual.getInterpolator();
+				visual.setInterpolator(new PolylineInterpolator());
+			}
+		} else if (interpolator != null) {
 			visual.setInterpolator(interpolator);
+			detailedInterpolator = null;
+		} else if (detailedInterpolator != null) {
+			visual.setInterpolator(detailedInterpolator);
+			detailedInterpolator = null;
 		}
 
 		// TODO: replace the following code with
@@ -291,7 +314,9 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 			visual.setControlPoints(controlPoints);
 		}
 
-		refreshTooltip();
+		if (isFullDetail) {
+			refreshTooltip();
+		}
 	}
 
 	@Override
@@ -349,6 +374,17 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 		return getVisual().getCurve();
 	}
 
+	/**
+	 * Returns the {@link LevelOfDetail} at which this {@link EdgePart} is
+	 * currently rendered.
+	 *
+	 * @return The current {@link LevelOfDetail}.
+	 * @since 5.2
+	 */
+	public LevelOfDetail getLevelOfDetail() {
+		return levelOfDetail;
+	}
+
 	private void refreshCurve() {
 		Node curve = ZestProperties.getCurve(getContent());
 		if (getVisual().getCurve() != curve && curve != null) {
@@ -381,6 +417,23 @@ public class EdgePart extends AbstractContentPart<Connection> implements IBendab
 		}
 	}
 
+	/**
+	 * Changes the {@link LevelOfDetail} at which this {@link EdgePart} is
+	 * rendered and refreshes the visual in case it changed. Below
+	 * {@link LevelOfDetail#FULL}, the edge is rendered using straight line
+	 * segments and without decorations.
+	 *
+	 * @param levelOfDetail
+	 *            The new {@link LevelOfDetail}.
+	 * @since 5.2
+	 */
+	public void setLevelOfDetail(LevelOfDetail levelOfDetail) {
+		if (this.levelOfDetail != levelOfDetail) {
+			this.levelOfDetail = levelOfDetail;
+			refreshVisual();
+		}
+	}
+
 	@Override
 	public void setContentBendPoints(List<org.eclipse.gef.mvc.fx.parts.IBendableContentPart.BendPoint> bendPoints) {
 		// disable refreshing of visuals
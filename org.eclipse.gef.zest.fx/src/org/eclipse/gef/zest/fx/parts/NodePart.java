@@ -30,6 +30,7 @@ import org.eclipse.gef.mvc.fx.parts.IResizableContentPart;
 import org.eclipse.gef.mvc.fx.parts.ITransformableContentPart;
 import org.eclipse.gef.mvc.fx.parts.IVisualPart;
 import org.eclipse.gef.zest.fx.ZestProperties;
+import org.eclipse.gef.zest.fx.models.LevelOfDetailModel.LevelOfDetail;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
@@ -185,6 +186,8 @@ public class NodePart extends AbstractContentPart<Group>
 	private Pane nestedContentPane;
 	private AnchorPane nestedContentAnchorPane;
 
+	private LevelOfDetail levelOfDetail = LevelOfDetail.FULL;
+
 	/**
 	 * Creates the shape used to display the node's border and background.
 	 *
@@ -275,6 +278,11 @@ public class NodePart extends AbstractContentPart<Group>
 			public void resize(double w, double h) {
 				// for shape we use the exact size
 				shape.resize(w, h);
+				// skip layout of label, icon, and nested content when they are
+				// not rendered anyway
+				if (!vbox.isVisible()) {
+					return;
+				}
 				// for vbox we use the preferred size
 				vbox.setPrefSize(w, h);
 				vbox.autosize();
@@ -382,6 +390,16 @@ public class NodePart extends AbstractContentPart<Group>
 
 		refreshShape();
 
+		// show/hide visuals depending on the level of detail
+		boolean isFullDetail = levelOfDetail == LevelOfDetail.FULL;
+		boolean isCulled = levelOfDetail == LevelOfDetail.CULLED;
+		if (getShape() != null && getShape().isVisible() == isCulled) {
+			getShape().setVisible(!isCulled);
+		}
+		if (vbox != null && vbox.isVisible() != isFullDetail) {
+			vbox.setVisible(isFullDetail);
+		}
+
 		// set CSS style
 		if (attrs.containsKey(ZestProperties.SHAPE_CSS_STYLE__N)) {
 			if (getShape() != null) {
@@ -398,7 +416,7 @@ public class NodePart extends AbstractContentPart<Group>
 			}
 		}
 
-		if (vbox != null) {
+		if (vbox != null && isFullDetail) {
 			if (getShape() != null && DEFAULT_SHAPE_ROLE.equals(getShape().getUserData()) || isNesting()) {
 				vbox.setPadding(new Insets(DEFAULT_SHAPE_PADDING));
 			} else {
@@ -431,9 +449,13 @@ public class NodePart extends AbstractContentPart<Group>
 			}
 		}
 
-		refreshLabel();
-		refreshIcon();
-		refreshTooltip();
+		// label, icon, and tooltip are not rendered below full detail, so
+		// they are updated when returning to full detail
+		if (isFullDetail) {
+			refreshLabel();
+			refreshIcon();
+			refreshTooltip();
+		}
 
 		Point position = ZestProperties.getPosition(node);
 		if (position != null) {
@@ -491,6 +513,17 @@ public class NodePart extends AbstractContentPart<Group>
 		return iconImageView;
 	}
 
+	/**
+	 * Returns the {@link LevelOfDetail} at which this {@link NodePart} is
+	 * currently rendered.
+	 *
+	 * @return The current {@link LevelOfDetail}.
+	 * @since 5.2
+	 */
+	public LevelOfDetail getLevelOfDetail() {
+		return levelOfDetail;
+	}
+
 	/**
 	 * Returns the {@link Text} that displays the node's label.
 	 *
@@ -623,6 +656,24 @@ public class NodePart extends AbstractContentPart<Group>
 		ZestProperties.setPosition(getContent(), new Point(totalTransform.getTx(), totalTransform.getTy()));
 	}
 
+	/**
+	 * Changes the {@link LevelOfDetail} at which this {@link NodePart} is
+	 * rendered and refreshes the visual in case it changed. Below
+	 * {@link LevelOfDetail#FULL}, only the shape is rendered, i.e. label, icon,
+	 * tooltip, and nested content are neither updated nor laid out. At
+	 * {@link LevelOfDetail#CULLED}, the shape is hidden as well.
+	 *
+	 * @param levelOfDetail
+	 *            The new {@link LevelOfDetail}.
+	 * @since 5.2
+	 */
+	public void setLevelOfDetail(LevelOfDetail levelOfDetail) {
+		if (this.levelOfDetail != levelOfDetail) {
+			this.levelOfDetail = levelOfDetail;
+			refreshVisual();
+		}
+	}
+
 	/**
 	 * Creates the nested graph icon and adds it to the
 	 * {@link #getNestedContentStackPane()}.
@@ -18,6 +18,6 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ GraphPartTests.class, NodeLayoutBehaviorTests.class })
+@SuiteClasses({ GraphPartTests.class, LevelOfDetailTests.class, NodeLayoutBehaviorTests.class })
 public class AllTests {
 }
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Matthias Wienand (itemis AG) - initial API & implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.zest.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.mvc.fx.parts.LayeredRootPart;
+import org.eclipse.gef.mvc.fx.viewer.InfiniteCanvasViewer;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.eclipse.gef.zest.fx.behaviors.NodeLevelOfDetailBehavior;
+import org.eclipse.gef.zest.fx.models.LevelOfDetailModel;
+import org.eclipse.gef.zest.fx.models.LevelOfDetailModel.LevelOfDetail;
+import org.eclipse.gef.zest.fx.parts.NodePart;
+import org.junit.Rule;
+import org.junit.Test;
+
+import javafx.scene.transform.Affine;
+
+public class LevelOfDetailTests {
+
+	/**
+	 * Ensure all tests are executed on the JavaFX application thread (and the
+	 * JavaFX toolkit is properly initialized).
+	 */
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	private LevelOfDetailModel levelOfDetailModel;
+	private InfiniteCanvasViewer viewer;
+
+	private NodeLevelOfDetailBehavior createNodeLevelOfDetailBehavior(final double width, final double height) {
+		final Node node = new Node.Builder().buildNode();
+		new Graph.Builder().nodes(node).build();
+		levelOfDetailModel = new LevelOfDetailModel();
+		viewer = new InfiniteCanvasViewer();
+		viewer.setAdapter(levelOfDetailModel);
+		LayeredRootPart rootPart = new LayeredRootPart();
+		viewer.setAdapter(rootPart);
+		final NodePart host = new NodePart() {
+			@Override
+			public Node getContent() {
+				return node;
+			}
+		};
+		host.setParent(rootPart);
+		host.getVisual().resize(width, height);
+		NodeLevelOfDetailBehavior behavior = new NodeLevelOfDetailBehavior() {
+			@Override
+			public NodePart getHost() {
+				return host;
+			}
+		};
+		return behavior;
+	}
+
+	private void setZoomLevel(double zoomLevel) {
+		Affine contentTransform = viewer.getCanvas().getContentTransform();
+		contentTransform.setMxx(zoomLevel);
+		contentTransform.setMyy(zoomLevel);
+	}
+
+	@Test
+	public void test_defaults_disabled() {
+		LevelOfDetailModel model = new LevelOfDetailModel();
+		assertEquals(0, model.getSimplificationZoomThreshold(), 0);
+		assertEquals(0, model.getCullingSizeThreshold(), 0);
+		// everything is fully rendered, independent of the zoom level
+		assertEquals(LevelOfDetail.FULL, model.getLevelOfDetail(1, 100, 50));
+		assertEquals(LevelOfDetail.FULL, model.getLevelOfDetail(0.01, 100, 50));
+		assertEquals(LevelOfDetail.FULL, model.getLevelOfDetail(0.0001, 1, 1));
+	}
+
+	@Test
+	public void test_node_level_of_detail_switching() {
+		NodeLevelOfDetailBehavior behavior = createNodeLevelOfDetailBehavior(100, 50);
+		NodePart host = behavior.getHost();
+		behavior.activate();
+		assertEquals(LevelOfDetail.FULL, behavior.getLevelOfDetail());
+
+		// disabled by default
+		setZoomLevel(0.01);
+		assertEquals(LevelOfDetail.FULL, behavior.getLevelOfDetail());
+		assertEquals(LevelOfDetail.FULL, host.getLevelOfDetail());
+
+		// enabling the thresholds is immediately applied
+		levelOfDetailModel.setSimplificationZoomThreshold(LevelOfDetailModel.SIMPLIFICATION_ZOOM_THRESHOLD_RECOMMENDED);
+		levelOfDetailModel.setCullingSizeThreshold(LevelOfDetailModel.CULLING_SIZE_THRESHOLD_RECOMMENDED);
+		assertEquals(LevelOfDetail.CULLED, host.getLevelOfDetail());
+		assertFalse(host.getShape().isVisible());
+
+		setZoomLevel(0.2);
+		assertEquals(LevelOfDetail.SIMPLIFIED, host.getLevelOfDetail());
+		assertTrue(host.getShape().isVisible());
+
+		setZoomLevel(1);
+		assertEquals(LevelOfDetail.FULL, host.getLevelOfDetail());
+		assertTrue(host.getShape().isVisible());
+
+		// zoom changes are no longer observed after deactivation
+		behavior.deactivate();
+		setZoomLevel(0.2);
+		assertEquals(LevelOfDetail.FULL, host.getLevelOfDetail());
+	}
+
+	@Test
+	public void test_node_size_culling() {
+		NodeLevelOfDetailBehavior behavior = createNodeLevelOfDetailBehavior(100, 50);
+		NodePart host = behavior.getHost();
+		levelOfDetailModel.setCullingSizeThreshold(10);
+		behavior.activate();
+		setZoomLevel(0.5);
+		assertEquals(LevelOfDetail.FULL, host.getLevelOfDetail());
+
+		// culled when shrunk below the threshold
+		host.getVisual().resize(10, 10);
+		assertEquals(LevelOfDetail.CULLED, host.getLevelOfDetail());
+
+		// rendered again when one dimension exceeds the threshold
+		host.getVisual().resize(30, 10);
+		assertEquals(LevelOfDetail.FULL, host.getLevelOfDetail());
+		behavior.deactivate();
+	}
+
+	@Test
+	public void test_thresholds() {
+		LevelOfDetailModel model = new LevelOfDetailModel();
+		model.setSimplificationZoomThreshold(0.5);
+		model.setCullingSizeThreshold(5);
+
+		// simplified below the simplification zoom threshold
+		assertEquals(LevelOfDetail.FULL, model.getLevelOfDetail(0.5, 100, 50));
+		assertEquals(LevelOfDetail.SIMPLIFIED, model.getLevelOfDetail(0.49, 100, 50));
+
+		// culled if width and height fall below the culling size threshold
+		assertEquals(LevelOfDetail.SIMPLIFIED, model.getLevelOfDetail(0.1, 100, 40));
+		assertEquals(LevelOfDetail.SIMPLIFIED, model.getLevelOfDetail(0.1, 40, 100));
+		assertEquals(LevelOfDetail.CULLED, model.getLevelOfDetail(0.1, 40, 40));
+		// culling takes precedence over simplification, also at full zoom
+		assertEquals(LevelOfDetail.CULLED, model.getLevelOfDetail(1, 4, 4));
+
+		// elements without an extent are never culled
+		assertEquals(LevelOfDetail.SIMPLIFIED,
+				model.getLevelOfDetail(0.0001, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY));
+	}
+
+}